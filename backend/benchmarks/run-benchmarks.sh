@@ -0,0 +1,39 @@
+#!/usr/bin/env bash
+# =============================================================================
+# 运行 JMH 基准，结果按提交保存，便于跨提交对比
+#
+#   ./run-benchmarks.sh                      # 全部基准
+#   ./run-benchmarks.sh JwtUtilBenchmark     # 只运行匹配的基准（JMH 正则）
+#   ./run-benchmarks.sh -- -f 1 -wi 1 -i 2   # 追加任意 JMH 参数（快速冒烟）
+#
+# 对比两次结果：
+#   java -cp target/benchmarks.jar com.antigravity.benchmark.ResultComparator \
+#       results/<base>.json results/<head>.json 10
+# =============================================================================
+set -euo pipefail
+
+cd "$(dirname "$0")"
+
+FILTER=""
+if [[ $# -gt 0 && "$1" != "--" ]]; then
+    FILTER="$1"
+    shift
+fi
+[[ "${1:-}" == "--" ]] && shift
+
+# 先安装后端普通 jar，再打包基准
+mvn -q -B -f ../pom.xml install -DskipTests
+mvn -q -B package
+
+COMMIT="$(git rev-parse --short HEAD 2>/dev/null || echo unknown)"
+if ! git diff --quiet HEAD 2>/dev/null; then
+    COMMIT="${COMMIT}-dirty"
+fi
+mkdir -p results
+RESULT="results/${COMMIT}.json"
+
+# -prof gc 额外输出 gc.alloc.rate.norm（每次操作分配字节数）与 GC 次数
+java --enable-preview -jar target/benchmarks.jar ${FILTER:+"$FILTER"} \
+    -prof gc -rf json -rff "$RESULT" "$@"
+
+echo "结果已保存: $RESULT"
@@ -0,0 +1,42 @@
+package com.antigravity.benchmark;
+
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基准公共配置
+ * <p>
+ * 统一测量模式与预热、测量、fork 次数，保证不同提交之间的结果可以直接比较。
+ * 后端以 --enable-preview 编译，fork 出的 JVM 也需带上该参数。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 2, jvmArgsAppend = {"--enable-preview", "-Djava.awt.headless=true", "-Xms1g", "-Xmx1g"})
+public abstract class BaseBenchmark {
+
+    /**
+     * 为 {@code @Value} 注入的字段赋值（基准不启动 Spring 容器）
+     */
+    protected static void inject(Object target, String fieldName, Object value) {
+        try {
+            Field field = target.getClass().getDeclaredField(fieldName);
+            field.setAccessible(true);
+            field.set(target, value);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("无法设置字段 " + target.getClass().getSimpleName() + "." + fieldName, e);
+        }
+    }
+
+}
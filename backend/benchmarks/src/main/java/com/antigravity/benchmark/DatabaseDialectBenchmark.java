@@ -0,0 +1,57 @@
+package com.antigravity.benchmark;
+
+import com.antigravity.module.sync.engine.dialect.DatabaseDialect;
+import com.antigravity.module.sync.engine.dialect.DatabaseDialectFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 数据库方言基准：方言查找、JDBC URL 拼接与表名格式化
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DatabaseDialectBenchmark extends BaseBenchmark {
+
+    @Param({"MYSQL", "POSTGRESQL", "ORACLE", "SQLSERVER"})
+    private String dbType;
+
+    @Param({"orders", "ods.orders"})
+    private String tableName;
+
+    private DatabaseDialect dialect;
+
+    @Setup
+    public void setUp() {
+        dialect = DatabaseDialectFactory.getDialect(dbType);
+    }
+
+    @Benchmark
+    public DatabaseDialect getDialect() {
+        return DatabaseDialectFactory.getDialect(dbType);
+    }
+
+    @Benchmark
+    public String buildJdbcUrl() {
+        return dialect.buildJdbcUrl("192.168.1.20", 3306, "warehouse");
+    }
+
+    @Benchmark
+    public String formatSourceTable() {
+        return dialect.formatSourceTable(tableName);
+    }
+
+    @Benchmark
+    public String formatSinkTable() {
+        return dialect.formatSinkTable(tableName);
+    }
+
+}
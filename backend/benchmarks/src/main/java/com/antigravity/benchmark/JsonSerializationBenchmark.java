@@ -0,0 +1,70 @@
+package com.antigravity.benchmark;
+
+import com.antigravity.common.PageResult;
+import com.antigravity.common.Result;
+import com.antigravity.module.log.entity.OperationLog;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 接口响应 JSON 序列化基准
+ * <p>
+ * 使用与 Spring MVC 消息转换器相同的 Jackson 3 {@link JsonMapper}，序列化 {@link Result} 包装的
+ * {@link PageResult}（以操作日志分页为代表）和单个实体。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+public class JsonSerializationBenchmark extends BaseBenchmark {
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private JsonMapper jsonMapper;
+    private Result<PageResult<OperationLog>> page;
+    private Result<OperationLog> single;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        List<OperationLog> records = new ArrayList<>(pageSize);
+        LocalDateTime now = LocalDateTime.of(2024, 6, 1, 12, 0);
+        for (int i = 0; i < pageSize; i++) {
+            OperationLog log = new OperationLog();
+            log.setId((long) i);
+            log.setUsername("admin");
+            log.setModule("同步配置");
+            log.setAction("UPDATE");
+            log.setMethod("com.antigravity.module.sync.controller.SyncConfigController.update()");
+            log.setParams("{\"id\":" + i + ",\"request\":{\"name\":\"orders-sync\",\"password\":\"******\"}}");
+            log.setIpAddress("10.0.0.8");
+            log.setDuration(12L + i);
+            log.setStatus(1);
+            log.setCreateTime(now.minusSeconds(i));
+            records.add(log);
+        }
+        page = Result.success(PageResult.of(records, 1, pageSize, 10_000));
+        single = Result.success(records.get(0));
+    }
+
+    @Benchmark
+    public byte[] serializePage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+
+    @Benchmark
+    public byte[] serializeSingle() {
+        return jsonMapper.writeValueAsBytes(single);
+    }
+
+}
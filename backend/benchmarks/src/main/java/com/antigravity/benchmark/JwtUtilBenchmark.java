@@ -0,0 +1,79 @@
+package com.antigravity.benchmark;
+
+import com.antigravity.common.security.JwtPrincipal;
+import com.antigravity.common.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * JWT 签发、校验与取声明基准
+ * <p>
+ * {@code verifyCached} 对应同一 Token 的后续请求（命中已校验缓存，只做摘要）；
+ * {@code verifyUncached} 轮换使用多个 Token 且缓存只留一项，每次都完整验签解析，对应 Token 的首次请求。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark extends BaseBenchmark {
+
+    private static final String SECRET = "DataPipelineSecretKey2024AntigravityTeam";
+    private static final int TOKEN_COUNT = 1024;
+
+    private JwtUtil cachedJwt;
+    private JwtUtil uncachedJwt;
+    private String token;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        cachedJwt = create(10000);
+        uncachedJwt = create(1);
+        token = cachedJwt.generateToken(1L, "admin", "ADMIN");
+        cachedJwt.verify(token);
+
+        tokens = new String[TOKEN_COUNT];
+        for (int i = 0; i < TOKEN_COUNT; i++) {
+            tokens[i] = uncachedJwt.generateToken((long) i, "user" + i, "USER");
+        }
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return cachedJwt.generateToken(1L, "admin", "ADMIN");
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyCached() {
+        return cachedJwt.verify(token);
+    }
+
+    @Benchmark
+    public JwtPrincipal verifyUncached() {
+        next = (next + 1) % TOKEN_COUNT;
+        return uncachedJwt.verify(tokens[next]);
+    }
+
+    @Benchmark
+    public String getUsernameFromToken() {
+        return cachedJwt.getUsernameFromToken(token);
+    }
+
+    @Benchmark
+    public String getRoleFromToken() {
+        return cachedJwt.getRoleFromToken(token);
+    }
+
+    private static JwtUtil create(int cacheSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        inject(jwtUtil, "secret", SECRET);
+        inject(jwtUtil, "expiration", 604800L);
+        inject(jwtUtil, "cacheSize", cacheSize);
+        jwtUtil.init();
+        return jwtUtil;
+    }
+
+}
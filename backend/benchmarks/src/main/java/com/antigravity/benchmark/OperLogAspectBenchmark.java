@@ -0,0 +1,99 @@
+package com.antigravity.benchmark;
+
+import com.antigravity.common.Result;
+import com.antigravity.module.log.annotation.OperLog;
+import com.antigravity.module.log.aspect.OperLogAspect;
+import com.antigravity.module.log.service.OperationLogService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+
+/**
+ * 操作日志切面开销基准
+ * <p>
+ * 同一个 Controller 方法分别直接调用和经 {@link OperLogAspect} 代理调用，两者之差即切面开销
+ * （元数据查找、客户端 IP 解析、参数序列化与掩码、日志对象构建）。
+ * 日志服务替换为空实现，不包含异步写库的成本。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@State(Scope.Thread)
+public class OperLogAspectBenchmark extends BaseBenchmark {
+
+    private AuditedController direct;
+    private AuditedController advised;
+    private UpdateRequest request;
+
+    @Setup
+    public void setUp() {
+        direct = new AuditedController();
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new AuditedController());
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new OperLogAspect(noopLogService()));
+        advised = factory.getProxy();
+
+        request = new UpdateRequest("orders-sync", "同步订单表到数仓", "s3cr3t",
+                List.of("orders", "order_items", "payments"), new Schedule("CRON", "0 0/5 * * * ?", 300));
+
+        // 切面从当前请求读取客户端 IP 和用户名；请求上下文绑定在基准线程上
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("PUT", "/api/sync/config/1");
+        servletRequest.addHeader("X-Forwarded-For", "10.0.0.8, 10.0.0.1");
+        servletRequest.setAttribute("username", "admin");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public Result<Long> direct() {
+        return direct.update(1L, request);
+    }
+
+    @Benchmark
+    public Result<Long> advised() {
+        return advised.update(1L, request);
+    }
+
+    private static OperationLogService noopLogService() {
+        return (OperationLogService) Proxy.newProxyInstance(OperationLogService.class.getClassLoader(),
+                new Class<?>[]{OperationLogService.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    case "toString" -> "NoopOperationLogService";
+                    default -> null;
+                });
+    }
+
+    /**
+     * 被测 Controller（需可被 CGLIB 继承）
+     */
+    public static class AuditedController {
+
+        @OperLog(module = "同步配置", action = "UPDATE")
+        public Result<Long> update(Long id, UpdateRequest request) {
+            return Result.success(id);
+        }
+    }
+
+    public record UpdateRequest(String name, String description, String password, List<String> tables,
+                                Schedule schedule) {
+    }
+
+    public record Schedule(String type, String cron, Integer intervalSeconds) {
+    }
+
+}
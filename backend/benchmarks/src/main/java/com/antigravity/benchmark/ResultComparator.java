@@ -0,0 +1,108 @@
+package com.antigravity.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+/**
+ * 对比两次 JMH 运行结果（{@code -rf json} 输出）
+ * <p>
+ * 按基准方法 + 参数匹配，输出得分与每次操作分配字节数（需带 {@code -prof gc}）的变化。
+ * 任一基准变慢超过阈值时以退出码 1 结束，可直接用于 CI 判断。
+ * <pre>
+ * java -cp target/benchmarks.jar com.antigravity.benchmark.ResultComparator base.json head.json [阈值百分比，默认 10]
+ * </pre>
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public final class ResultComparator {
+
+    private static final String ALLOC_METRIC = "gc.alloc.rate.norm";
+
+    private ResultComparator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("用法: ResultComparator <base.json> <head.json> [threshold%]");
+            System.exit(2);
+        }
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : 10.0;
+        ObjectMapper mapper = new ObjectMapper();
+        Map<String, JsonNode> base = index(mapper.readTree(new File(args[0])));
+        Map<String, JsonNode> head = index(mapper.readTree(new File(args[1])));
+
+        System.out.printf("%-90s %14s %14s %9s %14s %14s%n",
+                "benchmark", "base", "head", "change", "base B/op", "head B/op");
+        int regressions = 0;
+        for (Map.Entry<String, JsonNode> entry : head.entrySet()) {
+            JsonNode current = entry.getValue();
+            JsonNode previous = base.get(entry.getKey());
+            double headScore = current.path("primaryMetric").path("score").asDouble();
+            String unit = current.path("primaryMetric").path("scoreUnit").asText();
+            if (previous == null) {
+                System.out.printf("%-90s %14s %14.3f %9s %14s %14s  (new, %s)%n", entry.getKey(), "-", headScore,
+                        "-", "-", alloc(current), unit);
+                continue;
+            }
+            double baseScore = previous.path("primaryMetric").path("score").asDouble();
+            double change = baseScore == 0 ? 0 : (headScore - baseScore) / baseScore * 100;
+            // 吞吐量模式越大越好，其余模式（平均时间、采样、单次）越小越好
+            boolean higherIsBetter = "thrpt".equals(current.path("mode").asText());
+            double worse = higherIsBetter ? -change : change;
+            boolean regressed = worse > threshold;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %14.3f %14.3f %+8.1f%% %14s %14s  %s%s%n", entry.getKey(), baseScore, headScore,
+                    change, alloc(previous), alloc(current), unit, regressed ? "  REGRESSION" : "");
+        }
+        for (String removed : base.keySet()) {
+            if (!head.containsKey(removed)) {
+                System.out.printf("%-90s (removed)%n", removed);
+            }
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d 个基准变慢超过 %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    private static Map<String, JsonNode> index(JsonNode results) {
+        Map<String, JsonNode> indexed = new LinkedHashMap<>();
+        for (JsonNode result : results) {
+            indexed.put(key(result), result);
+        }
+        return indexed;
+    }
+
+    private static String key(JsonNode result) {
+        String name = result.path("benchmark").asText().replace("com.antigravity.benchmark.", "");
+        JsonNode params = result.path("params");
+        if (params.isMissingNode() || params.isEmpty()) {
+            return name;
+        }
+        StringJoiner joiner = new StringJoiner(",", name + "(", ")");
+        for (Iterator<Map.Entry<String, JsonNode>> it = params.fields(); it.hasNext(); ) {
+            Map.Entry<String, JsonNode> param = it.next();
+            joiner.add(param.getKey() + "=" + param.getValue().asText());
+        }
+        return joiner.toString();
+    }
+
+    private static String alloc(JsonNode result) {
+        JsonNode secondary = result.path("secondaryMetrics");
+        // 旧版本 JMH 的指标名带 "·" 前缀
+        JsonNode metric = secondary.has(ALLOC_METRIC) ? secondary.get(ALLOC_METRIC) : secondary.get("·" + ALLOC_METRIC);
+        return metric == null ? "-" : String.format("%.0f", metric.path("score").asDouble());
+    }
+
+}
@@ -0,0 +1,66 @@
+#!/usr/bin/env bash
+# =============================================================================
+# 测量启动耗时：普通 jar 与 fast-startup（Spring AOT + JDK AOT 缓存）对比
+#
+# 前置：MySQL、Redis 已启动（docker compose up -d mysql redis），
+#       且已执行 mvn -Pfast-startup package（生成 target/fast-startup/）
+#
+#   ./scripts/measure-startup.sh        # 每种模式 5 轮
+#   ROUNDS=10 ./scripts/measure-startup.sh
+#
+# 输出两列耗时（毫秒，自启动命令起算）：
+#   first-request  liveness 探针首次返回 200（Web 服务可响应）
+#   ready          readiness 探针首次返回 200（应用启动完成，可接收流量）
+# 应用日志中的 "首个请求已处理 ... 距 JVM 启动 N ms" 与 application.first.request.time 指标可交叉核对。
+# =============================================================================
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+ROUNDS="${ROUNDS:-5}"
+PORT="${PORT:-8080}"
+MANAGEMENT_PORT="${MANAGEMENT_PORT:-8081}"
+JAR="data-pipeline-1.0.0-SNAPSHOT-exec.jar"
+BASE_OPTS="--enable-preview -XX:+UseG1GC -Xms512m -Xmx512m"
+
+if [[ ! -f "target/fast-startup/app.aot" ]]; then
+    echo "未找到 target/fast-startup/app.aot，请先执行: mvn -Pfast-startup package" >&2
+    exit 1
+fi
+
+now_ms() {
+    date +%s%3N
+}
+
+wait_for() {
+    local url="$1"
+    until curl -sf -o /dev/null "$url"; do
+        sleep 0.05
+    done
+}
+
+# 参数：模式名、工作目录、额外 JVM 参数
+measure() {
+    local mode="$1" dir="$2" opts="$3"
+    local total_first=0 total_ready=0
+    for ((round = 1; round <= ROUNDS; round++)); do
+        local start pid first ready
+        start=$(now_ms)
+        (cd "$dir" && exec java $opts $BASE_OPTS -Dserver.port="$PORT" -jar "$JAR" >/dev/null 2>&1) &
+        pid=$!
+        wait_for "http://localhost:${MANAGEMENT_PORT}/actuator/health/liveness"
+        first=$(( $(now_ms) - start ))
+        wait_for "http://localhost:${MANAGEMENT_PORT}/actuator/health/readiness"
+        ready=$(( $(now_ms) - start ))
+        kill "$pid"
+        wait "$pid" 2>/dev/null || true
+        printf "%-14s round %-3d first-request %6d ms   ready %6d ms\n" "$mode" "$round" "$first" "$ready"
+        total_first=$((total_first + first))
+        total_ready=$((total_ready + ready))
+    done
+    printf "%-14s average    first-request %6d ms   ready %6d ms\n\n" \
+        "$mode" $((total_first / ROUNDS)) $((total_ready / ROUNDS))
+}
+
+measure "baseline" "target" ""
+measure "fast-startup" "target/fast-startup" "-XX:AOTCache=app.aot -Dspring.aot.enabled=true"
@@ -0,0 +1,121 @@
+package com.antigravity.common;
+
+import com.antigravity.config.RetentionProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.LongConsumer;
+
+/**
+ * 分批删除
+ * <p>
+ * 以 {@code DELETE ... ORDER BY id LIMIT n} 按主键顺序每批删除少量行，每批独立提交并在批次间停顿，
+ * 避免单条大 DELETE 长时间持有锁、撑大 undo 日志和主从延迟。
+ * <p>
+ * 不要在事务中调用，否则所有批次会合并成一个大事务。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChunkedDeleter {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final RetentionProperties properties;
+
+    /**
+     * 分批删除时间字段早于截止时间的行
+     *
+     * @param table      表名
+     * @param timeColumn 时间字段
+     * @param cutoff     截止时间（不含）
+     * @param progress   每批完成后回调累计删除行数，可为 null
+     * @return 删除的总行数
+     */
+    public long deleteBefore(String table, String timeColumn, LocalDateTime cutoff, LongConsumer progress) {
+        return deleteBefore(table, timeColumn, cutoff, null, List.of(), progress);
+    }
+
+    /**
+     * 分批删除时间字段早于截止时间、且状态不在保留列表中的行
+     *
+     * @param table          表名
+     * @param timeColumn     时间字段
+     * @param cutoff         截止时间（不含）
+     * @param statusColumn   状态字段，keepStatuses 为空时忽略
+     * @param keepStatuses   不删除的状态值（如仍在运行的任务），为空时不按状态过滤
+     * @param progress       每批完成后回调累计删除行数，可为 null
+     * @return 删除的总行数
+     */
+    public long deleteBefore(String table, String timeColumn, LocalDateTime cutoff,
+                             String statusColumn, List<String> keepStatuses, LongConsumer progress) {
+        MonthlyPartitionManager.checkIdentifier(timeColumn);
+        if (keepStatuses == null || keepStatuses.isEmpty()) {
+            return deleteInChunks(table, " WHERE " + timeColumn + " < ?", new Object[]{cutoff}, progress);
+        }
+        MonthlyPartitionManager.checkIdentifier(statusColumn);
+        List<Object> args = new ArrayList<>();
+        args.add(cutoff);
+        args.addAll(keepStatuses);
+        String where = " WHERE " + timeColumn + " < ? AND " + statusColumn + " NOT IN (" +
+                String.join(", ", Collections.nCopies(keepStatuses.size(), "?")) + ")";
+        return deleteInChunks(table, where, args.toArray(), progress);
+    }
+
+    /**
+     * 分批删除全表数据
+     *
+     * @param table    表名
+     * @param progress 每批完成后回调累计删除行数，可为 null
+     * @return 删除的总行数
+     */
+    public long deleteAll(String table, LongConsumer progress) {
+        return deleteInChunks(table, "", new Object[0], progress);
+    }
+
+    private long deleteInChunks(String table, String where, Object[] args, LongConsumer progress) {
+        MonthlyPartitionManager.checkIdentifier(table);
+        int chunkSize = Math.max(properties.getChunkSize(), 1);
+        String sql = "DELETE FROM " + table + where + " ORDER BY id LIMIT " + chunkSize;
+
+        long total = 0;
+        while (true) {
+            int deleted = jdbcTemplate.update(sql, args);
+            total += deleted;
+            if (progress != null && deleted > 0) {
+                progress.accept(total);
+            }
+            if (deleted < chunkSize) {
+                break;
+            }
+            if (!pause()) {
+                log.info("分批删除被中断: table={}, deleted={}", table, total);
+                break;
+            }
+        }
+        log.debug("分批删除完成: table={}, deleted={}", table, total);
+        return total;
+    }
+
+    private boolean pause() {
+        if (properties.getChunkPauseMillis() <= 0) {
+            return !Thread.currentThread().isInterrupted();
+        }
+        try {
+            Thread.sleep(properties.getChunkPauseMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+}
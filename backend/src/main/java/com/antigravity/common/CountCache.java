@@ -0,0 +1,118 @@
+package com.antigravity.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/**
+ * 列表总数缓存
+ * <p>
+ * 分页列表的 {@code COUNT(*)} 在大表上与深分页一样昂贵，这里按"表 + 过滤条件"缓存总数：
+ * <ul>
+ *   <li>首次查询同步计算</li>
+ *   <li>过期后先返回旧值，再在虚拟线程中异步刷新（同一个键同时只刷新一次）</li>
+ *   <li>写操作可按前缀失效，下一次查询重新同步计算</li>
+ * </ul>
+ * 因此列表返回的总数是近似值，最多滞后一个刷新周期。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class CountCache {
+
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int MAX_ENTRIES = 10_000;
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 获取缓存的总数
+     *
+     * @param key     缓存键，建议以表名为前缀，例如 {@code sys_operation_log|admin|null}
+     * @param counter 实际计数
+     */
+    public long get(String key, LongSupplier counter) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+            long count = counter.getAsLong();
+            entries.put(key, new Entry(count, System.nanoTime()));
+            return count;
+        }
+        if (entry.isExpired() && entry.refreshing.compareAndSet(false, true)) {
+            Thread.ofVirtual().name("count-cache-refresh").start(() -> refresh(key, entry, counter));
+        }
+        return entry.count;
+    }
+
+    /**
+     * 按前缀失效
+     */
+    public void invalidate(String prefix) {
+        entries.keySet().removeIf(key -> key.startsWith(prefix));
+    }
+
+    /**
+     * 按前缀失效；处于事务中时在提交后再失效一次，避免提交前并发的查询把旧总数重新写回缓存
+     */
+    public void invalidateAfterCommit(String prefix) {
+        invalidate(prefix);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    invalidate(prefix);
+                }
+            });
+        }
+    }
+
+    /**
+     * 由表名与过滤条件拼接缓存键
+     */
+    public static String key(String table, Object... filters) {
+        StringBuilder builder = new StringBuilder(table);
+        for (Object filter : filters) {
+            builder.append('|').append(filter);
+        }
+        return builder.toString();
+    }
+
+    private void refresh(String key, Entry stale, LongSupplier counter) {
+        try {
+            entries.replace(key, stale, new Entry(counter.getAsLong(), System.nanoTime()));
+        } catch (Exception e) {
+            log.warn("刷新列表总数失败: key={}, error={}", key, e.getMessage());
+        } finally {
+            stale.refreshing.set(false);
+        }
+    }
+
+    private static final class Entry {
+
+        private final long count;
+        private final long loadedAt;
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private Entry(long count, long loadedAt) {
+            this.count = count;
+            this.loadedAt = loadedAt;
+        }
+
+        private boolean isExpired() {
+            return System.nanoTime() - loadedAt > TTL.toNanos();
+        }
+    }
+
+}
@@ -1,15 +1,42 @@
 package com.antigravity.common;
 
-import jakarta.annotation.PostConstruct;
+import com.antigravity.common.security.RoleAuthorityCache;
+import com.antigravity.config.RetentionProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.ConnectionCallback;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
 /**
  * 数据库自愈迁移组件
  * <p>
- * 在系统启动时自动检查并升级表结构，确保平滑落地。
+ * 在系统启动时自动检查并升级表结构，确保平滑落地。迁移分为两段：
+ * <ul>
+ *   <li>表结构（建表、加字段、接口权限）在 Web 服务开始监听之前同步执行，首个请求看到的一定是新表结构；
+ *       各项检查只是一次元数据查询或秒级的 DDL，对启动耗时影响很小</li>
+ *   <li>建索引、全文索引与预建分区耗时随数据量增长，在启动完成后于虚拟线程中执行；
+ *       依赖这些索引的后台任务通过 {@link #isCompleted()} 等待其结束后再运行，接口请求不受影响</li>
+ * </ul>
+ * 普通表转换为按月分区表是阻塞写入的整表复制，不在迁移中执行，由管理员通过数据保留接口手动触发。
+ * 同步部分挂在生命周期启动阶段，训练运行（{@code spring.context.exit=onRefresh}）在该阶段之前退出，
+ * 也不会发布启动完成事件，因此两段都不会执行。
  *
  * @author Antigravity Team
  * @since 1.0.0
@@ -17,30 +44,403 @@ import org.springframework.stereotype.Component;
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class DatabaseMigration {
+public class DatabaseMigration implements SmartLifecycle {
+
+    private static final Pattern CREATE_TABLE_PATTERN =
+            Pattern.compile("CREATE\\s+TABLE\\s+IF\\s+NOT\\s+EXISTS\\s+`?(\\w+)`?", Pattern.CASE_INSENSITIVE);
 
     private final JdbcTemplate jdbcTemplate;
+    private final MonthlyPartitionManager partitionManager;
+    private final RetentionProperties retentionProperties;
+    private final RoleAuthorityCache roleAuthorityCache;
+
+    /**
+     * 建表脚本中的 DDL：脚本 -> (表名 -> CREATE TABLE 语句)
+     */
+    private final Map<String, Map<String, String>> scriptDdl = new HashMap<>();
+
+    /**
+     * 已存在的字段：表名 -> 字段名集合，每张表只查询一次 information_schema
+     */
+    private final Map<String, Set<String>> existingColumns = new HashMap<>();
+
+    private volatile boolean schemaMigrated;
+    private volatile boolean completed;
+    private boolean permissionsAdded;
+
+    /**
+     * 先于 Web 服务启动（Web 服务的生命周期阶段高于 {@link Integer#MIN_VALUE}）
+     */
+    @Override
+    public int getPhase() {
+        return Integer.MIN_VALUE;
+    }
+
+    @Override
+    public void start() {
+        long startTime = System.nanoTime();
+        try {
+            migrateSchema();
+        } catch (Exception e) {
+            // 单项迁移自行记录错误；这里兜底，避免阻断启动
+            log.error("数据库表结构迁移异常终止: {}", e.getMessage(), e);
+        } finally {
+            schemaMigrated = true;
+            log.info("数据库表结构迁移检查完成，耗时 {} ms",
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+        }
+    }
+
+    @Override
+    public void stop() {
+        // 迁移不持有需要释放的资源
+    }
+
+    @Override
+    public boolean isRunning() {
+        return schemaMigrated;
+    }
+
+    @EventListener(ApplicationStartedEvent.class)
+    public void migrateDeferredAsync() {
+        Thread.ofVirtual().name("database-migration").start(() -> {
+            long startTime = System.nanoTime();
+            try {
+                migrateIndexesAndPartitions();
+            } catch (Exception e) {
+                // 单项迁移自行记录错误；这里兜底，避免后台任务永远等待
+                log.error("数据库索引与分区迁移异常终止: {}", e.getMessage(), e);
+            } finally {
+                completed = true;
+                log.info("数据库索引与分区迁移检查完成，耗时 {} ms",
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            }
+        });
+    }
+
+    /**
+     * 全部迁移检查（含索引与分区）是否已结束（无论单项成功与否）
+     */
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private void migrateSchema() {
+        addColumnIfAbsent("sys_sync_config", "transform_sql",
+                "TEXT DEFAULT NULL COMMENT '实时计算SQL表达式' AFTER incremental_field");
+
+        // 定时调度相关字段
+        addColumnIfAbsent("sys_sync_config", "schedule_type",
+                "VARCHAR(20) NOT NULL DEFAULT 'NONE' COMMENT '调度类型：NONE, CRON, FIXED_RATE' AFTER enabled");
+        addColumnIfAbsent("sys_sync_config", "schedule_cron",
+                "VARCHAR(100) DEFAULT NULL COMMENT 'Cron 表达式' AFTER schedule_type");
+        addColumnIfAbsent("sys_sync_config", "schedule_interval_seconds",
+                "INT DEFAULT NULL COMMENT '固定间隔秒数' AFTER schedule_cron");
+        addColumnIfAbsent("sys_sync_config", "misfire_policy",
+                "VARCHAR(20) NOT NULL DEFAULT 'FIRE_ONCE' COMMENT '错过触发策略：SKIP, FIRE_ONCE, CATCH_UP' AFTER schedule_interval_seconds");
+        addColumnIfAbsent("sys_sync_config", "misfire_catch_up_limit",
+                "INT DEFAULT NULL COMMENT 'CATCH_UP 策略补触发上限' AFTER misfire_policy");
+        addColumnIfAbsent("sys_sync_config", "last_fire_time",
+                "DATETIME DEFAULT NULL COMMENT '上次调度触发时间' AFTER misfire_catch_up_limit");
+
+        // 失败重试相关字段
+        addColumnIfAbsent("sys_sync_config", "retry_max_attempts",
+                "INT NOT NULL DEFAULT 1 COMMENT '最大尝试次数（含首次执行），1 表示不自动重试' AFTER last_fire_time");
+        addColumnIfAbsent("sys_sync_config", "retry_backoff_seconds",
+                "INT NOT NULL DEFAULT 30 COMMENT '重试退避基准秒数' AFTER retry_max_attempts");
+        addColumnIfAbsent("sys_sync_config", "retry_max_backoff_seconds",
+                "INT NOT NULL DEFAULT 600 COMMENT '重试退避上限秒数' AFTER retry_backoff_seconds");
+        addColumnIfAbsent("sys_sync_config", "retryable_errors",
+                "VARCHAR(1000) DEFAULT NULL COMMENT '可重试错误关键字，逗号分隔' AFTER retry_max_backoff_seconds");
+        addColumnIfAbsent("sys_sync_config", "checkpoint_interval_seconds",
+                "INT DEFAULT NULL COMMENT '检查点间隔秒数' AFTER retryable_errors");
+        addColumnIfAbsent("sys_sync_task", "root_task_id",
+                "BIGINT DEFAULT NULL COMMENT '首次尝试的任务ID' AFTER status");
+        addColumnIfAbsent("sys_sync_task", "parent_task_id",
+                "BIGINT DEFAULT NULL COMMENT '上一次尝试的任务ID' AFTER root_task_id");
+        addColumnIfAbsent("sys_sync_task", "retry_task_id",
+                "BIGINT DEFAULT NULL COMMENT '下一次尝试的任务ID' AFTER parent_task_id");
+        addColumnIfAbsent("sys_sync_task", "attempt",
+                "INT NOT NULL DEFAULT 1 COMMENT '第几次尝试' AFTER retry_task_id");
+        addColumnIfAbsent("sys_sync_task", "next_retry_time",
+                "DATETIME DEFAULT NULL COMMENT '计划重试时间' AFTER attempt");
+        addColumnIfAbsent("sys_sync_task", "resumed_from_checkpoint",
+                "TINYINT(1) NOT NULL DEFAULT 0 COMMENT '是否从检查点恢复' AFTER next_retry_time");
+
+        // 复合水位与分块增量
+        addColumnIfAbsent("sys_sync_config", "incremental_key_field",
+                "VARCHAR(100) DEFAULT NULL COMMENT '水位键字段（与增量字段组成复合水位）' AFTER incremental_field");
+        addColumnIfAbsent("sys_sync_config", "incremental_lookback_seconds",
+                "INT DEFAULT NULL COMMENT '增量回看秒数' AFTER incremental_key_field");
+        addColumnIfAbsent("sys_sync_config", "incremental_chunk_size",
+                "INT DEFAULT NULL COMMENT '增量分块行数' AFTER incremental_lookback_seconds");
+        addColumnIfAbsent("sys_sync_config", "last_sync_key",
+                "VARCHAR(100) DEFAULT NULL COMMENT '上次增量同步的键' AFTER last_sync_value");
+        addColumnIfAbsent("sys_sync_task", "watermark_from_value",
+                "VARCHAR(100) DEFAULT NULL COMMENT '增量窗口起始水位值' AFTER resumed_from_checkpoint");
+        addColumnIfAbsent("sys_sync_task", "watermark_from_key",
+                "VARCHAR(100) DEFAULT NULL COMMENT '增量窗口起始水位键' AFTER watermark_from_value");
+        addColumnIfAbsent("sys_sync_task", "watermark_read_from",
+                "VARCHAR(100) DEFAULT NULL COMMENT '增量窗口回看后的读取起点' AFTER watermark_from_key");
+        addColumnIfAbsent("sys_sync_task", "watermark_to_value",
+                "VARCHAR(100) DEFAULT NULL COMMENT '增量窗口结束水位值' AFTER watermark_read_from");
+        addColumnIfAbsent("sys_sync_task", "watermark_to_key",
+                "VARCHAR(100) DEFAULT NULL COMMENT '增量窗口结束水位键' AFTER watermark_to_value");
+        addColumnIfAbsent("sys_sync_task", "watermark_has_more",
+                "TINYINT(1) NOT NULL DEFAULT 0 COMMENT '结束水位之后是否还有积压' AFTER watermark_to_key");
+
+        // 全量同步暂存表切换
+        addColumnIfAbsent("sys_sync_config", "full_load_mode",
+                "VARCHAR(20) NOT NULL DEFAULT 'DIRECT' COMMENT '全量加载方式：DIRECT, SWAP' AFTER incremental_chunk_size");
+        addColumnIfAbsent("sys_sync_task", "swap_status",
+                "VARCHAR(20) DEFAULT NULL COMMENT '暂存表切换状态：LOADING, SWAPPING, SWAPPED, FAILED' AFTER watermark_has_more");
+        addColumnIfAbsent("sys_sync_task", "swap_started_at",
+                "DATETIME DEFAULT NULL COMMENT '开始建索引并切换的时间' AFTER swap_status");
+
+        // 源表分片读取
+        addColumnIfAbsent("sys_sync_config", "split_strategy",
+                "VARCHAR(20) NOT NULL DEFAULT 'NONE' COMMENT '分片策略：NONE, PARTITION, TIME_RANGE, HASH' AFTER full_load_mode");
+        addColumnIfAbsent("sys_sync_config", "split_column",
+                "VARCHAR(100) DEFAULT NULL COMMENT '分片列' AFTER split_strategy");
+        addColumnIfAbsent("sys_sync_config", "split_count",
+                "INT DEFAULT NULL COMMENT '分片数' AFTER split_column");
+
+        // 日志接口权限（此前在认证过滤器中为 ADMIN 硬编码，现统一由 sys_permission 解析）
+        addPermissionIfAbsent("log:login:list", "登录日志查询", "/api/log/login/**", 10);
+        addPermissionIfAbsent("log:login:remove", "登录日志删除", "/api/log/login/**", 11);
+        addPermissionIfAbsent("log:login:clean", "登录日志清空", "/api/log/login/clean", 12);
+        addPermissionIfAbsent("log:operation:list", "操作日志查询", "/api/log/operation/**", 13);
+        addPermissionIfAbsent("log:operation:remove", "操作日志删除", "/api/log/operation/**", 14);
+        addPermissionIfAbsent("log:operation:clean", "操作日志清空", "/api/log/operation/clean", 15);
+        addPermissionIfAbsent("log:login:export", "登录日志导出", "/api/log/login/export", 16);
+        addPermissionIfAbsent("log:operation:export", "操作日志导出", "/api/log/operation/export", 17);
+
+        // 工作流相关表
+        createTableIfAbsent("sql/sync_tables.sql", "sys_sync_workflow");
+        createTableIfAbsent("sql/sync_tables.sql", "sys_sync_workflow_node");
+        createTableIfAbsent("sql/sync_tables.sql", "sys_sync_workflow_run");
+        createTableIfAbsent("sql/sync_tables.sql", "sys_sync_workflow_run_node");
+
+        // 启动时加载的角色权限快照不含本次新增的权限，通知所有节点重建
+        if (permissionsAdded) {
+            roleAuthorityCache.invalidate();
+        }
+    }
+
+    private void migrateIndexesAndPartitions() {
+        addIndexIfAbsent("sys_sync_task", "idx_root_task_id", "root_task_id");
+        addIndexIfAbsent("sys_sync_task", "idx_status_next_retry", "status, next_retry_time");
+
+        // 列表游标分页按 (create_time, id) 倒序定位，二级索引隐含主键 id
+        addIndexIfAbsent("sys_sync_task", "idx_create_time", "create_time");
+        addIndexIfAbsent("sys_sync_task", "idx_config_create_time", "config_id, create_time");
+
+        // 任务日志按 (task_id, id) 游标读取
+        addIndexIfAbsent("sys_sync_task_log", "idx_task_id_id", "task_id, id");
+
+        // 日志检索：ngram 全文索引替代 LIKE '%x%'（全文索引不支持分区表，这两张表按分批删除清理）
+        addFullTextIndexIfAbsent("sys_operation_log", "ft_username", "username");
+        addFullTextIndexIfAbsent("sys_operation_log", "ft_module", "module");
+        addFullTextIndexIfAbsent("sys_login_log", "ft_username", "username");
+
+        // 已转换为分区表的保留策略表预建未来月份分区（只改元数据）；普通表转换分区会阻塞写入，由管理员手动触发
+        retentionProperties.getPolicies().keySet().forEach(this::ensureFuturePartitions);
+    }
+
+    /**
+     * 表已分区时预建未来月份的分区
+     *
+     * @param table 表名
+     */
+    private void ensureFuturePartitions(String table) {
+        try {
+            if (partitionManager.isPartitioned(table)) {
+                partitionManager.ensureFuturePartitions(table, retentionProperties.getFutureMonths());
+            }
+        } catch (Exception e) {
+            log.error("数据库迁移异常：{} 表预建分区失败: {}", table, e.getMessage());
+        }
+    }
 
-    @PostConstruct
-    public void migrate() {
+    /**
+     * 表不存在时按建表脚本中的 DDL 建表，保证脚本与迁移使用同一份表结构
+     *
+     * @param script 类路径下的建表脚本
+     * @param table  表名
+     */
+    private void createTableIfAbsent(String script, String table) {
         try {
-            // 检查 sys_sync_config 表中是否存在 transform_sql 字段
-            String checkSql = "SELECT COUNT(*) FROM information_schema.columns " +
+            String checkSql = "SELECT COUNT(*) FROM information_schema.tables " +
                     "WHERE table_schema = DATABASE() " +
-                    "AND table_name = 'sys_sync_config' " +
-                    "AND column_name = 'transform_sql'";
-            
-            Integer count = jdbcTemplate.queryForObject(checkSql, Integer.class);
+                    "AND table_name = ?";
+
+            Integer count = jdbcTemplate.queryForObject(checkSql, Integer.class, table);
+            if (count != null && count == 0) {
+                String ddl = loadTableDdl(script).get(table);
+                if (ddl == null) {
+                    log.error("数据库迁移异常：建表脚本 {} 中未找到 {} 表的定义", script, table);
+                    return;
+                }
+                log.info("开始执行数据库迁移：创建 {} 表...", table);
+                jdbcTemplate.execute(ddl);
+                log.info("数据库迁移成功：已成功创建 {} 表！", table);
+            } else {
+                log.debug("数据库检查：{} 表已存在，跳过迁移。", table);
+            }
+        } catch (Exception e) {
+            log.error("数据库迁移异常，请手动执行 {} 中 {} 表的建表语句: {}", script, table, e.getMessage());
+        }
+    }
+
+    private Map<String, String> loadTableDdl(String script) throws IOException {
+        Map<String, String> cached = scriptDdl.get(script);
+        if (cached == null) {
+            String content = new ClassPathResource(script).getContentAsString(StandardCharsets.UTF_8);
+            Map<String, String> ddl = new HashMap<>();
+            for (String statement : content.split(";")) {
+                String sql = statement.lines()
+                        .filter(line -> !line.trim().startsWith("--"))
+                        .collect(Collectors.joining("\n"))
+                        .trim();
+                Matcher matcher = CREATE_TABLE_PATTERN.matcher(sql);
+                if (matcher.find()) {
+                    ddl.put(matcher.group(1), sql);
+                }
+            }
+            scriptDdl.put(script, ddl);
+            cached = ddl;
+        }
+        return cached;
+    }
+
+    /**
+     * 索引不存在时创建索引
+     *
+     * @param table   表名
+     * @param index   索引名
+     * @param columns 索引字段（逗号分隔）
+     */
+    private void addIndexIfAbsent(String table, String index, String columns) {
+        try {
+            String checkSql = "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() " +
+                    "AND table_name = ? " +
+                    "AND index_name = ?";
+
+            Integer count = jdbcTemplate.queryForObject(checkSql, Integer.class, table, index);
+            if (count != null && count == 0) {
+                log.info("开始执行数据库迁移：为 {} 表添加 {} 索引...", table, index);
+                jdbcTemplate.execute("ALTER TABLE " + table + " ADD INDEX " + index + " (" + columns + ")");
+                log.info("数据库迁移成功：已成功添加 {}.{} 索引！", table, index);
+            } else {
+                log.debug("数据库检查：{}.{} 索引已存在，跳过迁移。", table, index);
+            }
+        } catch (Exception e) {
+            log.error("数据库迁移异常，请手动执行升级语句 (ALTER TABLE {} ADD INDEX {} ({})): {}",
+                    table, index, columns, e.getMessage());
+        }
+    }
+
+    /**
+     * 全文索引不存在时创建 ngram 全文索引
+     *
+     * @param table   表名
+     * @param index   索引名
+     * @param columns 索引字段（逗号分隔）
+     */
+    private void addFullTextIndexIfAbsent(String table, String index, String columns) {
+        try {
+            String checkSql = "SELECT COUNT(*) FROM information_schema.statistics " +
+                    "WHERE table_schema = DATABASE() " +
+                    "AND table_name = ? " +
+                    "AND index_name = ?";
+
+            Integer count = jdbcTemplate.queryForObject(checkSql, Integer.class, table, index);
             if (count != null && count == 0) {
-                log.info("开始执行数据库迁移：为 sys_sync_config 表添加 transform_sql 字段...");
-                String alterSql = "ALTER TABLE sys_sync_config ADD COLUMN transform_sql TEXT DEFAULT NULL COMMENT '实时计算SQL表达式' AFTER incremental_field";
-                jdbcTemplate.execute(alterSql);
-                log.info("数据库迁移成功：已成功添加 transform_sql 字段！");
+                log.info("开始执行数据库迁移：为 {} 表添加 {} 全文索引...", table, index);
+                executeWithoutStopwords("ALTER TABLE " + table + " ADD FULLTEXT INDEX " + index +
+                        " (" + columns + ") WITH PARSER ngram");
+                log.info("数据库迁移成功：已成功添加 {}.{} 全文索引！", table, index);
+            } else {
+                log.debug("数据库检查：{}.{} 索引已存在，跳过迁移。", table, index);
+            }
+        } catch (Exception e) {
+            log.error("数据库迁移异常，请手动执行升级语句 (ALTER TABLE {} ADD FULLTEXT INDEX {} ({}) WITH PARSER ngram): {}",
+                    table, index, columns, e.getMessage());
+        }
+    }
+
+    /**
+     * 在关闭 InnoDB 停用词的会话中执行 DDL
+     * <p>
+     * 全文索引在创建时固化停用词表，默认停用词中的 2 字符词会被 ngram 丢弃，导致含这些片段的关键字无法命中。
+     */
+    private void executeWithoutStopwords(String ddl) {
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET SESSION innodb_ft_enable_stopword = 0");
+                try {
+                    statement.execute(ddl);
+                } finally {
+                    statement.execute("SET SESSION innodb_ft_enable_stopword = DEFAULT");
+                }
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 字段不存在时追加字段
+     *
+     * @param table      表名
+     * @param column     字段名
+     * @param definition 字段定义（类型、默认值、注释、位置）
+     */
+    private void addColumnIfAbsent(String table, String column, String definition) {
+        try {
+            if (!loadColumns(table).contains(column.toLowerCase())) {
+                log.info("开始执行数据库迁移：为 {} 表添加 {} 字段...", table, column);
+                jdbcTemplate.execute("ALTER TABLE " + table + " ADD COLUMN " + column + " " + definition);
+                log.info("数据库迁移成功：已成功添加 {}.{} 字段！", table, column);
+            } else {
+                log.debug("数据库检查：{}.{} 字段已存在，跳过迁移。", table, column);
+            }
+        } catch (Exception e) {
+            log.error("数据库迁移异常，请手动执行升级语句 (ALTER TABLE {} ADD COLUMN {} {}): {}",
+                    table, column, definition, e.getMessage());
+        }
+    }
+
+    private Set<String> loadColumns(String table) {
+        return existingColumns.computeIfAbsent(table, t -> new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT LOWER(column_name) FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = ?",
+                String.class, t)));
+    }
+
+    /**
+     * 接口权限不存在时写入（已被逻辑删除的同名权限视为管理员有意移除，不再恢复）
+     *
+     * @param code 权限编码
+     * @param name 权限名称
+     * @param path 接口路径
+     * @param sort 排序号
+     */
+    private void addPermissionIfAbsent(String code, String name, String path, int sort) {
+        try {
+            int inserted = jdbcTemplate.update(
+                    "INSERT INTO sys_permission (code, name, type, parent_id, path, sort, enabled) " +
+                            "SELECT ?, ?, 'API', 0, ?, ?, 1 FROM DUAL " +
+                            "WHERE NOT EXISTS (SELECT 1 FROM sys_permission WHERE code = ?)",
+                    code, name, path, sort, code);
+            if (inserted > 0) {
+                permissionsAdded = true;
+                log.info("数据库迁移成功：已添加 {} 权限！", code);
             } else {
-                log.debug("数据库检查：sys_sync_config.transform_sql 字段已存在，跳过迁移。");
+                log.debug("数据库检查：{} 权限已存在，跳过迁移。", code);
             }
         } catch (Exception e) {
-            log.error("数据库迁移异常，请手动执行升级语句 (ALTER TABLE sys_sync_config ADD COLUMN transform_sql TEXT DEFAULT NULL): {}", e.getMessage());
+            log.error("数据库迁移异常：添加 {} 权限失败: {}", code, e.getMessage());
         }
     }
 }
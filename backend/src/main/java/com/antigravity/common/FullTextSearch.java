@@ -0,0 +1,56 @@
+package com.antigravity.common;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+import org.springframework.util.StringUtils;
+
+/**
+ * 基于 MySQL ngram 全文索引的包含查询
+ * <p>
+ * {@code LIKE '%x%'} 无法使用 B+ 树索引，每次都会全表扫描。对建有 ngram 全文索引（{@code WITH PARSER ngram}）
+ * 的字段，把关键字作为短语交给 {@code MATCH ... AGAINST}：短语要求所有 n-gram 按顺序相邻出现，
+ * 效果等同于子串匹配，但由倒排索引定位。
+ * 关键字短于 n-gram 长度（默认 2）时无法切分，退化为 {@code LIKE '%x%'}，保持"包含"语义。
+ * <p>
+ * 索引必须在关闭 InnoDB 停用词（{@code innodb_ft_enable_stopword=0}）时创建：默认停用词表中的
+ * "in"、"at"、"to" 等词会被当作 2 字符 n-gram 丢弃，含这些片段的关键字（如 "admin"）将无法命中。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public final class FullTextSearch {
+
+    /**
+     * 与 MySQL 默认的 ngram_token_size 保持一致
+     */
+    private static final int NGRAM_TOKEN_SIZE = 2;
+
+    private FullTextSearch() {
+    }
+
+    /**
+     * 追加"字段包含关键字"条件
+     *
+     * @param wrapper 查询条件
+     * @param column  建有全文索引的字段名（MATCH 的字段必须与索引字段完全一致）
+     * @param field   对应的实体属性，用于短关键字的 LIKE 匹配
+     * @param keyword 关键字，为空时不追加条件
+     */
+    public static <T> void contains(LambdaQueryWrapper<T> wrapper, String column, SFunction<T, ?> field,
+                                    String keyword) {
+        if (!StringUtils.hasText(keyword)) {
+            return;
+        }
+        // 去掉短语引号，避免破坏 BOOLEAN MODE 语法
+        String term = keyword.trim().replace("\"", "");
+        if (term.isEmpty()) {
+            return;
+        }
+        if (term.codePointCount(0, term.length()) < NGRAM_TOKEN_SIZE) {
+            wrapper.like(field, term);
+            return;
+        }
+        wrapper.apply("MATCH(" + column + ") AGAINST({0} IN BOOLEAN MODE)", "\"" + term + "\"");
+    }
+
+}
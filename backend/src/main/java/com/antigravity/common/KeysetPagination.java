@@ -0,0 +1,120 @@
+package com.antigravity.common;
+
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.function.LongSupplier;
+
+/**
+ * 按 (时间, id) 倒序的游标分页（keyset / seek）
+ * <p>
+ * 游标模式下以 {@code WHERE (t < ?) OR (t = ? AND id < ?) ORDER BY t DESC, id DESC LIMIT n+1}
+ * 直接在索引上定位，任意深度的翻页代价与第一页相同；多取的一行用于判断是否还有下一页。
+ * 未传游标时退化为传统页码分页（不再执行 COUNT），同样返回下一页游标，客户端可随时切换到游标模式；
+ * 页码分页的偏移量需要逐行扫描跳过，超过 {@link #MAX_OFFSET} 行时直接拒绝，更深的翻页必须使用游标。
+ * <p>
+ * 总数由调用方提供（通常来自 {@link CountCache}），允许是近似值。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public final class KeysetPagination {
+
+    /**
+     * 页码分页允许的最大偏移行数
+     */
+    public static final long MAX_OFFSET = 10_000;
+
+    /**
+     * 每页最大行数
+     */
+    public static final int MAX_PAGE_SIZE = 500;
+
+    private KeysetPagination() {
+    }
+
+    /**
+     * 分页查询
+     *
+     * @param mapper     Mapper
+     * @param wrapper    过滤条件（不要包含排序）
+     * @param timeColumn 时间字段
+     * @param idColumn   主键字段
+     * @param cursor     游标，为空时按 pageNumber 分页
+     * @param pageNumber 页码，从 1 开始（游标模式下忽略）
+     * @param pageSize   每页大小，1 ~ {@link #MAX_PAGE_SIZE}
+     * @param total      总数提供者
+     * @throws BusinessException 页码或每页大小越界
+     */
+    public static <T> PageResult<T> page(BaseMapper<T> mapper,
+                                         LambdaQueryWrapper<T> wrapper,
+                                         SFunction<T, LocalDateTime> timeColumn,
+                                         SFunction<T, Long> idColumn,
+                                         String cursor,
+                                         int pageNumber,
+                                         int pageSize,
+                                         LongSupplier total) {
+        if (pageSize < 1 || pageSize > MAX_PAGE_SIZE) {
+            throw BusinessException.of("每页大小必须在 1 ~ " + MAX_PAGE_SIZE + " 之间");
+        }
+        boolean cursorMode = cursor != null && !cursor.isBlank();
+        if (!cursorMode && pageNumber < 1) {
+            throw BusinessException.of("页码最小为 1");
+        }
+        wrapper.orderByDesc(timeColumn).orderByDesc(idColumn);
+
+        List<T> rows;
+        if (cursorMode) {
+            Cursor position = Cursor.decode(cursor);
+            wrapper.and(w -> w.lt(timeColumn, position.time())
+                            .or(o -> o.eq(timeColumn, position.time()).lt(idColumn, position.id())))
+                    .last("LIMIT " + (pageSize + 1));
+            rows = mapper.selectList(wrapper);
+            pageNumber = 0;
+        } else {
+            long offset = (long) (pageNumber - 1) * pageSize;
+            if (offset > MAX_OFFSET) {
+                throw BusinessException.of("页码过深（偏移超过 " + MAX_OFFSET + " 行），请使用 cursor 游标翻页");
+            }
+            // 多取一行判断是否有下一页，偏移量仍按 pageSize 计算
+            wrapper.last("LIMIT " + offset + ", " + (pageSize + 1));
+            rows = mapper.selectList(wrapper);
+        }
+
+        String nextCursor = null;
+        if (rows.size() > pageSize) {
+            rows = rows.subList(0, pageSize);
+            T last = rows.getLast();
+            nextCursor = new Cursor(timeColumn.apply(last), idColumn.apply(last)).encode();
+        }
+        return PageResult.of(rows, pageNumber, pageSize, total.getAsLong(), nextCursor);
+    }
+
+    /**
+     * 游标位置：上一页最后一行的 (时间, id)
+     */
+    public record Cursor(LocalDateTime time, Long id) {
+
+        public String encode() {
+            String raw = time + "," + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        public static Cursor decode(String cursor) {
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int comma = raw.lastIndexOf(',');
+                return new Cursor(LocalDateTime.parse(raw.substring(0, comma)),
+                        Long.parseLong(raw.substring(comma + 1)));
+            } catch (RuntimeException e) {
+                throw BusinessException.of("非法的分页游标: " + cursor);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,194 @@
+package com.antigravity.common;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * MySQL 按月 RANGE 分区管理
+ * <p>
+ * 分区表以 {@code RANGE COLUMNS(时间字段)} 按月划分，分区命名为 {@code pYYYYMM}，
+ * 并始终保留一个 {@code p_future (MAXVALUE)} 兜底分区：
+ * <ul>
+ *   <li>转换：主键改为 (id, 时间字段)，时间字段改为 NOT NULL，按现有数据的最早月份起建分区</li>
+ *   <li>预建：从 {@code p_future} 中拆分出未来若干个月的分区（{@code p_future} 为空时只改元数据）</li>
+ *   <li>过期：上界不晚于截止时间的分区整体 DROP，不产生逐行删除的 undo 日志</li>
+ * </ul>
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyPartitionManager {
+
+    public static final String FUTURE_PARTITION = "p_future";
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final DateTimeFormatter BOUND = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final Pattern IDENTIFIER = Pattern.compile("^[A-Za-z0-9_]+$");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 表是否已分区
+     */
+    public boolean isPartitioned(String table) {
+        Integer count = jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM information_schema.partitions " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL",
+                Integer.class, table);
+        return count != null && count > 0;
+    }
+
+    /**
+     * 将普通表转换为按月分区表
+     * <p>
+     * 转换是整表复制的 ALTER，期间阻塞对该表的写入，只应由管理员在维护窗口手动触发。
+     *
+     * @param table      表名（需有自增主键 id）
+     * @param timeColumn 分区时间字段
+     */
+    public void partitionByMonth(String table, String timeColumn) {
+        checkIdentifier(table);
+        checkIdentifier(timeColumn);
+
+        String comment = jdbcTemplate.queryForObject(
+                "SELECT column_comment FROM information_schema.columns " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND column_name = ?",
+                String.class, table, timeColumn);
+
+        // 分区字段必须非空，且必须包含在主键中
+        jdbcTemplate.update("UPDATE " + table + " SET " + timeColumn + " = NOW() WHERE " + timeColumn + " IS NULL");
+        jdbcTemplate.execute("ALTER TABLE " + table +
+                " MODIFY " + timeColumn + " DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '" +
+                (comment == null ? "" : comment.replace("'", "''")) + "'," +
+                " DROP PRIMARY KEY, ADD PRIMARY KEY (id, " + timeColumn + ")");
+
+        LocalDateTime earliest = jdbcTemplate.queryForObject(
+                "SELECT MIN(" + timeColumn + ") FROM " + table, LocalDateTime.class);
+        YearMonth from = YearMonth.from(earliest != null ? earliest : LocalDateTime.now());
+        YearMonth to = YearMonth.now();
+
+        List<String> partitions = new ArrayList<>();
+        for (YearMonth month = from; !month.isAfter(to); month = month.plusMonths(1)) {
+            partitions.add(partitionDefinition(month));
+        }
+        partitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " PARTITION BY RANGE COLUMNS(" + timeColumn + ") (" +
+                String.join(", ", partitions) + ")");
+        log.info("已将 {} 表转换为按月分区: 起始月份={}, 分区数={}", table, from, partitions.size());
+    }
+
+    /**
+     * 确保当前月及未来 monthsAhead 个月的分区存在
+     *
+     * @return 新建的分区数
+     */
+    public int ensureFuturePartitions(String table, int monthsAhead) {
+        checkIdentifier(table);
+        YearMonth latest = listPartitions(table).stream()
+                .filter(partition -> partition.upperBound() != null)
+                .map(partition -> YearMonth.from(partition.upperBound()).minusMonths(1))
+                .max(YearMonth::compareTo)
+                .orElse(null);
+
+        YearMonth target = YearMonth.now().plusMonths(Math.max(monthsAhead, 0));
+        YearMonth next = latest == null ? YearMonth.now() : latest.plusMonths(1);
+        List<String> partitions = new ArrayList<>();
+        for (YearMonth month = next; !month.isAfter(target); month = month.plusMonths(1)) {
+            partitions.add(partitionDefinition(month));
+        }
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        partitions.add("PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE)");
+
+        jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + FUTURE_PARTITION +
+                " INTO (" + String.join(", ", partitions) + ")");
+        log.info("已为 {} 表预建分区: {} ~ {}", table, next, target);
+        return partitions.size() - 1;
+    }
+
+    /**
+     * 删除所有数据都早于截止时间的分区（上界不晚于截止时间）
+     *
+     * @return 被删除的分区名
+     */
+    public List<String> dropPartitionsBefore(String table, LocalDateTime cutoff) {
+        checkIdentifier(table);
+        List<String> dropped = new ArrayList<>();
+        for (PartitionInfo partition : listPartitions(table)) {
+            if (partition.upperBound() == null || partition.upperBound().isAfter(cutoff)) {
+                continue;
+            }
+            jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition.name());
+            dropped.add(partition.name());
+            log.info("已删除过期分区: table={}, partition={}, rows≈{}", table, partition.name(), partition.rows());
+        }
+        return dropped;
+    }
+
+    /**
+     * 列出分区（按顺序）
+     */
+    public List<PartitionInfo> listPartitions(String table) {
+        return jdbcTemplate.query(
+                "SELECT partition_name, partition_description, table_rows FROM information_schema.partitions " +
+                        "WHERE table_schema = DATABASE() AND table_name = ? AND partition_name IS NOT NULL " +
+                        "ORDER BY partition_ordinal_position",
+                (rs, rowNum) -> new PartitionInfo(
+                        rs.getString("partition_name"),
+                        parseBound(rs.getString("partition_description")),
+                        rs.getLong("table_rows")),
+                table);
+    }
+
+    private static String partitionDefinition(YearMonth month) {
+        LocalDate upper = month.plusMonths(1).atDay(1);
+        return "PARTITION " + month.atDay(1).format(PARTITION_NAME) +
+                " VALUES LESS THAN ('" + upper.atStartOfDay().format(BOUND) + "')";
+    }
+
+    /**
+     * 解析 RANGE COLUMNS 分区上界，例如 {@code '2026-02-01 00:00:00'}；MAXVALUE 返回 null
+     */
+    private static LocalDateTime parseBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        String value = description.replace("'", "").trim();
+        if (value.length() == 10) {
+            return LocalDate.parse(value).atStartOfDay();
+        }
+        return LocalDateTime.parse(value.substring(0, 19), BOUND);
+    }
+
+    static void checkIdentifier(String identifier) {
+        if (identifier == null || !IDENTIFIER.matcher(identifier).matches()) {
+            throw BusinessException.of("非法的表名或字段名: " + identifier);
+        }
+    }
+
+    /**
+     * 分区信息
+     *
+     * @param name       分区名
+     * @param upperBound 上界（不含），MAXVALUE 分区为 null
+     * @param rows       估算行数
+     */
+    public record PartitionInfo(String name, LocalDateTime upperBound, long rows) {
+    }
+
+}
@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.function.Function;
 
 /**
  * 分页结果
@@ -41,9 +42,27 @@ public class PageResult<T> {
      */
     private int totalPage;
 
+    /**
+     * 下一页游标（不透明字符串），为 null 表示没有下一页；传回 cursor 参数即可按游标翻页
+     */
+    private String nextCursor;
+
     public static <T> PageResult<T> of(List<T> records, int pageNumber, int pageSize, long totalRow) {
+        return of(records, pageNumber, pageSize, totalRow, null);
+    }
+
+    public static <T> PageResult<T> of(List<T> records, int pageNumber, int pageSize, long totalRow,
+                                       String nextCursor) {
         int totalPage = (int) Math.ceil((double) totalRow / pageSize);
-        return new PageResult<>(records, pageNumber, pageSize, totalRow, totalPage);
+        return new PageResult<>(records, pageNumber, pageSize, totalRow, totalPage, nextCursor);
+    }
+
+    /**
+     * 转换记录类型，保留分页信息与游标
+     */
+    public <R> PageResult<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = records.stream().<R>map(mapper).toList();
+        return new PageResult<>(mapped, pageNumber, pageSize, totalRow, totalPage, nextCursor);
     }
 
 }
@@ -0,0 +1,223 @@
+package com.antigravity.common.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 二级读穿缓存区域
+ * <p>
+ * 读取顺序为本地 L1 → Redis L2 → 数据库，逐级回填：
+ * <ul>
+ *   <li>L1 按 LRU 限制条目数并带 TTL，保存的是 JSON 快照，每次命中都反序列化出新对象，
+ *       调用方修改返回的实体不会污染缓存</li>
+ *   <li>L2 在多个节点间共享，带 TTL</li>
+ *   <li>失效时立即清除本地条目，事务提交后删除 Redis 条目并广播，各节点收到后清除自己的 L1</li>
+ *   <li>加载期间本区域发生过失效时不回填，避免把失效前读到的旧值写回缓存</li>
+ * </ul>
+ * 只缓存存在的数据，不存在的键每次都会查库。Redis 不可用时退化为 L1 + 数据库。
+ * <p>
+ * 值中含凭据等不能写入共享 Redis 的字段时创建为仅本地区域：不读写 L2，失效仍通过广播同步到所有节点。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class TwoLevelCache<V> {
+
+    private final String region;
+    private final JavaType type;
+    private final ObjectMapper mapper;
+    private final StringRedisTemplate redisTemplate;
+    private final TwoLevelCacheManager manager;
+    private final boolean enabled;
+    private final boolean shared;
+    private final long localTtlNanos;
+    private final Duration redisTtl;
+
+    private final Map<String, Entry> local;
+
+    /**
+     * 失效计数，加载前后不一致说明期间发生过失效
+     */
+    private final AtomicLong generation = new AtomicLong();
+
+    TwoLevelCache(String region, JavaType type, ObjectMapper mapper, StringRedisTemplate redisTemplate,
+                  TwoLevelCacheManager manager, boolean enabled, boolean shared, int localMaxSize,
+                  Duration localTtl, Duration redisTtl) {
+        this.region = region;
+        this.type = type;
+        this.mapper = mapper;
+        this.redisTemplate = redisTemplate;
+        this.manager = manager;
+        this.enabled = enabled;
+        this.shared = shared;
+        this.localTtlNanos = localTtl.toNanos();
+        this.redisTtl = redisTtl;
+        this.local = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > localMaxSize;
+            }
+        };
+    }
+
+    /**
+     * 读取，未命中时调用 loader 加载并回填
+     *
+     * @param key    键（通常为实体 ID）
+     * @param loader 数据库加载，返回 null 表示不存在
+     * @return 值的独立副本，不存在时返回 null
+     */
+    public V get(Object key, Supplier<V> loader) {
+        if (!enabled || key == null) {
+            return loader.get();
+        }
+        String id = key.toString();
+
+        Entry entry;
+        synchronized (local) {
+            entry = local.get(id);
+        }
+        if (entry != null && !entry.isExpired()) {
+            V value = read(entry.json());
+            if (value != null) {
+                return value;
+            }
+        }
+
+        String json = shared ? readRedis(id) : null;
+        if (json != null) {
+            V value = read(json);
+            if (value != null) {
+                putLocal(id, json);
+                return value;
+            }
+        }
+
+        long before = generation.get();
+        V value = loader.get();
+        if (value != null) {
+            json = write(value);
+            if (json != null && generation.get() == before) {
+                putLocal(id, json);
+                if (shared) {
+                    writeRedis(id, json);
+                }
+            }
+        }
+        return value;
+    }
+
+    /**
+     * 使某个键在全集群失效（在事务中调用时于提交后再次失效并广播）
+     */
+    public void evict(Object key) {
+        if (!enabled || key == null) {
+            return;
+        }
+        String id = key.toString();
+        evictLocal(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    evictShared(id);
+                }
+            });
+        } else {
+            evictShared(id);
+        }
+    }
+
+    /**
+     * 清除本地条目（收到其他节点的失效广播时调用）
+     */
+    void evictLocal(String id) {
+        generation.incrementAndGet();
+        synchronized (local) {
+            local.remove(id);
+        }
+    }
+
+    private void evictShared(String id) {
+        evictLocal(id);
+        if (shared) {
+            try {
+                redisTemplate.delete(redisKey(id));
+            } catch (Exception e) {
+                log.warn("删除 Redis 缓存失败，等待过期: region={}, key={}, error={}", region, id, e.getMessage());
+            }
+        }
+        manager.publishEviction(region, id);
+    }
+
+    private void putLocal(String id, String json) {
+        synchronized (local) {
+            local.put(id, new Entry(json, System.nanoTime() + localTtlNanos));
+        }
+    }
+
+    private String readRedis(String id) {
+        try {
+            return redisTemplate.opsForValue().get(redisKey(id));
+        } catch (Exception e) {
+            log.debug("读取 Redis 缓存失败，直接查库: region={}, key={}, error={}", region, id, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String id, String json) {
+        try {
+            redisTemplate.opsForValue().set(redisKey(id), json, redisTtl);
+        } catch (Exception e) {
+            log.debug("写入 Redis 缓存失败: region={}, key={}, error={}", region, id, e.getMessage());
+        }
+    }
+
+    private String redisKey(String id) {
+        return TwoLevelCacheManager.KEY_PREFIX + region + ":" + id;
+    }
+
+    private V read(String json) {
+        try {
+            return mapper.readValue(json, type);
+        } catch (Exception e) {
+            // 实体结构变更后旧缓存可能无法解析，按未命中处理，重新加载后覆盖
+            log.warn("缓存反序列化失败，按未命中处理: region={}, error={}", region, e.getMessage());
+            return null;
+        }
+    }
+
+    private String write(V value) {
+        try {
+            return mapper.writeValueAsString(value);
+        } catch (Exception e) {
+            log.warn("缓存序列化失败，跳过回填: region={}, error={}", region, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 本地条目
+     *
+     * @param json     JSON 快照
+     * @param expireAt 过期时间（{@link System#nanoTime()}）
+     */
+    private record Entry(String json, long expireAt) {
+
+        private boolean isExpired() {
+            return System.nanoTime() - expireAt > 0;
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+package com.antigravity.common.cache;
+
+import com.antigravity.config.EntityCacheProperties;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 二级缓存管理
+ * <p>
+ * 创建各缓存区域，并负责集群内的失效广播：某个节点使键失效后向
+ * {@value #CHANNEL} 发布 {@code 区域|键}，所有节点（包括自己）收到后清除对应的本地条目。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TwoLevelCacheManager {
+
+    static final String KEY_PREFIX = "cache:entity:";
+    private static final String CHANNEL = "cache:entity:evict";
+    private static final char SEPARATOR = '|';
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final ObjectMapper objectMapper;
+    private final EntityCacheProperties properties;
+
+    private final Map<String, TwoLevelCache<?>> regions = new ConcurrentHashMap<>();
+
+    private ObjectMapper cacheMapper;
+
+    @PostConstruct
+    public void start() {
+        // 全局 ObjectMapper 未注册 JavaTime 模块，这里单独处理实体中的 LocalDateTime
+        SimpleModule timeModule = new SimpleModule();
+        timeModule.addSerializer(LocalDateTime.class, new JsonSerializer<>() {
+            @Override
+            public void serialize(LocalDateTime value, JsonGenerator generator, SerializerProvider provider)
+                    throws IOException {
+                generator.writeString(value.toString());
+            }
+        });
+        timeModule.addDeserializer(LocalDateTime.class, new JsonDeserializer<>() {
+            @Override
+            public LocalDateTime deserialize(JsonParser parser, DeserializationContext context) throws IOException {
+                return LocalDateTime.parse(parser.getValueAsString());
+            }
+        });
+        cacheMapper = objectMapper.copy()
+                .registerModule(timeModule)
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+        listenerContainer.addMessageListener((message, pattern) ->
+                onEviction(new String(message.getBody(), StandardCharsets.UTF_8)), new ChannelTopic(CHANNEL));
+        log.info("实体二级缓存已启动: enabled={}, localMaxSize={}, localTtl={}s, redisTtl={}s",
+                properties.isEnabled(), properties.getLocalMaxSize(), properties.getLocalTtlSeconds(),
+                properties.getRedisTtlSeconds());
+    }
+
+    /**
+     * 创建缓存区域
+     *
+     * @param region 区域名，同时作为 Redis 键前缀的一部分，全局唯一
+     * @param type   值类型
+     */
+    public <V> TwoLevelCache<V> create(String region, Class<V> type) {
+        return register(region, cacheMapper.constructType(type), true);
+    }
+
+    /**
+     * 创建仅本地缓存区域：值不写入 Redis，用于含凭据等敏感字段的实体
+     *
+     * @param region 区域名
+     * @param type   值类型
+     */
+    public <V> TwoLevelCache<V> createLocal(String region, Class<V> type) {
+        return register(region, cacheMapper.constructType(type), false);
+    }
+
+    /**
+     * 创建列表类型的缓存区域
+     *
+     * @param region      区域名
+     * @param elementType 元素类型
+     */
+    public <E> TwoLevelCache<List<E>> createList(String region, Class<E> elementType) {
+        return register(region, cacheMapper.getTypeFactory().constructCollectionType(List.class, elementType), true);
+    }
+
+    private <V> TwoLevelCache<V> register(String region, JavaType type, boolean shared) {
+        if (region.indexOf(SEPARATOR) >= 0) {
+            throw new IllegalArgumentException("缓存区域名不能包含 '" + SEPARATOR + "': " + region);
+        }
+        TwoLevelCache<V> cache = new TwoLevelCache<>(region, type, cacheMapper, redisTemplate, this,
+                properties.isEnabled(), shared, Math.max(1, properties.getLocalMaxSize()),
+                Duration.ofSeconds(properties.getLocalTtlSeconds()),
+                Duration.ofSeconds(properties.getRedisTtlSeconds()));
+        if (regions.putIfAbsent(region, cache) != null) {
+            throw new IllegalStateException("缓存区域重复: " + region);
+        }
+        return cache;
+    }
+
+    /**
+     * 广播失效消息
+     */
+    void publishEviction(String region, String id) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, region + SEPARATOR + id);
+        } catch (Exception e) {
+            log.warn("广播缓存失效失败，其他节点等待本地条目过期: region={}, key={}, error={}",
+                    region, id, e.getMessage());
+        }
+    }
+
+    private void onEviction(String payload) {
+        int index = payload.indexOf(SEPARATOR);
+        if (index < 0) {
+            return;
+        }
+        TwoLevelCache<?> cache = regions.get(payload.substring(0, index));
+        if (cache != null) {
+            cache.evictLocal(payload.substring(index + 1));
+        }
+    }
+
+}
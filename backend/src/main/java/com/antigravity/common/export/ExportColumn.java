@@ -0,0 +1,19 @@
+package com.antigravity.common.export;
+
+import java.util.function.Function;
+
+/**
+ * 导出列
+ *
+ * @param name   列名（CSV 表头 / NDJSON 字段名）
+ * @param getter 取值函数
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public record ExportColumn<T>(String name, Function<T, ?> getter) {
+
+    public static <T> ExportColumn<T> of(String name, Function<T, ?> getter) {
+        return new ExportColumn<>(name, getter);
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.antigravity.common.export;
+
+import com.antigravity.common.BusinessException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 导出格式
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ExportFormat {
+
+    CSV("text/csv", "csv"),
+
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    public static ExportFormat of(String value) {
+        if (value == null || value.isBlank()) {
+            return CSV;
+        }
+        for (ExportFormat format : values()) {
+            if (format.name().equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw BusinessException.of(400, "不支持的导出格式: " + value);
+    }
+
+}
@@ -0,0 +1,215 @@
+package com.antigravity.common.export;
+
+import com.antigravity.common.BusinessException;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 流式导出
+ * <p>
+ * 在只读事务中打开 MyBatis {@link Cursor}（Mapper 上配置 MySQL 流式读取），逐行写成 CSV 或 NDJSON 直接输出到响应，
+ * 可选 gzip 压缩。内存占用与导出行数无关。
+ * <p>
+ * 客户端断开后写响应会抛出 IOException，此时关闭游标并回滚只读事务，数据库侧的查询随之结束。
+ * 导出期间会占用一个数据库连接，因此同时进行的导出数有上限。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+public class StreamingExporter {
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private final TransactionTemplate readOnlyTransaction;
+    private final Semaphore permits;
+
+    public StreamingExporter(PlatformTransactionManager transactionManager,
+                             @Value("${export.max-concurrent:2}") int maxConcurrent) {
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.permits = new Semaphore(Math.max(1, maxConcurrent));
+    }
+
+    /**
+     * 导出到响应
+     *
+     * @param response 响应
+     * @param fileName 文件名（不含扩展名）
+     * @param format   导出格式
+     * @param gzip     是否 gzip 压缩
+     * @param columns  导出列
+     * @param cursor   打开游标（在导出事务内调用）
+     */
+    public <T> void export(HttpServletResponse response, String fileName, ExportFormat format, boolean gzip,
+                           List<ExportColumn<T>> columns, Supplier<Cursor<T>> cursor) {
+        if (!permits.tryAcquire()) {
+            throw BusinessException.of(429, "导出任务过多，请稍后再试");
+        }
+        try {
+            String extension = format.getExtension() + (gzip ? ".gz" : "");
+            response.setContentType(gzip ? "application/gzip" : format.getContentType() + ";charset=UTF-8");
+            response.setHeader("Content-Disposition", "attachment; filename=\"" + fileName + "." + extension + "\"");
+            response.setHeader("Cache-Control", "no-store");
+
+            long rows = readOnlyTransaction.execute(status -> {
+                try (Cursor<T> rowCursor = cursor.get();
+                     OutputStream output = gzip
+                             ? new GZIPOutputStream(response.getOutputStream(), 64 * 1024)
+                             : response.getOutputStream();
+                     Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8),
+                             64 * 1024)) {
+                    return write(writer, format, columns, rowCursor);
+                } catch (IOException e) {
+                    // 客户端断开：回滚只读事务以结束查询
+                    status.setRollbackOnly();
+                    throw new UncheckedIOException(e);
+                }
+            });
+            log.info("导出完成: file={}, format={}, rows={}", fileName, format, rows);
+        } catch (UncheckedIOException e) {
+            log.info("导出已取消（客户端断开）: file={}, reason={}", fileName, e.getCause().getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+
+    private <T> long write(Writer writer, ExportFormat format, List<ExportColumn<T>> columns, Cursor<T> cursor)
+            throws IOException {
+        if (format == ExportFormat.CSV) {
+            // UTF-8 BOM，便于 Excel 正确识别中文
+            writer.write('\uFEFF');
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writeCsvField(writer, columns.get(i).name());
+            }
+            writer.write("\r\n");
+        }
+
+        long rows = 0;
+        for (T row : cursor) {
+            if (format == ExportFormat.CSV) {
+                writeCsvRow(writer, columns, row);
+            } else {
+                writeJsonRow(writer, columns, row);
+            }
+            if (++rows % FLUSH_EVERY_ROWS == 0) {
+                // 定期刷出，尽早发现客户端断开
+                writer.flush();
+            }
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IOException("导出线程被中断");
+            }
+        }
+        writer.flush();
+        return rows;
+    }
+
+    private static <T> void writeCsvRow(Writer writer, List<ExportColumn<T>> columns, T row) throws IOException {
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            Object value = columns.get(i).getter().apply(row);
+            if (value instanceof Number || value instanceof Boolean) {
+                writer.write(value.toString());
+            } else if (value != null) {
+                writeCsvField(writer, text(value));
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        // 以公式字符开头的文本前加单引号，防止在表格软件中被当作公式执行
+        boolean formula = !value.isEmpty() && "=+-@".indexOf(value.charAt(0)) >= 0;
+        boolean quote = formula || value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        if (formula) {
+            writer.write('\'');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                writer.write('"');
+            }
+            writer.write(c);
+        }
+        writer.write('"');
+    }
+
+    private static <T> void writeJsonRow(Writer writer, List<ExportColumn<T>> columns, T row) throws IOException {
+        writer.write('{');
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeJsonString(writer, columns.get(i).name());
+            writer.write(':');
+            Object value = columns.get(i).getter().apply(row);
+            if (value == null) {
+                writer.write("null");
+            } else if (value instanceof Number || value instanceof Boolean) {
+                writer.write(value.toString());
+            } else {
+                writeJsonString(writer, text(value));
+            }
+        }
+        writer.write("}\n");
+    }
+
+    private static void writeJsonString(Writer writer, String value) throws IOException {
+        writer.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"' -> writer.write("\\\"");
+                case '\\' -> writer.write("\\\\");
+                case '\n' -> writer.write("\\n");
+                case '\r' -> writer.write("\\r");
+                case '\t' -> writer.write("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        writer.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        writer.write(c);
+                    }
+                }
+            }
+        }
+        writer.write('"');
+    }
+
+    private static String text(Object value) {
+        return value instanceof LocalDateTime time ? TIME_FORMATTER.format(time) : value.toString();
+    }
+
+}
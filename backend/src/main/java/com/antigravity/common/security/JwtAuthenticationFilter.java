@@ -1,5 +1,7 @@
 package com.antigravity.common.security;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -7,7 +9,7 @@ import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
@@ -15,8 +17,7 @@ import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Set;
 
 /**
  * JWT 认证过滤器
@@ -30,6 +31,9 @@ import java.util.List;
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    private final TokenRevocationService revocationService;
+    private final RoleAuthorityCache roleAuthorityCache;
+    private final MeterRegistry meterRegistry;
 
     private static final String AUTHORIZATION_HEADER = "Authorization";
     private static final String BEARER_PREFIX = "Bearer ";
@@ -38,28 +42,23 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
 
+        String token = extractToken(request);
+        Timer.Sample sample = StringUtils.hasText(token) ? Timer.start(meterRegistry) : null;
+        String outcome = "error";
         try {
-            String token = extractToken(request);
+            // 每个 Token 只校验一次签名，之后命中已验证缓存
+            JwtPrincipal principal = sample != null ? jwtUtil.verify(token) : null;
+            boolean revoked = principal != null && revocationService.isRevoked(principal);
+            outcome = principal == null ? "invalid" : revoked ? "revoked" : "valid";
 
-            if (StringUtils.hasText(token) && jwtUtil.validateToken(token)) {
-                String username = jwtUtil.getUsernameFromToken(token);
-                String role = jwtUtil.getRoleFromToken(token);
-                Long userId = jwtUtil.getUserIdFromToken(token);
+            if (principal != null && !revoked) {
+                String username = principal.username();
+                String role = principal.role();
+                Long userId = principal.userId();
 
                 if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                    // 创建权限列表
-                    List<SimpleGrantedAuthority> authorities = new ArrayList<>();
-                    authorities.add(new SimpleGrantedAuthority("ROLE_" + role));
-
-                    // ADMIN 角色拥有所有权限
-                    if ("ADMIN".equalsIgnoreCase(role)) {
-                        authorities.add(new SimpleGrantedAuthority("log:login:list"));
-                        authorities.add(new SimpleGrantedAuthority("log:login:remove"));
-                        authorities.add(new SimpleGrantedAuthority("log:login:clean"));
-                        authorities.add(new SimpleGrantedAuthority("log:operation:list"));
-                        authorities.add(new SimpleGrantedAuthority("log:operation:remove"));
-                        authorities.add(new SimpleGrantedAuthority("log:operation:clean"));
-                    }
+                    // 角色权限来自 sys_permission 的内存快照，不在请求路径上查库
+                    Set<GrantedAuthority> authorities = roleAuthorityCache.authoritiesOf(role);
 
                     // 创建认证信息
                     UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
@@ -81,6 +80,13 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             }
         } catch (Exception e) {
             log.error("JWT 认证失败: {}", e.getMessage());
+        } finally {
+            if (sample != null) {
+                sample.stop(Timer.builder("auth.jwt.authentication")
+                        .description("携带 Token 的请求的认证耗时")
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
         }
 
         filterChain.doFilter(request, response);
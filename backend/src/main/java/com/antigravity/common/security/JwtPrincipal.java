@@ -0,0 +1,24 @@
+package com.antigravity.common.security;
+
+import java.time.Instant;
+
+/**
+ * 已验证的 Token 身份信息（不可变）
+ *
+ * @param tokenId   Token 唯一标识（jti）
+ * @param userId    用户ID
+ * @param username  用户名
+ * @param role      角色
+ * @param issuedAt  签发时间（毫秒精度）
+ * @param expiresAt 过期时间
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public record JwtPrincipal(String tokenId, Long userId, String username, String role, Instant issuedAt,
+                           Instant expiresAt) {
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+
+}
@@ -2,18 +2,29 @@ package com.antigravity.common.security;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HexFormat;
 import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * JWT 工具类
+ * <p>
+ * 签名密钥与解析器在启动时构建一次；每个 Token 只做一次签名校验，校验结果以 Token 的 SHA-256
+ * 摘要为键缓存为不可变的 {@link JwtPrincipal}，缓存项到 Token 过期时间即失效。
+ * 稳定状态下每个请求的认证开销只有一次摘要计算和一次哈希表查找。
  *
  * @author Antigravity Team
  * @since 1.0.0
@@ -29,11 +40,28 @@ public class JwtUtil {
     private Long expiration; // 默认7天
 
     /**
-     * 获取签名密钥
+     * 已验证 Token 缓存的最大条数
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secret.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    @Value("${jwt.cache-size:10000}")
+    private int cacheSize;
+
+    /**
+     * 毫秒精度的签发时间；标准 iat 只有秒级精度，无法与同一秒内的吊销时间比较先后
+     */
+    private static final String CLAIM_ISSUED_AT_MILLIS = "iatMs";
+
+    private SecretKey signingKey;
+    private JwtParser parser;
+
+    /**
+     * 已验证 Token 缓存：Token 摘要 -> 身份信息
+     */
+    private final Map<String, JwtPrincipal> verified = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        signingKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        parser = Jwts.parser().verifyWith(signingKey).build();
     }
 
     /**
@@ -46,79 +74,92 @@ public class JwtUtil {
         claims.put("role", role);
 
         Date now = new Date();
+        claims.put(CLAIM_ISSUED_AT_MILLIS, now.getTime());
         Date expiryDate = new Date(now.getTime() + expiration * 1000);
 
         return Jwts.builder()
                 .claims(claims)
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(now)
                 .expiration(expiryDate)
-                .signWith(getSigningKey())
+                .signWith(signingKey)
                 .compact();
     }
 
+    /**
+     * 校验 Token 并返回身份信息
+     *
+     * @return Token 无效或已过期时返回 null
+     */
+    public JwtPrincipal verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        String digest = digest(token);
+        JwtPrincipal cached = verified.get(digest);
+        if (cached != null) {
+            if (!cached.isExpired()) {
+                return cached;
+            }
+            verified.remove(digest);
+            return null;
+        }
+
+        JwtPrincipal principal = parse(token, digest);
+        if (principal != null) {
+            if (verified.size() >= cacheSize) {
+                evict();
+            }
+            verified.put(digest, principal);
+        }
+        return principal;
+    }
+
     /**
      * 从 Token 中获取用户名
      */
     public String getUsernameFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims != null ? claims.getSubject() : null;
+        JwtPrincipal principal = verify(token);
+        return principal != null ? principal.username() : null;
     }
 
     /**
      * 从 Token 中获取用户ID
      */
     public Long getUserIdFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims != null ? claims.get("userId", Long.class) : null;
+        JwtPrincipal principal = verify(token);
+        return principal != null ? principal.userId() : null;
     }
 
     /**
      * 从 Token 中获取角色
      */
     public String getRoleFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims != null ? claims.get("role", String.class) : null;
+        JwtPrincipal principal = verify(token);
+        return principal != null ? principal.role() : null;
     }
 
     /**
      * 验证 Token 是否有效
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (ExpiredJwtException e) {
-            log.warn("Token 已过期: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.warn("不支持的 Token: {}", e.getMessage());
-        } catch (MalformedJwtException e) {
-            log.warn("Token 格式错误: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.warn("Token 参数错误: {}", e.getMessage());
-        } catch (Exception e) {
-            log.warn("Token 验证失败: {}", e.getMessage());
-        }
-        return false;
+        return verify(token) != null;
     }
 
     /**
      * 获取 Token 过期时间
      */
     public Date getExpirationFromToken(String token) {
-        Claims claims = getClaimsFromToken(token);
-        return claims != null ? claims.getExpiration() : null;
+        JwtPrincipal principal = verify(token);
+        return principal != null ? Date.from(principal.expiresAt()) : null;
     }
 
     /**
      * 检查 Token 是否过期
      */
     public boolean isTokenExpired(String token) {
-        Date expiration = getExpirationFromToken(token);
-        return expiration != null && expiration.before(new Date());
+        return verify(token) == null;
     }
 
     /**
@@ -129,18 +170,65 @@ public class JwtUtil {
     }
 
     /**
-     * 解析 Token
+     * 解析并校验 Token（未携带 jti 的旧 Token 以摘要作为标识）
      */
-    private Claims getClaimsFromToken(String token) {
+    private JwtPrincipal parse(String token, String digest) {
         try {
-            return Jwts.parser()
-                    .verifyWith(getSigningKey())
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Date expiresAt = claims.getExpiration();
+            if (expiresAt == null) {
+                log.warn("Token 缺少过期时间");
+                return null;
+            }
+            return new JwtPrincipal(
+                    claims.getId() != null ? claims.getId() : digest,
+                    claims.get("userId", Long.class),
+                    claims.getSubject(),
+                    claims.get("role", String.class),
+                    issuedAt(claims),
+                    expiresAt.toInstant());
+        } catch (ExpiredJwtException e) {
+            log.warn("Token 已过期: {}", e.getMessage());
+        } catch (UnsupportedJwtException e) {
+            log.warn("不支持的 Token: {}", e.getMessage());
+        } catch (MalformedJwtException e) {
+            log.warn("Token 格式错误: {}", e.getMessage());
+        } catch (IllegalArgumentException e) {
+            log.warn("Token 参数错误: {}", e.getMessage());
         } catch (Exception e) {
-            log.error("解析 Token 失败: {}", e.getMessage());
-            return null;
+            log.warn("Token 验证失败: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * 签发时间：优先取毫秒精度的签发时间，缺失时退化为秒级的 iat（按该秒的起点，吊销判断偏向拒绝）
+     */
+    private static Instant issuedAt(Claims claims) {
+        Long millis = claims.get(CLAIM_ISSUED_AT_MILLIS, Long.class);
+        if (millis != null) {
+            return Instant.ofEpochMilli(millis);
+        }
+        return claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : Instant.EPOCH;
+    }
+
+    /**
+     * 缓存已满时先清理已过期的项，仍然超限则整体清空（下一次请求重新校验即可）
+     */
+    private void evict() {
+        Instant now = Instant.now();
+        verified.values().removeIf(principal -> !principal.expiresAt().isAfter(now));
+        if (verified.size() >= cacheSize) {
+            verified.clear();
+        }
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(md.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 不可用", e);
         }
     }
 
@@ -0,0 +1,195 @@
+package com.antigravity.common.security;
+
+import com.antigravity.module.permission.entity.Permission;
+import com.antigravity.module.permission.mapper.PermissionMapper;
+import com.antigravity.module.role.entity.Role;
+import com.antigravity.module.role.mapper.RoleMapper;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 角色 -> 权限 缓存
+ * <p>
+ * 启动时由 {@code sys_role} / {@code sys_permission} / {@code sys_role_permission} 构建不可变的
+ * "角色编码 -> 权限集合"快照，请求认证时只做内存查找：
+ * <ul>
+ *   <li>ADMIN 为超级管理员，拥有全部已启用的权限</li>
+ *   <li>已禁用的角色只保留 {@code ROLE_} 权限</li>
+ *   <li>角色或权限变更提交后递增 Redis 中的版本号并广播，各节点收到消息后重建快照</li>
+ *   <li>各节点定期比对版本号，兜底错过的广播</li>
+ * </ul>
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RoleAuthorityCache {
+
+    private static final String SUPER_ADMIN = "ADMIN";
+    private static final String VERSION_KEY = "auth:authority:version";
+    private static final String CHANNEL = "auth:authority:changed";
+    private static final long VERSION_CHECK_SECONDS = 30;
+
+    private final RoleMapper roleMapper;
+    private final PermissionMapper permissionMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private volatile Snapshot snapshot = new Snapshot(-1, Map.of());
+
+    private final AtomicBoolean reloading = new AtomicBoolean();
+
+    private ScheduledExecutorService versionChecker;
+
+    @PostConstruct
+    public void start() {
+        reload();
+        listenerContainer.addMessageListener((message, pattern) -> reloadAsync(), new ChannelTopic(CHANNEL));
+        versionChecker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("role-authority-version").daemon().factory());
+        versionChecker.scheduleWithFixedDelay(this::checkVersion,
+                VERSION_CHECK_SECONDS, VERSION_CHECK_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (versionChecker != null) {
+            versionChecker.shutdownNow();
+        }
+    }
+
+    /**
+     * 角色对应的全部权限（含 {@code ROLE_} 前缀的角色权限），返回不可变集合
+     */
+    public Set<GrantedAuthority> authoritiesOf(String role) {
+        if (role == null) {
+            return Set.of();
+        }
+        Set<GrantedAuthority> authorities = snapshot.authorities().get(role.toUpperCase());
+        return authorities != null ? authorities : Set.of(new SimpleGrantedAuthority("ROLE_" + role));
+    }
+
+    /**
+     * 角色或权限变更后使全集群的缓存失效（在事务中调用时于提交后执行）
+     */
+    public void invalidate() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    publishChange();
+                }
+            });
+        } else {
+            publishChange();
+        }
+    }
+
+    private void publishChange() {
+        try {
+            redisTemplate.opsForValue().increment(VERSION_KEY);
+            redisTemplate.convertAndSend(CHANNEL, "changed");
+        } catch (Exception e) {
+            log.warn("广播角色权限变更失败，仅重建本节点缓存: {}", e.getMessage());
+        }
+        reloadAsync();
+    }
+
+    private void reloadAsync() {
+        Thread.ofVirtual().name("role-authority-reload").start(this::reload);
+    }
+
+    private void checkVersion() {
+        try {
+            if (currentVersion() != snapshot.version()) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("检查角色权限版本失败: {}", e.getMessage());
+        }
+    }
+
+    private long currentVersion() {
+        String value = redisTemplate.opsForValue().get(VERSION_KEY);
+        return value != null ? Long.parseLong(value) : 0;
+    }
+
+    private void reload() {
+        if (!reloading.compareAndSet(false, true)) {
+            // 正在重建时错过的变更由下一次版本比对补上
+            return;
+        }
+        try {
+            long version;
+            try {
+                version = currentVersion();
+            } catch (Exception e) {
+                version = snapshot.version();
+            }
+
+            LambdaQueryWrapper<Permission> enabledPermissions = new LambdaQueryWrapper<>();
+            enabledPermissions.eq(Permission::getEnabled, true);
+            List<String> allCodes = permissionMapper.selectList(enabledPermissions).stream()
+                    .map(Permission::getCode)
+                    .toList();
+
+            Map<String, Set<GrantedAuthority>> authorities = new HashMap<>();
+            for (Role role : roleMapper.selectList(new LambdaQueryWrapper<>())) {
+                String code = role.getCode().toUpperCase();
+                Set<GrantedAuthority> granted = new LinkedHashSet<>();
+                granted.add(new SimpleGrantedAuthority("ROLE_" + code));
+                if (Boolean.TRUE.equals(role.getEnabled())) {
+                    List<String> codes = SUPER_ADMIN.equals(code)
+                            ? allCodes
+                            : permissionMapper.selectByRoleId(role.getId()).stream()
+                                    .filter(permission -> Boolean.TRUE.equals(permission.getEnabled()))
+                                    .map(Permission::getCode)
+                                    .toList();
+                    codes.forEach(permission -> granted.add(new SimpleGrantedAuthority(permission)));
+                }
+                authorities.put(code, Set.copyOf(new ArrayList<>(granted)));
+            }
+
+            snapshot = new Snapshot(version, Map.copyOf(authorities));
+            log.info("角色权限缓存已重建: version={}, roles={}", version, authorities.size());
+        } catch (Exception e) {
+            log.error("重建角色权限缓存失败，继续使用旧快照: {}", e.getMessage());
+        } finally {
+            reloading.set(false);
+        }
+    }
+
+    /**
+     * 不可变快照
+     *
+     * @param version     构建时的 Redis 版本号
+     * @param authorities 角色编码（大写） -> 权限集合
+     */
+    private record Snapshot(long version, Map<String, Set<GrantedAuthority>> authorities) {
+    }
+
+}
@@ -0,0 +1,221 @@
+package com.antigravity.common.security;
+
+import com.antigravity.common.util.BloomFilter;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Token 吊销
+ * <p>
+ * 吊销记录保存在 Redis 中，TTL 与 Token 剩余有效期一致：
+ * <ul>
+ *   <li>{@code auth:revoked:token:{jti}}：吊销单个 Token（登出）</li>
+ *   <li>{@code auth:revoked:user:{userId}}：吊销用户在该时间点之前签发的所有 Token（删除用户、修改密码或角色）</li>
+ * </ul>
+ * 每个节点在本地维护吊销标识的布隆过滤器，通过 Redis 发布订阅实时同步，并定期从 Redis 重建以剔除已过期的记录。
+ * 绝大多数请求在布隆过滤器处即可判定未吊销，只有命中（含误判）时才访问 Redis 确认。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationService {
+
+    private static final String TOKEN_KEY_PREFIX = "auth:revoked:token:";
+    private static final String USER_KEY_PREFIX = "auth:revoked:user:";
+    private static final String CHANNEL = "auth:revocation";
+
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final JwtUtil jwtUtil;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private long expectedEntries;
+
+    @Value("${jwt.revocation.false-positive-rate:0.001}")
+    private double falsePositiveRate;
+
+    @Value("${jwt.revocation.rebuild-interval-minutes:10}")
+    private int rebuildIntervalMinutes;
+
+    private volatile BloomFilter filter;
+
+    /**
+     * 重建过程中同时写入的新过滤器，避免重建期间收到的吊销消息丢失
+     */
+    private volatile BloomFilter rebuilding;
+
+    private ScheduledExecutorService rebuilder;
+
+    @PostConstruct
+    public void start() {
+        filter = newFilter();
+        listenerContainer.addMessageListener(
+                (message, pattern) -> addLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(CHANNEL));
+        rebuild();
+        rebuilder = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("token-revocation-rebuild").daemon().factory());
+        rebuilder.scheduleWithFixedDelay(this::rebuild,
+                rebuildIntervalMinutes, rebuildIntervalMinutes, TimeUnit.MINUTES);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (rebuilder != null) {
+            rebuilder.shutdownNow();
+        }
+    }
+
+    /**
+     * 吊销单个 Token
+     */
+    public void revoke(JwtPrincipal principal) {
+        Duration ttl = Duration.between(Instant.now(), principal.expiresAt());
+        if (ttl.isNegative() || ttl.isZero()) {
+            return;
+        }
+        String entry = tokenEntry(principal.tokenId());
+        redisTemplate.opsForValue().set(TOKEN_KEY_PREFIX + principal.tokenId(), "1", ttl);
+        publish(entry);
+        log.info("Token 已吊销: userId={}, tokenId={}", principal.userId(), principal.tokenId());
+    }
+
+    /**
+     * 吊销用户当前已签发的所有 Token
+     * <p>
+     * 在事务中调用时于提交后执行，避免事务回滚后用户被无故踢下线。
+     */
+    public void revokeUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    doRevokeUser(userId);
+                }
+            });
+        } else {
+            doRevokeUser(userId);
+        }
+    }
+
+    /**
+     * Token 是否已被吊销
+     */
+    public boolean isRevoked(JwtPrincipal principal) {
+        boolean tokenHit = principal.tokenId() != null && filter.mightContain(tokenEntry(principal.tokenId()));
+        boolean userHit = principal.userId() != null && filter.mightContain(userEntry(principal.userId()));
+        if (!tokenHit && !userHit) {
+            return false;
+        }
+        try {
+            if (tokenHit && Boolean.TRUE.equals(redisTemplate.hasKey(TOKEN_KEY_PREFIX + principal.tokenId()))) {
+                return true;
+            }
+            if (userHit) {
+                String revokedAt = redisTemplate.opsForValue().get(USER_KEY_PREFIX + principal.userId());
+                // 签发时间与吊销时间均为毫秒精度；同一毫秒内无法区分先后，按吊销之前签发处理
+                return revokedAt != null && principal.issuedAt().toEpochMilli() <= Long.parseLong(revokedAt);
+            }
+            return false;
+        } catch (Exception e) {
+            // 过滤器命中且无法确认时按已吊销处理
+            log.warn("确认 Token 吊销状态失败，按已吊销处理: userId={}, error={}", principal.userId(), e.getMessage());
+            return true;
+        }
+    }
+
+    private void doRevokeUser(Long userId) {
+        try {
+            String entry = userEntry(userId);
+            redisTemplate.opsForValue().set(USER_KEY_PREFIX + userId,
+                    String.valueOf(System.currentTimeMillis()), Duration.ofSeconds(jwtUtil.getExpiration()));
+            publish(entry);
+            log.info("用户 Token 已全部吊销: userId={}", userId);
+        } catch (Exception e) {
+            log.error("吊销用户 Token 失败: userId={}, error={}", userId, e.getMessage());
+        }
+    }
+
+    private void publish(String entry) {
+        addLocal(entry);
+        try {
+            redisTemplate.convertAndSend(CHANNEL, entry);
+        } catch (Exception e) {
+            log.warn("广播 Token 吊销消息失败，其他节点将在下次重建时同步: {}", e.getMessage());
+        }
+    }
+
+    private void addLocal(String entry) {
+        filter.put(entry);
+        BloomFilter next = rebuilding;
+        if (next != null) {
+            next.put(entry);
+        }
+    }
+
+    /**
+     * 从 Redis 重建本地过滤器
+     */
+    private void rebuild() {
+        BloomFilter next = newFilter();
+        rebuilding = next;
+        try {
+            int count = scanInto(next, TOKEN_KEY_PREFIX, "t:") + scanInto(next, USER_KEY_PREFIX, "u:");
+            filter = next;
+            log.debug("Token 吊销过滤器已重建: entries={}", count);
+        } catch (Exception e) {
+            log.warn("重建 Token 吊销过滤器失败，继续使用现有过滤器: {}", e.getMessage());
+        } finally {
+            rebuilding = null;
+        }
+    }
+
+    private int scanInto(BloomFilter target, String keyPrefix, String entryPrefix) {
+        int count = 0;
+        ScanOptions options = ScanOptions.scanOptions().match(keyPrefix + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                target.put(entryPrefix + cursor.next().substring(keyPrefix.length()));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private BloomFilter newFilter() {
+        return new BloomFilter(expectedEntries, falsePositiveRate);
+    }
+
+    private static String tokenEntry(String tokenId) {
+        return "t:" + tokenId;
+    }
+
+    private static String userEntry(Long userId) {
+        return "u:" + userId;
+    }
+
+}
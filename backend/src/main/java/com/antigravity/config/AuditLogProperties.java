@@ -0,0 +1,66 @@
+package com.antigravity.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 审计日志（操作日志、登录日志）写入配置属性
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "audit.log")
+public class AuditLogProperties {
+
+    /**
+     * 待写入日志的缓冲区容量
+     */
+    private int capacity = 10000;
+
+    /**
+     * 单次批量写入的最大条数
+     */
+    private int batchSize = 200;
+
+    /**
+     * 缓冲区未攒满一批时的最长等待时间（毫秒）
+     */
+    private long flushIntervalMillis = 500;
+
+    /**
+     * 缓冲区满时的处理策略
+     */
+    private OverflowPolicy overflowPolicy = OverflowPolicy.BLOCK;
+
+    /**
+     * BLOCK 策略下的最长阻塞时间（毫秒），超时后丢弃该条日志
+     */
+    private long blockTimeoutMillis = 100;
+
+    /**
+     * SPILL 策略下溢出日志的本地落盘目录，缓冲区空闲时回放入库
+     */
+    private String spillDir = "logs/audit-spill";
+
+    /**
+     * 缓冲区溢出策略
+     */
+    public enum OverflowPolicy {
+        /**
+         * 阻塞调用方直到有空位（有超时）
+         */
+        BLOCK,
+        /**
+         * 丢弃最早的一条
+         */
+        DROP_OLDEST,
+        /**
+         * 写入本地文件，稍后回放
+         */
+        SPILL
+    }
+
+}
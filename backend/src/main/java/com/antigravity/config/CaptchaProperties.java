@@ -0,0 +1,43 @@
+package com.antigravity.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 滑动验证码配置属性
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "captcha")
+public class CaptchaProperties {
+
+    /**
+     * 预渲染验证码池容量
+     */
+    private int poolSize = 200;
+
+    /**
+     * 池中剩余数量低于该值时触发后台补充
+     */
+    private int refillThreshold = 100;
+
+    /**
+     * 后台补充时并行渲染的虚拟线程数
+     */
+    private int refillParallelism = 2;
+
+    /**
+     * 背景图编码格式：jpeg（体积小、编码快）或 png
+     */
+    private String backgroundFormat = "jpeg";
+
+    /**
+     * JPEG 压缩质量（0-1）
+     */
+    private float jpegQuality = 0.8f;
+
+}
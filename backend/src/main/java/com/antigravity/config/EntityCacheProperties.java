@@ -0,0 +1,38 @@
+package com.antigravity.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 实体二级缓存（同步配置、数据库连接、字段映射）配置属性
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "cache.entity")
+public class EntityCacheProperties {
+
+    /**
+     * 是否启用缓存，关闭后所有读取直接查库
+     */
+    private boolean enabled = true;
+
+    /**
+     * 每个缓存区域的本地（L1）最大条目数
+     */
+    private int localMaxSize = 1000;
+
+    /**
+     * 本地（L1）条目存活时间（秒），兜底错过的失效广播
+     */
+    private long localTtlSeconds = 60;
+
+    /**
+     * Redis（L2）条目存活时间（秒）
+     */
+    private long redisTtlSeconds = 600;
+
+}
@@ -0,0 +1,78 @@
+package com.antigravity.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 登录保护配置属性
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "auth.login")
+public class LoginProperties {
+
+    /**
+     * BCrypt 计算强度（log2 轮数），调高后旧密码在下次登录成功时自动重新加密
+     */
+    private int bcryptStrength = 10;
+
+    /**
+     * 密码校验线程数，小于等于 0 时取 CPU 核数
+     */
+    private int verifyThreads = 0;
+
+    /**
+     * 密码校验排队队列长度，队列满时直接拒绝
+     */
+    private int verifyQueueCapacity = 64;
+
+    /**
+     * 密码校验排队超时时间（毫秒），超时未开始校验的请求直接拒绝
+     */
+    private long verifyQueueTimeoutMillis = 2000;
+
+    /**
+     * 单个 IP 的登录令牌桶
+     */
+    private Bucket ipBucket = new Bucket(20, 1.0);
+
+    /**
+     * 单个用户名的登录令牌桶
+     */
+    private Bucket usernameBucket = new Bucket(5, 0.1);
+
+    /**
+     * Redis 不可用时本地令牌桶的最大数量，超过后清空重建
+     */
+    private int localBucketLimit = 100000;
+
+    /**
+     * 令牌桶
+     */
+    @Data
+    public static class Bucket {
+
+        /**
+         * 桶容量（允许的突发次数）
+         */
+        private int capacity;
+
+        /**
+         * 每秒补充的令牌数
+         */
+        private double refillPerSecond;
+
+        public Bucket() {
+        }
+
+        public Bucket(int capacity, double refillPerSecond) {
+            this.capacity = capacity;
+            this.refillPerSecond = refillPerSecond;
+        }
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.antigravity.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 按需 JFR 性能剖析配置属性
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "profiling")
+public class ProfilingProperties {
+
+    /**
+     * 是否允许通过接口启动剖析
+     */
+    private boolean enabled = true;
+
+    /**
+     * 未指定时长时的默认录制时长（秒）
+     */
+    private int defaultDurationSeconds = 60;
+
+    /**
+     * 单次录制的最长时长（秒）
+     */
+    private int maxDurationSeconds = 300;
+
+    /**
+     * 单次录制保留的最大数据量（MB），超出后丢弃最早的数据
+     */
+    private int maxSizeMb = 100;
+
+    /**
+     * 录制文件（.jfr）与摘要（.json）的保存目录
+     */
+    private String directory = "logs/jfr";
+
+    /**
+     * 保留最近的录制数，更早的文件会被删除
+     */
+    private int keepRecordings = 5;
+
+    /**
+     * 固定、锁竞争、Socket 读取事件的记录阈值（毫秒），低于阈值的事件不记录
+     */
+    private long eventThresholdMillis = 10;
+
+    /**
+     * 摘要中每类热点保留的条数
+     */
+    private int topN = 20;
+
+}
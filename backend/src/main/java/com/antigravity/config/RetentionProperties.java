@@ -0,0 +1,97 @@
+package com.antigravity.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 数据保留与清理配置属性
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "retention")
+public class RetentionProperties {
+
+    /**
+     * 是否启用定期清理
+     */
+    private boolean enabled = true;
+
+    /**
+     * 是否允许管理员手动把声明为分区的表转换为按月分区
+     * <p>
+     * 转换会整表重建并在期间阻塞写入，默认关闭；开启后也只在调用分区接口时执行，应安排在维护窗口。
+     */
+    private boolean partitioningEnabled = false;
+
+    /**
+     * 预先创建的未来月份分区数
+     */
+    private int futureMonths = 3;
+
+    /**
+     * 分批删除时每批删除的行数
+     */
+    private int chunkSize = 1000;
+
+    /**
+     * 分批删除时两批之间的停顿（毫秒），用于限制对线上库的压力
+     */
+    private long chunkPauseMillis = 200;
+
+    /**
+     * 定期清理间隔（小时）
+     */
+    private int intervalHours = 24;
+
+    /**
+     * 启动后首次清理的延迟（分钟）
+     */
+    private int initialDelayMinutes = 10;
+
+    /**
+     * 各表的保留策略：表名 -> 策略
+     */
+    private Map<String, Policy> policies = new LinkedHashMap<>();
+
+    /**
+     * 单表保留策略
+     */
+    @Data
+    public static class Policy {
+
+        /**
+         * 保留天数
+         */
+        private int retentionDays = 90;
+
+        /**
+         * 时间字段
+         */
+        private String timeColumn = "create_time";
+
+        /**
+         * 是否按时间字段按月分区；分区表过期数据整分区删除，否则按主键顺序分批删除
+         */
+        private boolean partitioned = false;
+
+        /**
+         * 状态字段
+         */
+        private String statusColumn = "status";
+
+        /**
+         * 未结束的状态值：处于这些状态的行无论多旧都不清理；配置后该表不整分区删除，只按分批删除清理
+         */
+        private List<String> activeStatuses = new ArrayList<>();
+    }
+
+}
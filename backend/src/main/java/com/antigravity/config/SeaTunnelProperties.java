@@ -25,4 +25,9 @@ public class SeaTunnelProperties {
      */
     private int timeout = 30000;
 
+    /**
+     * 批量执行时并发提交任务的最大请求数
+     */
+    private int submitConcurrency = 16;
+
 }
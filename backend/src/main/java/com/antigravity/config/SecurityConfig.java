@@ -2,6 +2,7 @@ package com.antigravity.config;
 
 import com.antigravity.common.security.JwtAuthenticationFilter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -15,6 +16,7 @@ import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.RequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -36,6 +38,12 @@ public class SecurityConfig {
 
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
 
+    @Value("${server.port:8080}")
+    private int serverPort;
+
+    @Value("${management.server.port:${server.port:8080}}")
+    private int managementPort;
+
     /**
      * 白名单路径（无需认证）
      */
@@ -43,6 +51,8 @@ public class SecurityConfig {
             "/api/v1/auth/login",
             "/api/v1/auth/register",
             "/api/v1/captcha/**",
+            "/actuator/health",
+            "/actuator/health/**",
             "/error",
             "/favicon.ico"
     };
@@ -64,6 +74,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // 白名单路径允许匿名访问
                         .requestMatchers(WHITE_LIST).permitAll()
+                        .requestMatchers(prometheusOnManagementPort()).permitAll()
                         // 其他请求需要认证
                         .anyRequest().authenticated())
 
@@ -74,11 +85,21 @@ public class SecurityConfig {
     }
 
     /**
-     * 密码编码器
+     * 指标抓取只在独立的管理端口上免认证；管理端口未单独配置（与业务端口相同）时仍需认证，
+     * 避免通过对外发布的业务端口匿名读取指标
+     */
+    private RequestMatcher prometheusOnManagementPort() {
+        return request -> managementPort != serverPort
+                && request.getLocalPort() == managementPort
+                && "/actuator/prometheus".equals(request.getRequestURI());
+    }
+
+    /**
+     * 密码编码器（强度可配置，调高后旧密码在登录成功时自动重新加密）
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(LoginProperties loginProperties) {
+        return new BCryptPasswordEncoder(loginProperties.getBcryptStrength());
     }
 
     /**
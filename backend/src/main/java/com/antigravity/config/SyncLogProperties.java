@@ -0,0 +1,53 @@
+package com.antigravity.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 同步任务日志查询与实时跟踪配置属性
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sync.log")
+public class SyncLogProperties {
+
+    /**
+     * 单次查询默认返回的日志条数
+     */
+    private int defaultLimit = 1000;
+
+    /**
+     * 单次查询允许返回的最大日志条数
+     */
+    private int maxLimit = 5000;
+
+    /**
+     * 跟踪模式下每次推送前读取的最大条数
+     */
+    private int followBatchSize = 500;
+
+    /**
+     * 跟踪模式下未收到本节点写入通知时的兜底轮询间隔（毫秒），用于感知其他节点写入的日志
+     */
+    private long followPollMillis = 2000;
+
+    /**
+     * 跟踪模式空闲时发送心跳的间隔（秒），防止代理断开空闲连接
+     */
+    private int followHeartbeatSeconds = 15;
+
+    /**
+     * 单个跟踪连接的最长保持时间（分钟），超时后客户端按 Last-Event-ID 重连续读
+     */
+    private int followTimeoutMinutes = 30;
+
+    /**
+     * 本节点允许同时存在的跟踪连接数
+     */
+    private int maxFollowers = 200;
+
+}
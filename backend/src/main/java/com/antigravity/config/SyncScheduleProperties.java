@@ -0,0 +1,74 @@
+package com.antigravity.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 同步任务定时调度配置属性
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sync.schedule")
+public class SyncScheduleProperties {
+
+    /**
+     * 是否启用定时调度器
+     */
+    private boolean enabled = true;
+
+    /**
+     * 时间轮刻度（毫秒）
+     */
+    private long tickMillis = 200;
+
+    /**
+     * 时间轮槽位数（会向上取整为 2 的幂）
+     */
+    private int wheelSize = 512;
+
+    /**
+     * 调度集合对账间隔（秒），同时也是租约续期间隔
+     */
+    private int reconcileIntervalSeconds = 10;
+
+    /**
+     * 调度租约有效期（秒），必须大于对账间隔
+     */
+    private int leaseTtlSeconds = 30;
+
+    /**
+     * 错过触发判定阈值（秒），晚于计划时间超过该值才按错过触发策略处理
+     */
+    private int misfireThresholdSeconds = 60;
+
+    /**
+     * CATCH_UP 策略默认补触发上限
+     */
+    private int defaultCatchUpLimit = 10;
+
+    /**
+     * 固定间隔调度允许的最小间隔（秒）
+     */
+    private int minIntervalSeconds = 10;
+
+    /**
+     * 失败重试轮询间隔（秒），同时刷新运行中任务的状态以便及时发现失败
+     */
+    private int retryPollIntervalSeconds = 15;
+
+    /**
+     * 每轮最多处理的任务数
+     */
+    private int retryPollBatchSize = 100;
+
+    /**
+     * 暂存表建索引并切换的时限（分钟）：执行节点中途退出后由轮询节点接管重做，
+     * 超过时限仍未完成则标记失败并按重试策略重新加载
+     */
+    private int swapTimeoutMinutes = 360;
+
+}
@@ -0,0 +1,33 @@
+package com.antigravity.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 同步工作流执行配置属性
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Component
+@ConfigurationProperties(prefix = "sync.workflow")
+public class SyncWorkflowProperties {
+
+    /**
+     * 节点任务状态轮询间隔（秒）
+     */
+    private int pollIntervalSeconds = 5;
+
+    /**
+     * 工作流未指定并行度时的默认最大并行节点数
+     */
+    private int defaultMaxParallelism = 4;
+
+    /**
+     * 单个工作流允许配置的最大并行节点数上限
+     */
+    private int maxParallelismLimit = 32;
+
+}
@@ -0,0 +1,86 @@
+package com.antigravity.module.auth.login;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * 登录指标
+ * <p>
+ * 登录耗时按结果记录到 {@code auth.login} 计时器（含百分位直方图），成功/失败次数即计时器的计数；
+ * 各类拒绝、重新加密与限流退化次数记录为计数器，统一经 Prometheus 导出。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Component
+public class LoginMetrics {
+
+    private volatile IntSupplier verifyQueueSize = () -> 0;
+
+    private final MeterRegistry meterRegistry;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter rehashed;
+    private final Counter limiterFallback;
+
+    public LoginMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.successTimer = loginTimer(meterRegistry, "success");
+        this.failureTimer = loginTimer(meterRegistry, "failure");
+        this.rehashed = Counter.builder("auth.login.rehashed")
+                .description("按新强度重新加密的密码数")
+                .register(meterRegistry);
+        this.limiterFallback = Counter.builder("auth.login.limiter.fallback")
+                .description("限流退化到本地令牌桶的次数")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.verify.queue", this, metrics -> metrics.verifyQueueSize.getAsInt())
+                .description("排队等待密码校验的登录请求数")
+                .register(meterRegistry);
+    }
+
+    private static Timer loginTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.login")
+                .description("完成密码校验的登录耗时")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    /**
+     * 记录一次完成校验的登录
+     *
+     * @param successful   是否登录成功
+     * @param elapsedNanos 登录耗时
+     */
+    public void recordLogin(boolean successful, long elapsedNanos) {
+        (successful ? successTimer : failureTimer).record(elapsedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * 记录一次被拒绝的登录
+     *
+     * @param reason 拒绝原因：ip_limited、username_limited、queue_full、queue_timeout
+     */
+    public void recordRejected(String reason) {
+        meterRegistry.counter("auth.login.rejected", "reason", reason).increment();
+    }
+
+    public void recordRehash() {
+        rehashed.increment();
+    }
+
+    public void recordLimiterFallback() {
+        limiterFallback.increment();
+    }
+
+    void bindVerifyQueue(IntSupplier queueSize) {
+        this.verifyQueueSize = queueSize;
+    }
+
+}
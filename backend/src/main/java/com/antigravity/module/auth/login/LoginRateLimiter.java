@@ -0,0 +1,117 @@
+package com.antigravity.module.auth.login;
+
+import com.antigravity.config.LoginProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 登录令牌桶限流
+ * <p>
+ * 按 IP 与用户名分别限流，令牌桶状态保存在 Redis 中由 Lua 脚本原子地补充与扣减，多节点共享额度。
+ * Redis 不可用时退化为本节点内存中的令牌桶，额度按节点计算但仍能挡住单点的暴力尝试。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LoginRateLimiter {
+
+    private static final String KEY_PREFIX = "auth:login:bucket:";
+
+    /**
+     * KEYS[1] 令牌桶；ARGV: 容量、每秒补充数。返回 1 表示取得令牌
+     */
+    private static final RedisScript<Long> TAKE_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+                    "local rate = tonumber(ARGV[2]) " +
+                    "local time = redis.call('time') " +
+                    "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+                    "local state = redis.call('hmget', KEYS[1], 'tokens', 'ts') " +
+                    "local tokens = tonumber(state[1]) or capacity " +
+                    "local ts = tonumber(state[2]) or now " +
+                    "tokens = math.min(capacity, tokens + math.max(0, now - ts) * rate / 1000) " +
+                    "local allowed = 0 " +
+                    "if tokens >= 1 then tokens = tokens - 1 allowed = 1 end " +
+                    "redis.call('hset', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(now)) " +
+                    "redis.call('pexpire', KEYS[1], math.ceil(capacity / rate * 1000)) " +
+                    "return allowed",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final LoginProperties properties;
+    private final LoginMetrics metrics;
+
+    /**
+     * Redis 不可用时使用的本地令牌桶
+     */
+    private final Map<String, LocalBucket> localBuckets = new ConcurrentHashMap<>();
+
+    /**
+     * 尝试为该 IP 取得一次登录机会
+     */
+    public boolean tryAcquireIp(String ip) {
+        return tryAcquire("ip:" + ip, properties.getIpBucket());
+    }
+
+    /**
+     * 尝试为该用户名取得一次登录机会
+     */
+    public boolean tryAcquireUsername(String username) {
+        return tryAcquire("user:" + username.toLowerCase(), properties.getUsernameBucket());
+    }
+
+    private boolean tryAcquire(String name, LoginProperties.Bucket bucket) {
+        try {
+            Long allowed = redisTemplate.execute(TAKE_SCRIPT, List.of(KEY_PREFIX + name),
+                    String.valueOf(bucket.getCapacity()), String.valueOf(bucket.getRefillPerSecond()));
+            return allowed != null && allowed > 0;
+        } catch (Exception e) {
+            log.debug("登录限流访问 Redis 失败，使用本地令牌桶: {}", e.getMessage());
+            metrics.recordLimiterFallback();
+            return tryAcquireLocal(name, bucket);
+        }
+    }
+
+    private boolean tryAcquireLocal(String name, LoginProperties.Bucket bucket) {
+        if (localBuckets.size() >= properties.getLocalBucketLimit()) {
+            localBuckets.clear();
+        }
+        return localBuckets.computeIfAbsent(name, key -> new LocalBucket(bucket.getCapacity()))
+                .tryTake(bucket.getCapacity(), bucket.getRefillPerSecond());
+    }
+
+    /**
+     * 本地令牌桶
+     */
+    private static final class LocalBucket {
+
+        private double tokens;
+        private long lastNanos = System.nanoTime();
+
+        private LocalBucket(int capacity) {
+            this.tokens = capacity;
+        }
+
+        private synchronized boolean tryTake(int capacity, double refillPerSecond) {
+            long now = System.nanoTime();
+            tokens = Math.min(capacity, tokens + (now - lastNanos) / 1e9 * refillPerSecond);
+            lastNanos = now;
+            if (tokens >= 1) {
+                tokens -= 1;
+                return true;
+            }
+            return false;
+        }
+    }
+
+}
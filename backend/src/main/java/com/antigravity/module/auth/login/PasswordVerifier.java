@@ -0,0 +1,131 @@
+package com.antigravity.module.auth.login;
+
+import com.antigravity.common.BusinessException;
+import com.antigravity.config.LoginProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 密码校验执行器
+ * <p>
+ * BCrypt 是刻意设计的 CPU 密集计算，登录突发时若直接在请求线程（虚拟线程）上执行会占满所有核心，
+ * 拖慢同步任务等其他接口。这里把校验放到线程数等于 CPU 核数的固定线程池中执行：
+ * <ul>
+ *   <li>排队队列有界，队列满时立即拒绝</li>
+ *   <li>排队超过超时时间仍未开始的请求直接拒绝，不再消耗 CPU</li>
+ * </ul>
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PasswordVerifier {
+
+    private static final String BUSY_MESSAGE = "登录请求过多，请稍后再试";
+
+    private final PasswordEncoder passwordEncoder;
+    private final LoginProperties properties;
+    private final LoginMetrics metrics;
+
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void start() {
+        int threads = properties.getVerifyThreads() > 0
+                ? properties.getVerifyThreads()
+                : Runtime.getRuntime().availableProcessors();
+        executor = new ThreadPoolExecutor(threads, threads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(properties.getVerifyQueueCapacity()),
+                Thread.ofPlatform().name("password-verify-", 0).daemon().factory(),
+                new ThreadPoolExecutor.AbortPolicy());
+        metrics.bindVerifyQueue(executor.getQueue()::size);
+        log.info("密码校验执行器已启动: threads={}, queueCapacity={}", threads, properties.getVerifyQueueCapacity());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 校验明文密码与密文是否匹配
+     *
+     * @throws BusinessException 校验队列已满或排队超时
+     */
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long timeoutMillis = properties.getVerifyQueueTimeoutMillis();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> {
+                if (System.nanoTime() > deadline) {
+                    throw new TimeoutException("排队超时");
+                }
+                return passwordEncoder.matches(rawPassword, encodedPassword);
+            });
+        } catch (RejectedExecutionException e) {
+            metrics.recordRejected("queue_full");
+            throw BusinessException.of(503, BUSY_MESSAGE);
+        }
+
+        try {
+            // 等待时间为排队超时加一次校验的余量，超时后取消尚未开始的任务
+            return future.get(timeoutMillis * 2, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException | CancellationException e) {
+            future.cancel(false);
+            metrics.recordRejected("queue_timeout");
+            throw BusinessException.of(503, BUSY_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof TimeoutException) {
+                metrics.recordRejected("queue_timeout");
+                throw BusinessException.of(503, BUSY_MESSAGE);
+            }
+            throw BusinessException.of("密码校验失败: " + e.getCause().getMessage());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(false);
+            throw BusinessException.of(503, BUSY_MESSAGE);
+        }
+    }
+
+    /**
+     * 密文是否需要按当前强度重新加密
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 在校验线程池中按当前强度加密
+     */
+    public String encode(String rawPassword) {
+        try {
+            return executor.submit(() -> passwordEncoder.encode(rawPassword))
+                    .get(properties.getVerifyQueueTimeoutMillis() * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+}
@@ -1,9 +1,14 @@
 package com.antigravity.module.auth.service.impl;
 
 import com.antigravity.common.BusinessException;
+import com.antigravity.common.security.JwtPrincipal;
 import com.antigravity.common.security.JwtUtil;
+import com.antigravity.common.security.TokenRevocationService;
 import com.antigravity.module.auth.dto.LoginRequest;
 import com.antigravity.module.auth.dto.LoginResponse;
+import com.antigravity.module.auth.login.LoginMetrics;
+import com.antigravity.module.auth.login.LoginRateLimiter;
+import com.antigravity.module.auth.login.PasswordVerifier;
 import com.antigravity.module.auth.service.AuthService;
 import com.antigravity.module.log.service.LoginLogService;
 import com.antigravity.module.user.entity.User;
@@ -11,7 +16,6 @@ import com.antigravity.module.user.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -28,10 +32,14 @@ public class AuthServiceImpl implements AuthService {
     private final JwtUtil jwtUtil;
     private final com.antigravity.module.captcha.service.CaptchaService captchaService;
     private final LoginLogService loginLogService;
-    private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService revocationService;
+    private final LoginRateLimiter loginRateLimiter;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginMetrics loginMetrics;
 
     @Override
     public LoginResponse login(LoginRequest request) {
+        long startNanos = System.nanoTime();
         // 获取请求信息用于日志记录
         String tmpIp = "unknown";
         String tmpUa = "";
@@ -56,6 +64,18 @@ public class AuthServiceImpl implements AuthService {
             throw BusinessException.of(400, "密码不能为空");
         }
 
+        // 限流：先按 IP，再按用户名，均在查询用户和校验密码之前
+        if (!loginRateLimiter.tryAcquireIp(ipAddress)) {
+            loginMetrics.recordRejected("ip_limited");
+            log.warn("登录请求过于频繁: ip={}", ipAddress);
+            throw BusinessException.of(429, "登录尝试过于频繁，请稍后再试");
+        }
+        if (!loginRateLimiter.tryAcquireUsername(request.getUsername())) {
+            loginMetrics.recordRejected("username_limited");
+            log.warn("账号登录尝试过于频繁: username={}, ip={}", request.getUsername(), ipAddress);
+            throw BusinessException.of(429, "该账号登录尝试过于频繁，请稍后再试");
+        }
+
         // 校验验证码Token (开发环境或特定账号可跳过，此处强制校验)
         // TODO: 生产环境应取消注释并强制校验
         // 暂不破坏现有测试，如果传了Token则校验
@@ -70,17 +90,24 @@ public class AuthServiceImpl implements AuthService {
                 .orElseThrow(() -> {
                     // 记录登录失败日志
                     loginLogService.asyncRecordLoginLog(request.getUsername(), ipAddress, userAgent, false, "用户不存在");
+                    loginMetrics.recordLogin(false, System.nanoTime() - startNanos);
                     return BusinessException.of(401, "用户名或密码错误");
                 });
 
-        // 验证密码（使用 BCrypt）
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        // 验证密码（BCrypt 在有界的校验线程池中执行）
+        if (!passwordVerifier.matches(request.getPassword(), user.getPassword())) {
             log.warn("用户登录失败，密码错误: username={}", request.getUsername());
             // 记录登录失败日志
             loginLogService.asyncRecordLoginLog(request.getUsername(), ipAddress, userAgent, false, "密码错误");
+            loginMetrics.recordLogin(false, System.nanoTime() - startNanos);
             throw BusinessException.of(401, "用户名或密码错误");
         }
 
+        // BCrypt 强度调整后按新强度重新加密
+        if (passwordVerifier.needsRehash(user.getPassword())) {
+            rehashPassword(user, request.getPassword());
+        }
+
         // 生成 JWT Token
         String token = jwtUtil.generateToken(user.getId(), user.getUsername(), user.getRole());
 
@@ -88,6 +115,7 @@ public class AuthServiceImpl implements AuthService {
 
         // 记录登录成功日志
         loginLogService.asyncRecordLoginLog(user.getUsername(), ipAddress, userAgent, true, "登录成功");
+        loginMetrics.recordLogin(true, System.nanoTime() - startNanos);
 
         return LoginResponse.builder()
                 .token(token)
@@ -101,9 +129,15 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public void logout(String token) {
-        // JWT 是无状态的，客户端删除 Token 即可
-        // 如果需要服务端失效，可以将 Token 加入黑名单（存入 Redis）
-        log.info("用户登出");
+        if (token != null && token.startsWith("Bearer ")) {
+            token = token.substring(7);
+        }
+        // 将 Token 加入吊销列表，直到其自然过期
+        JwtPrincipal principal = jwtUtil.verify(token);
+        if (principal != null) {
+            revocationService.revoke(principal);
+        }
+        log.info("用户登出: username={}", principal != null ? principal.username() : null);
     }
 
     @Override
@@ -117,47 +151,45 @@ public class AuthServiceImpl implements AuthService {
             token = token.substring(7);
         }
 
-        if (!jwtUtil.validateToken(token)) {
+        JwtPrincipal principal = jwtUtil.verify(token);
+        if (principal == null || revocationService.isRevoked(principal)) {
             throw BusinessException.of(401, "登录已过期，请重新登录");
         }
 
-        Long userId = jwtUtil.getUserIdFromToken(token);
-        String username = jwtUtil.getUsernameFromToken(token);
-        String role = jwtUtil.getRoleFromToken(token);
-
         return LoginResponse.builder()
                 .token(token)
                 .tokenType("Bearer")
                 .expiresIn(jwtUtil.getExpiration())
-                .userId(userId)
-                .username(username)
-                .role(role)
+                .userId(principal.userId())
+                .username(principal.username())
+                .role(principal.role())
                 .build();
     }
 
-
+    /**
+     * 按当前强度重新加密密码，失败不影响本次登录
+     */
+    private void rehashPassword(User user, String rawPassword) {
+        try {
+            String newHash = passwordVerifier.encode(rawPassword);
+            if (newHash != null && userService.upgradePasswordHash(user.getId(), user.getPassword(), newHash)) {
+                loginMetrics.recordRehash();
+                log.info("用户密码已按新强度重新加密: userId={}", user.getId());
+            }
+        } catch (Exception e) {
+            log.warn("用户密码重新加密失败: userId={}, error={}", user.getId(), e.getMessage());
+        }
+    }
 
     /**
      * 获取客户端真实IP
+     * <p>
+     * 不直接读取 X-Forwarded-For：其第一个值由客户端任意填写，按它限流等于没有限流。
+     * 容器按 {@code server.forward-headers-strategy=native} 从右向左跳过受信任的内网代理，
+     * 取第一个不受信任的地址作为 remoteAddr（见 application.yml）。
      */
     private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
-        }
-        return ip;
+        return request.getRemoteAddr();
     }
 }
 
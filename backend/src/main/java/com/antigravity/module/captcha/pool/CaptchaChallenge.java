@@ -0,0 +1,14 @@
+package com.antigravity.module.captcha.pool;
+
+/**
+ * 预渲染的滑动验证码
+ *
+ * @param backgroundImage 背景图（data URI）
+ * @param sliderImage     滑块图（data URI）
+ * @param targetX         缺口 X 轴位置
+ * @param targetY         缺口 Y 轴位置
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public record CaptchaChallenge(String backgroundImage, String sliderImage, int targetX, int targetY) {
+}
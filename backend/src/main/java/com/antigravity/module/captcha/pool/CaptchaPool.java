@@ -0,0 +1,121 @@
+package com.antigravity.module.captcha.pool;
+
+import com.antigravity.config.CaptchaProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 预渲染验证码池
+ * <p>
+ * 后台虚拟线程提前渲染并编码验证码放入有界队列，请求只需从队列中取出一个。
+ * 每个验证码只会被取出一次；剩余数量低于阈值时触发补充，池被取空时退化为当场渲染。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CaptchaPool {
+
+    private final CaptchaRenderer renderer;
+    private final CaptchaProperties properties;
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<CaptchaChallenge> pool;
+
+    private Counter pooledTakes;
+    private Counter inlineTakes;
+
+    private final AtomicBoolean refilling = new AtomicBoolean();
+
+    @PostConstruct
+    public void init() {
+        pool = new ArrayBlockingQueue<>(Math.max(1, properties.getPoolSize()));
+        Gauge.builder("captcha.pool.available", this, CaptchaPool::available)
+                .description("预渲染验证码池剩余数量")
+                .register(meterRegistry);
+        pooledTakes = meterRegistry.counter("captcha.pool.takes", "source", "pool");
+        inlineTakes = meterRegistry.counter("captcha.pool.takes", "source", "inline");
+        triggerRefill();
+    }
+
+    /**
+     * 取出一个验证码
+     */
+    public CaptchaChallenge take() throws IOException {
+        CaptchaChallenge challenge = pool.poll();
+        if (pool.size() < properties.getRefillThreshold()) {
+            triggerRefill();
+        }
+        if (challenge != null) {
+            pooledTakes.increment();
+            return challenge;
+        }
+        // 池已取空（启动初期或突发流量），当场渲染
+        inlineTakes.increment();
+        try (CaptchaRenderer.Session session = renderer.openSession()) {
+            return session.render();
+        }
+    }
+
+    /**
+     * 当前池中剩余数量
+     */
+    public int available() {
+        return pool.size();
+    }
+
+    private void triggerRefill() {
+        if (!refilling.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("captcha-refill").start(() -> {
+            try {
+                int parallelism = Math.max(1, properties.getRefillParallelism());
+                CountDownLatch done = new CountDownLatch(parallelism);
+                for (int i = 0; i < parallelism; i++) {
+                    Thread.ofVirtual().name("captcha-render-" + i).start(() -> {
+                        try {
+                            fill();
+                        } finally {
+                            done.countDown();
+                        }
+                    });
+                }
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                refilling.set(false);
+            }
+        });
+    }
+
+    /**
+     * 在一个渲染会话内持续渲染直到池满
+     */
+    private void fill() {
+        try (CaptchaRenderer.Session session = renderer.openSession()) {
+            while (pool.remainingCapacity() > 0) {
+                if (!pool.offer(session.render())) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("预渲染验证码失败: {}", e.getMessage());
+        }
+    }
+
+}
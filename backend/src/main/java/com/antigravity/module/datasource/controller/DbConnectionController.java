@@ -41,14 +41,10 @@ public class DbConnectionController {
             @RequestParam(defaultValue = "1") @Min(value = 1, message = "页码最小为 1") int pageNumber,
             @RequestParam(defaultValue = "10") @Min(value = 1, message = "每页大小最小为 1") int pageSize,
             @RequestParam(required = false) String name,
-            @RequestParam(required = false) String dbType) {
-        PageResult<DbConnection> page = dbConnectionService.pageQuery(pageNumber, pageSize, name, dbType);
-        PageResult<DbConnectionVO> voPage = PageResult.of(
-                page.getRecords().stream().map(DbConnectionVO::fromEntity).toList(),
-                page.getPageNumber(),
-                page.getPageSize(),
-                page.getTotalRow());
-        return Result.success(voPage);
+            @RequestParam(required = false) String dbType,
+            @RequestParam(required = false) String cursor) {
+        PageResult<DbConnection> page = dbConnectionService.pageQuery(pageNumber, pageSize, name, dbType, cursor);
+        return Result.success(page.map(DbConnectionVO::fromEntity));
     }
 
     /**
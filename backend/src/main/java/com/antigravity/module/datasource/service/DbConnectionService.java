@@ -20,7 +20,7 @@ public interface DbConnectionService extends IService<DbConnection> {
 
     Optional<DbConnection> findByName(String name);
 
-    PageResult<DbConnection> pageQuery(int pageNumber, int pageSize, String name, String dbType);
+    PageResult<DbConnection> pageQuery(int pageNumber, int pageSize, String name, String dbType, String cursor);
 
     boolean existsByName(String name);
 
@@ -1,6 +1,10 @@
 package com.antigravity.module.datasource.service.impl;
 
 import com.antigravity.common.BusinessException;
+import com.antigravity.common.CountCache;
+import com.antigravity.common.KeysetPagination;
+import com.antigravity.common.cache.TwoLevelCache;
+import com.antigravity.common.cache.TwoLevelCacheManager;
 import com.antigravity.module.sync.engine.dialect.DatabaseDialect;
 import com.antigravity.module.sync.engine.dialect.DatabaseDialectFactory;
 import com.antigravity.common.PageResult;
@@ -9,8 +13,10 @@ import com.antigravity.module.datasource.mapper.DbConnectionMapper;
 import com.antigravity.module.datasource.service.DbConnectionService;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.toolkit.StringUtils;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -32,10 +38,21 @@ import java.util.*;
 public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbConnection> implements DbConnectionService {
 
     private final JdbcTemplate jdbcTemplate;
+    private final CountCache countCache;
+    private final TwoLevelCacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    private TwoLevelCache<DbConnection> connectionCache;
+
+    @PostConstruct
+    public void initCache() {
+        // 连接含明文密码，只缓存在本地，不写入共享 Redis
+        connectionCache = cacheManager.createLocal("db-connection", DbConnection.class);
+    }
 
     @Override
     public Optional<DbConnection> findById(Long id) {
-        return Optional.ofNullable(this.getById(id));
+        return Optional.ofNullable(connectionCache.get(id, () -> this.getById(id)));
     }
 
     @Override
@@ -46,15 +63,17 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
     }
 
     @Override
-    public PageResult<DbConnection> pageQuery(int pageNumber, int pageSize, String name, String dbType) {
-        Page<DbConnection> page = new Page<>(pageNumber, pageSize);
+    public PageResult<DbConnection> pageQuery(int pageNumber, int pageSize, String name, String dbType, String cursor) {
         LambdaQueryWrapper<DbConnection> wrapper = new LambdaQueryWrapper<>();
         wrapper.like(StringUtils.isNotBlank(name), DbConnection::getName, name)
-                .eq(StringUtils.isNotBlank(dbType), DbConnection::getDbType, dbType)
-                .orderByDesc(DbConnection::getCreateTime);
-
-        Page<DbConnection> resultPage = this.page(page, wrapper);
-        return PageResult.of(resultPage.getRecords(), pageNumber, pageSize, resultPage.getTotal());
+                .eq(StringUtils.isNotBlank(dbType), DbConnection::getDbType, dbType);
+
+        String countKey = CountCache.key("sys_db_connection", name, dbType);
+        return KeysetPagination.page(baseMapper, wrapper, DbConnection::getCreateTime, DbConnection::getId,
+                cursor, pageNumber, pageSize, () -> countCache.get(countKey, () -> this.count(
+                        new LambdaQueryWrapper<DbConnection>()
+                                .like(StringUtils.isNotBlank(name), DbConnection::getName, name)
+                                .eq(StringUtils.isNotBlank(dbType), DbConnection::getDbType, dbType))));
     }
 
     @Override
@@ -92,6 +111,8 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
         }
         connection.setIsDeleted(false);
         this.save(connection);
+        connectionCache.evict(connection.getId());
+        countCache.invalidateAfterCommit("sys_db_connection");
         return connection;
     }
 
@@ -99,13 +120,18 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
     @Transactional(rollbackFor = Exception.class)
     public boolean updateConnection(DbConnection connection) {
         cleanupSoftDeletedConnection(connection.getName());
-        return this.updateById(connection);
+        boolean updated = this.updateById(connection);
+        connectionCache.evict(connection.getId());
+        return updated;
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public boolean deleteConnection(Long id) {
-        return this.removeById(id);
+        boolean deleted = this.removeById(id);
+        connectionCache.evict(id);
+        countCache.invalidateAfterCommit("sys_db_connection");
+        return deleted;
     }
 
     @Override
@@ -113,17 +139,22 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
         String jdbcUrl = buildJdbcUrl(dbType, host, port, databaseName);
         log.info("测试数据库连接: type={}, url={}", dbType, jdbcUrl);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try (Connection conn = DriverManager.getConnection(jdbcUrl, username, password)) {
-            return conn.isValid(5);
+            success = conn.isValid(5);
+            return success;
         } catch (SQLException e) {
             log.warn("数据库连接测试失败: {}", e.getMessage());
             return false;
+        } finally {
+            recordMetadata(sample, "test", dbType, success);
         }
     }
 
     @Override
     public List<String> getTables(Long connectionId) {
-        DbConnection conn = this.getById(connectionId);
+        DbConnection conn = findById(connectionId).orElse(null);
         if (conn == null) {
             throw BusinessException.of("数据库连接不存在");
         }
@@ -131,6 +162,8 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
         String jdbcUrl = buildJdbcUrl(conn.getDbType(), conn.getHost(), conn.getPort(), conn.getDatabaseName());
         List<String> tables = new ArrayList<>();
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try (Connection connection = DriverManager.getConnection(jdbcUrl, conn.getUsername(), conn.getPassword())) {
             DatabaseMetaData metaData = connection.getMetaData();
             String catalog = connection.getCatalog();
@@ -141,9 +174,12 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
                     tables.add(rs.getString("TABLE_NAME"));
                 }
             }
+            success = true;
         } catch (SQLException e) {
             log.error("获取表列表失败: {}", e.getMessage());
             throw BusinessException.of("获取表列表失败: " + e.getMessage());
+        } finally {
+            recordMetadata(sample, "tables", conn.getDbType(), success);
         }
 
         return tables;
@@ -151,7 +187,7 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
 
     @Override
     public List<Map<String, String>> getTableColumns(Long connectionId, String tableName) {
-        DbConnection conn = this.getById(connectionId);
+        DbConnection conn = findById(connectionId).orElse(null);
         if (conn == null) {
             throw BusinessException.of("数据库连接不存在");
         }
@@ -159,6 +195,8 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
         String jdbcUrl = buildJdbcUrl(conn.getDbType(), conn.getHost(), conn.getPort(), conn.getDatabaseName());
         List<Map<String, String>> columns = new ArrayList<>();
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try (Connection connection = DriverManager.getConnection(jdbcUrl, conn.getUsername(), conn.getPassword())) {
             DatabaseMetaData metaData = connection.getMetaData();
             String catalog = connection.getCatalog();
@@ -183,9 +221,12 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
                     columns.add(col);
                 }
             }
+            success = true;
         } catch (SQLException e) {
             log.error("获取列信息失败: {}", e.getMessage());
             throw BusinessException.of("获取列信息失败: " + e.getMessage());
+        } finally {
+            recordMetadata(sample, "columns", conn.getDbType(), success);
         }
 
         return columns;
@@ -198,7 +239,7 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
 
     @Override
     public List<String> getPrimaryKeys(Long connectionId, String tableName) {
-        DbConnection conn = this.getById(connectionId);
+        DbConnection conn = findById(connectionId).orElse(null);
         if (conn == null) {
             throw BusinessException.of("数据库连接不存在");
         }
@@ -206,6 +247,8 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
         String jdbcUrl = buildJdbcUrl(conn.getDbType(), conn.getHost(), conn.getPort(), conn.getDatabaseName());
         List<String> primaryKeys = new ArrayList<>();
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try (Connection connection = DriverManager.getConnection(jdbcUrl, conn.getUsername(), conn.getPassword())) {
             DatabaseMetaData metaData = connection.getMetaData();
             String catalog = connection.getCatalog();
@@ -216,8 +259,11 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
                     primaryKeys.add(rs.getString("COLUMN_NAME"));
                 }
             }
+            success = true;
         } catch (SQLException e) {
             log.error("获取主键信息失败: {}", e.getMessage());
+        } finally {
+            recordMetadata(sample, "primary_keys", conn.getDbType(), success);
         }
 
         return primaryKeys;
@@ -225,6 +271,19 @@ public class DbConnectionServiceImpl extends ServiceImpl<DbConnectionMapper, DbC
 
     // ==================== 私有方法 ====================
 
+    /**
+     * 记录一次 JDBC 元数据操作（含建立连接），按数据库类型区分，不以连接 ID 或表名作为标签
+     */
+    private void recordMetadata(Timer.Sample sample, String operation, String dbType, boolean success) {
+        sample.stop(Timer.builder("datasource.metadata.requests")
+                .description("外部数据源 JDBC 元数据操作耗时")
+                .tag("operation", operation)
+                .tag("db_type", dbType != null ? dbType.toLowerCase() : "unknown")
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
     /**
      * 根据数据库类型构建 JDBC URL
      * <p>
@@ -0,0 +1,89 @@
+package com.antigravity.module.diagnostics.controller;
+
+import com.antigravity.common.Result;
+import com.antigravity.module.diagnostics.dto.ProfilingSessionVO;
+import com.antigravity.module.diagnostics.dto.ProfilingSummaryVO;
+import com.antigravity.module.diagnostics.service.ProfilingService;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 按需 JFR 性能剖析 Controller
+ * <p>
+ * 无需登录容器即可定位虚拟线程固定、锁竞争、慢 Socket 读取与分配热点。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/diagnostics/profiling")
+@RequiredArgsConstructor
+public class ProfilingController {
+
+    private final ProfilingService profilingService;
+
+    /**
+     * 开始录制
+     *
+     * @param profile         JFR 配置：default（低开销，默认）或 profile（更多采样）
+     * @param durationSeconds 录制时长（秒），超过上限时取上限
+     */
+    @PostMapping("/start")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Result<ProfilingSessionVO> start(@RequestParam(required = false) String profile,
+                                            @RequestParam(required = false) Integer durationSeconds) {
+        return Result.success("录制已开始", profilingService.start(profile, durationSeconds));
+    }
+
+    /**
+     * 提前结束正在进行的录制
+     */
+    @PostMapping("/stop")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Result<ProfilingSessionVO> stop() {
+        return Result.success(profilingService.stop());
+    }
+
+    /**
+     * 最近的录制
+     */
+    @GetMapping("/list")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Result<List<ProfilingSessionVO>> list() {
+        return Result.success(profilingService.list());
+    }
+
+    /**
+     * 录制摘要（录制中返回当前快照）
+     */
+    @GetMapping("/{id}/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Result<ProfilingSummaryVO> summary(@PathVariable String id) {
+        return Result.success(profilingService.getSummary(id));
+    }
+
+    /**
+     * 下载录制结果
+     *
+     * @param type jfr（原始录制，可用 JDK Mission Control 打开）或 json（摘要）
+     */
+    @GetMapping("/{id}/download")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void download(@PathVariable String id, @RequestParam(defaultValue = "jfr") String type,
+                         HttpServletResponse response) throws IOException {
+        Path file = profilingService.getFile(id, type);
+        response.setContentType("json".equals(type) ? "application/json;charset=UTF-8" : "application/octet-stream");
+        response.setContentLengthLong(Files.size(file));
+        response.setHeader("Content-Disposition", "attachment; filename=\"profiling-" + id + "." + type + "\"");
+        response.setHeader("Cache-Control", "no-store");
+        Files.copy(file, response.getOutputStream());
+    }
+
+}
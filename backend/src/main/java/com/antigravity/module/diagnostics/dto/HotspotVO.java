@@ -0,0 +1,29 @@
+package com.antigravity.module.diagnostics.dto;
+
+import lombok.Data;
+
+/**
+ * 剖析热点（按调用位置、锁对象或远端地址聚合）
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+public class HotspotVO {
+
+    /** 聚合键：调用位置、锁类或 host:port */
+    private String key;
+
+    /** 事件数 */
+    private long count;
+
+    /** 累计耗时（毫秒） */
+    private double totalMillis;
+
+    /** 单次最大耗时（毫秒） */
+    private double maxMillis;
+
+    /** 字节数（Socket 读取量或采样估算的分配量） */
+    private long bytes;
+
+}
@@ -0,0 +1,44 @@
+package com.antigravity.module.diagnostics.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * JFR 录制会话 VO
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+public class ProfilingSessionVO {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    /** 录制 ID（开始时间，yyyyMMddHHmmss） */
+    private String id;
+
+    /** JFR 配置：default（低开销）或 profile（更多采样） */
+    private String profile;
+
+    /** 状态：RUNNING, COMPLETED, FAILED */
+    private String status;
+
+    /** 计划录制时长（秒） */
+    private int durationSeconds;
+
+    /** 开始时间 */
+    private LocalDateTime startTime;
+
+    /** 结束时间 */
+    private LocalDateTime endTime;
+
+    /** .jfr 文件大小（字节） */
+    private Long fileSize;
+
+    /** 失败原因 */
+    private String errorMessage;
+
+}
@@ -0,0 +1,60 @@
+package com.antigravity.module.diagnostics.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * JFR 录制摘要
+ * <p>
+ * 时间字段为 ISO-8601 字符串，摘要同时写入录制目录下的 JSON 文件供下载。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+public class ProfilingSummaryVO {
+
+    /** 录制 ID */
+    private String recordingId;
+
+    /** JFR 配置 */
+    private String profile;
+
+    /** 是否仍在录制（录制中查询到的是当前快照） */
+    private boolean running;
+
+    /** 开始时间 */
+    private String startTime;
+
+    /** 结束时间 */
+    private String endTime;
+
+    /** 事件记录阈值（毫秒） */
+    private long thresholdMillis;
+
+    /** 参与汇总的事件数 */
+    private long eventCount;
+
+    /** 虚拟线程固定在载体线程上的次数（jdk.VirtualThreadPinned） */
+    private long pinnedCount;
+
+    /** 虚拟线程提交到调度器失败的次数，通常意味着载体线程池耗尽（jdk.VirtualThreadSubmitFailed） */
+    private long virtualThreadSubmitFailed;
+
+    /** 虚拟线程固定位置 */
+    private List<HotspotVO> pinning;
+
+    /** synchronized 锁竞争（jdk.JavaMonitorEnter），按锁类与调用位置 */
+    private List<HotspotVO> monitorContention;
+
+    /** j.u.c 锁与条件等待（jdk.ThreadPark），按等待对象类与调用位置 */
+    private List<HotspotVO> parking;
+
+    /** 超过阈值的 Socket 读取（jdk.SocketRead），按远端 host:port */
+    private List<HotspotVO> socketReads;
+
+    /** 分配热点（jdk.ObjectAllocationSample），按对象类型与分配位置，字节数为采样权重估算 */
+    private List<HotspotVO> allocationSites;
+
+}
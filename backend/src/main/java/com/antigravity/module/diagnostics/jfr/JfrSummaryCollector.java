@@ -0,0 +1,215 @@
+package com.antigravity.module.diagnostics.jfr;
+
+import com.antigravity.module.diagnostics.dto.HotspotVO;
+import com.antigravity.module.diagnostics.dto.ProfilingSummaryVO;
+import jdk.jfr.consumer.RecordedClass;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * JFR 事件流汇总
+ * <p>
+ * 注册到 {@link RecordingStream} 上，边录制边聚合，不需要录制结束后再解析文件：
+ * <ul>
+ *   <li>虚拟线程固定：按固定时的栈顶与最近的业务帧聚合</li>
+ *   <li>锁竞争：synchronized 按锁类，j.u.c 等待按等待对象类（只统计业务代码发起的等待），再区分调用位置</li>
+ *   <li>Socket 读取：按远端 host:port 聚合耗时与读取字节</li>
+ *   <li>分配：按对象类型与分配位置累加采样权重</li>
+ * </ul>
+ * 事件回调在录制流线程上执行，查询快照在请求线程上执行，因此方法都加锁。
+ * 每类聚合键数量有上限，超出部分计入 {@value #OTHER}，避免栈形态过多时内存无限增长。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public class JfrSummaryCollector {
+
+    private static final String OTHER = "<other>";
+    private static final String APPLICATION_PACKAGE = "com.antigravity.";
+    private static final int MAX_KEYS = 5000;
+
+    private final Map<String, Stat> pinning = new HashMap<>();
+    private final Map<String, Stat> monitorContention = new HashMap<>();
+    private final Map<String, Stat> parking = new HashMap<>();
+    private final Map<String, Stat> socketReads = new HashMap<>();
+    private final Map<String, Stat> allocationSites = new HashMap<>();
+
+    private long eventCount;
+    private long pinnedCount;
+    private long virtualThreadSubmitFailed;
+
+    /**
+     * 在录制流上启用所需事件并注册回调
+     *
+     * @param stream    录制流
+     * @param threshold 固定、锁竞争、Socket 读取事件的记录阈值
+     */
+    public void register(RecordingStream stream, Duration threshold) {
+        stream.enable("jdk.VirtualThreadPinned").withThreshold(threshold).withStackTrace();
+        stream.enable("jdk.VirtualThreadSubmitFailed");
+        stream.enable("jdk.JavaMonitorEnter").withThreshold(threshold).withStackTrace();
+        stream.enable("jdk.ThreadPark").withThreshold(threshold).withStackTrace();
+        stream.enable("jdk.SocketRead").withThreshold(threshold);
+        // 分配采样的频率沿用所选 JFR 配置（default 150/s，profile 300/s）
+        stream.enable("jdk.ObjectAllocationSample").withStackTrace();
+
+        stream.onEvent("jdk.VirtualThreadPinned", this::onPinned);
+        stream.onEvent("jdk.VirtualThreadSubmitFailed", this::onSubmitFailed);
+        stream.onEvent("jdk.JavaMonitorEnter", this::onMonitorEnter);
+        stream.onEvent("jdk.ThreadPark", this::onPark);
+        stream.onEvent("jdk.SocketRead", this::onSocketRead);
+        stream.onEvent("jdk.ObjectAllocationSample", this::onAllocation);
+    }
+
+    private synchronized void onPinned(RecordedEvent event) {
+        eventCount++;
+        pinnedCount++;
+        add(pinning, site(event.getStackTrace()), event.getDuration(), 0);
+    }
+
+    private synchronized void onSubmitFailed(RecordedEvent event) {
+        eventCount++;
+        virtualThreadSubmitFailed++;
+    }
+
+    private synchronized void onMonitorEnter(RecordedEvent event) {
+        eventCount++;
+        String key = className(event, "monitorClass") + " @ " + site(event.getStackTrace());
+        add(monitorContention, key, event.getDuration(), 0);
+    }
+
+    private synchronized void onPark(RecordedEvent event) {
+        // 空闲的池线程长期阻塞在队列上，只统计业务代码发起的等待（连接池获取、锁、Future 等）
+        if (!hasApplicationFrame(event.getStackTrace())) {
+            return;
+        }
+        eventCount++;
+        String key = className(event, "parkedClass") + " @ " + site(event.getStackTrace());
+        add(parking, key, event.getDuration(), 0);
+    }
+
+    private synchronized void onSocketRead(RecordedEvent event) {
+        eventCount++;
+        String host = event.getString("host");
+        if (host == null || host.isEmpty()) {
+            host = event.getString("address");
+        }
+        add(socketReads, host + ":" + event.getInt("port"), event.getDuration(), event.getLong("bytesRead"));
+    }
+
+    private synchronized void onAllocation(RecordedEvent event) {
+        eventCount++;
+        String key = className(event, "objectClass") + " @ " + site(event.getStackTrace());
+        add(allocationSites, key, Duration.ZERO, event.getLong("weight"));
+    }
+
+    /**
+     * 生成当前汇总（录制中调用得到的是快照）
+     *
+     * @param topN 每类热点保留的条数
+     */
+    public synchronized ProfilingSummaryVO summarize(int topN) {
+        ProfilingSummaryVO summary = new ProfilingSummaryVO();
+        summary.setEventCount(eventCount);
+        summary.setPinnedCount(pinnedCount);
+        summary.setVirtualThreadSubmitFailed(virtualThreadSubmitFailed);
+        summary.setPinning(top(pinning, topN, HotspotVO::getTotalMillis));
+        summary.setMonitorContention(top(monitorContention, topN, HotspotVO::getTotalMillis));
+        summary.setParking(top(parking, topN, HotspotVO::getTotalMillis));
+        summary.setSocketReads(top(socketReads, topN, HotspotVO::getTotalMillis));
+        summary.setAllocationSites(top(allocationSites, topN, hotspot -> hotspot.getBytes()));
+        return summary;
+    }
+
+    private static void add(Map<String, Stat> stats, String key, Duration duration, long bytes) {
+        Stat stat = stats.get(key);
+        if (stat == null) {
+            stat = stats.computeIfAbsent(stats.size() < MAX_KEYS ? key : OTHER, k -> new Stat());
+        }
+        long nanos = duration.toNanos();
+        stat.count++;
+        stat.totalNanos += nanos;
+        stat.maxNanos = Math.max(stat.maxNanos, nanos);
+        stat.bytes += bytes;
+    }
+
+    private static List<HotspotVO> top(Map<String, Stat> stats, int topN, ToDoubleFunction<HotspotVO> weight) {
+        return stats.entrySet().stream()
+                .map(entry -> entry.getValue().toHotspot(entry.getKey()))
+                .sorted(Comparator.comparingDouble(weight).reversed())
+                .limit(topN)
+                .toList();
+    }
+
+    private static String className(RecordedEvent event, String field) {
+        if (!event.hasField(field)) {
+            return "<unknown>";
+        }
+        RecordedClass type = event.getClass(field);
+        return type != null ? type.getName() : "<unknown>";
+    }
+
+    /**
+     * 调用位置：栈顶帧，若栈顶不在业务代码中再附上最近的业务帧
+     */
+    private static String site(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "<no stack>";
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        String top = format(frames.getFirst());
+        if (isApplication(frames.getFirst())) {
+            return top;
+        }
+        for (RecordedFrame frame : frames) {
+            if (isApplication(frame)) {
+                return top + " <- " + format(frame);
+            }
+        }
+        return top;
+    }
+
+    private static boolean hasApplicationFrame(RecordedStackTrace stackTrace) {
+        return stackTrace != null && stackTrace.getFrames().stream().anyMatch(JfrSummaryCollector::isApplication);
+    }
+
+    private static boolean isApplication(RecordedFrame frame) {
+        return frame.getMethod().getType().getName().startsWith(APPLICATION_PACKAGE);
+    }
+
+    private static String format(RecordedFrame frame) {
+        String method = frame.getMethod().getType().getName() + "." + frame.getMethod().getName();
+        return frame.getLineNumber() > 0 ? method + ":" + frame.getLineNumber() : method;
+    }
+
+    /**
+     * 单个聚合键的累计值
+     */
+    private static final class Stat {
+
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private long bytes;
+
+        private HotspotVO toHotspot(String key) {
+            HotspotVO hotspot = new HotspotVO();
+            hotspot.setKey(key);
+            hotspot.setCount(count);
+            hotspot.setTotalMillis(totalNanos / 1_000_000.0);
+            hotspot.setMaxMillis(maxNanos / 1_000_000.0);
+            hotspot.setBytes(bytes);
+            return hotspot;
+        }
+    }
+
+}
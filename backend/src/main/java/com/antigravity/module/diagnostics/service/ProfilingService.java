@@ -0,0 +1,53 @@
+package com.antigravity.module.diagnostics.service;
+
+import com.antigravity.module.diagnostics.dto.ProfilingSessionVO;
+import com.antigravity.module.diagnostics.dto.ProfilingSummaryVO;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * 按需 JFR 性能剖析 Service 接口
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public interface ProfilingService {
+
+    /**
+     * 开始录制，到达时长后自动结束并生成摘要
+     *
+     * @param profile         JFR 配置：default 或 profile，为空时使用 default
+     * @param durationSeconds 录制时长（秒），为空时使用默认值，超过上限时取上限
+     * @return 录制会话
+     */
+    ProfilingSessionVO start(String profile, Integer durationSeconds);
+
+    /**
+     * 提前结束正在进行的录制
+     *
+     * @return 结束后的录制会话
+     */
+    ProfilingSessionVO stop();
+
+    /**
+     * 最近的录制会话（新的在前）
+     */
+    List<ProfilingSessionVO> list();
+
+    /**
+     * 录制摘要；录制中返回当前快照
+     *
+     * @param id 录制 ID
+     */
+    ProfilingSummaryVO getSummary(String id);
+
+    /**
+     * 录制结果文件
+     *
+     * @param id   录制 ID
+     * @param type 文件类型：jfr 或 json
+     */
+    Path getFile(String id, String type);
+
+}
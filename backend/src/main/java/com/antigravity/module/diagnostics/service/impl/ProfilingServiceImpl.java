@@ -0,0 +1,302 @@
+package com.antigravity.module.diagnostics.service.impl;
+
+import com.antigravity.common.BusinessException;
+import com.antigravity.config.ProfilingProperties;
+import com.antigravity.module.diagnostics.dto.ProfilingSessionVO;
+import com.antigravity.module.diagnostics.dto.ProfilingSummaryVO;
+import com.antigravity.module.diagnostics.jfr.JfrSummaryCollector;
+import com.antigravity.module.diagnostics.service.ProfilingService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jdk.jfr.Configuration;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * 按需 JFR 性能剖析 Service 实现
+ * <p>
+ * 使用 {@link RecordingStream} 录制：事件边产生边由 {@link JfrSummaryCollector} 汇总，
+ * 结束时把保留的数据导出为 .jfr 文件，并将摘要写成同名 .json 文件。
+ * 同一时间只允许一个录制；时长、数据量均有上限，到时由后台线程自动结束。
+ * 录制历史只保留在内存中，超过保留数的旧录制连同文件一起删除。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProfilingServiceImpl implements ProfilingService {
+
+    private static final DateTimeFormatter ID_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+    private static final Pattern ID_PATTERN = Pattern.compile("\\d{14}");
+    private static final Set<String> PROFILES = Set.of("default", "profile");
+    private static final Set<String> FILE_TYPES = Set.of("jfr", "json");
+
+    private final ProfilingProperties properties;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 最近的录制，新的在后
+     */
+    private final Deque<Session> sessions = new ArrayDeque<>();
+
+    private Session active;
+    private ScheduledExecutorService stopper;
+
+    @PostConstruct
+    public void init() {
+        stopper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("profiling-stopper").daemon().factory());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        Session session;
+        synchronized (this) {
+            session = active;
+        }
+        if (session != null) {
+            finish(session);
+        }
+        stopper.shutdownNow();
+    }
+
+    @Override
+    public synchronized ProfilingSessionVO start(String profile, Integer durationSeconds) {
+        if (!properties.isEnabled()) {
+            throw BusinessException.of(403, "性能剖析未启用");
+        }
+        if (active != null) {
+            throw BusinessException.of(409, "已有录制正在进行: " + active.info.getId());
+        }
+        String configName = profile == null || profile.isBlank() ? "default" : profile.trim().toLowerCase();
+        if (!PROFILES.contains(configName)) {
+            throw BusinessException.of("不支持的 JFR 配置: " + profile + "，可选 default、profile");
+        }
+        int duration = durationSeconds == null
+                ? properties.getDefaultDurationSeconds()
+                : Math.clamp(durationSeconds, 1, properties.getMaxDurationSeconds());
+
+        LocalDateTime now = LocalDateTime.now();
+        String id = ID_FORMATTER.format(now);
+        if (find(id) != null) {
+            throw BusinessException.of(409, "录制启动过于频繁，请稍后再试");
+        }
+
+        Path directory = Path.of(properties.getDirectory());
+        RecordingStream stream;
+        try {
+            Files.createDirectories(directory);
+            stream = new RecordingStream(Configuration.getConfiguration(configName));
+        } catch (Exception e) {
+            throw BusinessException.of(500, "无法启动 JFR 录制: " + e.getMessage());
+        }
+        // 保留整个录制期间的数据，结束时才能完整导出
+        stream.setMaxAge(Duration.ofSeconds(duration).plusMinutes(1));
+        stream.setMaxSize(properties.getMaxSizeMb() * 1024L * 1024L);
+        JfrSummaryCollector collector = new JfrSummaryCollector();
+        collector.register(stream, Duration.ofMillis(properties.getEventThresholdMillis()));
+        stream.startAsync();
+
+        ProfilingSessionVO info = new ProfilingSessionVO();
+        info.setId(id);
+        info.setProfile(configName);
+        info.setStatus(ProfilingSessionVO.STATUS_RUNNING);
+        info.setDurationSeconds(duration);
+        info.setStartTime(now);
+
+        Session session = new Session(info, stream, collector,
+                directory.resolve(id + ".jfr"), directory.resolve(id + ".json"));
+        active = session;
+        sessions.addLast(session);
+        session.stopTask = stopper.schedule(() -> finish(session), duration, TimeUnit.SECONDS);
+        trimHistory();
+        log.info("JFR 录制已开始: id={}, profile={}, duration={}s", id, configName, duration);
+        return copy(info);
+    }
+
+    @Override
+    public ProfilingSessionVO stop() {
+        Session session;
+        synchronized (this) {
+            session = active;
+        }
+        if (session == null) {
+            throw BusinessException.of(404, "当前没有正在进行的录制");
+        }
+        session.stopTask.cancel(false);
+        finish(session);
+        synchronized (this) {
+            return copy(session.info);
+        }
+    }
+
+    @Override
+    public synchronized List<ProfilingSessionVO> list() {
+        List<ProfilingSessionVO> result = new ArrayList<>(sessions.size());
+        sessions.descendingIterator().forEachRemaining(session -> result.add(copy(session.info)));
+        return result;
+    }
+
+    @Override
+    public ProfilingSummaryVO getSummary(String id) {
+        validateId(id);
+        synchronized (this) {
+            if (active != null && active.info.getId().equals(id)) {
+                return summarize(active, true);
+            }
+        }
+        Path file = Path.of(properties.getDirectory(), id + ".json");
+        if (!Files.exists(file)) {
+            throw BusinessException.of(404, "录制摘要不存在: " + id);
+        }
+        try {
+            return objectMapper.readValue(file.toFile(), ProfilingSummaryVO.class);
+        } catch (IOException e) {
+            throw BusinessException.of(500, "读取录制摘要失败: " + e.getMessage());
+        }
+    }
+
+    @Override
+    public Path getFile(String id, String type) {
+        validateId(id);
+        if (type == null || !FILE_TYPES.contains(type)) {
+            throw BusinessException.of("不支持的文件类型: " + type + "，可选 jfr、json");
+        }
+        synchronized (this) {
+            if (active != null && active.info.getId().equals(id)) {
+                throw BusinessException.of(409, "录制尚未结束");
+            }
+        }
+        Path file = Path.of(properties.getDirectory(), id + "." + type);
+        if (!Files.exists(file)) {
+            throw BusinessException.of(404, "录制文件不存在: " + id + "." + type);
+        }
+        return file;
+    }
+
+    /**
+     * 结束录制：导出 .jfr、写入摘要并关闭录制流（重复调用时只有第一次生效）
+     */
+    private synchronized void finish(Session session) {
+        if (session != active) {
+            return;
+        }
+        try {
+            session.stream.stop();
+            session.stream.dump(session.jfrFile);
+            session.info.setEndTime(LocalDateTime.now());
+            objectMapper.writerWithDefaultPrettyPrinter()
+                    .writeValue(session.summaryFile.toFile(), summarize(session, false));
+            session.info.setFileSize(Files.size(session.jfrFile));
+            session.info.setStatus(ProfilingSessionVO.STATUS_COMPLETED);
+            log.info("JFR 录制已完成: id={}, file={}, size={} bytes",
+                    session.info.getId(), session.jfrFile, session.info.getFileSize());
+        } catch (Exception e) {
+            session.info.setStatus(ProfilingSessionVO.STATUS_FAILED);
+            session.info.setErrorMessage(e.getMessage());
+            log.error("JFR 录制结束失败: id={}, error={}", session.info.getId(), e.getMessage(), e);
+        } finally {
+            if (session.info.getEndTime() == null) {
+                session.info.setEndTime(LocalDateTime.now());
+            }
+            session.stream.close();
+            active = null;
+        }
+    }
+
+    private ProfilingSummaryVO summarize(Session session, boolean running) {
+        ProfilingSummaryVO summary = session.collector.summarize(properties.getTopN());
+        summary.setRecordingId(session.info.getId());
+        summary.setProfile(session.info.getProfile());
+        summary.setRunning(running);
+        summary.setStartTime(session.info.getStartTime().toString());
+        summary.setEndTime(session.info.getEndTime() != null ? session.info.getEndTime().toString() : null);
+        summary.setThresholdMillis(properties.getEventThresholdMillis());
+        return summary;
+    }
+
+    /**
+     * 删除超出保留数的旧录制及其文件
+     */
+    private void trimHistory() {
+        int keep = Math.max(1, properties.getKeepRecordings());
+        while (sessions.size() > keep) {
+            Session oldest = sessions.pollFirst();
+            try {
+                Files.deleteIfExists(oldest.jfrFile);
+                Files.deleteIfExists(oldest.summaryFile);
+            } catch (IOException e) {
+                log.warn("删除旧录制文件失败: id={}, error={}", oldest.info.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private Session find(String id) {
+        return sessions.stream().filter(session -> session.info.getId().equals(id)).findFirst().orElse(null);
+    }
+
+    private static void validateId(String id) {
+        // ID 用于拼接文件路径，只接受时间戳格式
+        if (id == null || !ID_PATTERN.matcher(id).matches()) {
+            throw BusinessException.of("录制 ID 格式不正确");
+        }
+    }
+
+    private static ProfilingSessionVO copy(ProfilingSessionVO info) {
+        ProfilingSessionVO copy = new ProfilingSessionVO();
+        copy.setId(info.getId());
+        copy.setProfile(info.getProfile());
+        copy.setStatus(info.getStatus());
+        copy.setDurationSeconds(info.getDurationSeconds());
+        copy.setStartTime(info.getStartTime());
+        copy.setEndTime(info.getEndTime());
+        copy.setFileSize(info.getFileSize());
+        copy.setErrorMessage(info.getErrorMessage());
+        return copy;
+    }
+
+    /**
+     * 一次录制
+     */
+    private static final class Session {
+
+        private final ProfilingSessionVO info;
+        private final RecordingStream stream;
+        private final JfrSummaryCollector collector;
+        private final Path jfrFile;
+        private final Path summaryFile;
+        private ScheduledFuture<?> stopTask;
+
+        private Session(ProfilingSessionVO info, RecordingStream stream, JfrSummaryCollector collector,
+                        Path jfrFile, Path summaryFile) {
+            this.info = info;
+            this.stream = stream;
+            this.collector = collector;
+            this.jfrFile = jfrFile;
+            this.summaryFile = summaryFile;
+        }
+    }
+
+}
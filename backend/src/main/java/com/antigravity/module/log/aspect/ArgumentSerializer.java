@@ -0,0 +1,278 @@
+package com.antigravity.module.log.aspect;
+
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.reflect.Array;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 有界的请求参数序列化
+ * <p>
+ * 以类 JSON 格式逐个字段写出参数，写满上限后立即停止，不会先构造完整字符串再截断：
+ * <ul>
+ *   <li>密码、密钥、Token 等敏感字段只输出掩码</li>
+ *   <li>本项目的 DTO / 实体按 getter 或 record 组件展开，属性访问器按类缓存</li>
+ *   <li>第三方类型（请求、响应、上传文件等）只输出类型名，不调用其 toString</li>
+ * </ul>
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+final class ArgumentSerializer {
+
+    private static final String MASK = "\"******\"";
+    private static final String TRUNCATED = "...(truncated)";
+    private static final int MAX_DEPTH = 4;
+    private static final String EXPANDABLE_PACKAGE = "com.antigravity.";
+
+    private static final Set<String> SENSITIVE_KEYWORDS = Set.of("password", "pwd", "secret", "token", "credential");
+
+    /**
+     * 按类缓存的属性访问器
+     */
+    private static final ClassValue<List<Property>> PROPERTIES = new ClassValue<>() {
+        @Override
+        protected List<Property> computeValue(Class<?> type) {
+            return introspect(type);
+        }
+    };
+
+    /**
+     * 写满上限时抛出，用于跳出递归（不记录堆栈）
+     */
+    private static final class LimitReached extends RuntimeException {
+        private LimitReached() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final LimitReached LIMIT_REACHED = new LimitReached();
+
+    private final StringBuilder out;
+    private final int limit;
+
+    private ArgumentSerializer(int limit) {
+        this.limit = limit;
+        this.out = new StringBuilder(Math.min(limit, 256) + TRUNCATED.length());
+    }
+
+    /**
+     * 序列化方法参数
+     *
+     * @param names     参数名
+     * @param sensitive 各参数是否敏感（按参数名判定）
+     * @param skipped   各参数是否跳过（请求、响应等框架参数）
+     * @param args      参数值
+     * @param limit     最大字符数
+     */
+    static String serialize(String[] names, boolean[] sensitive, boolean[] skipped, Object[] args, int limit) {
+        ArgumentSerializer serializer = new ArgumentSerializer(limit);
+        try {
+            serializer.append('{');
+            boolean first = true;
+            for (int i = 0; i < args.length; i++) {
+                if (skipped[i]) {
+                    continue;
+                }
+                if (!first) {
+                    serializer.append(',');
+                }
+                first = false;
+                serializer.writeKey(names[i]);
+                if (sensitive[i]) {
+                    serializer.append(MASK);
+                } else {
+                    serializer.writeValue(args[i], 0);
+                }
+            }
+            serializer.append('}');
+            return serializer.out.toString();
+        } catch (LimitReached e) {
+            return serializer.out.append(TRUNCATED).toString();
+        }
+    }
+
+    /**
+     * 名称是否属于敏感字段
+     */
+    static boolean isSensitive(String name) {
+        if (name == null) {
+            return false;
+        }
+        String lower = name.toLowerCase(Locale.ROOT);
+        for (String keyword : SENSITIVE_KEYWORDS) {
+            if (lower.contains(keyword)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void writeValue(Object value, int depth) {
+        if (value == null) {
+            append("null");
+        } else if (value instanceof CharSequence text) {
+            writeString(text);
+        } else if (value instanceof Number || value instanceof Boolean) {
+            append(value.toString());
+        } else if (value instanceof Enum<?> || value instanceof Character || value instanceof UUID
+                || value instanceof TemporalAccessor || value instanceof Date) {
+            writeString(value.toString());
+        } else if (depth >= MAX_DEPTH) {
+            append("\"...\"");
+        } else if (value instanceof Map<?, ?> map) {
+            writeMap(map, depth);
+        } else if (value instanceof Collection<?> collection) {
+            append('[');
+            boolean first = true;
+            for (Object element : collection) {
+                if (!first) {
+                    append(',');
+                }
+                first = false;
+                writeValue(element, depth + 1);
+            }
+            append(']');
+        } else if (value.getClass().isArray()) {
+            append('[');
+            int length = Array.getLength(value);
+            for (int i = 0; i < length; i++) {
+                if (i > 0) {
+                    append(',');
+                }
+                writeValue(Array.get(value, i), depth + 1);
+            }
+            append(']');
+        } else if (value.getClass().getName().startsWith(EXPANDABLE_PACKAGE)) {
+            writeBean(value, depth);
+        } else {
+            // 第三方类型只输出类型名
+            writeString("<" + value.getClass().getSimpleName() + ">");
+        }
+    }
+
+    private void writeMap(Map<?, ?> map, int depth) {
+        append('{');
+        boolean first = true;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (!first) {
+                append(',');
+            }
+            first = false;
+            String key = String.valueOf(entry.getKey());
+            writeKey(key);
+            if (isSensitive(key)) {
+                append(MASK);
+            } else {
+                writeValue(entry.getValue(), depth + 1);
+            }
+        }
+        append('}');
+    }
+
+    private void writeBean(Object bean, int depth) {
+        append('{');
+        boolean first = true;
+        for (Property property : PROPERTIES.get(bean.getClass())) {
+            if (!first) {
+                append(',');
+            }
+            first = false;
+            writeKey(property.name());
+            if (property.sensitive()) {
+                append(MASK);
+                continue;
+            }
+            Object value;
+            try {
+                value = property.getter().invoke(bean);
+            } catch (ReflectiveOperationException | RuntimeException e) {
+                value = "<unreadable>";
+            }
+            writeValue(value, depth + 1);
+        }
+        append('}');
+    }
+
+    private void writeKey(String key) {
+        writeString(key);
+        append(':');
+    }
+
+    private void writeString(CharSequence text) {
+        append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> append("\\\"");
+                case '\\' -> append("\\\\");
+                case '\n' -> append("\\n");
+                case '\r' -> append("\\r");
+                case '\t' -> append("\\t");
+                default -> append(c);
+            }
+        }
+        append('"');
+    }
+
+    private void append(char c) {
+        if (out.length() >= limit) {
+            throw LIMIT_REACHED;
+        }
+        out.append(c);
+    }
+
+    private void append(String text) {
+        int remaining = limit - out.length();
+        if (text.length() > remaining) {
+            out.append(text, 0, Math.max(remaining, 0));
+            throw LIMIT_REACHED;
+        }
+        out.append(text);
+    }
+
+    private static List<Property> introspect(Class<?> type) {
+        List<Property> properties = new ArrayList<>();
+        if (type.isRecord()) {
+            for (RecordComponent component : type.getRecordComponents()) {
+                properties.add(new Property(component.getName(), component.getAccessor(),
+                        isSensitive(component.getName())));
+            }
+            return List.copyOf(properties);
+        }
+        try {
+            for (PropertyDescriptor descriptor : Introspector.getBeanInfo(type, Object.class).getPropertyDescriptors()) {
+                Method getter = descriptor.getReadMethod();
+                if (getter != null && getter.getParameterCount() == 0) {
+                    getter.trySetAccessible();
+                    properties.add(new Property(descriptor.getName(), getter, isSensitive(descriptor.getName())));
+                }
+            }
+        } catch (IntrospectionException e) {
+            // 无法内省的类型按空对象输出
+        }
+        return List.copyOf(properties);
+    }
+
+    /**
+     * 可读属性
+     *
+     * @param name      属性名
+     * @param getter    读方法
+     * @param sensitive 是否敏感
+     */
+    private record Property(String name, Method getter, boolean sensitive) {
+    }
+
+}
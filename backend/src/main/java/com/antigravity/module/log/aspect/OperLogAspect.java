@@ -3,6 +3,8 @@ package com.antigravity.module.log.aspect;
 import com.antigravity.module.log.annotation.OperLog;
 import com.antigravity.module.log.entity.OperationLog;
 import com.antigravity.module.log.service.OperationLogService;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -11,11 +13,17 @@ import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.stereotype.Component;
+import org.springframework.validation.BindingResult;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.lang.reflect.Method;
-import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * 操作日志 AOP 切面
@@ -33,22 +41,35 @@ import java.util.Arrays;
 @RequiredArgsConstructor
 public class OperLogAspect {
 
+    private static final int MAX_PARAMS_LENGTH = 2000;
+
+    /**
+     * 不记录的框架参数类型
+     */
+    private static final List<Class<?>> SKIPPED_PARAMETER_TYPES = List.of(
+            ServletRequest.class, ServletResponse.class, MultipartFile.class, BindingResult.class,
+            InputStream.class, OutputStream.class);
+
     private final OperationLogService operationLogService;
 
+    /**
+     * 方法 -> 日志元数据
+     */
+    private final Map<Method, MethodMeta> metadata = new ConcurrentHashMap<>();
+
     @Around("@annotation(com.antigravity.module.log.annotation.OperLog)")
     public Object around(ProceedingJoinPoint joinPoint) throws Throwable {
         long startTime = System.currentTimeMillis();
 
-        // 获取注解信息
-        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
-        Method method = signature.getMethod();
-        OperLog operLog = method.getAnnotation(OperLog.class);
+        // 注解与参数元数据按方法缓存，只在首次调用时反射
+        MethodMeta meta = metadata.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> MethodMeta.of(joinPoint, method));
 
         // 构建操作日志
         OperationLog logEntity = new OperationLog();
-        logEntity.setModule(operLog.module());
-        logEntity.setAction(operLog.action());
-        logEntity.setMethod(joinPoint.getTarget().getClass().getName() + "." + method.getName() + "()");
+        logEntity.setModule(meta.module());
+        logEntity.setAction(meta.action());
+        logEntity.setMethod(meta.methodName());
 
         // 获取请求信息
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -62,15 +83,12 @@ public class OperLogAspect {
             }
         }
 
-        // 记录请求参数（截断以防止参数过大）
+        // 记录请求参数（写满上限即停止，敏感字段掩码）
         try {
             Object[] args = joinPoint.getArgs();
             if (args != null && args.length > 0) {
-                String params = Arrays.toString(args);
-                if (params.length() > 2000) {
-                    params = params.substring(0, 2000) + "...(truncated)";
-                }
-                logEntity.setParams(params);
+                logEntity.setParams(ArgumentSerializer.serialize(meta.parameterNames(), meta.sensitive(),
+                        meta.skipped(), args, MAX_PARAMS_LENGTH));
             }
         } catch (Exception e) {
             logEntity.setParams("参数序列化失败");
@@ -103,26 +121,45 @@ public class OperLogAspect {
     }
 
     /**
-     * 获取客户端真实IP
+     * 获取客户端真实IP（由容器按受信任代理解析 X-Forwarded-For，见 application.yml）
      */
     private String getClientIp(HttpServletRequest request) {
-        String ip = request.getHeader("X-Forwarded-For");
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("WL-Proxy-Client-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getHeader("X-Real-IP");
-        }
-        if (ip == null || ip.isEmpty() || "unknown".equalsIgnoreCase(ip)) {
-            ip = request.getRemoteAddr();
-        }
-        // 多个代理时取第一个
-        if (ip != null && ip.contains(",")) {
-            ip = ip.split(",")[0].trim();
+        return request.getRemoteAddr();
+    }
+
+    /**
+     * 方法级日志元数据
+     *
+     * @param module         系统模块
+     * @param action         操作类型
+     * @param methodName     记录的方法名
+     * @param parameterNames 参数名
+     * @param sensitive      各参数是否敏感
+     * @param skipped        各参数是否跳过
+     */
+    private record MethodMeta(String module, String action, String methodName, String[] parameterNames,
+                              boolean[] sensitive, boolean[] skipped) {
+
+        private static MethodMeta of(ProceedingJoinPoint joinPoint, Method method) {
+            OperLog operLog = method.getAnnotation(OperLog.class);
+            Class<?>[] types = method.getParameterTypes();
+            String[] names = ((MethodSignature) joinPoint.getSignature()).getParameterNames();
+            if (names == null || names.length != types.length) {
+                names = new String[types.length];
+                for (int i = 0; i < types.length; i++) {
+                    names[i] = "arg" + i;
+                }
+            }
+            boolean[] sensitive = new boolean[types.length];
+            boolean[] skipped = new boolean[types.length];
+            for (int i = 0; i < types.length; i++) {
+                sensitive[i] = ArgumentSerializer.isSensitive(names[i]);
+                Class<?> type = types[i];
+                skipped[i] = SKIPPED_PARAMETER_TYPES.stream().anyMatch(skippedType -> skippedType.isAssignableFrom(type));
+            }
+            return new MethodMeta(operLog.module(), operLog.action(),
+                    joinPoint.getTarget().getClass().getName() + "." + method.getName() + "()",
+                    names, sensitive, skipped);
         }
-        return ip;
     }
 }
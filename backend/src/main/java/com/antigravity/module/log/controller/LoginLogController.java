@@ -1,10 +1,16 @@
 package com.antigravity.module.log.controller;
 
+import com.antigravity.common.PageResult;
 import com.antigravity.common.Result;
+import com.antigravity.common.export.ExportColumn;
+import com.antigravity.common.export.ExportFormat;
+import com.antigravity.common.export.StreamingExporter;
 import com.antigravity.module.log.entity.LoginLog;
 import com.antigravity.module.log.service.LoginLogService;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.antigravity.module.retention.dto.PurgeProgressVO;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,18 +21,51 @@ import java.util.List;
 @RequiredArgsConstructor
 public class LoginLogController {
 
+    private static final List<ExportColumn<LoginLog>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", LoginLog::getId),
+            ExportColumn.of("username", LoginLog::getUsername),
+            ExportColumn.of("ipAddress", LoginLog::getIpAddress),
+            ExportColumn.of("browser", LoginLog::getBrowser),
+            ExportColumn.of("os", LoginLog::getOs),
+            ExportColumn.of("status", LoginLog::getStatus),
+            ExportColumn.of("message", LoginLog::getMessage),
+            ExportColumn.of("loginTime", LoginLog::getLoginTime));
+
     private final LoginLogService loginLogService;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping("/page")
     @PreAuthorize("hasAuthority('log:login:list')")
-    public Result<Page<LoginLog>> getLoginLogPage(
+    public Result<PageResult<LoginLog>> getLoginLogPage(
             @RequestParam(defaultValue = "1") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(required = false) String username,
             @RequestParam(required = false) Integer status,
             @RequestParam(required = false) String startTime,
-            @RequestParam(required = false) String endTime) {
-        return Result.success(loginLogService.getLoginLogPage(page, size, username, status, startTime, endTime));
+            @RequestParam(required = false) String endTime,
+            @RequestParam(required = false) String cursor) {
+        return Result.success(
+                loginLogService.getLoginLogPage(page, size, username, status, startTime, endTime, cursor));
+    }
+
+    /**
+     * 流式导出登录日志
+     *
+     * @param format csv（默认）或 ndjson
+     * @param gzip   是否 gzip 压缩
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('log:login:export')")
+    public void export(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) Integer status,
+            @RequestParam(required = false) String startTime,
+            @RequestParam(required = false) String endTime,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        streamingExporter.export(response, "login-log", ExportFormat.of(format), gzip, EXPORT_COLUMNS,
+                () -> loginLogService.streamLoginLogs(username, status, startTime, endTime));
     }
 
     /**
@@ -40,12 +79,21 @@ public class LoginLogController {
     }
 
     /**
-     * 清空登录日志
+     * 清空登录日志（后台分批执行，返回 202 与进度，通过 GET /clean 查询进度）
      */
     @DeleteMapping("/clean")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PreAuthorize("hasAuthority('log:login:clean')")
+    public Result<PurgeProgressVO> cleanAll() {
+        return Result.success("清空任务已提交", loginLogService.cleanAll());
+    }
+
+    /**
+     * 查询清空登录日志的进度
+     */
+    @GetMapping("/clean")
     @PreAuthorize("hasAuthority('log:login:clean')")
-    public Result<Void> cleanAll() {
-        loginLogService.cleanAll();
-        return Result.success("清空成功", null);
+    public Result<PurgeProgressVO> cleanProgress() {
+        return Result.success(loginLogService.getCleanProgress());
     }
 }
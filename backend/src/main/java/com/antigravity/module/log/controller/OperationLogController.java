@@ -1,10 +1,17 @@
 package com.antigravity.module.log.controller;
 
+import com.antigravity.common.PageResult;
 import com.antigravity.common.Result;
+import com.antigravity.common.export.ExportColumn;
+import com.antigravity.common.export.ExportFormat;
+import com.antigravity.common.export.StreamingExporter;
 import com.antigravity.module.log.entity.OperationLog;
 import com.antigravity.module.log.service.OperationLogService;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.antigravity.module.log.writer.AuditLogWriter;
+import com.antigravity.module.retention.dto.PurgeProgressVO;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,20 +22,58 @@ import java.util.List;
 @RequiredArgsConstructor
 public class OperationLogController {
 
+    private static final List<ExportColumn<OperationLog>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", OperationLog::getId),
+            ExportColumn.of("username", OperationLog::getUsername),
+            ExportColumn.of("module", OperationLog::getModule),
+            ExportColumn.of("action", OperationLog::getAction),
+            ExportColumn.of("method", OperationLog::getMethod),
+            ExportColumn.of("params", OperationLog::getParams),
+            ExportColumn.of("ipAddress", OperationLog::getIpAddress),
+            ExportColumn.of("duration", OperationLog::getDuration),
+            ExportColumn.of("status", OperationLog::getStatus),
+            ExportColumn.of("errorMsg", OperationLog::getErrorMsg),
+            ExportColumn.of("createTime", OperationLog::getCreateTime));
+
     private final OperationLogService operationLogService;
+    private final AuditLogWriter auditLogWriter;
+    private final StreamingExporter streamingExporter;
 
     @GetMapping("/page")
     @PreAuthorize("hasAuthority('log:operation:list')")
-    public Result<Page<OperationLog>> getOperationLogPage(
+    public Result<PageResult<OperationLog>> getOperationLogPage(
             @RequestParam(defaultValue = "1") Integer page,
             @RequestParam(defaultValue = "10") Integer size,
             @RequestParam(required = false) String username,
             @RequestParam(required = false) String module,
             @RequestParam(required = false) Integer status,
             @RequestParam(required = false) String startTime,
-            @RequestParam(required = false) String endTime) {
+            @RequestParam(required = false) String endTime,
+            @RequestParam(required = false) String cursor) {
         return Result.success(
-                operationLogService.getOperationLogPage(page, size, username, module, status, startTime, endTime));
+                operationLogService.getOperationLogPage(page, size, username, module, status, startTime, endTime,
+                        cursor));
+    }
+
+    /**
+     * 流式导出操作日志
+     *
+     * @param format csv（默认）或 ndjson
+     * @param gzip   是否 gzip 压缩
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasAuthority('log:operation:export')")
+    public void export(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String module,
+            @RequestParam(required = false) Integer status,
+            @RequestParam(required = false) String startTime,
+            @RequestParam(required = false) String endTime,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        streamingExporter.export(response, "operation-log", ExportFormat.of(format), gzip, EXPORT_COLUMNS,
+                () -> operationLogService.streamOperationLogs(username, module, status, startTime, endTime));
     }
 
     /**
@@ -42,12 +87,30 @@ public class OperationLogController {
     }
 
     /**
-     * 清空操作日志
+     * 清空操作日志（后台分批执行，返回 202 与进度，通过 GET /clean 查询进度）
      */
     @DeleteMapping("/clean")
+    @ResponseStatus(HttpStatus.ACCEPTED)
     @PreAuthorize("hasAuthority('log:operation:clean')")
-    public Result<Void> cleanAll() {
-        operationLogService.cleanAll();
-        return Result.success("清空成功", null);
+    public Result<PurgeProgressVO> cleanAll() {
+        return Result.success("清空任务已提交", operationLogService.cleanAll());
+    }
+
+    /**
+     * 查询清空操作日志的进度
+     */
+    @GetMapping("/clean")
+    @PreAuthorize("hasAuthority('log:operation:clean')")
+    public Result<PurgeProgressVO> cleanProgress() {
+        return Result.success(operationLogService.getCleanProgress());
+    }
+
+    /**
+     * 审计日志写入器状态（缓冲区深度、丢弃与落盘计数）
+     */
+    @GetMapping("/writer-stats")
+    @PreAuthorize("hasAuthority('log:operation:list')")
+    public Result<AuditLogWriter.Stats> getWriterStats() {
+        return Result.success(auditLogWriter.stats());
     }
 }
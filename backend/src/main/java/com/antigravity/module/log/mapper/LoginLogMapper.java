@@ -1,9 +1,35 @@
 package com.antigravity.module.log.mapper;
 
 import com.antigravity.module.log.entity.LoginLog;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
+
+import java.util.List;
 
 @Mapper
 public interface LoginLogMapper extends BaseMapper<LoginLog> {
+
+    @Insert("<script>" +
+            "INSERT INTO sys_login_log (username, ip_address, browser, os, status, message, login_time) VALUES " +
+            "<foreach collection='logs' item='log' separator=','>" +
+            "(#{log.username}, #{log.ipAddress}, #{log.browser}, #{log.os}, #{log.status}, #{log.message}, " +
+            "#{log.loginTime})" +
+            "</foreach>" +
+            "</script>")
+    int insertBatch(@Param("logs") List<LoginLog> logs);
+
+    /**
+     * 流式查询（MySQL 逐行读取，不把结果集整体加载到内存），须在事务内消费
+     */
+    @Select("SELECT * FROM sys_login_log ${ew.customSqlSegment}")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<LoginLog> streamByWrapper(@Param(Constants.WRAPPER) Wrapper<LoginLog> wrapper);
 }
@@ -1,9 +1,36 @@
 package com.antigravity.module.log.mapper;
 
 import com.antigravity.module.log.entity.OperationLog;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
+import org.apache.ibatis.annotations.Insert;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
+
+import java.util.List;
 
 @Mapper
 public interface OperationLogMapper extends BaseMapper<OperationLog> {
+
+    @Insert("<script>" +
+            "INSERT INTO sys_operation_log (username, module, action, method, params, ip_address, duration, " +
+            "status, error_msg, create_time) VALUES " +
+            "<foreach collection='logs' item='log' separator=','>" +
+            "(#{log.username}, #{log.module}, #{log.action}, #{log.method}, #{log.params}, #{log.ipAddress}, " +
+            "#{log.duration}, #{log.status}, #{log.errorMsg}, #{log.createTime})" +
+            "</foreach>" +
+            "</script>")
+    int insertBatch(@Param("logs") List<OperationLog> logs);
+
+    /**
+     * 流式查询（MySQL 逐行读取，不把结果集整体加载到内存），须在事务内消费
+     */
+    @Select("SELECT * FROM sys_operation_log ${ew.customSqlSegment}")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<OperationLog> streamByWrapper(@Param(Constants.WRAPPER) Wrapper<OperationLog> wrapper);
 }
@@ -1,14 +1,24 @@
 package com.antigravity.module.log.service;
 
 import com.antigravity.module.log.entity.LoginLog;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.antigravity.common.PageResult;
+import com.antigravity.module.retention.dto.PurgeProgressVO;
 import com.baomidou.mybatisplus.extension.service.IService;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
 public interface LoginLogService extends IService<LoginLog> {
-    Page<LoginLog> getLoginLogPage(int page, int size, String username, Integer status, String startTime,
-            String endTime);
+    /**
+     * 分页查询登录日志，传入 cursor 时按游标翻页
+     */
+    PageResult<LoginLog> getLoginLogPage(int page, int size, String username, Integer status, String startTime,
+            String endTime, String cursor);
+
+    /**
+     * 按查询条件流式读取登录日志（按 ID 升序），须在事务内消费
+     */
+    Cursor<LoginLog> streamLoginLogs(String username, Integer status, String startTime, String endTime);
 
     void asyncRecordLoginLog(String username, String ip, String userAgent, boolean success, String message);
 
@@ -18,7 +28,14 @@ public interface LoginLogService extends IService<LoginLog> {
     void deleteByIds(List<Long> ids);
 
     /**
-     * 清空所有登录日志
+     * 后台分批清空所有登录日志，立即返回
+     *
+     * @return 清空进度
+     */
+    PurgeProgressVO cleanAll();
+
+    /**
+     * 最近一次清空登录日志的进度
      */
-    void cleanAll();
+    PurgeProgressVO getCleanProgress();
 }
@@ -1,14 +1,25 @@
 package com.antigravity.module.log.service;
 
 import com.antigravity.module.log.entity.OperationLog;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.antigravity.common.PageResult;
+import com.antigravity.module.retention.dto.PurgeProgressVO;
 import com.baomidou.mybatisplus.extension.service.IService;
+import org.apache.ibatis.cursor.Cursor;
 
 import java.util.List;
 
 public interface OperationLogService extends IService<OperationLog> {
-    Page<OperationLog> getOperationLogPage(int page, int size, String username, String module, Integer status,
-            String startTime, String endTime);
+    /**
+     * 分页查询操作日志，传入 cursor 时按游标翻页
+     */
+    PageResult<OperationLog> getOperationLogPage(int page, int size, String username, String module, Integer status,
+            String startTime, String endTime, String cursor);
+
+    /**
+     * 按查询条件流式读取操作日志（按 ID 升序），须在事务内消费
+     */
+    Cursor<OperationLog> streamOperationLogs(String username, String module, Integer status, String startTime,
+            String endTime);
 
     void asyncRecordOperationLog(OperationLog log);
 
@@ -18,7 +29,14 @@ public interface OperationLogService extends IService<OperationLog> {
     void deleteByIds(List<Long> ids);
 
     /**
-     * 清空所有操作日志
+     * 后台分批清空所有操作日志，立即返回
+     *
+     * @return 清空进度
+     */
+    PurgeProgressVO cleanAll();
+
+    /**
+     * 最近一次清空操作日志的进度
      */
-    void cleanAll();
+    PurgeProgressVO getCleanProgress();
 }
@@ -1,12 +1,19 @@
 package com.antigravity.module.log.service.impl;
 
+import com.antigravity.common.CountCache;
+import com.antigravity.common.FullTextSearch;
+import com.antigravity.common.KeysetPagination;
+import com.antigravity.common.PageResult;
 import com.antigravity.module.log.entity.LoginLog;
 import com.antigravity.module.log.mapper.LoginLogMapper;
 import com.antigravity.module.log.service.LoginLogService;
+import com.antigravity.module.log.writer.AuditLogWriter;
+import com.antigravity.module.retention.dto.PurgeProgressVO;
+import com.antigravity.module.retention.service.RetentionService;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
-import org.springframework.scheduling.annotation.Async;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -15,28 +22,45 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Service
+@RequiredArgsConstructor
 public class LoginLogServiceImpl extends ServiceImpl<LoginLogMapper, LoginLog> implements LoginLogService {
 
+    private final RetentionService retentionService;
+    private final CountCache countCache;
+    private final AuditLogWriter auditLogWriter;
+
+    @Override
+    public PageResult<LoginLog> getLoginLogPage(int pageNum, int pageSize, String username, Integer status,
+            String startTime, String endTime, String cursor) {
+        String countKey = CountCache.key("sys_login_log", username, status, startTime, endTime);
+        return KeysetPagination.page(baseMapper, buildWrapper(username, status, startTime, endTime),
+                LoginLog::getLoginTime, LoginLog::getId, cursor, pageNum, pageSize,
+                () -> countCache.get(countKey, () -> this.count(buildWrapper(username, status, startTime, endTime))));
+    }
+
     @Override
-    public Page<LoginLog> getLoginLogPage(int pageNum, int pageSize, String username, Integer status, String startTime,
+    public Cursor<LoginLog> streamLoginLogs(String username, Integer status, String startTime, String endTime) {
+        return baseMapper.streamByWrapper(
+                buildWrapper(username, status, startTime, endTime).orderByAsc(LoginLog::getId));
+    }
+
+    private LambdaQueryWrapper<LoginLog> buildWrapper(String username, Integer status, String startTime,
             String endTime) {
-        Page<LoginLog> page = new Page<>(pageNum, pageSize);
         LambdaQueryWrapper<LoginLog> wrapper = new LambdaQueryWrapper<>();
 
-        wrapper.like(StringUtils.hasText(username), LoginLog::getUsername, username)
-                .eq(status != null, LoginLog::getStatus, status);
+        // 用户名走 ngram 全文索引，不再 LIKE '%x%' 全表扫描
+        FullTextSearch.contains(wrapper, "username", LoginLog::getUsername, username);
+        wrapper.eq(status != null, LoginLog::getStatus, status);
 
-        if (StringUtils.hasText(startTime) && StringUtils.hasText(endTime)) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            wrapper.between(LoginLog::getLoginTime, LocalDateTime.parse(startTime, formatter),
-                    LocalDateTime.parse(endTime, formatter));
-        }
-
-        wrapper.orderByDesc(LoginLog::getLoginTime);
-        return this.page(page, wrapper);
+        // 起止时间可单独指定，借助 idx_login_time 收窄扫描范围
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        wrapper.ge(StringUtils.hasText(startTime), LoginLog::getLoginTime,
+                        StringUtils.hasText(startTime) ? LocalDateTime.parse(startTime, formatter) : null)
+                .le(StringUtils.hasText(endTime), LoginLog::getLoginTime,
+                        StringUtils.hasText(endTime) ? LocalDateTime.parse(endTime, formatter) : null);
+        return wrapper;
     }
 
-    @Async
     @Override
     public void asyncRecordLoginLog(String username, String ipAddress, String userAgent, boolean success,
             String message) {
@@ -77,16 +101,24 @@ public class LoginLogServiceImpl extends ServiceImpl<LoginLogMapper, LoginLog> i
         log.setMessage(message);
         log.setLoginTime(LocalDateTime.now());
 
-        this.save(log);
+        // 进入有界缓冲区，由写入线程批量入库
+        auditLogWriter.submit(log);
     }
 
     @Override
     public void deleteByIds(List<Long> ids) {
         this.removeByIds(ids);
+        countCache.invalidate("sys_login_log");
+    }
+
+    @Override
+    public PurgeProgressVO cleanAll() {
+        // 后台分批删除，避免单条全表 DELETE 长时间锁表，也不占用请求线程
+        return retentionService.cleanAllAsync("sys_login_log");
     }
 
     @Override
-    public void cleanAll() {
-        this.remove(new LambdaQueryWrapper<>());
+    public PurgeProgressVO getCleanProgress() {
+        return retentionService.getProgress("sys_login_log");
     }
 }
@@ -1,12 +1,19 @@
 package com.antigravity.module.log.service.impl;
 
+import com.antigravity.common.CountCache;
+import com.antigravity.common.FullTextSearch;
+import com.antigravity.common.KeysetPagination;
+import com.antigravity.common.PageResult;
 import com.antigravity.module.log.entity.OperationLog;
 import com.antigravity.module.log.mapper.OperationLogMapper;
 import com.antigravity.module.log.service.OperationLogService;
+import com.antigravity.module.log.writer.AuditLogWriter;
+import com.antigravity.module.retention.dto.PurgeProgressVO;
+import com.antigravity.module.retention.service.RetentionService;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
-import org.springframework.scheduling.annotation.Async;
+import lombok.RequiredArgsConstructor;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
@@ -15,43 +22,71 @@ import java.time.format.DateTimeFormatter;
 import java.util.List;
 
 @Service
+@RequiredArgsConstructor
 public class OperationLogServiceImpl extends ServiceImpl<OperationLogMapper, OperationLog>
         implements OperationLogService {
 
+    private final RetentionService retentionService;
+    private final CountCache countCache;
+    private final AuditLogWriter auditLogWriter;
+
     @Override
-    public Page<OperationLog> getOperationLogPage(int pageNum, int pageSize, String username, String module,
-            Integer status, String startTime, String endTime) {
-        Page<OperationLog> page = new Page<>(pageNum, pageSize);
+    public PageResult<OperationLog> getOperationLogPage(int pageNum, int pageSize, String username, String module,
+            Integer status, String startTime, String endTime, String cursor) {
+        String countKey = CountCache.key("sys_operation_log", username, module, status, startTime, endTime);
+        return KeysetPagination.page(baseMapper, buildWrapper(username, module, status, startTime, endTime),
+                OperationLog::getCreateTime, OperationLog::getId, cursor, pageNum, pageSize,
+                () -> countCache.get(countKey,
+                        () -> this.count(buildWrapper(username, module, status, startTime, endTime))));
+    }
+
+    @Override
+    public Cursor<OperationLog> streamOperationLogs(String username, String module, Integer status,
+            String startTime, String endTime) {
+        return baseMapper.streamByWrapper(
+                buildWrapper(username, module, status, startTime, endTime).orderByAsc(OperationLog::getId));
+    }
+
+    private LambdaQueryWrapper<OperationLog> buildWrapper(String username, String module, Integer status,
+            String startTime, String endTime) {
         LambdaQueryWrapper<OperationLog> wrapper = new LambdaQueryWrapper<>();
 
-        wrapper.like(StringUtils.hasText(username), OperationLog::getUsername, username)
-                .like(StringUtils.hasText(module), OperationLog::getModule, module)
-                .eq(status != null, OperationLog::getStatus, status);
+        // 用户名、模块走 ngram 全文索引，不再 LIKE '%x%' 全表扫描
+        FullTextSearch.contains(wrapper, "username", OperationLog::getUsername, username);
+        FullTextSearch.contains(wrapper, "module", OperationLog::getModule, module);
+        wrapper.eq(status != null, OperationLog::getStatus, status);
 
-        if (StringUtils.hasText(startTime) && StringUtils.hasText(endTime)) {
-            DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
-            wrapper.between(OperationLog::getCreateTime, LocalDateTime.parse(startTime, formatter),
-                    LocalDateTime.parse(endTime, formatter));
-        }
+        // 起止时间可单独指定，借助 idx_create_time 收窄扫描范围
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        wrapper.ge(StringUtils.hasText(startTime), OperationLog::getCreateTime,
+                        StringUtils.hasText(startTime) ? LocalDateTime.parse(startTime, formatter) : null)
+                .le(StringUtils.hasText(endTime), OperationLog::getCreateTime,
+                        StringUtils.hasText(endTime) ? LocalDateTime.parse(endTime, formatter) : null);
 
-        wrapper.orderByDesc(OperationLog::getCreateTime);
-        return this.page(page, wrapper);
+        return wrapper;
     }
 
-    @Async
     @Override
     public void asyncRecordOperationLog(OperationLog log) {
         log.setCreateTime(LocalDateTime.now());
-        this.save(log);
+        // 进入有界缓冲区，由写入线程批量入库
+        auditLogWriter.submit(log);
     }
 
     @Override
     public void deleteByIds(List<Long> ids) {
         this.removeByIds(ids);
+        countCache.invalidate("sys_operation_log");
+    }
+
+    @Override
+    public PurgeProgressVO cleanAll() {
+        // 后台分批删除，避免单条全表 DELETE 长时间锁表，也不占用请求线程
+        return retentionService.cleanAllAsync("sys_operation_log");
     }
 
     @Override
-    public void cleanAll() {
-        this.remove(new LambdaQueryWrapper<>());
+    public PurgeProgressVO getCleanProgress() {
+        return retentionService.getProgress("sys_operation_log");
     }
 }
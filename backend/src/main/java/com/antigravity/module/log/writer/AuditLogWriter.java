@@ -0,0 +1,511 @@
+package com.antigravity.module.log.writer;
+
+import com.antigravity.config.AuditLogProperties;
+import com.antigravity.module.log.entity.LoginLog;
+import com.antigravity.module.log.entity.OperationLog;
+import com.antigravity.module.log.mapper.LoginLogMapper;
+import com.antigravity.module.log.mapper.OperationLogMapper;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToIntFunction;
+
+/**
+ * 审计日志批量写入器
+ * <p>
+ * 操作日志和登录日志先进入一个有界缓冲区，由单个专用线程取出后按表做多行 INSERT 批量写入，
+ * 同一时刻最多占用一个数据库连接，突发流量不会挤占同步接口依赖的连接池。
+ * <p>
+ * 缓冲区满时按 {@link AuditLogProperties.OverflowPolicy} 处理：阻塞（有超时）、丢弃最早的一条，
+ * 或写入本地文件并在缓冲区空闲时回放入库。
+ * <p>
+ * 整批写入失败时改为逐条写入：被数据库永久拒绝（违反约束、超长等）或无法解析的记录转入死信文件，
+ * 不再反复回放；数据库暂不可用时其余记录按策略落盘或丢弃。回放按批记录已处理的行数，
+ * 中途失败或重启后从断点继续，不会重复写入已回放的批次。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AuditLogWriter {
+
+    private static final String SPILL_FILE = "audit-spill.jsonl";
+    private static final String REPLAY_FILE = "audit-spill.replaying";
+    private static final String REPLAY_OFFSET_FILE = "audit-spill.replaying.offset";
+    private static final String DEAD_LETTER_FILE = "audit-dead-letter.jsonl";
+    private static final String TYPE_OPERATION = "operation";
+    private static final String TYPE_LOGIN = "login";
+
+    private final OperationLogMapper operationLogMapper;
+    private final LoginLogMapper loginLogMapper;
+    private final AuditLogProperties properties;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private BlockingQueue<Object> buffer;
+    private Thread drainer;
+    private volatile boolean running;
+
+    private final Object spillLock = new Object();
+    private Path spillDir;
+
+    private final LongAdder written = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder spilled = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final LongAdder deadLettered = new LongAdder();
+
+    @PostConstruct
+    public void start() {
+        buffer = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        spillDir = Path.of(properties.getSpillDir());
+        running = true;
+        bindMetrics();
+        drainer = Thread.ofPlatform().name("audit-log-writer").daemon().start(this::drainLoop);
+        log.info("审计日志写入器已启动: capacity={}, batchSize={}, overflowPolicy={}",
+                properties.getCapacity(), properties.getBatchSize(), properties.getOverflowPolicy());
+    }
+
+    private void bindMetrics() {
+        Gauge.builder("audit.log.buffer.size", buffer, BlockingQueue::size)
+                .description("审计日志缓冲区中待写入的条数")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.log.written", written, LongAdder::sum)
+                .description("已写入数据库的审计日志条数")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.log.dropped", dropped, LongAdder::sum)
+                .description("缓冲区满时丢弃的审计日志条数")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.log.spilled", spilled, LongAdder::sum)
+                .description("缓冲区满时落盘的审计日志条数")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.log.failed.batches", failedBatches, LongAdder::sum)
+                .description("写入失败的批次数")
+                .register(meterRegistry);
+        FunctionCounter.builder("audit.log.dead.lettered", deadLettered, LongAdder::sum)
+                .description("被数据库拒绝或无法解析、转入死信文件的审计日志条数")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (drainer != null) {
+            // 等待剩余日志写完
+            drainer.join(TimeUnit.SECONDS.toMillis(10));
+        }
+    }
+
+    /**
+     * 提交操作日志
+     */
+    public void submit(OperationLog entry) {
+        enqueue(entry);
+    }
+
+    /**
+     * 提交登录日志
+     */
+    public void submit(LoginLog entry) {
+        enqueue(entry);
+    }
+
+    /**
+     * 写入器运行状态
+     */
+    public Stats stats() {
+        return new Stats(buffer.size(), properties.getCapacity(), properties.getOverflowPolicy().name(),
+                written.sum(), dropped.sum(), spilled.sum(), failedBatches.sum(), deadLettered.sum());
+    }
+
+    private void enqueue(Object entry) {
+        if (buffer.offer(entry)) {
+            return;
+        }
+        switch (properties.getOverflowPolicy()) {
+            case BLOCK -> {
+                try {
+                    if (!buffer.offer(entry, properties.getBlockTimeoutMillis(), TimeUnit.MILLISECONDS)) {
+                        dropped.increment();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            }
+            case DROP_OLDEST -> {
+                while (!buffer.offer(entry)) {
+                    if (buffer.poll() != null) {
+                        dropped.increment();
+                    }
+                }
+            }
+            case SPILL -> spill(List.of(entry));
+        }
+    }
+
+    private void drainLoop() {
+        int batchSize = Math.max(1, properties.getBatchSize());
+        List<Object> batch = new ArrayList<>(batchSize);
+        while (running || !buffer.isEmpty()) {
+            try {
+                Object first = buffer.poll(properties.getFlushIntervalMillis(), TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    // 缓冲区空闲时回放落盘的日志
+                    replaySpill(batchSize);
+                    continue;
+                }
+                batch.add(first);
+                buffer.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("审计日志写入线程异常: {}", e.getMessage());
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 按表批量写入，暂不可用而未写入的记录按策略落盘或计入丢弃
+     */
+    private void flush(List<Object> batch) {
+        for (List<?> retry : write(batch)) {
+            if (properties.getOverflowPolicy() == AuditLogProperties.OverflowPolicy.SPILL) {
+                spill(retry);
+            } else {
+                dropped.add(retry.size());
+            }
+        }
+    }
+
+    /**
+     * 按表批量写入
+     *
+     * @return 因数据库暂不可用而未写入、可稍后重试的记录（按表分组，可能为空）
+     */
+    private List<List<?>> write(List<Object> batch) {
+        List<OperationLog> operationLogs = new ArrayList<>();
+        List<LoginLog> loginLogs = new ArrayList<>();
+        for (Object entry : batch) {
+            if (entry instanceof OperationLog operationLog) {
+                operationLogs.add(operationLog);
+            } else if (entry instanceof LoginLog loginLog) {
+                loginLogs.add(loginLog);
+            }
+        }
+        List<List<?>> retry = new ArrayList<>();
+        List<OperationLog> operationRetry = insert(operationLogs, operationLogMapper::insertBatch);
+        if (!operationRetry.isEmpty()) {
+            retry.add(operationRetry);
+        }
+        List<LoginLog> loginRetry = insert(loginLogs, loginLogMapper::insertBatch);
+        if (!loginRetry.isEmpty()) {
+            retry.add(loginRetry);
+        }
+        return retry;
+    }
+
+    /**
+     * 批量写入；整批失败时逐条写入，被数据库永久拒绝的记录转入死信文件
+     *
+     * @return 因数据库暂不可用而未写入的记录（遇到第一条非数据错误即停止逐条写入）
+     */
+    private <T> List<T> insert(List<T> entries, ToIntFunction<List<T>> inserter) {
+        if (entries.isEmpty()) {
+            return List.of();
+        }
+        try {
+            inserter.applyAsInt(entries);
+            written.add(entries.size());
+            return List.of();
+        } catch (Exception e) {
+            failedBatches.increment();
+            log.warn("审计日志批量写入失败，改为逐条写入: size={}, error={}", entries.size(), e.getMessage());
+        }
+        for (int i = 0; i < entries.size(); i++) {
+            T entry = entries.get(i);
+            try {
+                inserter.applyAsInt(List.of(entry));
+                written.increment();
+            } catch (DataIntegrityViolationException e) {
+                log.error("审计日志被数据库拒绝，转入死信文件: {}", e.getMessage());
+                deadLetter(List.of(entry));
+            } catch (Exception e) {
+                log.error("审计日志写入失败: remaining={}, error={}", entries.size() - i, e.getMessage());
+                return new ArrayList<>(entries.subList(i, entries.size()));
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 追加写入本地落盘文件
+     */
+    private void spill(List<?> entries) {
+        synchronized (spillLock) {
+            try {
+                appendRecords(SPILL_FILE, entries);
+                spilled.add(entries.size());
+            } catch (IOException e) {
+                dropped.add(entries.size());
+                log.error("审计日志落盘失败，丢弃 {} 条: {}", entries.size(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 追加写入死信文件，不再自动回放，由人工排查后处理
+     */
+    private void deadLetter(List<?> entries) {
+        synchronized (spillLock) {
+            try {
+                appendRecords(DEAD_LETTER_FILE, entries);
+                deadLettered.add(entries.size());
+            } catch (IOException e) {
+                dropped.add(entries.size());
+                log.error("审计日志写入死信文件失败，丢弃 {} 条: {}", entries.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void deadLetterLine(String line) {
+        synchronized (spillLock) {
+            try {
+                Files.createDirectories(spillDir);
+                Files.write(spillDir.resolve(DEAD_LETTER_FILE), List.of(line), StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+                deadLettered.increment();
+            } catch (IOException e) {
+                dropped.increment();
+                log.error("审计日志写入死信文件失败，丢弃 1 条: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void appendRecords(String file, List<?> entries) throws IOException {
+        Files.createDirectories(spillDir);
+        try (BufferedWriter writer = Files.newBufferedWriter(spillDir.resolve(file),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (Object entry : entries) {
+                writer.write(objectMapper.writeValueAsString(toRecord(entry)));
+                writer.newLine();
+            }
+        }
+    }
+
+    /**
+     * 回放落盘文件：先整体改名再逐批写入，回放期间新的溢出日志写入新文件
+     * <p>
+     * 每批处理完（写入、转入死信或重新落盘）后记录已处理的行数，中途失败或重启后从断点继续；
+     * 数据库暂不可用时该批未写入的记录追加回落盘文件，并暂停本轮回放。
+     */
+    private void replaySpill(int batchSize) {
+        Path spillFile = spillDir.resolve(SPILL_FILE);
+        Path replayFile = spillDir.resolve(REPLAY_FILE);
+        Path offsetFile = spillDir.resolve(REPLAY_OFFSET_FILE);
+        try {
+            if (!Files.exists(replayFile)) {
+                synchronized (spillLock) {
+                    if (!Files.exists(spillFile)) {
+                        return;
+                    }
+                    Files.deleteIfExists(offsetFile);
+                    Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+                }
+            }
+
+            long offset = readOffset(offsetFile);
+            long lineNumber = 0;
+            long processed = 0;
+            List<Object> batch = new ArrayList<>(batchSize);
+            try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    lineNumber++;
+                    if (lineNumber <= offset || line.isBlank()) {
+                        continue;
+                    }
+                    Object entry = parseRecord(line);
+                    if (entry == null) {
+                        deadLetterLine(line);
+                    } else {
+                        batch.add(entry);
+                    }
+                    if (batch.size() >= batchSize) {
+                        boolean available = replayBatch(batch);
+                        processed += batch.size();
+                        batch.clear();
+                        writeOffset(offsetFile, lineNumber);
+                        if (!available) {
+                            log.warn("数据库暂不可用，暂停回放落盘的审计日志: 已处理到第 {} 行", lineNumber);
+                            return;
+                        }
+                    }
+                }
+            }
+            if (!batch.isEmpty()) {
+                // 最后一批之后直接删除回放文件，无需再记录断点；失败的记录已重新落盘
+                replayBatch(batch);
+                processed += batch.size();
+            }
+            Files.delete(replayFile);
+            Files.deleteIfExists(offsetFile);
+            log.info("已回放落盘的审计日志: {} 条", processed);
+        } catch (Exception e) {
+            log.warn("回放落盘的审计日志失败，稍后从断点重试: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 写入回放的一批记录，未写入的记录追加回落盘文件
+     *
+     * @return 数据库是否可用（该批记录是否全部写入或转入死信）
+     */
+    private boolean replayBatch(List<Object> batch) {
+        List<List<?>> retry = write(batch);
+        retry.forEach(this::spill);
+        return retry.isEmpty();
+    }
+
+    private Object parseRecord(String line) {
+        try {
+            return fromRecord(objectMapper.readValue(line, new TypeReference<Map<String, Object>>() {
+            }));
+        } catch (Exception e) {
+            log.error("无法解析落盘的审计日志，转入死信文件: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static long readOffset(Path offsetFile) throws IOException {
+        if (!Files.exists(offsetFile)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(offsetFile).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private static void writeOffset(Path offsetFile, long offset) throws IOException {
+        Files.writeString(offsetFile, Long.toString(offset), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    private static Map<String, Object> toRecord(Object entry) {
+        Map<String, Object> record = new LinkedHashMap<>();
+        if (entry instanceof OperationLog operationLog) {
+            record.put("type", TYPE_OPERATION);
+            record.put("username", operationLog.getUsername());
+            record.put("module", operationLog.getModule());
+            record.put("action", operationLog.getAction());
+            record.put("method", operationLog.getMethod());
+            record.put("params", operationLog.getParams());
+            record.put("ipAddress", operationLog.getIpAddress());
+            record.put("duration", operationLog.getDuration());
+            record.put("status", operationLog.getStatus());
+            record.put("errorMsg", operationLog.getErrorMsg());
+            record.put("createTime", timeString(operationLog.getCreateTime()));
+        } else if (entry instanceof LoginLog loginLog) {
+            record.put("type", TYPE_LOGIN);
+            record.put("username", loginLog.getUsername());
+            record.put("ipAddress", loginLog.getIpAddress());
+            record.put("browser", loginLog.getBrowser());
+            record.put("os", loginLog.getOs());
+            record.put("status", loginLog.getStatus());
+            record.put("message", loginLog.getMessage());
+            record.put("loginTime", timeString(loginLog.getLoginTime()));
+        }
+        return record;
+    }
+
+    private static Object fromRecord(Map<String, Object> record) {
+        if (TYPE_LOGIN.equals(record.get("type"))) {
+            LoginLog loginLog = new LoginLog();
+            loginLog.setUsername(string(record, "username"));
+            loginLog.setIpAddress(string(record, "ipAddress"));
+            loginLog.setBrowser(string(record, "browser"));
+            loginLog.setOs(string(record, "os"));
+            loginLog.setStatus(record.get("status") instanceof Number n ? n.intValue() : null);
+            loginLog.setMessage(string(record, "message"));
+            loginLog.setLoginTime(time(record, "loginTime"));
+            return loginLog;
+        }
+        OperationLog operationLog = new OperationLog();
+        operationLog.setUsername(string(record, "username"));
+        operationLog.setModule(string(record, "module"));
+        operationLog.setAction(string(record, "action"));
+        operationLog.setMethod(string(record, "method"));
+        operationLog.setParams(string(record, "params"));
+        operationLog.setIpAddress(string(record, "ipAddress"));
+        operationLog.setDuration(record.get("duration") instanceof Number n ? n.longValue() : null);
+        operationLog.setStatus(record.get("status") instanceof Number n ? n.intValue() : null);
+        operationLog.setErrorMsg(string(record, "errorMsg"));
+        operationLog.setCreateTime(time(record, "createTime"));
+        return operationLog;
+    }
+
+    private static String timeString(LocalDateTime time) {
+        return time != null ? time.toString() : null;
+    }
+
+    private static String string(Map<String, Object> record, String key) {
+        Object value = record.get(key);
+        return value != null ? value.toString() : null;
+    }
+
+    private static LocalDateTime time(Map<String, Object> record, String key) {
+        Object value = record.get(key);
+        return value != null ? LocalDateTime.parse(value.toString()) : LocalDateTime.now();
+    }
+
+    /**
+     * 写入器运行状态
+     *
+     * @param queueDepth     缓冲区中待写入的条数
+     * @param capacity       缓冲区容量
+     * @param overflowPolicy 溢出策略
+     * @param written        已写入条数
+     * @param dropped        已丢弃条数
+     * @param spilled        已落盘条数
+     * @param failedBatches  写入失败的批次数
+     * @param deadLettered   转入死信文件的条数
+     */
+    public record Stats(int queueDepth, int capacity, String overflowPolicy, long written, long dropped,
+                        long spilled, long failedBatches, long deadLettered) {
+    }
+
+}
@@ -4,9 +4,11 @@ import com.antigravity.module.permission.entity.RolePermission;
 import com.antigravity.module.permission.service.PermissionService;
 
 import com.antigravity.module.permission.mapper.PermissionMapper;
+import com.antigravity.common.security.RoleAuthorityCache;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +26,11 @@ import java.util.stream.Collectors;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PermissionServiceImpl extends ServiceImpl<PermissionMapper, Permission> implements PermissionService {
 
+    private final RoleAuthorityCache roleAuthorityCache;
+
     @Override
     public Optional<Permission> findById(Long id) {
         return Optional.ofNullable(this.getById(id));
@@ -97,6 +102,7 @@ public class PermissionServiceImpl extends ServiceImpl<PermissionMapper, Permiss
         }
         permission.setIsDeleted(false);
         this.save(permission);
+        roleAuthorityCache.invalidate();
         log.info("创建权限成功: code={}, name={}", permission.getCode(), permission.getName());
         return permission;
     }
@@ -106,6 +112,7 @@ public class PermissionServiceImpl extends ServiceImpl<PermissionMapper, Permiss
     public boolean updatePermission(Permission permission) {
         boolean success = this.updateById(permission);
         if (success) {
+            roleAuthorityCache.invalidate();
             log.info("更新权限成功: id={}", permission.getId());
         }
         return success;
@@ -119,6 +126,7 @@ public class PermissionServiceImpl extends ServiceImpl<PermissionMapper, Permiss
                 .set(Permission::getEnabled, enabled);
         boolean success = this.update(wrapper);
         if (success) {
+            roleAuthorityCache.invalidate();
             log.info("更新权限状态: id={}, enabled={}", id, enabled);
         }
         return success;
@@ -129,6 +137,7 @@ public class PermissionServiceImpl extends ServiceImpl<PermissionMapper, Permiss
     public boolean deletePermission(Long id) {
         boolean success = this.removeById(id);
         if (success) {
+            roleAuthorityCache.invalidate();
             log.info("删除权限成功: id={}", id);
         }
         return success;
@@ -139,6 +148,7 @@ public class PermissionServiceImpl extends ServiceImpl<PermissionMapper, Permiss
     public boolean deletePermissions(List<Long> ids) {
         boolean success = this.removeByIds(ids);
         if (success) {
+            roleAuthorityCache.invalidate();
             log.info("批量删除权限成功: ids={}", ids);
         }
         return success;
@@ -170,6 +180,7 @@ public class PermissionServiceImpl extends ServiceImpl<PermissionMapper, Permiss
             }
         }
 
+        roleAuthorityCache.invalidate();
         log.info("为角色分配权限成功: roleId={}, permissionIds={}", roleId, permissionIds);
         return true;
     }
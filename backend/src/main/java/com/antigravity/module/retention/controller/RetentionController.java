@@ -0,0 +1,52 @@
+package com.antigravity.module.retention.controller;
+
+import com.antigravity.common.Result;
+import com.antigravity.module.retention.dto.PurgeProgressVO;
+import com.antigravity.module.retention.service.RetentionService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 数据保留清理 Controller
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@RestController
+@RequestMapping("/api/v1/retention")
+@RequiredArgsConstructor
+public class RetentionController {
+
+    private final RetentionService retentionService;
+
+    /**
+     * 查询各表最近一次清理进度
+     */
+    @GetMapping("/status")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Result<List<PurgeProgressVO>> status() {
+        return Result.success(retentionService.getProgress());
+    }
+
+    /**
+     * 手动触发清理（异步执行，通过 /status 查看进度）
+     */
+    @PostMapping("/purge")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Result<Void> purge(@RequestParam(required = false) String table) {
+        retentionService.purgeAsync(table);
+        return Result.success("清理任务已提交", null);
+    }
+
+    /**
+     * 手动将表转换为按月分区表（整表重建、阻塞写入，需开启 retention.partitioning-enabled 并在维护窗口执行）
+     */
+    @PostMapping("/partition")
+    @PreAuthorize("hasRole('ADMIN')")
+    public Result<PurgeProgressVO> partition(@RequestParam String table) {
+        return Result.success("分区转换任务已提交", retentionService.partitionAsync(table));
+    }
+}
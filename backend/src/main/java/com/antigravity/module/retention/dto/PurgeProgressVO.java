@@ -0,0 +1,54 @@
+package com.antigravity.module.retention.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 单表数据清理进度 VO
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+public class PurgeProgressVO {
+
+    public static final String MODE_DROP_PARTITION = "DROP_PARTITION";
+    public static final String MODE_CHUNKED_DELETE = "CHUNKED_DELETE";
+    public static final String MODE_CLEAN_ALL = "CLEAN_ALL";
+    public static final String MODE_PARTITION = "PARTITION";
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_FINISHED = "FINISHED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    /** 表名 */
+    private String table;
+
+    /** 清理方式：DROP_PARTITION, CHUNKED_DELETE, CLEAN_ALL；PARTITION 表示转换为分区表 */
+    private String mode;
+
+    /** 状态：RUNNING, FINISHED, FAILED */
+    private String status;
+
+    /** 保留截止时间，早于该时间的数据会被清理（整表清空时为空） */
+    private LocalDateTime cutoff;
+
+    /** 已删除行数（分批删除时实时更新） */
+    private volatile long deletedRows;
+
+    /** 已删除的分区 */
+    private List<String> droppedPartitions = new ArrayList<>();
+
+    /** 本次新建的未来分区数 */
+    private int createdPartitions;
+
+    private LocalDateTime startTime;
+
+    private LocalDateTime endTime;
+
+    /** 失败原因 */
+    private String message;
+}
@@ -0,0 +1,58 @@
+package com.antigravity.module.retention.service;
+
+import com.antigravity.module.retention.dto.PurgeProgressVO;
+
+import java.util.List;
+
+/**
+ * 数据保留清理 Service 接口
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public interface RetentionService {
+
+    /**
+     * 按保留策略清理所有表（或指定表）的过期数据
+     *
+     * @param table 表名，为空时清理所有配置了策略的表
+     * @return 各表的清理结果
+     */
+    List<PurgeProgressVO> purge(String table);
+
+    /**
+     * 异步触发清理，立即返回
+     *
+     * @param table 表名，为空时清理所有配置了策略的表
+     */
+    void purgeAsync(String table);
+
+    /**
+     * 最近一次（或正在进行的）各表清理进度
+     */
+    List<PurgeProgressVO> getProgress();
+
+    /**
+     * 后台分批清空整张表（用于日志"清空"操作，避免单条大 DELETE 锁表），立即返回
+     * <p>
+     * 同一张表同一时刻只允许一个清空任务（跨节点），完成后使该表的计数缓存失效。
+     *
+     * @return 清空进度，可通过 {@link #getProgress(String)} 轮询
+     */
+    PurgeProgressVO cleanAllAsync(String table);
+
+    /**
+     * 指定表最近一次（或正在进行的）清理进度（本节点）
+     */
+    PurgeProgressVO getProgress(String table);
+
+    /**
+     * 后台把声明为分区的表转换为按月分区表，立即返回
+     * <p>
+     * 转换是整表复制的 ALTER，期间阻塞对该表的写入，需开启 {@code retention.partitioning-enabled}
+     * 并在维护窗口手动触发；同一张表同一时刻只允许一个转换任务（跨节点）。
+     *
+     * @return 转换进度，可通过 {@link #getProgress(String)} 轮询
+     */
+    PurgeProgressVO partitionAsync(String table);
+}
@@ -0,0 +1,286 @@
+package com.antigravity.module.retention.service.impl;
+
+import com.antigravity.common.BusinessException;
+import com.antigravity.common.ChunkedDeleter;
+import com.antigravity.common.CountCache;
+import com.antigravity.common.MonthlyPartitionManager;
+import com.antigravity.config.RetentionProperties;
+import com.antigravity.module.retention.dto.PurgeProgressVO;
+import com.antigravity.module.retention.service.RetentionService;
+import com.antigravity.module.sync.schedule.ScheduleLeaseManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 数据保留清理 Service 实现
+ * <p>
+ * 按 {@link RetentionProperties#getPolicies()} 逐表清理：
+ * <ul>
+ *   <li>分区表：先预建未来分区，再整分区 DROP 过期月份（按月粒度，截止时间所在月份的数据等整月过期后再删除）</li>
+ *   <li>非分区表，或配置了未结束状态的表：按主键顺序分批 DELETE，批间停顿限流，跳过未结束状态的行</li>
+ * </ul>
+ * 普通表转换为分区表会阻塞写入，不在启动或定期清理中自动执行，只能由管理员通过 {@link #partitionAsync(String)} 触发。
+ * 定期与手动清理通过调度租约保证多副本下只有一个节点执行；整表清空按表加租约，在后台线程中执行。
+ * 租约由独立心跳续期，单批删除或删除分区耗时较长时也不会过期。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RetentionServiceImpl implements RetentionService {
+
+    private static final String LEASE_NAME = "retention-purge";
+
+    private static final String CLEAN_LEASE_PREFIX = "retention-clean:";
+
+    private static final String PARTITION_LEASE_PREFIX = "retention-partition:";
+
+    private final RetentionProperties properties;
+    private final MonthlyPartitionManager partitionManager;
+    private final ChunkedDeleter chunkedDeleter;
+    private final ScheduleLeaseManager leaseManager;
+    private final CountCache countCache;
+
+    /**
+     * 各表最近一次清理进度：表名 -> 进度
+     */
+    private final Map<String, PurgeProgressVO> progress = new ConcurrentHashMap<>();
+
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    private ScheduledExecutorService scheduler;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled() || properties.getPolicies().isEmpty()) {
+            log.info("数据保留清理未启用");
+            return;
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("retention-purge").daemon().factory());
+        scheduler.scheduleWithFixedDelay(this::scheduledPurge,
+                TimeUnit.MINUTES.toSeconds(properties.getInitialDelayMinutes()),
+                TimeUnit.HOURS.toSeconds(properties.getIntervalHours()), TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+    }
+
+    private void scheduledPurge() {
+        try {
+            if (!leaseManager.tryAcquire(LEASE_NAME)) {
+                log.debug("其他节点正在执行数据保留清理，跳过本轮");
+                return;
+            }
+            ScheduledFuture<?> heartbeat = leaseManager.keepAlive(LEASE_NAME);
+            try {
+                purge(null);
+            } finally {
+                heartbeat.cancel(false);
+                leaseManager.release(LEASE_NAME);
+            }
+        } catch (Exception e) {
+            log.error("定期数据保留清理失败: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public List<PurgeProgressVO> purge(String table) {
+        Map<String, RetentionProperties.Policy> policies = resolvePolicies(table);
+        if (!running.compareAndSet(false, true)) {
+            throw BusinessException.of("数据保留清理正在进行中，请稍后再试");
+        }
+        try {
+            List<PurgeProgressVO> results = new ArrayList<>();
+            for (Map.Entry<String, RetentionProperties.Policy> entry : policies.entrySet()) {
+                if (Thread.currentThread().isInterrupted()) {
+                    break;
+                }
+                results.add(purgeTable(entry.getKey(), entry.getValue()));
+            }
+            return results;
+        } finally {
+            running.set(false);
+        }
+    }
+
+    @Override
+    public void purgeAsync(String table) {
+        resolvePolicies(table);
+        if (running.get() || !leaseManager.tryAcquire(LEASE_NAME)) {
+            throw BusinessException.of("数据保留清理正在进行中，请稍后再试");
+        }
+        ScheduledFuture<?> heartbeat = leaseManager.keepAlive(LEASE_NAME);
+        Thread.ofVirtual().name("retention-purge-manual").start(() -> {
+            try {
+                purge(table);
+            } catch (Exception e) {
+                log.error("手动数据保留清理失败: {}", e.getMessage());
+            } finally {
+                heartbeat.cancel(false);
+                leaseManager.release(LEASE_NAME);
+            }
+        });
+    }
+
+    @Override
+    public List<PurgeProgressVO> getProgress() {
+        return new ArrayList<>(progress.values());
+    }
+
+    @Override
+    public PurgeProgressVO cleanAllAsync(String table) {
+        String lease = CLEAN_LEASE_PREFIX + table;
+        if (!leaseManager.tryAcquire(lease)) {
+            throw BusinessException.of("表 " + table + " 正在清空中，请稍后再试");
+        }
+        PurgeProgressVO item = new PurgeProgressVO();
+        item.setTable(table);
+        item.setMode(PurgeProgressVO.MODE_CLEAN_ALL);
+        item.setStatus(PurgeProgressVO.STATUS_RUNNING);
+        item.setStartTime(LocalDateTime.now());
+        progress.put(table, item);
+
+        ScheduledFuture<?> heartbeat = leaseManager.keepAlive(lease);
+        Thread.ofVirtual().name("retention-clean-" + table).start(() -> {
+            try {
+                item.setDeletedRows(chunkedDeleter.deleteAll(table, item::setDeletedRows));
+                item.setStatus(PurgeProgressVO.STATUS_FINISHED);
+                log.info("已分批清空表: table={}, deleted={}", table, item.getDeletedRows());
+            } catch (Exception e) {
+                item.setStatus(PurgeProgressVO.STATUS_FAILED);
+                item.setMessage(e.getMessage());
+                log.error("分批清空表失败: table={}, deleted={}, error={}", table, item.getDeletedRows(), e.getMessage());
+            } finally {
+                item.setEndTime(LocalDateTime.now());
+                heartbeat.cancel(false);
+                leaseManager.release(lease);
+                countCache.invalidate(table);
+            }
+        });
+        return item;
+    }
+
+    @Override
+    public PurgeProgressVO partitionAsync(String table) {
+        if (!StringUtils.hasText(table)) {
+            throw BusinessException.of("请指定要转换为分区表的表名");
+        }
+        RetentionProperties.Policy policy = resolvePolicies(table).get(table);
+        if (!properties.isPartitioningEnabled()) {
+            throw BusinessException.of("未开启 retention.partitioning-enabled，不允许转换分区表");
+        }
+        if (!policy.isPartitioned()) {
+            throw BusinessException.of("表 " + table + " 的保留策略未声明分区");
+        }
+        if (partitionManager.isPartitioned(table)) {
+            throw BusinessException.of("表 " + table + " 已是分区表");
+        }
+        String lease = PARTITION_LEASE_PREFIX + table;
+        if (!leaseManager.tryAcquire(lease)) {
+            throw BusinessException.of("表 " + table + " 正在转换分区中，请稍后再试");
+        }
+        PurgeProgressVO item = new PurgeProgressVO();
+        item.setTable(table);
+        item.setMode(PurgeProgressVO.MODE_PARTITION);
+        item.setStatus(PurgeProgressVO.STATUS_RUNNING);
+        item.setStartTime(LocalDateTime.now());
+        progress.put(table, item);
+
+        ScheduledFuture<?> heartbeat = leaseManager.keepAlive(lease);
+        Thread.ofVirtual().name("retention-partition-" + table).start(() -> {
+            try {
+                log.info("开始将 {} 表按 {} 转换为按月分区表", table, policy.getTimeColumn());
+                partitionManager.partitionByMonth(table, policy.getTimeColumn());
+                item.setCreatedPartitions(partitionManager.ensureFuturePartitions(table, properties.getFutureMonths()));
+                item.setStatus(PurgeProgressVO.STATUS_FINISHED);
+            } catch (Exception e) {
+                item.setStatus(PurgeProgressVO.STATUS_FAILED);
+                item.setMessage(e.getMessage());
+                log.error("转换分区表失败: table={}, error={}", table, e.getMessage());
+            } finally {
+                item.setEndTime(LocalDateTime.now());
+                heartbeat.cancel(false);
+                leaseManager.release(lease);
+            }
+        });
+        return item;
+    }
+
+    @Override
+    public PurgeProgressVO getProgress(String table) {
+        PurgeProgressVO item = progress.get(table);
+        if (item == null) {
+            throw BusinessException.of("本节点没有表 " + table + " 的清理记录");
+        }
+        return item;
+    }
+
+    private Map<String, RetentionProperties.Policy> resolvePolicies(String table) {
+        if (!StringUtils.hasText(table)) {
+            return properties.getPolicies();
+        }
+        RetentionProperties.Policy policy = properties.getPolicies().get(table);
+        if (policy == null) {
+            throw BusinessException.of("表 " + table + " 未配置保留策略");
+        }
+        return Map.of(table, policy);
+    }
+
+    private PurgeProgressVO purgeTable(String table, RetentionProperties.Policy policy) {
+        PurgeProgressVO item = new PurgeProgressVO();
+        item.setTable(table);
+        item.setStatus(PurgeProgressVO.STATUS_RUNNING);
+        item.setCutoff(LocalDateTime.now().minusDays(policy.getRetentionDays()));
+        item.setStartTime(LocalDateTime.now());
+        progress.put(table, item);
+
+        try {
+            boolean partitioned = partitionManager.isPartitioned(table);
+            if (partitioned) {
+                item.setCreatedPartitions(partitionManager.ensureFuturePartitions(table, properties.getFutureMonths()));
+            }
+            // 过期分区中可能仍有未结束的行（如长期运行的 CDC 任务），这类表不能整分区删除
+            if (partitioned && policy.isPartitioned() && policy.getActiveStatuses().isEmpty()) {
+                item.setMode(PurgeProgressVO.MODE_DROP_PARTITION);
+                item.setDroppedPartitions(partitionManager.dropPartitionsBefore(table, item.getCutoff()));
+            } else {
+                item.setMode(PurgeProgressVO.MODE_CHUNKED_DELETE);
+                item.setDeletedRows(chunkedDeleter.deleteBefore(table, policy.getTimeColumn(), item.getCutoff(),
+                        policy.getStatusColumn(), policy.getActiveStatuses(), item::setDeletedRows));
+            }
+            item.setStatus(PurgeProgressVO.STATUS_FINISHED);
+            log.info("数据保留清理完成: table={}, mode={}, cutoff={}, deletedRows={}, droppedPartitions={}",
+                    table, item.getMode(), item.getCutoff(), item.getDeletedRows(), item.getDroppedPartitions());
+        } catch (Exception e) {
+            item.setStatus(PurgeProgressVO.STATUS_FAILED);
+            item.setMessage(e.getMessage());
+            log.error("数据保留清理失败: table={}, error={}", table, e.getMessage());
+        } finally {
+            item.setEndTime(LocalDateTime.now());
+        }
+        return item;
+    }
+
+}
@@ -4,11 +4,13 @@ import com.antigravity.module.role.service.RoleService;
 
 import com.antigravity.common.PageResult;
 import com.antigravity.module.role.mapper.RoleMapper;
+import com.antigravity.common.security.RoleAuthorityCache;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.core.toolkit.StringUtils;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -24,8 +26,11 @@ import java.util.Optional;
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements RoleService {
 
+    private final RoleAuthorityCache roleAuthorityCache;
+
     @Override
     public Optional<Role> findById(Long id) {
         return Optional.ofNullable(this.getById(id));
@@ -94,6 +99,7 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
         }
         role.setIsDeleted(false);
         this.save(role);
+        roleAuthorityCache.invalidate();
         log.info("创建角色成功: code={}, name={}", role.getCode(), role.getName());
         return role;
     }
@@ -103,6 +109,7 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
     public boolean updateRole(Role role) {
         boolean success = this.updateById(role);
         if (success) {
+            roleAuthorityCache.invalidate();
             log.info("更新角色成功: id={}", role.getId());
         }
         return success;
@@ -116,6 +123,7 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
                 .set(Role::getEnabled, enabled);
         boolean success = this.update(wrapper);
         if (success) {
+            roleAuthorityCache.invalidate();
             log.info("更新角色状态: id={}, enabled={}", id, enabled);
         }
         return success;
@@ -126,6 +134,7 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
     public boolean deleteRole(Long id) {
         boolean success = this.removeById(id);
         if (success) {
+            roleAuthorityCache.invalidate();
             log.info("删除角色成功: id={}", id);
         }
         return success;
@@ -136,6 +145,7 @@ public class RoleServiceImpl extends ServiceImpl<RoleMapper, Role> implements Ro
     public boolean deleteRoles(List<Long> ids) {
         boolean success = this.removeByIds(ids);
         if (success) {
+            roleAuthorityCache.invalidate();
             log.info("批量删除角色成功: ids={}", ids);
         }
         return success;
@@ -48,7 +48,7 @@ public class SeaTunnelController {
     public Result<Map<String, Object>> jobDetail(@PathVariable String jobId) {
         Map<String, Object> jobInfo = seaTunnelClient.getJobInfo(jobId);
         if (jobInfo.isEmpty()) {
-            return Result.error("未找到任务或 SeaTunnel 服务不可用");
+            return Result.error("未找到运行中的任务");
         }
         return Result.success(jobInfo);
     }
@@ -2,17 +2,22 @@ package com.antigravity.module.sync.controller;
 
 import com.antigravity.common.PageResult;
 import com.antigravity.common.Result;
+import com.antigravity.config.SyncScheduleProperties;
 import com.antigravity.module.datasource.entity.DbConnection;
 import com.antigravity.module.datasource.service.DbConnectionService;
 import com.antigravity.module.sync.dto.FieldMappingDTO;
+import com.antigravity.module.sync.dto.SyncBatchExecuteRequest;
+import com.antigravity.module.sync.dto.SyncBatchExecuteVO;
 import com.antigravity.module.sync.dto.SyncConfigCreateRequest;
 import com.antigravity.module.sync.dto.SyncConfigUpdateRequest;
 import com.antigravity.module.sync.dto.SyncConfigVO;
 import com.antigravity.module.sync.dto.SyncTaskVO;
 import com.antigravity.module.sync.entity.SyncConfig;
 import com.antigravity.module.sync.entity.SyncTask;
+import com.antigravity.module.sync.schedule.ScheduleTrigger;
 import com.antigravity.module.sync.service.SyncConfigService;
 import com.antigravity.module.sync.service.SyncTaskService;
+import com.antigravity.module.sync.split.SourceSplitPlanner;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
@@ -38,6 +43,7 @@ public class SyncConfigController {
     private final SyncConfigService syncConfigService;
     private final SyncTaskService syncTaskService;
     private final DbConnectionService dbConnectionService;
+    private final SyncScheduleProperties scheduleProperties;
 
     /**
      * 分页查询同步配置
@@ -101,6 +107,29 @@ public class SyncConfigController {
             return Result.badRequest("增量模式必须指定目标数据表");
         }
 
+        // 回看重读的行需要按主键覆盖写入
+        if (request.getIncrementalLookbackSeconds() != null && request.getIncrementalLookbackSeconds() > 0
+                && (request.getIncrementalKeyField() == null || request.getIncrementalKeyField().isBlank())) {
+            return Result.badRequest("配置增量回看时必须指定水位键字段");
+        }
+
+        // 暂存表切换替换的是整张目标表，只用于全量同步
+        if ("SWAP".equals(request.getFullLoadMode()) && !"FULL".equals(request.getSyncMode())) {
+            return Result.badRequest("暂存表切换（SWAP）只适用于全量同步");
+        }
+
+        String splitError = validateSplit(request.getSyncMode(), request.getSplitStrategy(), request.getSplitColumn(), request.getTransformSql());
+        if (splitError != null) {
+            return Result.badRequest(splitError);
+        }
+
+        // 校验调度配置
+        String scheduleError = ScheduleTrigger.validate(request.getScheduleType(), request.getScheduleCron(),
+                request.getScheduleIntervalSeconds(), request.getMisfirePolicy(), scheduleProperties.getMinIntervalSeconds());
+        if (scheduleError != null) {
+            return Result.badRequest(scheduleError);
+        }
+
         // 全量或实时流模式：targetTable 为空时自动使用源表名
         String targetTable = request.getTargetTable();
         if (("FULL".equals(request.getSyncMode()) || "REALTIME".equals(request.getSyncMode()))
@@ -117,7 +146,30 @@ public class SyncConfigController {
         config.setTargetTable(targetTable);
         config.setSyncMode(request.getSyncMode());
         config.setIncrementalField(request.getIncrementalField());
+        config.setIncrementalKeyField(request.getIncrementalKeyField());
+        config.setIncrementalLookbackSeconds(request.getIncrementalLookbackSeconds());
+        config.setIncrementalChunkSize(request.getIncrementalChunkSize());
+        config.setFullLoadMode(request.getFullLoadMode() != null ? request.getFullLoadMode() : "DIRECT");
+        config.setSplitStrategy(request.getSplitStrategy() != null ? request.getSplitStrategy() : "NONE");
+        config.setSplitColumn(request.getSplitColumn());
+        config.setSplitCount(request.getSplitCount());
         config.setTransformSql(request.getTransformSql());
+        config.setScheduleType(request.getScheduleType() != null ? request.getScheduleType() : ScheduleTrigger.TYPE_NONE);
+        config.setScheduleCron(request.getScheduleCron());
+        config.setScheduleIntervalSeconds(request.getScheduleIntervalSeconds());
+        config.setMisfirePolicy(request.getMisfirePolicy());
+        config.setMisfireCatchUpLimit(request.getMisfireCatchUpLimit());
+        config.setRetryMaxAttempts(request.getRetryMaxAttempts());
+        config.setRetryBackoffSeconds(request.getRetryBackoffSeconds());
+        config.setRetryMaxBackoffSeconds(request.getRetryMaxBackoffSeconds());
+        config.setRetryableErrors(request.getRetryableErrors());
+        config.setCheckpointIntervalSeconds(request.getCheckpointIntervalSeconds());
+
+        // 校验重试退避配置
+        if (config.getRetryBackoffSeconds() != null && config.getRetryMaxBackoffSeconds() != null
+                && config.getRetryMaxBackoffSeconds() < config.getRetryBackoffSeconds()) {
+            return Result.badRequest("重试退避上限不能小于退避基准");
+        }
 
         SyncConfig created = syncConfigService.createConfig(config, request.getFieldMappings());
 
@@ -155,8 +207,51 @@ public class SyncConfigController {
         config.setTargetTable(request.getTargetTable() != null ? request.getTargetTable() : existing.getTargetTable());
         config.setSyncMode(request.getSyncMode() != null ? request.getSyncMode() : existing.getSyncMode());
         config.setIncrementalField(request.getIncrementalField() != null ? request.getIncrementalField() : existing.getIncrementalField());
+        config.setIncrementalKeyField(request.getIncrementalKeyField() != null ? request.getIncrementalKeyField() : existing.getIncrementalKeyField());
+        config.setIncrementalLookbackSeconds(request.getIncrementalLookbackSeconds() != null ? request.getIncrementalLookbackSeconds() : existing.getIncrementalLookbackSeconds());
+        config.setIncrementalChunkSize(request.getIncrementalChunkSize() != null ? request.getIncrementalChunkSize() : existing.getIncrementalChunkSize());
+        config.setFullLoadMode(request.getFullLoadMode() != null ? request.getFullLoadMode() : existing.getFullLoadMode());
+        config.setSplitStrategy(request.getSplitStrategy() != null ? request.getSplitStrategy() : existing.getSplitStrategy());
+        config.setSplitColumn(request.getSplitColumn() != null ? request.getSplitColumn() : existing.getSplitColumn());
+        config.setSplitCount(request.getSplitCount() != null ? request.getSplitCount() : existing.getSplitCount());
         config.setTransformSql(request.getTransformSql() != null ? request.getTransformSql() : existing.getTransformSql());
         config.setEnabled(request.getEnabled() != null ? request.getEnabled() : existing.getEnabled());
+        config.setScheduleType(request.getScheduleType() != null ? request.getScheduleType() : existing.getScheduleType());
+        config.setScheduleCron(request.getScheduleCron() != null ? request.getScheduleCron() : existing.getScheduleCron());
+        config.setScheduleIntervalSeconds(request.getScheduleIntervalSeconds() != null ? request.getScheduleIntervalSeconds() : existing.getScheduleIntervalSeconds());
+        config.setMisfirePolicy(request.getMisfirePolicy() != null ? request.getMisfirePolicy() : existing.getMisfirePolicy());
+        config.setMisfireCatchUpLimit(request.getMisfireCatchUpLimit() != null ? request.getMisfireCatchUpLimit() : existing.getMisfireCatchUpLimit());
+        config.setRetryMaxAttempts(request.getRetryMaxAttempts() != null ? request.getRetryMaxAttempts() : existing.getRetryMaxAttempts());
+        config.setRetryBackoffSeconds(request.getRetryBackoffSeconds() != null ? request.getRetryBackoffSeconds() : existing.getRetryBackoffSeconds());
+        config.setRetryMaxBackoffSeconds(request.getRetryMaxBackoffSeconds() != null ? request.getRetryMaxBackoffSeconds() : existing.getRetryMaxBackoffSeconds());
+        config.setRetryableErrors(request.getRetryableErrors() != null ? request.getRetryableErrors() : existing.getRetryableErrors());
+        config.setCheckpointIntervalSeconds(request.getCheckpointIntervalSeconds() != null ? request.getCheckpointIntervalSeconds() : existing.getCheckpointIntervalSeconds());
+
+        if (config.getRetryBackoffSeconds() != null && config.getRetryMaxBackoffSeconds() != null
+                && config.getRetryMaxBackoffSeconds() < config.getRetryBackoffSeconds()) {
+            return Result.badRequest("重试退避上限不能小于退避基准");
+        }
+
+        if (config.getIncrementalLookbackSeconds() != null && config.getIncrementalLookbackSeconds() > 0
+                && (config.getIncrementalKeyField() == null || config.getIncrementalKeyField().isBlank())) {
+            return Result.badRequest("配置增量回看时必须指定水位键字段");
+        }
+
+        // 暂存表切换替换的是整张目标表，只用于全量同步
+        if ("SWAP".equals(config.getFullLoadMode()) && !"FULL".equals(config.getSyncMode())) {
+            return Result.badRequest("暂存表切换（SWAP）只适用于全量同步");
+        }
+
+        String splitError = validateSplit(config.getSyncMode(), config.getSplitStrategy(), config.getSplitColumn(), config.getTransformSql());
+        if (splitError != null) {
+            return Result.badRequest(splitError);
+        }
+
+        String scheduleError = ScheduleTrigger.validate(config.getScheduleType(), config.getScheduleCron(),
+                config.getScheduleIntervalSeconds(), config.getMisfirePolicy(), scheduleProperties.getMinIntervalSeconds());
+        if (scheduleError != null) {
+            return Result.badRequest(scheduleError);
+        }
 
         boolean success = syncConfigService.updateConfig(config, request.getFieldMappings());
         if (success) {
@@ -185,8 +280,41 @@ public class SyncConfigController {
         return Result.success("任务已提交", SyncTaskVO.fromEntity(task));
     }
 
+    /**
+     * 批量执行同步任务
+     */
+    @PostMapping("/execute-batch")
+    public Result<SyncBatchExecuteVO> executeBatch(@RequestBody @Valid SyncBatchExecuteRequest request) {
+        SyncBatchExecuteVO result = syncTaskService.executeBatch(request.getConfigIds());
+        return Result.success("已提交 " + result.getSubmitted() + " 个任务，失败 " + result.getFailed() + " 个", result);
+    }
+
     // ==================== 私有方法 ====================
 
+    /**
+     * 校验分片读取配置
+     *
+     * @return 错误信息，配置合法时返回 null
+     */
+    private static String validateSplit(String syncMode, String strategy, String column, String transformSql) {
+        if (strategy == null || "NONE".equalsIgnoreCase(strategy)) {
+            return null;
+        }
+        if (!SourceSplitPlanner.isSupported(strategy)) {
+            return "不支持的分片策略: " + strategy;
+        }
+        if ("REALTIME".equals(syncMode)) {
+            return "实时流同步不支持分片读取";
+        }
+        if (transformSql != null && !transformSql.isBlank()) {
+            return "配置了实时计算 SQL 时不支持分片读取";
+        }
+        if (SourceSplitPlanner.requiresColumn(strategy) && (column == null || column.isBlank())) {
+            return "分片策略 " + strategy + " 必须指定分片列";
+        }
+        return null;
+    }
+
     /**
      * 将 SyncConfig 实体转换为 VO，并填充数据库连接名称
      */
@@ -2,15 +2,22 @@ package com.antigravity.module.sync.controller;
 
 import com.antigravity.common.PageResult;
 import com.antigravity.common.Result;
+import com.antigravity.common.export.ExportColumn;
+import com.antigravity.common.export.ExportFormat;
+import com.antigravity.common.export.StreamingExporter;
 import com.antigravity.module.sync.dto.SyncTaskLogVO;
 import com.antigravity.module.sync.dto.SyncTaskVO;
 import com.antigravity.module.sync.entity.SyncTask;
 import com.antigravity.module.sync.service.SyncTaskService;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -27,7 +34,23 @@ import java.util.List;
 @RequiredArgsConstructor
 public class SyncTaskController {
 
+    private static final List<ExportColumn<SyncTask>> EXPORT_COLUMNS = List.of(
+            ExportColumn.of("id", SyncTask::getId),
+            ExportColumn.of("configId", SyncTask::getConfigId),
+            ExportColumn.of("configName", SyncTask::getConfigName),
+            ExportColumn.of("seatunnelJobId", SyncTask::getSeatunnelJobId),
+            ExportColumn.of("status", SyncTask::getStatus),
+            ExportColumn.of("rootTaskId", SyncTask::getRootTaskId),
+            ExportColumn.of("attempt", SyncTask::getAttempt),
+            ExportColumn.of("startTime", SyncTask::getStartTime),
+            ExportColumn.of("endTime", SyncTask::getEndTime),
+            ExportColumn.of("totalRows", SyncTask::getTotalRows),
+            ExportColumn.of("syncRows", SyncTask::getSyncRows),
+            ExportColumn.of("errorMessage", SyncTask::getErrorMessage),
+            ExportColumn.of("createTime", SyncTask::getCreateTime));
+
     private final SyncTaskService syncTaskService;
+    private final StreamingExporter streamingExporter;
 
     /**
      * 分页查询任务列表
@@ -37,14 +60,32 @@ public class SyncTaskController {
             @RequestParam(defaultValue = "1") @Min(value = 1, message = "页码最小为 1") int pageNumber,
             @RequestParam(defaultValue = "10") @Min(value = 1, message = "每页大小最小为 1") int pageSize,
             @RequestParam(required = false) Long configId,
-            @RequestParam(required = false) String status) {
-        PageResult<SyncTask> page = syncTaskService.pageQuery(pageNumber, pageSize, configId, status);
-        PageResult<SyncTaskVO> voPage = PageResult.of(
-                page.getRecords().stream().map(SyncTaskVO::fromEntity).toList(),
-                page.getPageNumber(),
-                page.getPageSize(),
-                page.getTotalRow());
-        return Result.success(voPage);
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor) {
+        PageResult<SyncTask> page = syncTaskService.pageQuery(pageNumber, pageSize, configId, status, cursor);
+        return Result.success(page.map(SyncTaskVO::fromEntity));
+    }
+
+    /**
+     * 流式导出任务历史
+     *
+     * @param startTime 创建时间下限（yyyy-MM-dd HH:mm:ss）
+     * @param endTime   创建时间上限（yyyy-MM-dd HH:mm:ss）
+     * @param format    csv（默认）或 ndjson
+     * @param gzip      是否 gzip 压缩
+     */
+    @GetMapping("/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public void export(
+            @RequestParam(required = false) Long configId,
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String startTime,
+            @RequestParam(required = false) String endTime,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletResponse response) {
+        streamingExporter.export(response, "sync-task", ExportFormat.of(format), gzip, EXPORT_COLUMNS,
+                () -> syncTaskService.streamTasks(configId, status, startTime, endTime));
     }
 
     /**
@@ -67,6 +108,23 @@ public class SyncTaskController {
         return success ? Result.success("任务已取消", null) : Result.error("取消任务失败");
     }
 
+    /**
+     * 立即重试失败的任务（支持检查点的任务从上一次尝试的检查点恢复）
+     */
+    @PostMapping("/{id}/retry")
+    public Result<SyncTaskVO> retry(@PathVariable @Min(value = 1, message = "ID 必须大于 0") Long id) {
+        SyncTask task = syncTaskService.retryTask(id);
+        return Result.success("已提交重试", SyncTaskVO.fromEntity(task));
+    }
+
+    /**
+     * 查看同一次执行的全部尝试
+     */
+    @GetMapping("/{id}/attempts")
+    public Result<List<SyncTaskVO>> attempts(@PathVariable @Min(value = 1, message = "ID 必须大于 0") Long id) {
+        return Result.success(syncTaskService.getAttempts(id).stream().map(SyncTaskVO::fromEntity).toList());
+    }
+
     /**
      * 刷新任务状态（从 SeaTunnel 同步最新状态）
      */
@@ -78,11 +136,32 @@ public class SyncTaskController {
 
     /**
      * 查看任务日志
+     * <p>
+     * 不传 afterId 时返回最新的 limit 条；传入上次返回的最后一条日志 ID 可继续向后读取。
      */
     @GetMapping("/{id}/logs")
-    public Result<List<SyncTaskLogVO>> getLogs(@PathVariable @Min(value = 1, message = "ID 必须大于 0") Long id) {
-        List<SyncTaskLogVO> logs = syncTaskService.getTaskLogs(id);
+    public Result<List<SyncTaskLogVO>> getLogs(
+            @PathVariable @Min(value = 1, message = "ID 必须大于 0") Long id,
+            @RequestParam(required = false) @Min(value = 0, message = "afterId 不能为负数") Long afterId,
+            @RequestParam(required = false) List<String> level,
+            @RequestParam(required = false) @Min(value = 1, message = "limit 最小为 1") Integer limit) {
+        List<SyncTaskLogVO> logs = syncTaskService.getTaskLogs(id, afterId, level, limit);
         return Result.success(logs);
     }
 
+    /**
+     * 实时跟踪任务日志（SSE）
+     * <p>
+     * 事件 {@code log} 携带日志内容，事件 ID 为日志 ID；任务结束后发送 {@code end} 事件并关闭连接。
+     * 断线重连时浏览器会带上 {@code Last-Event-ID}，从断点继续推送。
+     */
+    @GetMapping(value = "/{id}/logs/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamLogs(
+            @PathVariable @Min(value = 1, message = "ID 必须大于 0") Long id,
+            @RequestParam(required = false) @Min(value = 0, message = "afterId 不能为负数") Long afterId,
+            @RequestParam(required = false) List<String> level,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return syncTaskService.followTaskLogs(id, lastEventId != null ? lastEventId : afterId, level);
+    }
+
 }
@@ -0,0 +1,184 @@
+package com.antigravity.module.sync.controller;
+
+import com.antigravity.common.PageResult;
+import com.antigravity.common.Result;
+import com.antigravity.module.sync.dto.SyncWorkflowCreateRequest;
+import com.antigravity.module.sync.dto.SyncWorkflowUpdateRequest;
+import com.antigravity.module.sync.dto.SyncWorkflowVO;
+import com.antigravity.module.sync.dto.WorkflowRunVO;
+import com.antigravity.module.sync.entity.SyncWorkflow;
+import com.antigravity.module.sync.entity.SyncWorkflowRun;
+import com.antigravity.module.sync.service.SyncWorkflowService;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * 同步工作流管理 Controller
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Validated
+@RestController
+@RequestMapping("/api/v1/sync/workflows")
+@RequiredArgsConstructor
+public class SyncWorkflowController {
+
+    private final SyncWorkflowService syncWorkflowService;
+
+    /**
+     * 分页查询工作流
+     */
+    @GetMapping
+    public Result<PageResult<SyncWorkflowVO>> list(
+            @RequestParam(defaultValue = "1") @Min(value = 1, message = "页码最小为 1") int pageNumber,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "每页大小最小为 1") int pageSize,
+            @RequestParam(required = false) String name) {
+        PageResult<SyncWorkflow> page = syncWorkflowService.pageQuery(pageNumber, pageSize, name);
+        PageResult<SyncWorkflowVO> voPage = PageResult.of(
+                page.getRecords().stream().map(SyncWorkflowVO::fromEntity).toList(),
+                page.getPageNumber(),
+                page.getPageSize(),
+                page.getTotalRow());
+        return Result.success(voPage);
+    }
+
+    /**
+     * 按 ID 查询工作流（含节点）
+     */
+    @GetMapping("/{id}")
+    public Result<SyncWorkflowVO> getById(@PathVariable @Min(value = 1, message = "ID 必须大于 0") Long id) {
+        return syncWorkflowService.findById(id)
+                .map(workflow -> {
+                    SyncWorkflowVO vo = SyncWorkflowVO.fromEntity(workflow);
+                    vo.setNodes(syncWorkflowService.getNodes(id));
+                    return vo;
+                })
+                .map(Result::success)
+                .orElse(Result.notFound("工作流不存在"));
+    }
+
+    /**
+     * 创建工作流
+     */
+    @PostMapping
+    public Result<SyncWorkflowVO> create(@RequestBody @Valid SyncWorkflowCreateRequest request) {
+        if (syncWorkflowService.existsByName(request.getName())) {
+            return Result.badRequest("工作流名称已存在");
+        }
+
+        SyncWorkflow workflow = new SyncWorkflow();
+        workflow.setName(request.getName());
+        workflow.setDescription(request.getDescription());
+        workflow.setMaxParallelism(request.getMaxParallelism());
+
+        SyncWorkflow created = syncWorkflowService.createWorkflow(workflow, request.getNodes());
+
+        SyncWorkflowVO vo = SyncWorkflowVO.fromEntity(created);
+        vo.setNodes(syncWorkflowService.getNodes(created.getId()));
+        return Result.success("创建成功", vo);
+    }
+
+    /**
+     * 更新工作流
+     */
+    @PutMapping("/{id}")
+    public Result<SyncWorkflowVO> update(
+            @PathVariable @Min(value = 1, message = "ID 必须大于 0") Long id,
+            @RequestBody @Valid SyncWorkflowUpdateRequest request) {
+        SyncWorkflow existing = syncWorkflowService.findById(id).orElse(null);
+        if (existing == null) {
+            return Result.notFound("工作流不存在");
+        }
+
+        if (request.getName() != null && !request.getName().equals(existing.getName())
+                && syncWorkflowService.existsByName(request.getName())) {
+            return Result.badRequest("工作流名称已存在");
+        }
+
+        SyncWorkflow workflow = new SyncWorkflow();
+        workflow.setId(id);
+        workflow.setName(request.getName() != null ? request.getName() : existing.getName());
+        workflow.setDescription(request.getDescription() != null ? request.getDescription() : existing.getDescription());
+        workflow.setMaxParallelism(request.getMaxParallelism() != null ? request.getMaxParallelism() : existing.getMaxParallelism());
+        workflow.setEnabled(request.getEnabled() != null ? request.getEnabled() : existing.getEnabled());
+
+        boolean success = syncWorkflowService.updateWorkflow(workflow, request.getNodes());
+        if (success) {
+            SyncWorkflowVO vo = SyncWorkflowVO.fromEntity(syncWorkflowService.findById(id).orElse(null));
+            vo.setNodes(syncWorkflowService.getNodes(id));
+            return Result.success("更新成功", vo);
+        }
+        return Result.error("更新失败");
+    }
+
+    /**
+     * 删除工作流
+     */
+    @DeleteMapping("/{id}")
+    public Result<Void> delete(@PathVariable @Min(value = 1, message = "ID 必须大于 0") Long id) {
+        boolean success = syncWorkflowService.deleteWorkflow(id);
+        return success ? Result.success("删除成功", null) : Result.error("删除失败");
+    }
+
+    /**
+     * 启动工作流运行
+     */
+    @PostMapping("/{id}/run")
+    public Result<WorkflowRunVO> run(@PathVariable @Min(value = 1, message = "ID 必须大于 0") Long id) {
+        SyncWorkflowRun run = syncWorkflowService.startRun(id);
+        return Result.success("工作流已启动", WorkflowRunVO.fromEntity(run));
+    }
+
+    /**
+     * 分页查询运行记录
+     */
+    @GetMapping("/runs")
+    public Result<PageResult<WorkflowRunVO>> listRuns(
+            @RequestParam(defaultValue = "1") @Min(value = 1, message = "页码最小为 1") int pageNumber,
+            @RequestParam(defaultValue = "10") @Min(value = 1, message = "每页大小最小为 1") int pageSize,
+            @RequestParam(required = false) Long workflowId,
+            @RequestParam(required = false) String status) {
+        PageResult<SyncWorkflowRun> page = syncWorkflowService.pageRuns(pageNumber, pageSize, workflowId, status);
+        PageResult<WorkflowRunVO> voPage = PageResult.of(
+                page.getRecords().stream().map(WorkflowRunVO::fromEntity).toList(),
+                page.getPageNumber(),
+                page.getPageSize(),
+                page.getTotalRow());
+        return Result.success(voPage);
+    }
+
+    /**
+     * 查看运行详情（含各节点任务及关键路径）
+     */
+    @GetMapping("/runs/{runId}")
+    public Result<WorkflowRunVO> getRun(@PathVariable @Min(value = 1, message = "ID 必须大于 0") Long runId) {
+        return syncWorkflowService.getRunDetail(runId)
+                .map(Result::success)
+                .orElse(Result.notFound("运行记录不存在"));
+    }
+
+    /**
+     * 从失败节点重跑
+     */
+    @PostMapping("/runs/{runId}/rerun")
+    public Result<WorkflowRunVO> rerun(@PathVariable @Min(value = 1, message = "ID 必须大于 0") Long runId) {
+        SyncWorkflowRun run = syncWorkflowService.rerunFromFailed(runId);
+        return Result.success("已从失败节点重跑", WorkflowRunVO.fromEntity(run));
+    }
+
+    /**
+     * 取消运行
+     */
+    @PostMapping("/runs/{runId}/cancel")
+    public Result<Void> cancelRun(@PathVariable @Min(value = 1, message = "ID 必须大于 0") Long runId) {
+        boolean success = syncWorkflowService.cancelRun(runId);
+        return success ? Result.success("运行已取消", null) : Result.error("取消运行失败");
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.antigravity.module.sync.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 批量执行同步任务请求 DTO
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+public class SyncBatchExecuteRequest {
+
+    @NotEmpty(message = "同步配置ID列表不能为空")
+    @Size(max = 500, message = "单次最多批量执行 500 个同步配置")
+    private List<@NotNull(message = "同步配置ID不能为空") Long> configIds;
+
+}
@@ -0,0 +1,56 @@
+package com.antigravity.module.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 批量执行同步任务响应 VO
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncBatchExecuteVO {
+
+    /** 请求的配置数（去重后） */
+    private Integer total;
+
+    /** 已创建任务并交由后台提交的配置数 */
+    private Integer submitted;
+
+    /** 失败的配置数 */
+    private Integer failed;
+
+    /** 逐个配置的结果（与请求顺序一致） */
+    private List<Item> items;
+
+    /**
+     * 单个配置的执行结果
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+
+        private Long configId;
+        private String configName;
+
+        /** 创建的任务ID（配置校验失败时为空） */
+        private Long taskId;
+
+        /** SUBMITTED 或 FAILED */
+        private String status;
+
+        /** 失败原因 */
+        private String message;
+    }
+
+}
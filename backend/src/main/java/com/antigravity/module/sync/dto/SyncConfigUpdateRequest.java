@@ -37,11 +37,83 @@ public class SyncConfigUpdateRequest {
     @Size(max = 100, message = "增量字段长度不能超过 100 个字符")
     private String incrementalField;
 
+    /** 水位键字段（通常为主键），与增量字段组成复合水位 */
+    @Size(max = 100, message = "水位键字段长度不能超过 100 个字符")
+    private String incrementalKeyField;
+
+    /** 增量回看秒数（需配置水位键字段） */
+    @Min(value = 0, message = "增量回看秒数不能为负数")
+    @Max(value = 604800, message = "增量回看秒数最大为 604800（7 天）")
+    private Integer incrementalLookbackSeconds;
+
+    /** 增量分块行数，0 或为空表示不分块 */
+    @Min(value = 0, message = "增量分块行数不能为负数")
+    private Integer incrementalChunkSize;
+
+    /** 全量加载方式：DIRECT（默认）或 SWAP（暂存表加载后切换） */
+    @Pattern(regexp = "^(DIRECT|SWAP)$", message = "全量加载方式必须是 DIRECT 或 SWAP")
+    private String fullLoadMode;
+
+    /** 分片策略：NONE（默认）、PARTITION、TIME_RANGE、HASH */
+    @Pattern(regexp = "^(NONE|PARTITION|TIME_RANGE|HASH)$", message = "分片策略必须是 NONE、PARTITION、TIME_RANGE 或 HASH")
+    private String splitStrategy;
+
+    /** 分片列（TIME_RANGE、HASH 必填） */
+    @Size(max = 100, message = "分片列长度不能超过 100 个字符")
+    private String splitColumn;
+
+    /** 分片数，为空时默认 4 */
+    @Min(value = 2, message = "分片数至少为 2")
+    @Max(value = 32, message = "分片数最大为 32")
+    private Integer splitCount;
+
     /** 实时计算SQL表达式（可选） */
     private String transformSql;
 
     private Boolean enabled;
 
+    /** 调度类型：NONE-不调度, CRON-Cron 表达式, FIXED_RATE-固定间隔 */
+    @Pattern(regexp = "^(NONE|CRON|FIXED_RATE)$", message = "调度类型必须是 NONE、CRON 或 FIXED_RATE")
+    private String scheduleType;
+
+    /** Cron 表达式（CRON 调度必填） */
+    @Size(max = 100, message = "Cron 表达式长度不能超过 100 个字符")
+    private String scheduleCron;
+
+    /** 固定间隔秒数（FIXED_RATE 调度必填） */
+    @Min(value = 1, message = "固定间隔最小为 1 秒")
+    private Integer scheduleIntervalSeconds;
+
+    /** 错过触发策略 */
+    @Pattern(regexp = "^(SKIP|FIRE_ONCE|CATCH_UP)$", message = "错过触发策略必须是 SKIP、FIRE_ONCE 或 CATCH_UP")
+    private String misfirePolicy;
+
+    /** CATCH_UP 策略补触发上限 */
+    @Min(value = 1, message = "补触发上限最小为 1")
+    @Max(value = 1000, message = "补触发上限最大为 1000")
+    private Integer misfireCatchUpLimit;
+
+    /** 最大尝试次数（含首次执行） */
+    @Min(value = 1, message = "最大尝试次数最小为 1")
+    @Max(value = 20, message = "最大尝试次数最大为 20")
+    private Integer retryMaxAttempts;
+
+    /** 重试退避基准秒数 */
+    @Min(value = 1, message = "重试退避基准最小为 1 秒")
+    private Integer retryBackoffSeconds;
+
+    /** 重试退避上限秒数 */
+    @Min(value = 1, message = "重试退避上限最小为 1 秒")
+    private Integer retryMaxBackoffSeconds;
+
+    /** 可重试错误关键字，逗号分隔 */
+    @Size(max = 1000, message = "可重试错误关键字长度不能超过 1000 个字符")
+    private String retryableErrors;
+
+    /** 检查点间隔秒数 */
+    @Min(value = 0, message = "检查点间隔不能为负数")
+    private Integer checkpointIntervalSeconds;
+
     /** 字段映射列表（如果提供，则全量替换） */
     @Valid
     private List<FieldMappingDTO> fieldMappings;
@@ -32,9 +32,28 @@ public class SyncConfigVO {
     private String targetTable;
     private String syncMode;
     private String incrementalField;
+    private String incrementalKeyField;
+    private Integer incrementalLookbackSeconds;
+    private Integer incrementalChunkSize;
+    private String fullLoadMode;
+    private String splitStrategy;
+    private String splitColumn;
+    private Integer splitCount;
     private String transformSql;
     private String lastSyncValue;
+    private String lastSyncKey;
     private Boolean enabled;
+    private String scheduleType;
+    private String scheduleCron;
+    private Integer scheduleIntervalSeconds;
+    private String misfirePolicy;
+    private Integer misfireCatchUpLimit;
+    private LocalDateTime lastFireTime;
+    private Integer retryMaxAttempts;
+    private Integer retryBackoffSeconds;
+    private Integer retryMaxBackoffSeconds;
+    private String retryableErrors;
+    private Integer checkpointIntervalSeconds;
     private LocalDateTime createTime;
     private LocalDateTime updateTime;
 
@@ -56,9 +75,28 @@ public class SyncConfigVO {
                 .targetTable(entity.getTargetTable())
                 .syncMode(entity.getSyncMode())
                 .incrementalField(entity.getIncrementalField())
+                .incrementalKeyField(entity.getIncrementalKeyField())
+                .incrementalLookbackSeconds(entity.getIncrementalLookbackSeconds())
+                .incrementalChunkSize(entity.getIncrementalChunkSize())
+                .fullLoadMode(entity.getFullLoadMode())
+                .splitStrategy(entity.getSplitStrategy())
+                .splitColumn(entity.getSplitColumn())
+                .splitCount(entity.getSplitCount())
                 .transformSql(entity.getTransformSql())
                 .lastSyncValue(entity.getLastSyncValue())
+                .lastSyncKey(entity.getLastSyncKey())
                 .enabled(entity.getEnabled())
+                .scheduleType(entity.getScheduleType())
+                .scheduleCron(entity.getScheduleCron())
+                .scheduleIntervalSeconds(entity.getScheduleIntervalSeconds())
+                .misfirePolicy(entity.getMisfirePolicy())
+                .misfireCatchUpLimit(entity.getMisfireCatchUpLimit())
+                .lastFireTime(entity.getLastFireTime())
+                .retryMaxAttempts(entity.getRetryMaxAttempts())
+                .retryBackoffSeconds(entity.getRetryBackoffSeconds())
+                .retryMaxBackoffSeconds(entity.getRetryMaxBackoffSeconds())
+                .retryableErrors(entity.getRetryableErrors())
+                .checkpointIntervalSeconds(entity.getCheckpointIntervalSeconds())
                 .createTime(entity.getCreateTime())
                 .updateTime(entity.getUpdateTime())
                 .build();
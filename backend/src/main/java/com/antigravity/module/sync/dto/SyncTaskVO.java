@@ -25,6 +25,20 @@ public class SyncTaskVO {
     private String configName;
     private String seatunnelJobId;
     private String status;
+    private Long rootTaskId;
+    private Long parentTaskId;
+    private Long retryTaskId;
+    private Integer attempt;
+    private LocalDateTime nextRetryTime;
+    private Boolean resumedFromCheckpoint;
+    private String watermarkFromValue;
+    private String watermarkFromKey;
+    private String watermarkReadFrom;
+    private String watermarkToValue;
+    private String watermarkToKey;
+    private Boolean watermarkHasMore;
+    private String swapStatus;
+    private LocalDateTime swapStartedAt;
     private LocalDateTime startTime;
     private LocalDateTime endTime;
     private Long totalRows;
@@ -50,6 +64,20 @@ public class SyncTaskVO {
                 .configName(entity.getConfigName())
                 .seatunnelJobId(entity.getSeatunnelJobId())
                 .status(entity.getStatus())
+                .rootTaskId(entity.getRootTaskId())
+                .parentTaskId(entity.getParentTaskId())
+                .retryTaskId(entity.getRetryTaskId())
+                .attempt(entity.getAttempt())
+                .nextRetryTime(entity.getNextRetryTime())
+                .resumedFromCheckpoint(entity.getResumedFromCheckpoint())
+                .watermarkFromValue(entity.getWatermarkFromValue())
+                .watermarkFromKey(entity.getWatermarkFromKey())
+                .watermarkReadFrom(entity.getWatermarkReadFrom())
+                .watermarkToValue(entity.getWatermarkToValue())
+                .watermarkToKey(entity.getWatermarkToKey())
+                .watermarkHasMore(entity.getWatermarkHasMore())
+                .swapStatus(entity.getSwapStatus())
+                .swapStartedAt(entity.getSwapStartedAt())
                 .startTime(entity.getStartTime())
                 .endTime(entity.getEndTime())
                 .totalRows(entity.getTotalRows())
@@ -0,0 +1,34 @@
+package com.antigravity.module.sync.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 同步工作流创建请求 DTO
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+public class SyncWorkflowCreateRequest {
+
+    @NotBlank(message = "工作流名称不能为空")
+    @Size(max = 100, message = "工作流名称长度不能超过 100 个字符")
+    private String name;
+
+    @Size(max = 500, message = "描述长度不能超过 500 个字符")
+    private String description;
+
+    /** 最大并行节点数（为空时使用系统默认值） */
+    @Min(value = 1, message = "最大并行节点数最小为 1")
+    private Integer maxParallelism;
+
+    /** 工作流节点 */
+    @NotEmpty(message = "工作流节点不能为空")
+    @Valid
+    private List<WorkflowNodeDTO> nodes;
+
+}
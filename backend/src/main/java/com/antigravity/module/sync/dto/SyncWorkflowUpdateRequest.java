@@ -0,0 +1,33 @@
+package com.antigravity.module.sync.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 同步工作流更新请求 DTO
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+public class SyncWorkflowUpdateRequest {
+
+    @Size(max = 100, message = "工作流名称长度不能超过 100 个字符")
+    private String name;
+
+    @Size(max = 500, message = "描述长度不能超过 500 个字符")
+    private String description;
+
+    @Min(value = 1, message = "最大并行节点数最小为 1")
+    private Integer maxParallelism;
+
+    private Boolean enabled;
+
+    /** 工作流节点（不为空时整体替换） */
+    @Valid
+    private List<WorkflowNodeDTO> nodes;
+
+}
@@ -0,0 +1,48 @@
+package com.antigravity.module.sync.dto;
+
+import com.antigravity.module.sync.entity.SyncWorkflow;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 同步工作流响应 VO
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncWorkflowVO {
+
+    private Long id;
+    private String name;
+    private String description;
+    private Integer maxParallelism;
+    private Boolean enabled;
+    private LocalDateTime createTime;
+    private LocalDateTime updateTime;
+
+    /** 工作流节点 */
+    private List<WorkflowNodeDTO> nodes;
+
+    public static SyncWorkflowVO fromEntity(SyncWorkflow entity) {
+        if (entity == null) return null;
+        return SyncWorkflowVO.builder()
+                .id(entity.getId())
+                .name(entity.getName())
+                .description(entity.getDescription())
+                .maxParallelism(entity.getMaxParallelism())
+                .enabled(entity.getEnabled())
+                .createTime(entity.getCreateTime())
+                .updateTime(entity.getUpdateTime())
+                .build();
+    }
+
+}
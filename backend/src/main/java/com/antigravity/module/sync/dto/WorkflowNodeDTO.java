@@ -0,0 +1,58 @@
+package com.antigravity.module.sync.dto;
+
+import com.antigravity.module.sync.entity.SyncWorkflowNode;
+import com.antigravity.module.sync.workflow.WorkflowDag;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 工作流节点 DTO（创建和响应共用）
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowNodeDTO {
+
+    /** 同步配置ID */
+    @NotNull(message = "节点同步配置ID不能为空")
+    private Long configId;
+
+    /** 同步配置名称（仅响应） */
+    private String configName;
+
+    /** 依赖的上游同步配置ID */
+    private List<Long> dependsOn;
+
+    /**
+     * 从实体转换
+     */
+    public static WorkflowNodeDTO fromEntity(SyncWorkflowNode entity) {
+        if (entity == null) return null;
+        return WorkflowNodeDTO.builder()
+                .configId(entity.getConfigId())
+                .dependsOn(WorkflowDag.parseDependsOn(entity.getDependsOn()))
+                .build();
+    }
+
+    /**
+     * 转换为实体
+     */
+    public SyncWorkflowNode toEntity(Long workflowId, int sortOrder) {
+        SyncWorkflowNode entity = new SyncWorkflowNode();
+        entity.setWorkflowId(workflowId);
+        entity.setConfigId(this.configId);
+        entity.setDependsOn(WorkflowDag.formatDependsOn(this.dependsOn));
+        entity.setSortOrder(sortOrder);
+        return entity;
+    }
+
+}
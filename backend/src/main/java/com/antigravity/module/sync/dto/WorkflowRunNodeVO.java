@@ -0,0 +1,62 @@
+package com.antigravity.module.sync.dto;
+
+import com.antigravity.module.sync.entity.SyncWorkflowRunNode;
+import com.antigravity.module.sync.workflow.WorkflowDag;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 工作流运行节点响应 VO
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowRunNodeVO {
+
+    private Long configId;
+    private String configName;
+    private List<Long> dependsOn;
+    private Long taskId;
+    private String status;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String errorMessage;
+
+    /** 计算属性：耗时（秒） */
+    private Long durationSeconds;
+
+    /** 是否位于关键路径上 */
+    private Boolean critical;
+
+    public static WorkflowRunNodeVO fromEntity(SyncWorkflowRunNode entity) {
+        if (entity == null) return null;
+
+        Long duration = null;
+        if (entity.getStartTime() != null && entity.getEndTime() != null) {
+            duration = java.time.Duration.between(entity.getStartTime(), entity.getEndTime()).getSeconds();
+        }
+
+        return WorkflowRunNodeVO.builder()
+                .configId(entity.getConfigId())
+                .configName(entity.getConfigName())
+                .dependsOn(WorkflowDag.parseDependsOn(entity.getDependsOn()))
+                .taskId(entity.getTaskId())
+                .status(entity.getStatus())
+                .startTime(entity.getStartTime())
+                .endTime(entity.getEndTime())
+                .errorMessage(entity.getErrorMessage())
+                .durationSeconds(duration)
+                .critical(false)
+                .build();
+    }
+
+}
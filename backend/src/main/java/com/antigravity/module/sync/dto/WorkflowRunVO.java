@@ -0,0 +1,71 @@
+package com.antigravity.module.sync.dto;
+
+import com.antigravity.module.sync.entity.SyncWorkflowRun;
+import com.antigravity.module.sync.workflow.WorkflowDag;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 工作流运行记录响应 VO
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class WorkflowRunVO {
+
+    private Long id;
+    private Long workflowId;
+    private String workflowName;
+    private String status;
+    private Long parentRunId;
+    private Integer maxParallelism;
+    private LocalDateTime startTime;
+    private LocalDateTime endTime;
+    private String errorMessage;
+
+    /** 计算属性：墙钟耗时（秒） */
+    private Long durationSeconds;
+
+    /** 关键路径耗时（毫秒），即并行度不受限时的理论最短耗时 */
+    private Long criticalPathMillis;
+
+    /** 关键路径上的同步配置ID（按执行顺序） */
+    private List<Long> criticalPath;
+
+    /** 运行节点 */
+    private List<WorkflowRunNodeVO> nodes;
+
+    public static WorkflowRunVO fromEntity(SyncWorkflowRun entity) {
+        if (entity == null) return null;
+
+        Long duration = null;
+        if (entity.getStartTime() != null && entity.getEndTime() != null) {
+            duration = java.time.Duration.between(entity.getStartTime(), entity.getEndTime()).getSeconds();
+        }
+
+        return WorkflowRunVO.builder()
+                .id(entity.getId())
+                .workflowId(entity.getWorkflowId())
+                .workflowName(entity.getWorkflowName())
+                .status(entity.getStatus())
+                .parentRunId(entity.getParentRunId())
+                .maxParallelism(entity.getMaxParallelism())
+                .startTime(entity.getStartTime())
+                .endTime(entity.getEndTime())
+                .errorMessage(entity.getErrorMessage())
+                .durationSeconds(duration)
+                .criticalPathMillis(entity.getCriticalPathMillis())
+                .criticalPath(WorkflowDag.parseDependsOn(entity.getCriticalPath()))
+                .build();
+    }
+
+}
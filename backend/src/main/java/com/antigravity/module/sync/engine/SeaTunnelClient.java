@@ -4,6 +4,8 @@ import com.antigravity.common.BusinessException;
 import com.antigravity.config.SeaTunnelProperties;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.*;
@@ -19,11 +21,13 @@ import java.util.Map;
  * SeaTunnel REST API 客户端
  * <p>
  * 封装 SeaTunnel 2.3.3 Hazelcast REST API 调用：
- * - 提交任务
+ * - 提交任务（支持从指定任务的检查点/保存点恢复）
  * - 查询运行中任务
- * - 查询任务详情
+ * - 查询任务详情（运行中任务与已结束任务的终态）
  * - 停止任务
  * - 集群概览
+ * <p>
+ * 每次调用按接口记录耗时与结果（{@value #REQUEST_METRIC}），不以任务 ID 作为标签。
  *
  * @author Antigravity Team
  * @since 1.0.0
@@ -36,11 +40,15 @@ public class SeaTunnelClient {
     private final RestTemplate restTemplate;
     private final SeaTunnelProperties properties;
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private static final String REQUEST_METRIC = "seatunnel.client.requests";
 
     // ==================== SeaTunnel 2.3.3 Hazelcast REST API 端点 ====================
     private static final String SUBMIT_JOB = "/hazelcast/rest/maps/submit-job";
     private static final String RUNNING_JOBS = "/hazelcast/rest/maps/running-jobs";
     private static final String RUNNING_JOB = "/hazelcast/rest/maps/running-job/";
+    private static final String JOB_INFO = "/hazelcast/rest/maps/job-info/";
     private static final String STOP_JOB = "/hazelcast/rest/maps/stop-job";
     private static final String OVERVIEW = "/hazelcast/rest/maps/overview";
 
@@ -51,10 +59,32 @@ public class SeaTunnelClient {
      * @return 返回 jobId
      */
     public String submitJob(String jobConfigJson) {
+        return submitJob(jobConfigJson, null);
+    }
+
+    /**
+     * 提交同步任务到 SeaTunnel，并从指定任务最近的检查点/保存点恢复
+     * <p>
+     * 恢复时沿用原任务 ID（{@code jobId} + {@code isStartWithSavePoint=true}），
+     * 引擎据此从检查点存储中加载该任务最后一次完成的检查点。
+     *
+     * @param jobConfigJson SeaTunnel Job 配置 JSON
+     * @param restoreJobId  要恢复的 SeaTunnel 任务ID，为 null 时全新提交
+     * @return 返回 jobId
+     */
+    public String submitJob(String jobConfigJson, String restoreJobId) {
         String url = properties.getBaseUrl() + SUBMIT_JOB;
+        if (restoreJobId != null) {
+            if (!restoreJobId.chars().allMatch(Character::isDigit)) {
+                throw BusinessException.of("非法的 SeaTunnel 任务ID: " + restoreJobId);
+            }
+            url = url + "?jobId=" + restoreJobId + "&isStartWithSavePoint=true";
+        }
         log.info("提交 SeaTunnel 任务: url={}", url);
         log.debug("任务配置: {}", jobConfigJson);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -69,12 +99,14 @@ public class SeaTunnelClient {
                 if (jobId != null) {
                     String jobIdStr = jobId.toString();
                     log.info("SeaTunnel 任务提交成功: jobId={}", jobIdStr);
+                    success = true;
                     return jobIdStr;
                 }
                 // 某些版本返回 jobName 作为标识
                 Object jobName = result.get("jobName");
                 if (jobName != null) {
                     log.info("SeaTunnel 任务提交成功: jobName={}", jobName);
+                    success = true;
                     return jobName.toString();
                 }
                 log.warn("SeaTunnel 返回结果中未找到 jobId: {}", response.getBody());
@@ -90,6 +122,8 @@ public class SeaTunnelClient {
         } catch (Exception e) {
             log.error("解析 SeaTunnel 响应失败: {}", e.getMessage());
             throw BusinessException.of("SeaTunnel 响应解析失败: " + e.getMessage());
+        } finally {
+            record(sample, restoreJobId != null ? "restore" : "submit", success);
         }
     }
 
@@ -103,10 +137,13 @@ public class SeaTunnelClient {
         String url = properties.getBaseUrl() + RUNNING_JOBS;
         log.debug("查询 SeaTunnel 运行中任务: url={}", url);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try {
             ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            success = response.getStatusCode().is2xxSuccessful();
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            if (success && response.getBody() != null) {
                 return objectMapper.readValue(response.getBody(), new TypeReference<>() {});
             }
             return Collections.emptyList();
@@ -116,33 +153,62 @@ public class SeaTunnelClient {
         } catch (Exception e) {
             log.warn("解析 SeaTunnel 运行中任务响应失败: {}", e.getMessage());
             return Collections.emptyList();
+        } finally {
+            record(sample, "running_jobs", success);
         }
     }
 
     /**
-     * 获取指定任务的详情
+     * 获取运行中任务的详情
+     * <p>
+     * 任务已不在运行中（完成、失败或被取消后离开运行列表）时返回空 Map，调用方需再通过
+     * {@link #getFinishedJobInfo(String)} 确认终态。
      *
      * @param jobId SeaTunnel 任务ID
      * @return 任务详情 Map
+     * @throws BusinessException SeaTunnel 不可达、返回非 2xx 或响应无法解析，此时任务状态未知
      */
-    @SuppressWarnings("unchecked")
     public Map<String, Object> getJobInfo(String jobId) {
-        String url = properties.getBaseUrl() + RUNNING_JOB + jobId;
+        return fetchJob(RUNNING_JOB, jobId, "job_info");
+    }
+
+    /**
+     * 获取任务详情（包含已结束的任务），用于确认任务的终态
+     *
+     * @param jobId SeaTunnel 任务ID
+     * @return 任务详情 Map（包含 jobStatus、errorMsg 等），SeaTunnel 中没有该任务时返回空 Map
+     * @throws BusinessException SeaTunnel 不可达、返回非 2xx 或响应无法解析，此时任务状态未知
+     */
+    public Map<String, Object> getFinishedJobInfo(String jobId) {
+        return fetchJob(JOB_INFO, jobId, "job_detail");
+    }
+
+    private Map<String, Object> fetchJob(String endpoint, String jobId, String operation) {
+        String url = properties.getBaseUrl() + endpoint + jobId;
         log.debug("查询 SeaTunnel 任务详情: url={}", url);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try {
             ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
-
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                return objectMapper.readValue(response.getBody(), new TypeReference<>() {});
+            if (!response.getStatusCode().is2xxSuccessful()) {
+                throw BusinessException.of("查询 SeaTunnel 任务详情失败: HTTP " + response.getStatusCode());
             }
-            return Collections.emptyMap();
+            Map<String, Object> result = response.getBody() == null || response.getBody().isBlank()
+                    ? Collections.emptyMap()
+                    : objectMapper.readValue(response.getBody(), new TypeReference<>() {});
+            success = true;
+            return result;
         } catch (RestClientException e) {
             log.warn("查询 SeaTunnel 任务详情失败: jobId={}, error={}", jobId, e.getMessage());
-            return Collections.emptyMap();
+            throw BusinessException.of("SeaTunnel 服务连接失败: " + e.getMessage());
+        } catch (BusinessException e) {
+            throw e;
         } catch (Exception e) {
-            log.warn("解析 SeaTunnel 任务详情响应失败: {}", e.getMessage());
-            return Collections.emptyMap();
+            log.warn("解析 SeaTunnel 任务详情响应失败: jobId={}, error={}", jobId, e.getMessage());
+            throw BusinessException.of("SeaTunnel 响应解析失败: " + e.getMessage());
+        } finally {
+            record(sample, operation, success);
         }
     }
 
@@ -156,6 +222,8 @@ public class SeaTunnelClient {
         String url = properties.getBaseUrl() + STOP_JOB;
         log.info("停止 SeaTunnel 任务: jobId={}", jobId);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try {
             HttpHeaders headers = new HttpHeaders();
             headers.setContentType(MediaType.APPLICATION_JSON);
@@ -164,7 +232,7 @@ public class SeaTunnelClient {
             HttpEntity<String> entity = new HttpEntity<>(body, headers);
 
             ResponseEntity<String> response = restTemplate.postForEntity(url, entity, String.class);
-            boolean success = response.getStatusCode().is2xxSuccessful();
+            success = response.getStatusCode().is2xxSuccessful();
             log.info("停止 SeaTunnel 任务结果: jobId={}, success={}", jobId, success);
             return success;
         } catch (RestClientException e) {
@@ -173,6 +241,8 @@ public class SeaTunnelClient {
         } catch (Exception e) {
             log.error("停止 SeaTunnel 任务异常: {}", e.getMessage());
             return false;
+        } finally {
+            record(sample, "stop", success);
         }
     }
 
@@ -186,10 +256,13 @@ public class SeaTunnelClient {
         String url = properties.getBaseUrl() + OVERVIEW;
         log.debug("查询 SeaTunnel 集群概览: url={}", url);
 
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try {
             ResponseEntity<String> response = restTemplate.getForEntity(url, String.class);
+            success = response.getStatusCode().is2xxSuccessful();
 
-            if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
+            if (success && response.getBody() != null) {
                 return objectMapper.readValue(response.getBody(), new TypeReference<>() {});
             }
             return Collections.emptyMap();
@@ -199,7 +272,21 @@ public class SeaTunnelClient {
         } catch (Exception e) {
             log.warn("解析 SeaTunnel 集群概览响应失败: {}", e.getMessage());
             return Collections.singletonMap("error", "响应解析失败: " + e.getMessage());
+        } finally {
+            record(sample, "overview", success);
         }
     }
 
+    /**
+     * 记录一次 API 调用（提交以拿到任务 ID 为成功，其余以 HTTP 2xx 为成功）
+     */
+    private void record(Timer.Sample sample, String operation, boolean success) {
+        sample.stop(Timer.builder(REQUEST_METRIC)
+                .description("SeaTunnel REST API 调用耗时")
+                .tag("operation", operation)
+                .tag("outcome", success ? "success" : "error")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+    }
+
 }
@@ -6,13 +6,19 @@ import com.antigravity.module.sync.engine.dialect.DatabaseDialect;
 import com.antigravity.module.sync.engine.dialect.DatabaseDialectFactory;
 import com.antigravity.module.sync.entity.FieldMapping;
 import com.antigravity.module.sync.entity.SyncConfig;
+import com.antigravity.module.sync.incremental.IncrementalWindow;
+import com.antigravity.module.sync.split.SourceSplit;
+import com.antigravity.module.sync.staging.StagingTableManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -33,9 +39,10 @@ import java.util.List;
 public class SeaTunnelConfigBuilder {
 
     private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
 
     /**
-     * 构建 SeaTunnel Job 配置 JSON
+     * 构建 SeaTunnel Job 配置 JSON（全量、实时流模式）
      *
      * @param config      同步配置
      * @param sourceDb    源数据库连接
@@ -44,6 +51,42 @@ public class SeaTunnelConfigBuilder {
      * @return Job 配置 JSON 字符串
      */
     public String buildJobConfig(SyncConfig config, DbConnection sourceDb, DbConnection targetDb, List<FieldMapping> mappings) {
+        return buildJobConfig(config, sourceDb, targetDb, mappings, null);
+    }
+
+    /**
+     * 构建 SeaTunnel Job 配置 JSON
+     *
+     * @param config      同步配置
+     * @param sourceDb    源数据库连接
+     * @param targetDb    目标数据库连接
+     * @param mappings    字段映射列表
+     * @param window      增量读取窗口（增量模式必填，其他模式忽略）
+     * @return Job 配置 JSON 字符串
+     */
+    public String buildJobConfig(SyncConfig config, DbConnection sourceDb, DbConnection targetDb,
+                                 List<FieldMapping> mappings, IncrementalWindow window) {
+        return buildJobConfig(config, sourceDb, targetDb, mappings, window, List.of());
+    }
+
+    /**
+     * 构建 SeaTunnel Job 配置 JSON
+     * <p>
+     * 有多个分片时每个分片生成一个 Jdbc Source（result_table_name 为 split_0、split_1 ...），
+     * 下游的字段映射或 Sink 通过 source_table_name 列表汇合所有分片。
+     *
+     * @param config      同步配置
+     * @param sourceDb    源数据库连接
+     * @param targetDb    目标数据库连接
+     * @param mappings    字段映射列表
+     * @param window      增量读取窗口（增量模式必填，其他模式忽略）
+     * @param splits      源表分片，为空时整表由一个 Source 读取
+     * @return Job 配置 JSON 字符串
+     */
+    public String buildJobConfig(SyncConfig config, DbConnection sourceDb, DbConnection targetDb,
+                                 List<FieldMapping> mappings, IncrementalWindow window, List<SourceSplit> splits) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
         try {
             ObjectNode root = objectMapper.createObjectNode();
 
@@ -51,22 +94,42 @@ public class SeaTunnelConfigBuilder {
             ObjectNode env = buildEnv(config);
             root.set("env", env);
 
-            // source 配置
-            DatabaseDialect sourceDialect = DatabaseDialectFactory.getDialect(sourceDb.getDbType());
-            ArrayNode sourceArray = objectMapper.createArrayNode();
-            sourceArray.add(buildSource(config, sourceDb, sourceDialect, mappings));
-            root.set("source", sourceArray);
-
             // transform（字段重命名 或 实时计算 SQL 转换）
             boolean hasTransformSql = config.getTransformSql() != null && !config.getTransformSql().isBlank();
             boolean hasFieldRename = mappings != null && !mappings.isEmpty() && hasFieldRename(mappings);
+            boolean split = splits.size() > 1;
+            if (split && hasTransformSql) {
+                throw BusinessException.of("配置了实时计算 SQL 时不支持分片读取");
+            }
+
+            // source 配置（分片读取时每个分片一个 Source）
+            DatabaseDialect sourceDialect = DatabaseDialectFactory.getDialect(sourceDb.getDbType());
+            ArrayNode sourceArray = objectMapper.createArrayNode();
+            ArrayNode splitTables = objectMapper.createArrayNode();
+            if (split) {
+                for (int i = 0; i < splits.size(); i++) {
+                    ObjectNode source = buildSource(config, sourceDb, sourceDialect, mappings, window, splits.get(i));
+                    source.put("result_table_name", "split_" + i);
+                    splitTables.add("split_" + i);
+                    sourceArray.add(source);
+                }
+            } else {
+                sourceArray.add(buildSource(config, sourceDb, sourceDialect, mappings, window,
+                        splits.isEmpty() ? null : splits.getFirst()));
+            }
+            root.set("source", sourceArray);
 
             if (hasTransformSql || hasFieldRename) {
                 ArrayNode transformArray = objectMapper.createArrayNode();
                 if (hasTransformSql) {
                     transformArray.add(buildSqlTransform(config));
                 } else {
-                    transformArray.add(buildTransform(mappings));
+                    ObjectNode transform = buildTransform(mappings);
+                    if (split) {
+                        transform.set("source_table_name", splitTables);
+                        transform.put("result_table_name", "split_data");
+                    }
+                    transformArray.add(transform);
                 }
                 root.set("transform", transformArray);
             }
@@ -74,15 +137,32 @@ public class SeaTunnelConfigBuilder {
             // sink 配置
             DatabaseDialect targetDialect = DatabaseDialectFactory.getDialect(targetDb.getDbType());
             ArrayNode sinkArray = objectMapper.createArrayNode();
-            sinkArray.add(buildSink(config, targetDb, targetDialect, mappings));
+            ObjectNode sink = buildSink(config, targetDb, targetDialect, mappings);
+            if (split) {
+                if (hasFieldRename) {
+                    sink.put("source_table_name", "split_data");
+                } else {
+                    sink.set("source_table_name", splitTables);
+                }
+            }
+            sinkArray.add(sink);
             root.set("sink", sinkArray);
 
             String configJson = objectMapper.writerWithDefaultPrettyPrinter().writeValueAsString(root);
             log.debug("构建 SeaTunnel Job 配置: {}", configJson);
+            success = true;
             return configJson;
         } catch (Exception e) {
             log.error("构建 SeaTunnel Job 配置失败: {}", e.getMessage());
             throw BusinessException.of("构建同步任务配置失败: " + e.getMessage());
+        } finally {
+            // 按作业模式（BATCH / STREAMING）区分，不以配置名或表名作为标签
+            sample.stop(Timer.builder("sync.job.config.build")
+                    .description("SeaTunnel Job 配置构建耗时")
+                    .tag("mode", "REALTIME".equalsIgnoreCase(config.getSyncMode()) ? "streaming" : "batch")
+                    .tag("outcome", success ? "success" : "error")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
         }
     }
 
@@ -93,14 +173,25 @@ public class SeaTunnelConfigBuilder {
         ObjectNode env = objectMapper.createObjectNode();
         env.put("job.name", "sync_" + config.getName() + "_" + System.currentTimeMillis());
         env.put("job.mode", "REALTIME".equalsIgnoreCase(config.getSyncMode()) ? "STREAMING" : "BATCH");
+        if (config.getCheckpointIntervalSeconds() != null && config.getCheckpointIntervalSeconds() > 0) {
+            env.put("checkpoint.interval", config.getCheckpointIntervalSeconds() * 1000L);
+        }
         return env;
     }
 
+    /**
+     * 任务是否会产生可用于恢复的检查点：实时流任务始终开启检查点，批任务需显式配置检查点间隔
+     */
+    public static boolean supportsCheckpointRestore(SyncConfig config) {
+        return "REALTIME".equalsIgnoreCase(config.getSyncMode())
+                || (config.getCheckpointIntervalSeconds() != null && config.getCheckpointIntervalSeconds() > 0);
+    }
+
     /**
      * 构建 source 配置
      */
-    private ObjectNode buildSource(SyncConfig config, DbConnection sourceDb,
-                                   DatabaseDialect dialect, List<FieldMapping> mappings) {
+    private ObjectNode buildSource(SyncConfig config, DbConnection sourceDb, DatabaseDialect dialect,
+                                   List<FieldMapping> mappings, IncrementalWindow window, SourceSplit split) {
         if ("REALTIME".equalsIgnoreCase(config.getSyncMode())) {
             if (!"MYSQL".equalsIgnoreCase(sourceDb.getDbType())) {
                 throw BusinessException.of("实时同步当前仅支持 MySQL 数据源（基于 MySQL-CDC 实时监听）");
@@ -118,7 +209,7 @@ public class SeaTunnelConfigBuilder {
         source.put("password", sourceDb.getPassword());
 
         // 构建查询 SQL
-        String query = buildSourceQuery(config, dialect, mappings);
+        String query = buildSourceQuery(config, dialect, mappings, window, split);
         source.put("query", query);
 
         if (config.getTransformSql() != null && !config.getTransformSql().isBlank()) {
@@ -163,8 +254,13 @@ public class SeaTunnelConfigBuilder {
 
     /**
      * 构建 source 查询 SQL
+     * <p>
+     * 增量模式按窗口生成复合水位条件。SeaTunnel 的 query 不支持绑定参数，
+     * 窗口边界是规划时从源库读出的类型化值，由方言渲染为对应类型的字面量（时间值不再按字符串比较）。
+     * 分片读取时 FROM 改为分片的关系（如指定分区），分片条件与水位条件同时生效。
      */
-    private String buildSourceQuery(SyncConfig config, DatabaseDialect dialect, List<FieldMapping> mappings) {
+    private String buildSourceQuery(SyncConfig config, DatabaseDialect dialect, List<FieldMapping> mappings,
+                                    IncrementalWindow window, SourceSplit split) {
         StringBuilder sql = new StringBuilder("SELECT ");
 
         if (mappings != null && !mappings.isEmpty()) {
@@ -179,14 +275,23 @@ public class SeaTunnelConfigBuilder {
 
         // 使用方言格式化源表名
         String tableName = dialect.formatSourceTable(config.getSourceTable());
-        sql.append(" FROM ").append(tableName);
+        sql.append(" FROM ").append(split != null && split.relation() != null ? split.relation() : tableName);
 
-        // 增量模式添加 WHERE 条件
+        // 增量模式添加水位窗口条件
+        List<String> conditions = new ArrayList<>();
         if ("INCREMENTAL".equalsIgnoreCase(config.getSyncMode()) && config.getIncrementalField() != null) {
-            if (config.getLastSyncValue() != null && !config.getLastSyncValue().isEmpty()) {
-                sql.append(" WHERE ").append(config.getIncrementalField())
-                        .append(" > '").append(config.getLastSyncValue()).append("'");
+            if (window == null || window.isEmpty()) {
+                throw BusinessException.of("增量同步缺少水位窗口");
             }
+            conditions.add(window.predicate(dialect::formatLiteral));
+        }
+        if (split != null && split.predicate() != null) {
+            conditions.add(split.predicate());
+        }
+        if (conditions.size() == 1) {
+            sql.append(" WHERE ").append(conditions.getFirst());
+        } else if (conditions.size() > 1) {
+            sql.append(" WHERE (").append(String.join(") AND (", conditions)).append(")");
         }
 
         return sql.toString();
@@ -242,13 +347,17 @@ public class SeaTunnelConfigBuilder {
         sink.put("user", targetDb.getUsername());
         sink.put("password", targetDb.getPassword());
 
+        // 暂存表切换模式写入暂存表，加载完成后由 StagingTableManager 建索引并切换为目标表
+        boolean swap = StagingTableManager.applies(config);
+        String targetTable = swap ? StagingTableManager.stagingTableOf(config.getTargetTable().trim()) : config.getTargetTable();
+
         // 根据方言决定是否设置 database 字段，并在需要时通过方言获取其适当值（如 PostgreSQL 返回 Schema 名）
         if (dialect.includeDatabaseInSink()) {
-            sink.put("database", dialect.getSinkDatabaseName(targetDb.getDatabaseName(), config.getTargetTable()));
+            sink.put("database", dialect.getSinkDatabaseName(targetDb.getDatabaseName(), targetTable));
         }
 
         // 使用方言格式化 Sink 端表名
-        String sinkTable = dialect.formatSinkTable(config.getTargetTable());
+        String sinkTable = dialect.formatSinkTable(targetTable);
         sink.put("table", sinkTable);
 
         // 如果配置了实时计算 SQL，则从 transformed_data 数据流写入
@@ -266,9 +375,10 @@ public class SeaTunnelConfigBuilder {
         // Save Mode 配置
         // 自动建表策略：
         //   - 实时流同步：不删表且追加数据（保留结构并持续应用增量变动）
+        //   - 全量同步暂存表切换：暂存表已在加载前按目标表结构重建（目标表不存在时自动建表），直接追加
         //   - 全量同步且无字段映射：使用 RECREATE_SCHEMA 强制重建目标表（先删后建，保证结构完全一致）
         //   - 其他情况：使用 CREATE_SCHEMA_WHEN_NOT_EXIST（不存在则自动建表，存在则保留结构）
-        if (isRealtime) {
+        if (isRealtime || swap) {
             sink.put("schema_save_mode", "CREATE_SCHEMA_WHEN_NOT_EXIST");
             sink.put("data_save_mode", "APPEND_DATA");
         } else if (isFullSync && !hasFieldMappings) {
@@ -282,9 +392,32 @@ public class SeaTunnelConfigBuilder {
             sink.put("data_save_mode", "APPEND_DATA");
         }
 
+        // 配置了水位键的增量同步按主键 upsert：回看重读、重试重读的行覆盖写入，不产生重复
+        if ("INCREMENTAL".equalsIgnoreCase(config.getSyncMode())
+                && config.getIncrementalKeyField() != null && !config.getIncrementalKeyField().isBlank()) {
+            ArrayNode primaryKeys = objectMapper.createArrayNode();
+            primaryKeys.add(targetFieldOf(config.getIncrementalKeyField().trim(), mappings));
+            sink.set("primary_keys", primaryKeys);
+            sink.put("enable_upsert", true);
+        }
+
         return sink;
     }
 
+    /**
+     * 源字段在目标表中的字段名（按字段映射重命名，未映射时同名）
+     */
+    private String targetFieldOf(String sourceField, List<FieldMapping> mappings) {
+        if (mappings == null) {
+            return sourceField;
+        }
+        return mappings.stream()
+                .filter(m -> m.getSourceField().equalsIgnoreCase(sourceField))
+                .map(FieldMapping::getTargetField)
+                .findFirst()
+                .orElse(sourceField);
+    }
+
     /**
      * 判断字段映射中是否存在重命名
      */
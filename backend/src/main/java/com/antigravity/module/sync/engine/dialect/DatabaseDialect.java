@@ -1,5 +1,17 @@
 package com.antigravity.module.sync.engine.dialect;
 
+import com.antigravity.common.BusinessException;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeFormatterBuilder;
+import java.time.temporal.ChronoField;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * 数据库方言接口
  * <p>
@@ -12,6 +24,9 @@ package com.antigravity.module.sync.engine.dialect;
  *   <li>Sink 端表名的格式化规则</li>
  *   <li>Sink 端是否需要 database 字段</li>
  *   <li>默认 Schema 名称</li>
+ *   <li>Source 查询中的字面量与分页语法（增量水位条件）</li>
+ *   <li>全量同步暂存表的创建、延迟建索引与切换（SWAP 模式）</li>
+ *   <li>分片读取使用的分区元数据查询、分区读取语法与哈希分桶表达式</li>
  * </ul>
  *
  * @author Antigravity Team
@@ -19,6 +34,24 @@ package com.antigravity.module.sync.engine.dialect;
  */
 public interface DatabaseDialect {
 
+    /**
+     * 时间字面量格式：yyyy-MM-dd HH:mm:ss[.f...]，小数位按实际精度输出，不做四舍五入
+     */
+    DateTimeFormatter TIMESTAMP_FORMAT = new DateTimeFormatterBuilder()
+            .append(DateTimeFormatter.ISO_LOCAL_DATE)
+            .appendLiteral(' ')
+            .appendPattern("HH:mm:ss")
+            .appendFraction(ChronoField.NANO_OF_SECOND, 0, 9, true)
+            .toFormatter();
+
+    /**
+     * 带时区偏移的时间字面量格式：yyyy-MM-dd HH:mm:ss[.f...]+08:00
+     */
+    DateTimeFormatter OFFSET_TIMESTAMP_FORMAT = new DateTimeFormatterBuilder()
+            .append(TIMESTAMP_FORMAT)
+            .appendOffset("+HH:MM", "+00:00")
+            .toFormatter();
+
     /**
      * 获取数据库类型标识（大写，如 MYSQL、POSTGRESQL）
      */
@@ -105,4 +138,191 @@ public interface DatabaseDialect {
     default String getSinkDatabaseName(String databaseName, String tableName) {
         return databaseName;
     }
+
+    /**
+     * 将从源库读取的值格式化为 SQL 字面量
+     * <p>
+     * SeaTunnel JDBC Source 只接受完整的查询语句，无法传递绑定参数；
+     * 增量水位条件中的值都是后端自己从源库读出的类型化值，按列类型生成字面量，不直接拼接用户输入。
+     * 默认使用 ANSI 语法（TIMESTAMP '...'、DATE '...'），字符串中的单引号双写转义。
+     *
+     * @param value 数值、LocalDateTime、OffsetDateTime、LocalDate 或字符串
+     * @return 字面量 SQL 片段
+     */
+    default String formatLiteral(Object value) {
+        return switch (value) {
+            case BigDecimal decimal -> decimal.toPlainString();
+            case Number number -> number.toString();
+            case LocalDateTime time -> "TIMESTAMP '" + TIMESTAMP_FORMAT.format(time) + "'";
+            case OffsetDateTime time -> "TIMESTAMP WITH TIME ZONE '" + OFFSET_TIMESTAMP_FORMAT.format(time) + "'";
+            case LocalDate date -> "DATE '" + date + "'";
+            default -> "'" + value.toString().replace("'", "''") + "'";
+        };
+    }
+
+    /**
+     * 分页子句（追加在 ORDER BY 之后）
+     * <p>
+     * 默认使用 SQL:2008 的 OFFSET ... FETCH 语法，PostgreSQL、Oracle 12c+、SQL Server 2012+ 均支持。
+     *
+     * @param offset 跳过的行数
+     * @param limit  返回的行数
+     * @return 以空格开头的分页子句
+     */
+    default String limitClause(long offset, int limit) {
+        return " OFFSET " + offset + " ROWS FETCH NEXT " + limit + " ROWS ONLY";
+    }
+
+    // ==================== 暂存表切换（全量同步 SWAP 模式） ====================
+
+    /**
+     * 创建暂存表：列定义与目标表一致、保留主键、不含二级索引
+     * <p>
+     * 默认使用 CREATE TABLE ... AS SELECT ... WHERE 1 = 0 复制列定义（不复制任何约束和索引），再补建主键。
+     *
+     * @param target           目标表（完整表名）
+     * @param staging          暂存表（完整表名）
+     * @param primaryKey       暂存表主键（已按 {@link #stagingIndexName(String)} 命名），目标表无主键时为 null
+     * @param secondaryIndexes 目标表的二级索引（原名）
+     * @return 按顺序执行的 DDL
+     */
+    default List<String> createStagingTableSql(String target, String staging, IndexDefinition primaryKey,
+                                               List<IndexDefinition> secondaryIndexes) {
+        List<String> sql = new ArrayList<>();
+        sql.add("CREATE TABLE " + staging + " AS SELECT * FROM " + target + " WHERE 1 = 0");
+        if (primaryKey != null) {
+            sql.add(addPrimaryKeySql(staging, primaryKey));
+        }
+        return sql;
+    }
+
+    /**
+     * 添加主键约束
+     */
+    default String addPrimaryKeySql(String table, IndexDefinition primaryKey) {
+        return "ALTER TABLE " + table + " ADD CONSTRAINT " + primaryKey.name()
+                + " PRIMARY KEY (" + primaryKey.columnList() + ")";
+    }
+
+    /**
+     * 暂存表上索引与主键约束的名字
+     * <p>
+     * PostgreSQL、Oracle 的索引名、SQL Server 的约束名在 Schema 内唯一，暂存表与目标表同时存在期间不能重名，
+     * 默认加后缀，切换后再改回原名。
+     */
+    default String stagingIndexName(String name) {
+        return name + "_stg";
+    }
+
+    /**
+     * 数据加载完成后在暂存表上一次性建立二级索引
+     *
+     * @param staging 暂存表（完整表名）
+     * @param indexes 二级索引（已按 {@link #stagingIndexName(String)} 命名）
+     */
+    default List<String> buildIndexesSql(String staging, List<IndexDefinition> indexes) {
+        return indexes.stream()
+                .map(index -> "CREATE " + (index.unique() ? "UNIQUE " : "") + "INDEX " + index.name()
+                        + " ON " + staging + " (" + index.columnList() + ")")
+                .toList();
+    }
+
+    /**
+     * 重命名表
+     *
+     * @param table   原表（完整表名）
+     * @param newName 新表名（不含 Schema，与原表同 Schema）
+     */
+    default String renameTableSql(String table, String newName) {
+        return "ALTER TABLE " + table + " RENAME TO " + newName;
+    }
+
+    /**
+     * 重命名索引（包括主键约束及其索引）
+     * <p>
+     * PostgreSQL 重命名约束所属的索引时约束一并改名。
+     *
+     * @param table     索引所在表（完整表名）
+     * @param index     索引原名
+     * @param newName   新索引名
+     * @param isPrimary 是否主键
+     */
+    default List<String> renameIndexSql(String table, String index, String newName, boolean isPrimary) {
+        return List.of("ALTER INDEX " + schemaPrefix(table) + index + " RENAME TO " + newName);
+    }
+
+    /**
+     * 用暂存表替换目标表：目标表改名为备份表，暂存表改名为目标表，删除备份表，最后把索引改回原名
+     *
+     * @param target  目标表（完整表名）
+     * @param staging 暂存表（完整表名）
+     * @param backup  备份表名（不含 Schema）
+     * @param indexes 目标表的主键与二级索引（原名）
+     * @return 按顺序执行的 DDL；{@link #supportsTransactionalDdl()} 为 true 时在同一事务中执行
+     */
+    default List<String> swapTableSql(String target, String staging, String backup, List<IndexDefinition> indexes) {
+        String targetName = target.substring(target.lastIndexOf('.') + 1);
+        List<String> sql = new ArrayList<>();
+        sql.add(renameTableSql(target, backup));
+        sql.add(renameTableSql(staging, targetName));
+        sql.add("DROP TABLE " + schemaPrefix(target) + backup);
+        for (IndexDefinition index : indexes) {
+            String stagingName = stagingIndexName(index.name());
+            if (!stagingName.equals(index.name())) {
+                sql.addAll(renameIndexSql(target, stagingName, index.name(), index.primary()));
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * DDL 能否在事务中执行并整体回滚（可以时切换对读者是原子的）
+     */
+    default boolean supportsTransactionalDdl() {
+        return false;
+    }
+
+    /**
+     * 完整表名中的 Schema 前缀（含末尾的点），无 Schema 时为空串
+     */
+    static String schemaPrefix(String table) {
+        int dot = table.lastIndexOf('.');
+        return dot < 0 ? "" : table.substring(0, dot + 1);
+    }
+
+    // ==================== 分片读取 ====================
+
+    /**
+     * 查询表的原生分区（按分区顺序），绑定参数依次为 Schema 与表名，结果第一列为分区名
+     *
+     * @throws BusinessException 数据库不支持按分区读取时
+     */
+    default String listPartitionsSql() {
+        throw BusinessException.of(getDbType() + " 暂不支持按原生分区切分读取");
+    }
+
+    /**
+     * 只读取指定分区的 FROM 子句片段
+     * <p>
+     * 默认使用 MySQL、Oracle 的 PARTITION (p1, p2) 语法。
+     *
+     * @param table      完整表名
+     * @param partitions {@link #listPartitionsSql()} 返回的分区名
+     */
+    default String partitionRelation(String table, List<String> partitions) {
+        return table + " PARTITION (" + String.join(", ", partitions) + ")";
+    }
+
+    /**
+     * 哈希分桶表达式：按列值计算 0 ~ buckets-1 的桶号，同一值总是落在同一个桶
+     * <p>
+     * 列值为 NULL 时表达式可能为 NULL，调用方需要单独处理 NULL 行。
+     *
+     * @param column  列名
+     * @param buckets 桶数
+     * @throws BusinessException 数据库不支持时
+     */
+    default String hashBucketExpression(String column, int buckets) {
+        throw BusinessException.of(getDbType() + " 暂不支持按哈希分桶切分读取");
+    }
 }
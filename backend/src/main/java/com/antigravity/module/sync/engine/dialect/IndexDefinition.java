@@ -0,0 +1,31 @@
+package com.antigravity.module.sync.engine.dialect;
+
+import java.util.List;
+
+/**
+ * 索引定义（从目标表 JDBC 元数据读取，用于在暂存表上重建）
+ *
+ * @param name    索引名（主键为约束名）
+ * @param primary 是否主键
+ * @param unique  是否唯一索引
+ * @param columns 索引列，降序列带 " DESC" 后缀
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public record IndexDefinition(String name, boolean primary, boolean unique, List<String> columns) {
+
+    /**
+     * 同一定义换一个名字
+     */
+    public IndexDefinition withName(String newName) {
+        return new IndexDefinition(newName, primary, unique, columns);
+    }
+
+    /**
+     * 逗号分隔的列清单
+     */
+    public String columnList() {
+        return String.join(", ", columns);
+    }
+
+}
@@ -1,5 +1,8 @@
 package com.antigravity.module.sync.engine.dialect;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * MySQL 数据库方言
  * <p>
@@ -8,6 +11,8 @@ package com.antigravity.module.sync.engine.dialect;
  *   <li>表名不需要 schema 前缀，database 已在 URL 中指定</li>
  *   <li>Sink 端需要设置 database 字段，SeaTunnel 用于自动建表等操作</li>
  *   <li>MetaData 查询中 schema 为 null（MySQL 的 schema 等同于 database）</li>
+ *   <li>字符串字面量中反斜杠是转义符，分页使用 LIMIT 语法</li>
+ *   <li>索引名在表内唯一，暂存表沿用原索引名；RENAME TABLE 可在一条语句中原子地交换多张表</li>
  * </ul>
  *
  * @author Antigravity Team
@@ -48,4 +53,77 @@ public class MySqlDialect implements DatabaseDialect {
         // MySQL 中 schema == database，JDBC MetaData 查询无需指定 schema
         return null;
     }
+
+    @Override
+    public String formatLiteral(Object value) {
+        if (value instanceof CharSequence text) {
+            // 默认 sql_mode 下反斜杠是转义符，需要先于单引号转义
+            return "'" + text.toString().replace("\\", "\\\\").replace("'", "''") + "'";
+        }
+        return DatabaseDialect.super.formatLiteral(value);
+    }
+
+    @Override
+    public String limitClause(long offset, int limit) {
+        return " LIMIT " + offset + ", " + limit;
+    }
+
+    @Override
+    public List<String> createStagingTableSql(String target, String staging, IndexDefinition primaryKey,
+                                              List<IndexDefinition> secondaryIndexes) {
+        // LIKE 完整复制列定义、主键与 AUTO_INCREMENT，再去掉二级索引
+        List<String> sql = new ArrayList<>();
+        sql.add("CREATE TABLE " + staging + " LIKE " + target);
+        if (!secondaryIndexes.isEmpty()) {
+            sql.add("ALTER TABLE " + staging + " " + String.join(", ", secondaryIndexes.stream()
+                    .map(index -> "DROP INDEX " + index.name())
+                    .toList()));
+        }
+        return sql;
+    }
+
+    @Override
+    public String stagingIndexName(String name) {
+        return name;
+    }
+
+    @Override
+    public List<String> buildIndexesSql(String staging, List<IndexDefinition> indexes) {
+        // 合并为一条 ALTER TABLE，InnoDB 对暂存表只扫描一遍
+        if (indexes.isEmpty()) {
+            return List.of();
+        }
+        return List.of("ALTER TABLE " + staging + " " + String.join(", ", indexes.stream()
+                .map(index -> "ADD " + (index.unique() ? "UNIQUE " : "") + "INDEX " + index.name()
+                        + " (" + index.columnList() + ")")
+                .toList()));
+    }
+
+    @Override
+    public String renameTableSql(String table, String newName) {
+        return "RENAME TABLE " + table + " TO " + newName;
+    }
+
+    @Override
+    public List<String> swapTableSql(String target, String staging, String backup, List<IndexDefinition> indexes) {
+        // 同一条 RENAME TABLE 中的多次改名是原子的，读者不会看到目标表不存在的中间状态
+        return List.of(
+                "RENAME TABLE " + target + " TO " + backup + ", " + staging + " TO " + target,
+                "DROP TABLE " + backup);
+    }
+
+    @Override
+    public String listPartitionsSql() {
+        // 子分区每个占一行，只取每个分区的第一行
+        return "SELECT PARTITION_NAME FROM information_schema.PARTITIONS"
+                + " WHERE TABLE_SCHEMA = ? AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL"
+                + " AND (SUBPARTITION_ORDINAL_POSITION IS NULL OR SUBPARTITION_ORDINAL_POSITION = 1)"
+                + " ORDER BY PARTITION_ORDINAL_POSITION";
+    }
+
+    @Override
+    public String hashBucketExpression(String column, int buckets) {
+        // CRC32 返回无符号整数，取模结果非负
+        return "MOD(CRC32(" + column + "), " + buckets + ")";
+    }
 }
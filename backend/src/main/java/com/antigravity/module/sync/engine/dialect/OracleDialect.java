@@ -1,5 +1,7 @@
 package com.antigravity.module.sync.engine.dialect;
 
+import java.util.List;
+
 /**
  * Oracle 数据库方言
  * <p>
@@ -9,6 +11,7 @@ package com.antigravity.module.sync.engine.dialect;
  *   <li>表名需要 schema.table 格式，schema 通常为大写用户名</li>
  *   <li>Sink 端需要设置 database 字段（SeaTunnel 用于 Oracle Catalog 操作）</li>
  *   <li>标识符默认大写</li>
+ *   <li>DDL 隐式提交，暂存表切换的两次改名之间目标表短暂不存在</li>
  * </ul>
  *
  * @author Antigravity Team
@@ -55,4 +58,26 @@ public class OracleDialect implements DatabaseDialect {
         // Oracle 中 schema 通常等于用户名（大写）
         return databaseName != null ? databaseName.toUpperCase() : null;
     }
+
+    @Override
+    public List<String> renameIndexSql(String table, String index, String newName, boolean isPrimary) {
+        String alterIndex = "ALTER INDEX " + DatabaseDialect.schemaPrefix(table) + index + " RENAME TO " + newName;
+        if (!isPrimary) {
+            return List.of(alterIndex);
+        }
+        // 主键约束与其索引是两个对象，需要分别改名
+        return List.of("ALTER TABLE " + table + " RENAME CONSTRAINT " + index + " TO " + newName, alterIndex);
+    }
+
+    @Override
+    public String listPartitionsSql() {
+        return "SELECT PARTITION_NAME FROM ALL_TAB_PARTITIONS"
+                + " WHERE TABLE_OWNER = ? AND TABLE_NAME = ? ORDER BY PARTITION_POSITION";
+    }
+
+    @Override
+    public String hashBucketExpression(String column, int buckets) {
+        // ORA_HASH 的第二个参数是最大桶号
+        return "ORA_HASH(" + column + ", " + (buckets - 1) + ")";
+    }
 }
@@ -1,5 +1,8 @@
 package com.antigravity.module.sync.engine.dialect;
 
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * PostgreSQL 数据库方言
  * <p>
@@ -13,6 +16,7 @@ package com.antigravity.module.sync.engine.dialect;
  *   <li>直接使用表名（如 student），由 PostgreSQL 的 search_path 解析到
  *       默认的 public schema</li>
  *   <li>默认 Schema 为 public</li>
+ *   <li>DDL 支持事务，暂存表切换在一个事务内完成，对读者是原子的</li>
  * </ul>
  *
  * @author Antigravity Team
@@ -57,4 +61,64 @@ public class PostgreSqlDialect implements DatabaseDialect {
     public String getDefaultSchema(String databaseName) {
         return DEFAULT_SCHEMA;
     }
+
+    @Override
+    public List<String> createStagingTableSql(String target, String staging, IndexDefinition primaryKey,
+                                              List<IndexDefinition> secondaryIndexes) {
+        // LIKE 不带 INCLUDING INDEXES：复制列、默认值、CHECK 约束与生成列，不复制任何索引
+        List<String> sql = new ArrayList<>();
+        sql.add("CREATE TABLE " + staging + " (LIKE " + target
+                + " INCLUDING DEFAULTS INCLUDING CONSTRAINTS INCLUDING GENERATED)");
+        if (primaryKey != null) {
+            sql.add(addPrimaryKeySql(staging, primaryKey));
+        }
+        return sql;
+    }
+
+    @Override
+    public List<String> swapTableSql(String target, String staging, String backup, List<IndexDefinition> indexes) {
+        List<String> sql = new ArrayList<>(DatabaseDialect.super.swapTableSql(target, staging, backup, indexes));
+        // serial 列的序列归属于原表，暂存表的默认值仍引用它；删除备份表前把序列改为归属新表，否则 DROP TABLE 失败
+        String backupTable = DatabaseDialect.schemaPrefix(target) + backup;
+        sql.add(2, "DO $$ DECLARE r record; BEGIN"
+                + " FOR r IN SELECT d.objid::regclass AS seq, a.attname FROM pg_depend d"
+                + " JOIN pg_class c ON c.oid = d.objid AND c.relkind = 'S'"
+                + " JOIN pg_attribute a ON a.attrelid = d.refobjid AND a.attnum = d.refobjsubid"
+                + " WHERE d.refobjid = '" + backupTable + "'::regclass AND d.deptype = 'a'"
+                + " LOOP EXECUTE format('ALTER SEQUENCE %s OWNED BY %s.%I', r.seq, '" + target + "', r.attname);"
+                + " END LOOP; END $$");
+        return sql;
+    }
+
+    @Override
+    public boolean supportsTransactionalDdl() {
+        return true;
+    }
+
+    @Override
+    public String listPartitionsSql() {
+        // 声明式分区与继承表的子表都记录在 pg_inherits 中，分区即子表
+        return "SELECT cn.nspname || '.' || c.relname FROM pg_inherits i"
+                + " JOIN pg_class c ON c.oid = i.inhrelid"
+                + " JOIN pg_namespace cn ON cn.oid = c.relnamespace"
+                + " JOIN pg_class p ON p.oid = i.inhparent"
+                + " JOIN pg_namespace pn ON pn.oid = p.relnamespace"
+                + " WHERE pn.nspname = ? AND p.relname = ? ORDER BY c.relname";
+    }
+
+    @Override
+    public String partitionRelation(String table, List<String> partitions) {
+        if (partitions.size() == 1) {
+            return partitions.getFirst();
+        }
+        return "(" + String.join(" UNION ALL ", partitions.stream()
+                .map(partition -> "SELECT * FROM " + partition)
+                .toList()) + ") p";
+    }
+
+    @Override
+    public String hashBucketExpression(String column, int buckets) {
+        // hashtext 返回有符号 int，平移到非负区间后取模（ABS 在最小值上会溢出）
+        return "MOD(hashtext(CAST(" + column + " AS TEXT))::BIGINT + 2147483648, " + buckets + ")";
+    }
 }
@@ -1,5 +1,11 @@
 package com.antigravity.module.sync.engine.dialect;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
 /**
  * SQL Server 数据库方言
  * <p>
@@ -9,6 +15,9 @@ package com.antigravity.module.sync.engine.dialect;
  *   <li>默认 Schema 为 dbo</li>
  *   <li>表名需要 schema.table 格式（如 dbo.student）</li>
  *   <li>Sink 端需要设置 database 字段</li>
+ *   <li>不支持 TIMESTAMP '...' 字面量，时间值使用 CAST 转换</li>
+ *   <li>表与索引通过 sp_rename 改名；DDL 支持事务，暂存表切换对读者是原子的</li>
+ *   <li>分区由分区函数定义，暂不支持按原生分区切分读取</li>
  * </ul>
  *
  * @author Antigravity Team
@@ -53,4 +62,49 @@ public class SqlServerDialect implements DatabaseDialect {
     public String getDefaultSchema(String databaseName) {
         return DEFAULT_SCHEMA;
     }
+
+    @Override
+    public String formatLiteral(Object value) {
+        return switch (value) {
+            case LocalDateTime time -> "CAST('" + TIMESTAMP_FORMAT.format(time) + "' AS DATETIME2)";
+            case OffsetDateTime time -> "CAST('" + OFFSET_TIMESTAMP_FORMAT.format(time) + "' AS DATETIMEOFFSET)";
+            case LocalDate date -> "CAST('" + date + "' AS DATE)";
+            case CharSequence text -> "N'" + text.toString().replace("'", "''") + "'";
+            default -> DatabaseDialect.super.formatLiteral(value);
+        };
+    }
+
+    @Override
+    public List<String> createStagingTableSql(String target, String staging, IndexDefinition primaryKey,
+                                              List<IndexDefinition> secondaryIndexes) {
+        // SELECT INTO 复制列定义、可空性与 IDENTITY 属性，不复制约束和索引
+        List<String> sql = new ArrayList<>();
+        sql.add("SELECT * INTO " + staging + " FROM " + target + " WHERE 1 = 0");
+        if (primaryKey != null) {
+            sql.add(addPrimaryKeySql(staging, primaryKey));
+        }
+        return sql;
+    }
+
+    @Override
+    public String renameTableSql(String table, String newName) {
+        return "EXEC sp_rename '" + table + "', '" + newName + "'";
+    }
+
+    @Override
+    public List<String> renameIndexSql(String table, String index, String newName, boolean isPrimary) {
+        // 重命名主键约束所属的索引时约束一并改名
+        return List.of("EXEC sp_rename '" + table + "." + index + "', '" + newName + "', 'INDEX'");
+    }
+
+    @Override
+    public boolean supportsTransactionalDdl() {
+        return true;
+    }
+
+    @Override
+    public String hashBucketExpression(String column, int buckets) {
+        // CHECKSUM 返回有符号 int，平移到非负区间后取模（ABS 在最小值上会溢出）
+        return "(CAST(CHECKSUM(" + column + ") AS BIGINT) + 2147483648) % " + buckets;
+    }
 }
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.EqualsAndHashCode;
 
 import java.io.Serial;
+import java.time.LocalDateTime;
 
 /**
  * 同步配置实体
@@ -46,15 +47,72 @@ public class SyncConfig extends BaseEntity {
     /** 增量字段（增量模式使用） */
     private String incrementalField;
 
+    /** 水位键字段（通常为主键），与增量字段组成复合水位，区分同一时间戳下的多行 */
+    private String incrementalKeyField;
+
+    /** 增量回看秒数：每次执行的首个分块从水位前该秒数处重读，覆盖迟到提交的行（需配置键字段） */
+    private Integer incrementalLookbackSeconds;
+
+    /** 增量分块行数：大于 0 时积压按分块逐个同步，每块完成后提交水位 */
+    private Integer incrementalChunkSize;
+
+    /** 全量加载方式：DIRECT-直接写入目标表, SWAP-写入暂存表后建索引并切换 */
+    private String fullLoadMode;
+
+    /** 分片策略：NONE-不分片, PARTITION-按原生分区, TIME_RANGE-按时间范围, HASH-按哈希分桶 */
+    private String splitStrategy;
+
+    /** 分片列（TIME_RANGE、HASH 使用） */
+    private String splitColumn;
+
+    /** 分片数（PARTITION 为上限，分区更多时相邻分区合并） */
+    private Integer splitCount;
+
     /** 实时计算SQL表达式 */
     private String transformSql;
 
     /** 上次增量同步的值 */
     private String lastSyncValue;
 
+    /** 上次增量同步的键（复合水位的第二部分） */
+    private String lastSyncKey;
+
     /** 是否启用 */
     private Boolean enabled;
 
+    /** 调度类型：NONE-不调度, CRON-Cron 表达式, FIXED_RATE-固定间隔 */
+    private String scheduleType;
+
+    /** Cron 表达式（CRON 调度使用，秒 分 时 日 月 周） */
+    private String scheduleCron;
+
+    /** 固定间隔秒数（FIXED_RATE 调度使用） */
+    private Integer scheduleIntervalSeconds;
+
+    /** 错过触发策略：SKIP-跳过, FIRE_ONCE-补触发一次, CATCH_UP-逐次补触发（受上限约束） */
+    private String misfirePolicy;
+
+    /** CATCH_UP 策略下单次最多补触发的次数 */
+    private Integer misfireCatchUpLimit;
+
+    /** 上次调度触发时间（调度器维护） */
+    private LocalDateTime lastFireTime;
+
+    /** 最大尝试次数（含首次执行），1 表示失败后不重试 */
+    private Integer retryMaxAttempts;
+
+    /** 重试退避基准秒数，第 n 次重试等待约 base * 2^(n-1) 秒 */
+    private Integer retryBackoffSeconds;
+
+    /** 重试退避上限秒数 */
+    private Integer retryMaxBackoffSeconds;
+
+    /** 可重试错误关键字，逗号分隔；为空时使用内置的瞬时错误分类 */
+    private String retryableErrors;
+
+    /** 检查点间隔秒数（批任务大于 0 时开启检查点，重试时可从检查点恢复） */
+    private Integer checkpointIntervalSeconds;
+
     /** 逻辑删除 */
     @TableLogic
     private Boolean isDeleted;
@@ -34,9 +34,51 @@ public class SyncTask implements Serializable {
     /** SeaTunnel任务ID */
     private String seatunnelJobId;
 
-    /** 状态：PENDING, RUNNING, FINISHED, FAILED, CANCELED */
+    /** 状态：PENDING, RUNNING, WAITING_RETRY, FINISHED, FAILED, CANCELED */
     private String status;
 
+    /** 首次尝试的任务ID（同一次执行的所有尝试共用） */
+    private Long rootTaskId;
+
+    /** 上一次尝试的任务ID */
+    private Long parentTaskId;
+
+    /** 下一次尝试的任务ID */
+    private Long retryTaskId;
+
+    /** 第几次尝试，从 1 开始 */
+    private Integer attempt;
+
+    /** 计划重试时间（WAITING_RETRY 状态使用） */
+    private LocalDateTime nextRetryTime;
+
+    /** 是否从上一次尝试的检查点恢复 */
+    private Boolean resumedFromCheckpoint;
+
+    /** 增量窗口起始水位值（不含） */
+    private String watermarkFromValue;
+
+    /** 增量窗口起始水位键（不含） */
+    private String watermarkFromKey;
+
+    /** 增量窗口回看后的读取起点（含），未回看为空 */
+    private String watermarkReadFrom;
+
+    /** 增量窗口结束水位值（含），任务完成后提交到同步配置 */
+    private String watermarkToValue;
+
+    /** 增量窗口结束水位键（含） */
+    private String watermarkToKey;
+
+    /** 结束水位之后是否还有待同步的积压（完成后继续下一个分块） */
+    private Boolean watermarkHasMore;
+
+    /** 暂存表切换状态（全量 SWAP 模式）：LOADING, SWAPPING, SWAPPED, FAILED */
+    private String swapStatus;
+
+    /** 开始建索引并切换的时间，用于判断中断的切换是否超时 */
+    private LocalDateTime swapStartedAt;
+
     /** 开始时间 */
     private LocalDateTime startTime;
 
@@ -0,0 +1,43 @@
+package com.antigravity.module.sync.entity;
+
+import com.antigravity.common.BaseEntity;
+import com.baomidou.mybatisplus.annotation.TableLogic;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.io.Serial;
+
+/**
+ * 同步工作流实体
+ * <p>
+ * 由若干同步配置节点及其依赖关系构成的有向无环图。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@TableName("sys_sync_workflow")
+public class SyncWorkflow extends BaseEntity {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    /** 工作流名称 */
+    private String name;
+
+    /** 描述 */
+    private String description;
+
+    /** 最大并行节点数 */
+    private Integer maxParallelism;
+
+    /** 是否启用 */
+    private Boolean enabled;
+
+    /** 逻辑删除 */
+    @TableLogic
+    private Boolean isDeleted;
+
+}
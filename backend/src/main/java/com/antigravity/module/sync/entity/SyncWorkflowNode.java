@@ -0,0 +1,44 @@
+package com.antigravity.module.sync.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 工作流节点实体
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@TableName("sys_sync_workflow_node")
+public class SyncWorkflowNode implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /** 关联工作流ID */
+    private Long workflowId;
+
+    /** 关联同步配置ID（在同一工作流内唯一） */
+    private Long configId;
+
+    /** 依赖的上游同步配置ID，逗号分隔 */
+    private String dependsOn;
+
+    /** 排序 */
+    private Integer sortOrder;
+
+    private LocalDateTime createTime;
+
+    private LocalDateTime updateTime;
+
+}
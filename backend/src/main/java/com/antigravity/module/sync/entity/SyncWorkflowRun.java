@@ -0,0 +1,62 @@
+package com.antigravity.module.sync.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 工作流运行记录实体
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@TableName("sys_sync_workflow_run")
+public class SyncWorkflowRun implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /** 关联工作流ID */
+    private Long workflowId;
+
+    /** 工作流名称（冗余） */
+    private String workflowName;
+
+    /** 状态：RUNNING, FINISHED, FAILED, CANCELED */
+    private String status;
+
+    /** 重跑来源运行ID（从失败节点重跑时记录） */
+    private Long parentRunId;
+
+    /** 最大并行节点数（运行时快照） */
+    private Integer maxParallelism;
+
+    /** 开始时间 */
+    private LocalDateTime startTime;
+
+    /** 结束时间 */
+    private LocalDateTime endTime;
+
+    /** 关键路径耗时（毫秒） */
+    private Long criticalPathMillis;
+
+    /** 关键路径上的同步配置ID，逗号分隔 */
+    private String criticalPath;
+
+    /** 错误信息 */
+    private String errorMessage;
+
+    private LocalDateTime createTime;
+
+    private LocalDateTime updateTime;
+
+}
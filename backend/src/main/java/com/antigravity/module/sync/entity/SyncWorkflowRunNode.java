@@ -0,0 +1,59 @@
+package com.antigravity.module.sync.entity;
+
+import com.baomidou.mybatisplus.annotation.IdType;
+import com.baomidou.mybatisplus.annotation.TableId;
+import com.baomidou.mybatisplus.annotation.TableName;
+import lombok.Data;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * 工作流运行节点实体
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Data
+@TableName("sys_sync_workflow_run_node")
+public class SyncWorkflowRunNode implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 1L;
+
+    @TableId(type = IdType.AUTO)
+    private Long id;
+
+    /** 关联运行ID */
+    private Long runId;
+
+    /** 关联同步配置ID */
+    private Long configId;
+
+    /** 配置名称（冗余） */
+    private String configName;
+
+    /** 依赖的上游同步配置ID（运行时快照），逗号分隔 */
+    private String dependsOn;
+
+    /** 关联同步任务ID */
+    private Long taskId;
+
+    /** 状态：WAITING, RUNNING, FINISHED, FAILED, CANCELED, SKIPPED, REUSED */
+    private String status;
+
+    /** 开始时间 */
+    private LocalDateTime startTime;
+
+    /** 结束时间 */
+    private LocalDateTime endTime;
+
+    /** 错误信息 */
+    private String errorMessage;
+
+    private LocalDateTime createTime;
+
+    private LocalDateTime updateTime;
+
+}
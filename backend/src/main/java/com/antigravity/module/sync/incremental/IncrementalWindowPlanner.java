@@ -0,0 +1,242 @@
+package com.antigravity.module.sync.incremental;
+
+import com.antigravity.common.BusinessException;
+import com.antigravity.module.datasource.entity.DbConnection;
+import com.antigravity.module.sync.engine.dialect.DatabaseDialect;
+import com.antigravity.module.sync.engine.dialect.DatabaseDialectFactory;
+import com.antigravity.module.sync.entity.SyncConfig;
+import com.antigravity.module.sync.entity.SyncTask;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 增量同步窗口规划
+ * <p>
+ * 提交增量任务前连接源库，按复合水位 (增量字段, 键字段) 确定本次读取的上界：
+ * <ul>
+ *   <li>配置了分块大小时，取起始水位之后按 (值, 键) 排序的第 N 行作为上界，积压再多也只读一个分块；
+ *       每个分块完成后单独提交水位，停机后的追赶可以逐块推进、随时中断续跑</li>
+ *   <li>未配置分块时取当前最大值作为上界，规划之后写入的新行留给下一次同步，已提交的水位与读到的数据一致</li>
+ * </ul>
+ * 规划查询全部使用绑定参数；返回的窗口再由 SeaTunnel 配置构建器渲染为方言字面量。
+ * 键字段应为非空且唯一的列（通常是主键），增量字段上建议有 (增量字段, 键字段) 复合索引。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Component
+@RequiredArgsConstructor
+public class IncrementalWindowPlanner {
+
+    /**
+     * 字段名会拼接到查询中，只接受普通标识符
+     */
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*");
+
+    private static final int QUERY_TIMEOUT_SECONDS = 60;
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 从配置中已提交的水位开始规划下一个窗口
+     *
+     * @param config        同步配置
+     * @param sourceDb      源数据库连接
+     * @param applyLookback 是否应用回看（同一次执行的后续分块不再回看）
+     * @return 窗口；起始水位之后没有新数据时 {@link IncrementalWindow#isEmpty()} 为 true
+     */
+    public IncrementalWindow plan(SyncConfig config, DbConnection sourceDb, boolean applyLookback) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        String valueField = validateField(config.getIncrementalField(), "增量字段");
+        String keyField = keyField(config);
+        DatabaseDialect dialect = DatabaseDialectFactory.getDialect(sourceDb.getDbType());
+        String table = dialect.formatSourceTable(config.getSourceTable());
+
+        try (Connection connection = open(sourceDb, dialect)) {
+            WatermarkType[] types = probe(connection, table, valueField, keyField);
+            Object lowerValue = types[0].decode(config.getLastSyncValue(), valueField);
+            Object lowerKey = lowerValue == null || keyField == null
+                    ? null : types[1].decode(config.getLastSyncKey(), keyField);
+            IncrementalWindow base = new IncrementalWindow(valueField, keyField,
+                    lowerValue, lowerKey, null, null, null, false);
+
+            int chunkSize = config.getIncrementalChunkSize() != null ? config.getIncrementalChunkSize() : 0;
+            Object[] upper = null;
+            boolean hasMore = false;
+            if (chunkSize > 0) {
+                upper = boundary(connection, dialect, table, base, types, chunkSize - 1, false);
+                hasMore = upper != null;
+            }
+            if (upper == null) {
+                upper = boundary(connection, dialect, table, base, types, 0, true);
+            }
+            success = true;
+            if (upper == null) {
+                return base;
+            }
+
+            Object readFrom = null;
+            Integer lookback = config.getIncrementalLookbackSeconds();
+            if (applyLookback && lookback != null && lookback > 0 && lowerValue != null && keyField != null
+                    && types[0].supportsLookback()) {
+                readFrom = types[0].minusSeconds(lowerValue, lookback);
+            }
+            return new IncrementalWindow(valueField, keyField, lowerValue, lowerKey, readFrom,
+                    upper[0], upper[1], hasMore);
+        } catch (SQLException e) {
+            throw BusinessException.of("规划增量同步窗口失败: " + e.getMessage());
+        } finally {
+            sample.stop(Timer.builder("sync.incremental.plan")
+                    .description("增量同步窗口规划（查询源库水位边界）耗时")
+                    .tag("db_type", String.valueOf(sourceDb.getDbType()).toUpperCase())
+                    .tag("outcome", success ? "success" : "error")
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 还原任务记录中保存的窗口（重试时读取与失败的尝试完全相同的范围）
+     *
+     * @return 窗口；任务未记录窗口时返回 null
+     */
+    public IncrementalWindow restore(SyncConfig config, DbConnection sourceDb, SyncTask task) {
+        if (task.getWatermarkToValue() == null) {
+            return null;
+        }
+        String valueField = validateField(config.getIncrementalField(), "增量字段");
+        String keyField = keyField(config);
+        DatabaseDialect dialect = DatabaseDialectFactory.getDialect(sourceDb.getDbType());
+        String table = dialect.formatSourceTable(config.getSourceTable());
+
+        try (Connection connection = open(sourceDb, dialect)) {
+            WatermarkType[] types = probe(connection, table, valueField, keyField);
+            return new IncrementalWindow(valueField, keyField,
+                    types[0].decode(task.getWatermarkFromValue(), valueField),
+                    keyField == null ? null : types[1].decode(task.getWatermarkFromKey(), keyField),
+                    types[0].decode(task.getWatermarkReadFrom(), valueField),
+                    types[0].decode(task.getWatermarkToValue(), valueField),
+                    keyField == null ? null : types[1].decode(task.getWatermarkToKey(), keyField),
+                    Boolean.TRUE.equals(task.getWatermarkHasMore()));
+        } catch (SQLException e) {
+            throw BusinessException.of("读取增量同步窗口失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 把窗口写入任务记录（持久化为文本）
+     * <p>
+     * 起始水位保存规划时配置中的原始文本，任务完成后按原文比较并设置，配置的水位已被其他任务或人工修改时不覆盖。
+     *
+     * @param window 规划得到的窗口
+     * @param config 规划时使用的同步配置
+     * @param task   任务记录
+     */
+    public static void writeTo(IncrementalWindow window, SyncConfig config, SyncTask task) {
+        task.setWatermarkFromValue(config.getLastSyncValue());
+        task.setWatermarkFromKey(config.getLastSyncKey());
+        task.setWatermarkReadFrom(WatermarkType.encode(window.readFromValue()));
+        task.setWatermarkToValue(WatermarkType.encode(window.upperValue()));
+        task.setWatermarkToKey(WatermarkType.encode(window.upperKey()));
+        task.setWatermarkHasMore(window.hasMore());
+    }
+
+    /**
+     * 增量任务是否使用水位窗口
+     */
+    public static boolean applies(SyncConfig config) {
+        return "INCREMENTAL".equalsIgnoreCase(config.getSyncMode())
+                && config.getIncrementalField() != null && !config.getIncrementalField().isBlank();
+    }
+
+    private Connection open(DbConnection sourceDb, DatabaseDialect dialect) throws SQLException {
+        String jdbcUrl = dialect.buildJdbcUrl(sourceDb.getHost(), sourceDb.getPort(), sourceDb.getDatabaseName());
+        Connection connection = DriverManager.getConnection(jdbcUrl, sourceDb.getUsername(), sourceDb.getPassword());
+        connection.setReadOnly(true);
+        return connection;
+    }
+
+    /**
+     * 通过空结果集的元数据确定水位字段类型
+     */
+    private WatermarkType[] probe(Connection connection, String table, String valueField, String keyField)
+            throws SQLException {
+        String sql = "SELECT " + columns(valueField, keyField) + " FROM " + table + " WHERE 1 = 0";
+        try (PreparedStatement statement = connection.prepareStatement(sql);
+             ResultSet rs = statement.executeQuery()) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            WatermarkType[] types = new WatermarkType[2];
+            types[0] = WatermarkType.of(metaData.getColumnType(1), valueField);
+            if (keyField != null) {
+                types[1] = WatermarkType.of(metaData.getColumnType(2), keyField);
+            }
+            return types;
+        }
+    }
+
+    /**
+     * 查询起始水位之后按 (值, 键) 排序的某一行
+     *
+     * @param offset     升序时跳过的行数
+     * @param descending true 时取最大的一行（offset 应为 0）
+     * @return [值, 键]；没有该行时返回 null
+     */
+    private Object[] boundary(Connection connection, DatabaseDialect dialect, String table,
+                              IncrementalWindow base, WatermarkType[] types, long offset, boolean descending)
+            throws SQLException {
+        String valueField = base.valueField();
+        String keyField = base.keyField();
+        List<Object> parameters = new ArrayList<>();
+        String lower = base.lowerBoundPredicate(value -> {
+            parameters.add(value);
+            return "?";
+        });
+        String direction = descending ? " DESC" : "";
+        String sql = "SELECT " + columns(valueField, keyField) + " FROM " + table
+                + " WHERE " + (lower != null ? lower : valueField + " IS NOT NULL")
+                + " ORDER BY " + valueField + direction + (keyField != null ? ", " + keyField + direction : "")
+                + dialect.limitClause(offset, 1);
+
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+            for (int i = 0; i < parameters.size(); i++) {
+                statement.setObject(i + 1, parameters.get(i));
+            }
+            try (ResultSet rs = statement.executeQuery()) {
+                if (!rs.next()) {
+                    return null;
+                }
+                return new Object[]{types[0].read(rs, 1), keyField != null ? types[1].read(rs, 2) : null};
+            }
+        }
+    }
+
+    private static String columns(String valueField, String keyField) {
+        return keyField != null ? valueField + ", " + keyField : valueField;
+    }
+
+    private static String keyField(SyncConfig config) {
+        String keyField = config.getIncrementalKeyField();
+        return keyField == null || keyField.isBlank() ? null : validateField(keyField, "水位键字段");
+    }
+
+    private static String validateField(String field, String label) {
+        if (field == null || !IDENTIFIER.matcher(field.trim()).matches()) {
+            throw BusinessException.of(label + "名称不合法: " + field);
+        }
+        return field.trim();
+    }
+
+}
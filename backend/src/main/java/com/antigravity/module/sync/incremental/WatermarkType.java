@@ -0,0 +1,173 @@
+package com.antigravity.module.sync.incremental;
+
+import com.antigravity.common.BusinessException;
+import com.antigravity.module.sync.engine.dialect.DatabaseDialect;
+
+import java.math.BigDecimal;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
+/**
+ * 水位字段的值类型
+ * <p>
+ * 按 JDBC 列类型把水位值在三种形态之间转换：
+ * 从源库读出的类型化值、持久化在配置/任务表中的文本、作为绑定参数回传源库的类型化值。
+ * 时间类型的文本格式见 {@link DatabaseDialect#TIMESTAMP_FORMAT}，与手工填写的 "2024-01-01 00:00:00" 兼容。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public enum WatermarkType {
+
+    TIMESTAMP {
+        @Override
+        Object read(ResultSet rs, int column) throws SQLException {
+            return rs.getObject(column, LocalDateTime.class);
+        }
+
+        @Override
+        Object parse(String text) {
+            return LocalDateTime.parse(text.replace('T', ' '), DatabaseDialect.TIMESTAMP_FORMAT);
+        }
+
+        @Override
+        Object minusSeconds(Object value, long seconds) {
+            return ((LocalDateTime) value).minusSeconds(seconds);
+        }
+    },
+
+    TIMESTAMP_WITH_TIMEZONE {
+        @Override
+        Object read(ResultSet rs, int column) throws SQLException {
+            return rs.getObject(column, OffsetDateTime.class);
+        }
+
+        @Override
+        Object parse(String text) {
+            return OffsetDateTime.parse(text.replace('T', ' '), DatabaseDialect.OFFSET_TIMESTAMP_FORMAT);
+        }
+
+        @Override
+        Object minusSeconds(Object value, long seconds) {
+            return ((OffsetDateTime) value).minusSeconds(seconds);
+        }
+    },
+
+    DATE {
+        @Override
+        Object read(ResultSet rs, int column) throws SQLException {
+            return rs.getObject(column, LocalDate.class);
+        }
+
+        @Override
+        Object parse(String text) {
+            return LocalDate.parse(text.length() > 10 ? text.substring(0, 10) : text);
+        }
+
+        @Override
+        Object minusSeconds(Object value, long seconds) {
+            // 按天向上取整，回看窗口不足一天时回看前一天
+            return ((LocalDate) value).minusDays((seconds + 86_399) / 86_400);
+        }
+    },
+
+    NUMBER {
+        @Override
+        Object read(ResultSet rs, int column) throws SQLException {
+            return rs.getBigDecimal(column);
+        }
+
+        @Override
+        Object parse(String text) {
+            return new BigDecimal(text);
+        }
+    },
+
+    TEXT {
+        @Override
+        Object read(ResultSet rs, int column) throws SQLException {
+            return rs.getString(column);
+        }
+
+        @Override
+        Object parse(String text) {
+            return text;
+        }
+    };
+
+    /**
+     * 按 JDBC 类型确定水位类型
+     *
+     * @param sqlType    {@link Types} 中的类型码
+     * @param columnName 列名（用于错误提示）
+     */
+    public static WatermarkType of(int sqlType, String columnName) {
+        return switch (sqlType) {
+            case Types.TIMESTAMP -> TIMESTAMP;
+            case Types.TIMESTAMP_WITH_TIMEZONE -> TIMESTAMP_WITH_TIMEZONE;
+            case Types.DATE -> DATE;
+            case Types.TINYINT, Types.SMALLINT, Types.INTEGER, Types.BIGINT,
+                 Types.DECIMAL, Types.NUMERIC -> NUMBER;
+            case Types.CHAR, Types.VARCHAR, Types.NCHAR, Types.NVARCHAR -> TEXT;
+            default -> throw BusinessException.of("字段 " + columnName + " 的类型（JDBC 类型码 " + sqlType
+                    + "）不能作为增量水位，请使用时间、日期、整数或字符串类型的字段");
+        };
+    }
+
+    /**
+     * 从结果集读取值（NULL 返回 null）
+     */
+    abstract Object read(ResultSet rs, int column) throws SQLException;
+
+    /**
+     * 值转为持久化文本（null 返回 null）
+     */
+    public static String encode(Object value) {
+        return switch (value) {
+            case null -> null;
+            case BigDecimal decimal -> decimal.toPlainString();
+            case LocalDateTime time -> DatabaseDialect.TIMESTAMP_FORMAT.format(time);
+            case OffsetDateTime time -> DatabaseDialect.OFFSET_TIMESTAMP_FORMAT.format(time);
+            default -> value.toString();
+        };
+    }
+
+    /**
+     * 持久化文本还原为值（文本为空返回 null）
+     *
+     * @param text       持久化文本
+     * @param columnName 列名（用于错误提示）
+     */
+    Object decode(String text, String columnName) {
+        if (text == null || text.isBlank()) {
+            return null;
+        }
+        try {
+            return parse(text.trim());
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw BusinessException.of("增量水位值 \"" + text + "\" 与字段 " + columnName + " 的类型不符");
+        }
+    }
+
+    abstract Object parse(String text);
+
+    /**
+     * 回看：值减去指定秒数；非时间类型不支持回看，原样返回
+     */
+    Object minusSeconds(Object value, long seconds) {
+        return value;
+    }
+
+    /**
+     * 是否支持按秒回看
+     */
+    boolean supportsLookback() {
+        return this == TIMESTAMP || this == TIMESTAMP_WITH_TIMEZONE || this == DATE;
+    }
+
+}
@@ -0,0 +1,213 @@
+package com.antigravity.module.sync.logtail;
+
+import com.antigravity.common.BusinessException;
+import com.antigravity.config.SyncLogProperties;
+import com.antigravity.module.sync.dto.SyncTaskLogVO;
+import com.antigravity.module.sync.entity.SyncTask;
+import com.antigravity.module.sync.entity.SyncTaskLog;
+import com.antigravity.module.sync.mapper.SyncTaskLogMapper;
+import com.antigravity.module.sync.mapper.SyncTaskMapper;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 同步任务日志游标读取与实时跟踪
+ * <p>
+ * 读取：按日志 ID 游标分段读取，级别过滤在 SQL 中完成，借助 (task_id, id) 索引定位，
+ * 不再一次性把整个任务的日志加载到内存。
+ * <p>
+ * 跟踪：每个跟踪连接由一个虚拟线程驱动，通过 SSE 推送新日志（事件 ID 为日志 ID，断线后浏览器会带上
+ * {@code Last-Event-ID} 续读）：
+ * <ul>
+ *   <li>本节点写入日志后调用 {@link #notifyWritten(Long)} 立即唤醒对应任务的跟踪线程</li>
+ *   <li>未被唤醒时按兜底间隔轮询，以感知其他节点写入的日志</li>
+ *   <li>任务进入终态且日志读完后发送 {@code end} 事件并关闭连接</li>
+ * </ul>
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TaskLogTailer {
+
+    private static final Set<String> TERMINAL_STATUSES = Set.of("FINISHED", "FAILED", "CANCELED");
+
+    private final SyncTaskLogMapper syncTaskLogMapper;
+    private final SyncTaskMapper syncTaskMapper;
+    private final SyncLogProperties properties;
+
+    /**
+     * 跟踪中的连接：taskId -> 跟踪者
+     */
+    private final Map<Long, Set<Follower>> followers = new ConcurrentHashMap<>();
+
+    private final AtomicInteger followerCount = new AtomicInteger();
+
+    /**
+     * 按游标读取日志（按 ID 升序返回）
+     *
+     * @param taskId  任务ID
+     * @param afterId 只返回 ID 大于该值的日志；为 null 时返回最新的 limit 条
+     * @param levels  日志级别过滤，为空表示不过滤
+     * @param limit   最大条数
+     */
+    public List<SyncTaskLog> read(Long taskId, Long afterId, List<String> levels, int limit) {
+        int size = Math.clamp(limit, 1, properties.getMaxLimit());
+        LambdaQueryWrapper<SyncTaskLog> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SyncTaskLog::getTaskId, taskId)
+                .in(levels != null && !levels.isEmpty(), SyncTaskLog::getLogLevel, levels);
+        if (afterId != null) {
+            wrapper.gt(SyncTaskLog::getId, afterId)
+                    .orderByAsc(SyncTaskLog::getId)
+                    .last("LIMIT " + size);
+            return syncTaskLogMapper.selectList(wrapper);
+        }
+        wrapper.orderByDesc(SyncTaskLog::getId).last("LIMIT " + size);
+        List<SyncTaskLog> latest = new ArrayList<>(syncTaskLogMapper.selectList(wrapper));
+        Collections.reverse(latest);
+        return latest;
+    }
+
+    /**
+     * 跟踪任务日志
+     *
+     * @param taskId  任务ID
+     * @param afterId 从该日志 ID 之后开始推送；为 null 时先推送最新的一批
+     * @param levels  日志级别过滤
+     */
+    public SseEmitter follow(Long taskId, Long afterId, List<String> levels) {
+        if (syncTaskMapper.selectById(taskId) == null) {
+            throw BusinessException.of("任务不存在: " + taskId);
+        }
+        if (followerCount.incrementAndGet() > properties.getMaxFollowers()) {
+            followerCount.decrementAndGet();
+            throw BusinessException.of("日志跟踪连接数已达上限，请稍后再试");
+        }
+
+        SseEmitter emitter = new SseEmitter(TimeUnit.MINUTES.toMillis(properties.getFollowTimeoutMinutes()));
+        Follower follower = new Follower();
+        followers.computeIfAbsent(taskId, id -> ConcurrentHashMap.newKeySet()).add(follower);
+        Runnable close = () -> unregister(taskId, follower);
+        emitter.onCompletion(close);
+        emitter.onTimeout(close);
+        emitter.onError(error -> close.run());
+
+        Thread.ofVirtual().name("task-log-follow-" + taskId).start(() -> {
+            try {
+                pump(taskId, afterId, levels, emitter, follower);
+            } catch (IOException | IllegalStateException e) {
+                // 客户端断开或连接已超时
+                log.debug("日志跟踪连接关闭: taskId={}, reason={}", taskId, e.getMessage());
+            } catch (Exception e) {
+                log.warn("日志跟踪异常: taskId={}, error={}", taskId, e.getMessage());
+                emitter.completeWithError(e);
+            } finally {
+                close.run();
+            }
+        });
+        return emitter;
+    }
+
+    /**
+     * 通知本节点跟踪该任务的连接有新日志写入
+     */
+    public void notifyWritten(Long taskId) {
+        Set<Follower> waiting = followers.get(taskId);
+        if (waiting != null) {
+            waiting.forEach(Follower::signal);
+        }
+    }
+
+    private void pump(Long taskId, Long afterId, List<String> levels, SseEmitter emitter, Follower follower)
+            throws IOException, InterruptedException {
+        Long lastId = afterId;
+        long heartbeatNanos = TimeUnit.SECONDS.toNanos(properties.getFollowHeartbeatSeconds());
+        long lastSent = System.nanoTime();
+
+        while (!follower.closed.get()) {
+            List<SyncTaskLog> batch = read(taskId, lastId, levels, properties.getFollowBatchSize());
+            for (SyncTaskLog entry : batch) {
+                emitter.send(SseEmitter.event()
+                        .id(String.valueOf(entry.getId()))
+                        .name("log")
+                        .data(SyncTaskLogVO.fromEntity(entry)));
+                lastId = entry.getId();
+            }
+            if (lastId == null) {
+                lastId = 0L;
+            }
+            if (!batch.isEmpty()) {
+                lastSent = System.nanoTime();
+                if (batch.size() >= properties.getFollowBatchSize()) {
+                    continue;
+                }
+            }
+
+            SyncTask task = syncTaskMapper.selectById(taskId);
+            if (task == null || TERMINAL_STATUSES.contains(task.getStatus())) {
+                // 终态后再读一次，避免漏掉终态写入前的最后几行
+                if (!read(taskId, lastId, levels, 1).isEmpty()) {
+                    continue;
+                }
+                emitter.send(SseEmitter.event().name("end").data(task == null ? "DELETED" : task.getStatus()));
+                emitter.complete();
+                return;
+            }
+
+            if (System.nanoTime() - lastSent >= heartbeatNanos) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                lastSent = System.nanoTime();
+            }
+            follower.await(properties.getFollowPollMillis());
+        }
+    }
+
+    private void unregister(Long taskId, Follower follower) {
+        if (!follower.closed.compareAndSet(false, true)) {
+            return;
+        }
+        follower.signal();
+        followerCount.decrementAndGet();
+        followers.computeIfPresent(taskId, (id, set) -> {
+            set.remove(follower);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * 单个跟踪连接
+     */
+    private static final class Follower {
+
+        private final Semaphore signal = new Semaphore(0);
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private void signal() {
+            signal.release();
+        }
+
+        private void await(long timeoutMillis) throws InterruptedException {
+            if (signal.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                signal.drainPermits();
+            }
+        }
+    }
+
+}
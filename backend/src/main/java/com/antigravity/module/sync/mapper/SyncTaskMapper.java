@@ -1,8 +1,15 @@
 package com.antigravity.module.sync.mapper;
 
 import com.antigravity.module.sync.entity.SyncTask;
+import com.baomidou.mybatisplus.core.conditions.Wrapper;
 import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import com.baomidou.mybatisplus.core.toolkit.Constants;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Options;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.annotations.Select;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.mapping.ResultSetType;
 
 /**
  * 同步任务 Mapper
@@ -13,4 +20,10 @@ import org.apache.ibatis.annotations.Mapper;
 @Mapper
 public interface SyncTaskMapper extends BaseMapper<SyncTask> {
 
+    /**
+     * 流式查询（MySQL 逐行读取，不把结果集整体加载到内存），须在事务内消费
+     */
+    @Select("SELECT * FROM sys_sync_task ${ew.customSqlSegment}")
+    @Options(resultSetType = ResultSetType.FORWARD_ONLY, fetchSize = Integer.MIN_VALUE)
+    Cursor<SyncTask> streamByWrapper(@Param(Constants.WRAPPER) Wrapper<SyncTask> wrapper);
 }
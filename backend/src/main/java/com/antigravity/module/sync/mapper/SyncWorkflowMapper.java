@@ -0,0 +1,16 @@
+package com.antigravity.module.sync.mapper;
+
+import com.antigravity.module.sync.entity.SyncWorkflow;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * 同步工作流 Mapper
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Mapper
+public interface SyncWorkflowMapper extends BaseMapper<SyncWorkflow> {
+
+}
@@ -0,0 +1,16 @@
+package com.antigravity.module.sync.mapper;
+
+import com.antigravity.module.sync.entity.SyncWorkflowNode;
+import com.baomidou.mybatisplus.core.mapper.BaseMapper;
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * 工作流节点 Mapper
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Mapper
+public interface SyncWorkflowNodeMapper extends BaseMapper<SyncWorkflowNode> {
+
+}
@@ -0,0 +1,108 @@
+package com.antigravity.module.sync.retry;
+
+import com.antigravity.module.sync.entity.SyncConfig;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 同步任务失败重试策略
+ * <p>
+ * 由 {@link SyncConfig} 上的重试配置构建：
+ * <ul>
+ *   <li>尝试次数：含首次执行，达到上限后不再重试</li>
+ *   <li>退避：第 n 次重试等待 base * 2^(n-1) 秒（不超过上限），
+ *       实际等待时间在 [退避/2, 退避] 之间随机，避免同时失败的任务同时重试</li>
+ *   <li>错误分类：配置了可重试关键字时只重试匹配的错误，否则按内置的瞬时错误分类判断</li>
+ * </ul>
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public final class RetryPolicy {
+
+    /**
+     * 内置的瞬时错误关键字（网络抖动、连接池耗尽、锁冲突、引擎节点切换等）
+     */
+    private static final List<String> TRANSIENT_ERRORS = List.of(
+            "connection refused", "connection reset", "connection timed out", "connect timed out",
+            "read timed out", "sockettimeoutexception", "socketexception", "broken pipe",
+            "communications link failure", "communicationsexception", "no route to host",
+            "too many connections", "lock wait timeout", "deadlock",
+            "hazelcastinstancenotactiveexception", "memberleftexception", "targetnotmemberexception",
+            "service unavailable", "service_unavailable", "http 503", "seatunnel 服务连接失败");
+
+    /**
+     * 未配置时只执行一次、失败后不自动重试，自动重试需要在同步配置上显式开启
+     */
+    private static final int DEFAULT_MAX_ATTEMPTS = 1;
+    private static final int DEFAULT_BACKOFF_SECONDS = 30;
+    private static final int DEFAULT_MAX_BACKOFF_SECONDS = 600;
+
+    private final int maxAttempts;
+    private final long backoffSeconds;
+    private final long maxBackoffSeconds;
+    private final List<String> retryableErrors;
+
+    private RetryPolicy(int maxAttempts, long backoffSeconds, long maxBackoffSeconds, List<String> retryableErrors) {
+        this.maxAttempts = maxAttempts;
+        this.backoffSeconds = backoffSeconds;
+        this.maxBackoffSeconds = maxBackoffSeconds;
+        this.retryableErrors = retryableErrors;
+    }
+
+    public static RetryPolicy from(SyncConfig config) {
+        int maxAttempts = positiveOrDefault(config.getRetryMaxAttempts(), DEFAULT_MAX_ATTEMPTS);
+        int backoff = positiveOrDefault(config.getRetryBackoffSeconds(), DEFAULT_BACKOFF_SECONDS);
+        int maxBackoff = Math.max(backoff, positiveOrDefault(config.getRetryMaxBackoffSeconds(), DEFAULT_MAX_BACKOFF_SECONDS));
+
+        List<String> keywords = config.getRetryableErrors() == null ? List.of()
+                : Arrays.stream(config.getRetryableErrors().split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(s -> s.toLowerCase(Locale.ROOT))
+                .toList();
+        return new RetryPolicy(maxAttempts, backoff, maxBackoff, keywords.isEmpty() ? TRANSIENT_ERRORS : keywords);
+    }
+
+    /**
+     * 第 attempt 次尝试失败后是否还允许重试
+     */
+    public boolean hasAttemptsLeft(int attempt) {
+        return attempt < maxAttempts;
+    }
+
+    /**
+     * 按错误信息判断是否为可重试错误
+     */
+    public boolean isRetryable(String errorMessage) {
+        if (errorMessage == null || errorMessage.isBlank()) {
+            return false;
+        }
+        String normalized = errorMessage.toLowerCase(Locale.ROOT);
+        return retryableErrors.stream().anyMatch(normalized::contains);
+    }
+
+    /**
+     * 第 attempt 次尝试失败后的等待时间（带随机抖动）
+     */
+    public Duration backoff(int attempt) {
+        int exponent = Math.min(Math.max(attempt - 1, 0), 30);
+        long ceiling = Math.min(maxBackoffSeconds, backoffSeconds << exponent);
+        long millis = ceiling * 1000;
+        long jittered = millis / 2 + ThreadLocalRandom.current().nextLong(millis / 2 + 1);
+        return Duration.ofMillis(jittered);
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    private static int positiveOrDefault(Integer value, int defaultValue) {
+        return value != null && value > 0 ? value : defaultValue;
+    }
+
+}
@@ -0,0 +1,124 @@
+package com.antigravity.module.sync.retry;
+
+import com.antigravity.common.DatabaseMigration;
+import com.antigravity.config.SyncScheduleProperties;
+import com.antigravity.module.sync.entity.SyncTask;
+import com.antigravity.module.sync.mapper.SyncTaskMapper;
+import com.antigravity.module.sync.schedule.ScheduleLeaseManager;
+import com.antigravity.module.sync.service.SyncTaskService;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 同步任务重试轮询器
+ * <p>
+ * 每轮依次：
+ * <ol>
+ *   <li>刷新运行中任务的状态，及时发现失败并按重试策略登记重试，接管执行节点退出后中断的暂存表切换；
+ *       SeaTunnel 不可达时任务状态未知，保持 RUNNING 等待下一轮，不会被当作完成或失败</li>
+ *   <li>对到期的 WAITING_RETRY 任务调用 {@link SyncTaskService#retryTask(Long)} 创建下一次尝试</li>
+ * </ol>
+ * 多副本部署时通过调度租约保证同一时刻只有一个节点在轮询。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncRetryPoller {
+
+    private static final String LEASE_NAME = "task-retry-poller";
+
+    private final SyncTaskMapper syncTaskMapper;
+    private final SyncTaskService syncTaskService;
+    private final ScheduleLeaseManager leaseManager;
+    private final SyncScheduleProperties properties;
+    private final DatabaseMigration databaseMigration;
+
+    private ScheduledExecutorService poller;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+        poller = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sync-retry-poller").daemon().factory());
+        poller.scheduleWithFixedDelay(this::pollSafely,
+                properties.getRetryPollIntervalSeconds(), properties.getRetryPollIntervalSeconds(), TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (poller != null) {
+            poller.shutdownNow();
+            leaseManager.release(LEASE_NAME);
+        }
+    }
+
+    private void pollSafely() {
+        if (!databaseMigration.isCompleted()) {
+            return;
+        }
+        try {
+            if (!leaseManager.renew(LEASE_NAME) && !leaseManager.tryAcquire(LEASE_NAME)) {
+                return;
+            }
+            refreshRunningTasks();
+            retryDueTasks();
+        } catch (Exception e) {
+            log.error("同步任务重试轮询失败: {}", e.getMessage());
+        }
+    }
+
+    private void refreshRunningTasks() {
+        LambdaQueryWrapper<SyncTask> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SyncTask::getStatus, "RUNNING")
+                .isNotNull(SyncTask::getSeatunnelJobId)
+                .orderByAsc(SyncTask::getId)
+                .last("LIMIT " + properties.getRetryPollBatchSize());
+        for (SyncTask task : syncTaskMapper.selectList(wrapper)) {
+            try {
+                syncTaskService.refreshTaskStatus(task.getId());
+            } catch (Exception e) {
+                log.warn("刷新任务状态失败: taskId={}, error={}", task.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void retryDueTasks() {
+        LambdaQueryWrapper<SyncTask> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SyncTask::getStatus, "WAITING_RETRY")
+                .le(SyncTask::getNextRetryTime, LocalDateTime.now())
+                .orderByAsc(SyncTask::getNextRetryTime)
+                .last("LIMIT " + properties.getRetryPollBatchSize());
+        for (SyncTask task : syncTaskMapper.selectList(wrapper)) {
+            try {
+                SyncTask retry = syncTaskService.retryTask(task.getId());
+                log.info("自动重试同步任务: taskId={}, retryTaskId={}, attempt={}",
+                        task.getId(), retry.getId(), retry.getAttempt());
+            } catch (Exception e) {
+                // 无法重试（配置被禁用或删除等），结束该尝试，避免每轮反复重试
+                log.warn("自动重试同步任务失败，不再重试: taskId={}, error={}", task.getId(), e.getMessage());
+                LambdaUpdateWrapper<SyncTask> update = new LambdaUpdateWrapper<>();
+                update.eq(SyncTask::getId, task.getId())
+                        .eq(SyncTask::getStatus, "WAITING_RETRY")
+                        .set(SyncTask::getStatus, "FAILED")
+                        .set(SyncTask::getNextRetryTime, null);
+                syncTaskMapper.update(null, update);
+            }
+        }
+    }
+
+}
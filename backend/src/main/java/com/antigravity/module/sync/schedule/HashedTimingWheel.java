@@ -0,0 +1,198 @@
+package com.antigravity.module.sync.schedule;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 哈希时间轮
+ * <p>
+ * 单个工作线程按固定刻度推进轮盘，到期任务交由外部 {@link Executor} 执行，
+ * 工作线程本身从不阻塞在业务逻辑上。新增定时任务先进入无锁队列，
+ * 由工作线程在每个刻度统一落槽，因此槽位结构无需加锁。
+ * <p>
+ * 取消采用惰性方式：只打标记，任务在所属槽位被扫描时移除。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+public class HashedTimingWheel implements AutoCloseable {
+
+    private final long tickNanos;
+    private final List<Timeout>[] wheel;
+    private final int mask;
+    private final Executor taskExecutor;
+    private final Queue<Timeout> pending = new ConcurrentLinkedQueue<>();
+    private final Thread worker;
+    private final long startTime;
+
+    private volatile boolean running = true;
+    private long tick;
+
+    @SuppressWarnings("unchecked")
+    public HashedTimingWheel(String name, long tickMillis, int wheelSize, Executor taskExecutor) {
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("tickMillis 必须大于 0");
+        }
+        int size = normalizeWheelSize(wheelSize);
+        this.tickNanos = TimeUnit.MILLISECONDS.toNanos(tickMillis);
+        this.wheel = new List[size];
+        for (int i = 0; i < size; i++) {
+            this.wheel[i] = new ArrayList<>();
+        }
+        this.mask = size - 1;
+        this.taskExecutor = taskExecutor;
+        this.startTime = System.nanoTime();
+        this.worker = Thread.ofPlatform().name(name).daemon().unstarted(this::run);
+        this.worker.start();
+    }
+
+    /**
+     * 延迟执行任务
+     *
+     * @param task  任务
+     * @param delay 延迟
+     * @param unit  时间单位
+     * @return 可取消的句柄
+     */
+    public Timeout schedule(Runnable task, long delay, TimeUnit unit) {
+        if (!running) {
+            throw new IllegalStateException("时间轮已关闭");
+        }
+        long deadline = System.nanoTime() + Math.max(0, unit.toNanos(delay)) - startTime;
+        Timeout timeout = new Timeout(task, deadline);
+        pending.add(timeout);
+        return timeout;
+    }
+
+    /**
+     * 当前尚未落槽的任务数（用于观测）
+     */
+    public int pendingCount() {
+        return pending.size();
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        worker.interrupt();
+    }
+
+    private void run() {
+        while (running) {
+            long now = waitForNextTick();
+            if (now < 0) {
+                break;
+            }
+            transferPending();
+            expire(wheel[(int) (tick & mask)], now);
+            tick++;
+        }
+    }
+
+    private void transferPending() {
+        Timeout timeout;
+        while ((timeout = pending.poll()) != null) {
+            if (timeout.cancelled) {
+                continue;
+            }
+            long calculated = timeout.deadline / tickNanos;
+            timeout.remainingRounds = (calculated - tick) / wheel.length;
+            // 已经过期的任务放到当前槽位，本刻度立即执行
+            long ticks = Math.max(calculated, tick);
+            wheel[(int) (ticks & mask)].add(timeout);
+        }
+    }
+
+    private void expire(List<Timeout> bucket, long now) {
+        int kept = 0;
+        for (int i = 0; i < bucket.size(); i++) {
+            Timeout timeout = bucket.get(i);
+            if (timeout.cancelled) {
+                continue;
+            }
+            if (timeout.remainingRounds <= 0 && timeout.deadline <= now) {
+                execute(timeout);
+                continue;
+            }
+            if (timeout.remainingRounds > 0) {
+                timeout.remainingRounds--;
+            }
+            bucket.set(kept++, timeout);
+        }
+        bucket.subList(kept, bucket.size()).clear();
+    }
+
+    private void execute(Timeout timeout) {
+        try {
+            taskExecutor.execute(timeout.task);
+        } catch (Exception e) {
+            log.error("时间轮任务派发失败: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 等待下一个刻度
+     *
+     * @return 当前相对启动时间的纳秒数；关闭时返回 -1
+     */
+    private long waitForNextTick() {
+        long deadline = tickNanos * (tick + 1);
+        while (true) {
+            long current = System.nanoTime() - startTime;
+            long sleepMillis = (deadline - current + 999_999) / 1_000_000;
+            if (sleepMillis <= 0) {
+                return current;
+            }
+            try {
+                Thread.sleep(sleepMillis);
+            } catch (InterruptedException e) {
+                if (!running) {
+                    return -1;
+                }
+            }
+        }
+    }
+
+    private static int normalizeWheelSize(int wheelSize) {
+        int size = 1;
+        while (size < Math.max(wheelSize, 1)) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * 定时任务句柄
+     */
+    public static final class Timeout {
+
+        private final Runnable task;
+        private final long deadline;
+        private long remainingRounds;
+        private volatile boolean cancelled;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * 取消任务（若尚未执行）
+         */
+        public void cancel() {
+            this.cancelled = true;
+        }
+
+        public boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+}
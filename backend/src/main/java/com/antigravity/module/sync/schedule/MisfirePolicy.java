@@ -0,0 +1,58 @@
+package com.antigravity.module.sync.schedule;
+
+/**
+ * 错过触发策略
+ * <p>
+ * 当调度器停机、租约切换或节点过载导致计划触发时间已过时，决定如何补偿。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public enum MisfirePolicy {
+
+    /**
+     * 跳过所有错过的触发，等待下一个计划时间
+     */
+    SKIP,
+
+    /**
+     * 无论错过多少次，只立即补触发一次
+     */
+    FIRE_ONCE,
+
+    /**
+     * 逐次补触发错过的每一次，单次最多补触发上限次
+     */
+    CATCH_UP;
+
+    /**
+     * 策略是否合法（忽略大小写，与 {@link #of(String)} 一致），为空表示使用默认策略 FIRE_ONCE
+     */
+    public static boolean isValid(String value) {
+        if (value == null || value.isBlank()) {
+            return true;
+        }
+        for (MisfirePolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 解析策略（忽略大小写），为空或未知时使用默认策略 FIRE_ONCE
+     */
+    public static MisfirePolicy of(String value) {
+        if (value == null || value.isBlank()) {
+            return FIRE_ONCE;
+        }
+        for (MisfirePolicy policy : values()) {
+            if (policy.name().equalsIgnoreCase(value)) {
+                return policy;
+            }
+        }
+        return FIRE_ONCE;
+    }
+
+}
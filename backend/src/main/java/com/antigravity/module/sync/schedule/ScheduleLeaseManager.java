@@ -0,0 +1,193 @@
+package com.antigravity.module.sync.schedule;
+
+import com.antigravity.config.SyncScheduleProperties;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 基于 Redis 的调度租约管理
+ * <p>
+ * 每个调度配置对应一个租约键，只有持有租约的节点才会为该配置装载定时器，
+ * 从而让多个后端副本共享同一批调度而不重复触发：
+ * <ul>
+ *   <li>租约：{@code SET key nodeId NX PX ttl}，由持有者在每次对账时续期</li>
+ *   <li>续期 / 释放：Lua 脚本比较持有者后再操作，避免误删他人租约</li>
+ *   <li>心跳：长时间持有租约的操作由后台线程定期续期，续期不依赖操作本身的执行进度</li>
+ *   <li>触发去重：以"配置ID + 计划触发时间"作为一次性标记，兜底租约切换窗口内的重复触发</li>
+ *   <li>节点成员：ZSET 记录心跳时间，用于计算每个节点的公平份额</li>
+ * </ul>
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ScheduleLeaseManager {
+
+    private static final String LEASE_KEY_PREFIX = "sync:schedule:lease:";
+    private static final String FIRED_KEY_PREFIX = "sync:schedule:fired:";
+    private static final String NODES_KEY = "sync:schedule:nodes";
+    private static final Duration FIRED_MARK_TTL = Duration.ofHours(6);
+
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then " +
+                    "return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final SyncScheduleProperties properties;
+
+    private ScheduledExecutorService heartbeat;
+
+    /**
+     * 当前节点标识
+     */
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void start() {
+        heartbeat = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("lease-heartbeat").daemon().factory());
+    }
+
+    @PreDestroy
+    public void stop() {
+        heartbeat.shutdownNow();
+    }
+
+    /**
+     * 尝试获取配置的调度租约
+     */
+    public boolean tryAcquire(Long configId) {
+        return tryAcquire(String.valueOf(configId));
+    }
+
+    /**
+     * 尝试获取指定名称的租约（供工作流运行等其他需要单节点执行的场景复用）
+     */
+    public boolean tryAcquire(String leaseName) {
+        Boolean acquired = redisTemplate.opsForValue()
+                .setIfAbsent(LEASE_KEY_PREFIX + leaseName, nodeId, leaseTtl());
+        return Boolean.TRUE.equals(acquired);
+    }
+
+    /**
+     * 续期租约
+     *
+     * @return 当前节点仍持有租约时返回 true
+     */
+    public boolean renew(Long configId) {
+        return renew(String.valueOf(configId));
+    }
+
+    /**
+     * 续期指定名称的租约
+     */
+    public boolean renew(String leaseName) {
+        Long result = redisTemplate.execute(RENEW_SCRIPT, List.of(LEASE_KEY_PREFIX + leaseName),
+                nodeId, String.valueOf(leaseTtl().toMillis()));
+        return result != null && result > 0;
+    }
+
+    /**
+     * 在后台按租约有效期三分之一的间隔续期已持有的租约，直到取消返回的句柄
+     * <p>
+     * 用于执行时间不可预估的操作（单批 DELETE、DROP PARTITION、建索引等），
+     * 避免某一步耗时超过租约有效期而让其他节点并发执行。
+     *
+     * @return 续期句柄，操作结束后调用 {@code cancel(false)} 再释放租约
+     */
+    public ScheduledFuture<?> keepAlive(String leaseName) {
+        long period = Math.max(1000, leaseTtl().toMillis() / 3);
+        return heartbeat.scheduleAtFixedRate(() -> {
+            try {
+                if (!renew(leaseName)) {
+                    log.warn("租约续期失败，租约可能已过期或被其他节点获取: lease={}", leaseName);
+                }
+            } catch (Exception e) {
+                // 不能抛出，否则定时续期会被取消
+                log.warn("租约续期异常: lease={}, error={}", leaseName, e.getMessage());
+            }
+        }, period, period, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * 释放租约（仅当自己持有时）
+     */
+    public void release(Long configId) {
+        release(String.valueOf(configId));
+    }
+
+    /**
+     * 释放指定名称的租约（仅当自己持有时）
+     */
+    public void release(String leaseName) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEASE_KEY_PREFIX + leaseName), nodeId);
+        } catch (Exception e) {
+            log.warn("释放调度租约失败: lease={}, error={}", leaseName, e.getMessage());
+        }
+    }
+
+    /**
+     * 标记一次计划触发
+     *
+     * @param configId       配置ID
+     * @param fireEpochMilli 计划触发时间
+     * @return 首次标记返回 true；同一计划时间已被任一节点触发过则返回 false
+     */
+    public boolean markFired(Long configId, long fireEpochMilli) {
+        Boolean marked = redisTemplate.opsForValue()
+                .setIfAbsent(FIRED_KEY_PREFIX + configId + ":" + fireEpochMilli, nodeId, FIRED_MARK_TTL);
+        return Boolean.TRUE.equals(marked);
+    }
+
+    /**
+     * 上报心跳并返回当前存活节点数
+     */
+    public int heartbeat() {
+        long now = System.currentTimeMillis();
+        redisTemplate.opsForZSet().add(NODES_KEY, nodeId, now);
+        redisTemplate.opsForZSet().removeRangeByScore(NODES_KEY, 0, now - leaseTtl().toMillis());
+        Long size = redisTemplate.opsForZSet().zCard(NODES_KEY);
+        return size == null ? 1 : (int) Math.max(size, 1);
+    }
+
+    /**
+     * 节点下线
+     */
+    public void leave() {
+        try {
+            redisTemplate.opsForZSet().remove(NODES_KEY, nodeId);
+        } catch (Exception e) {
+            log.warn("调度节点注销失败: {}", e.getMessage());
+        }
+    }
+
+    private Duration leaseTtl() {
+        return Duration.ofSeconds(properties.getLeaseTtlSeconds());
+    }
+
+}
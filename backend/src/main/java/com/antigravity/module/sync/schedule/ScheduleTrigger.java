@@ -0,0 +1,112 @@
+package com.antigravity.module.sync.schedule;
+
+import com.antigravity.module.sync.entity.SyncConfig;
+import org.springframework.scheduling.support.CronExpression;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 调度触发规则
+ * <p>
+ * 将 {@link SyncConfig} 上的 CRON / FIXED_RATE 配置统一为"给定时间点求下一次触发时间"的计算。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public final class ScheduleTrigger {
+
+    public static final String TYPE_NONE = "NONE";
+    public static final String TYPE_CRON = "CRON";
+    public static final String TYPE_FIXED_RATE = "FIXED_RATE";
+
+    private final CronExpression cron;
+    private final Duration interval;
+
+    private ScheduleTrigger(CronExpression cron, Duration interval) {
+        this.cron = cron;
+        this.interval = interval;
+    }
+
+    /**
+     * 根据同步配置构建触发规则
+     *
+     * @return 未配置调度或配置非法时返回 null
+     */
+    public static ScheduleTrigger from(SyncConfig config) {
+        String type = config.getScheduleType();
+        if (TYPE_CRON.equalsIgnoreCase(type) && CronExpression.isValidExpression(config.getScheduleCron())) {
+            return new ScheduleTrigger(CronExpression.parse(config.getScheduleCron()), null);
+        }
+        if (TYPE_FIXED_RATE.equalsIgnoreCase(type)
+                && config.getScheduleIntervalSeconds() != null && config.getScheduleIntervalSeconds() > 0) {
+            return new ScheduleTrigger(null, Duration.ofSeconds(config.getScheduleIntervalSeconds()));
+        }
+        return null;
+    }
+
+    /**
+     * 校验调度配置
+     *
+     * @param minIntervalSeconds 固定间隔允许的最小秒数
+     * @return 错误信息，合法时返回 null
+     */
+    public static String validate(String type, String cron, Integer intervalSeconds, String misfirePolicy,
+                                  int minIntervalSeconds) {
+        if (type == null || TYPE_NONE.equalsIgnoreCase(type)) {
+            return null;
+        }
+        if (!MisfirePolicy.isValid(misfirePolicy)) {
+            return "不支持的错过触发策略: " + misfirePolicy;
+        }
+        if (TYPE_CRON.equalsIgnoreCase(type)) {
+            return CronExpression.isValidExpression(cron) ? null : "Cron 表达式不合法: " + cron;
+        }
+        if (TYPE_FIXED_RATE.equalsIgnoreCase(type)) {
+            if (intervalSeconds == null || intervalSeconds < minIntervalSeconds) {
+                return "固定间隔不能小于 " + minIntervalSeconds + " 秒";
+            }
+            return null;
+        }
+        return "不支持的调度类型: " + type;
+    }
+
+    /**
+     * 调度配置签名，用于对账时判断配置是否发生变化
+     */
+    public static String signature(SyncConfig config) {
+        return String.join("|",
+                Objects.toString(config.getScheduleType(), ""),
+                Objects.toString(config.getScheduleCron(), ""),
+                Objects.toString(config.getScheduleIntervalSeconds(), ""),
+                Objects.toString(config.getMisfirePolicy(), ""),
+                Objects.toString(config.getMisfireCatchUpLimit(), ""));
+    }
+
+    /**
+     * 计算严格晚于 after 的下一次触发时间
+     */
+    public LocalDateTime next(LocalDateTime after) {
+        if (cron != null) {
+            return cron.next(after);
+        }
+        return after.plus(interval);
+    }
+
+    /**
+     * 列出 (from, to] 区间内的触发时间，最多返回 limit 个
+     */
+    public List<LocalDateTime> fireTimesBetween(LocalDateTime from, LocalDateTime to, int limit) {
+        List<LocalDateTime> result = new ArrayList<>();
+        LocalDateTime cursor = next(from);
+        while (cursor != null && !cursor.isAfter(to) && result.size() < limit) {
+            result.add(cursor);
+            cursor = next(cursor);
+        }
+        return result;
+    }
+
+}
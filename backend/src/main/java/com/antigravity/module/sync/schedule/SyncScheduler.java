@@ -0,0 +1,327 @@
+package com.antigravity.module.sync.schedule;
+
+import com.antigravity.common.DatabaseMigration;
+import com.antigravity.config.SyncScheduleProperties;
+import com.antigravity.module.sync.entity.SyncConfig;
+import com.antigravity.module.sync.entity.SyncTask;
+import com.antigravity.module.sync.mapper.SyncConfigMapper;
+import com.antigravity.module.sync.service.SyncConfigService;
+import com.antigravity.module.sync.service.SyncTaskService;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 同步配置定时调度器
+ * <p>
+ * 工作方式：
+ * <ol>
+ *   <li>对账线程定期加载启用了调度的配置，上报节点心跳，并按"配置总数 / 存活节点数"计算本节点公平份额</li>
+ *   <li>对未被持有的配置尝试获取 Redis 租约，获取成功后在本地时间轮上装载下一次触发</li>
+ *   <li>已持有的租约在每次对账时续期；续期失败（被其他节点接管）或配置变更时卸载定时器</li>
+ *   <li>触发时再次续期租约，并通过一次性触发标记兜底去重，然后调用 {@link SyncTaskService#executeSync}</li>
+ * </ol>
+ * 接管或重启后，根据 {@code lastFireTime} 推算错过的触发，并按 {@link MisfirePolicy} 补偿。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SyncScheduler {
+
+    /**
+     * 推算错过触发时最多枚举的次数
+     */
+    private static final int MAX_MISSED_ENUMERATION = 10_000;
+
+    private final SyncConfigMapper syncConfigMapper;
+    private final SyncTaskService syncTaskService;
+    private final SyncConfigService syncConfigService;
+    private final ScheduleLeaseManager leaseManager;
+    private final SyncScheduleProperties properties;
+    private final DatabaseMigration databaseMigration;
+
+    /**
+     * 本节点持有租约的调度项：configId -> 调度项
+     */
+    private final Map<Long, ScheduledEntry> entries = new ConcurrentHashMap<>();
+
+    private ExecutorService fireExecutor;
+    private HashedTimingWheel wheel;
+    private ScheduledExecutorService reconciler;
+
+    @PostConstruct
+    public void start() {
+        if (!properties.isEnabled()) {
+            log.info("同步定时调度器未启用");
+            return;
+        }
+        fireExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        wheel = new HashedTimingWheel("sync-schedule-wheel",
+                properties.getTickMillis(), properties.getWheelSize(), fireExecutor);
+        reconciler = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sync-schedule-reconciler").daemon().factory());
+        reconciler.scheduleWithFixedDelay(this::reconcileSafely,
+                1, properties.getReconcileIntervalSeconds(), TimeUnit.SECONDS);
+        log.info("同步定时调度器已启动: nodeId={}", leaseManager.getNodeId());
+    }
+
+    @PreDestroy
+    public void stop() {
+        if (reconciler == null) {
+            return;
+        }
+        reconciler.shutdownNow();
+        wheel.close();
+        fireExecutor.shutdown();
+        for (Long configId : new ArrayList<>(entries.keySet())) {
+            disarm(configId, true);
+        }
+        leaseManager.leave();
+        log.info("同步定时调度器已停止");
+    }
+
+    /**
+     * 本节点当前持有的调度配置 ID
+     */
+    public List<Long> ownedConfigIds() {
+        return entries.keySet().stream().sorted().toList();
+    }
+
+    // ==================== 对账 ====================
+
+    private void reconcileSafely() {
+        if (!databaseMigration.isCompleted()) {
+            // 调度字段可能尚未迁移，等待下一轮对账
+            return;
+        }
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("调度对账失败: {}", e.getMessage());
+        }
+    }
+
+    private void reconcile() {
+        int nodes = leaseManager.heartbeat();
+
+        LambdaQueryWrapper<SyncConfig> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SyncConfig::getEnabled, true)
+                .in(SyncConfig::getScheduleType, ScheduleTrigger.TYPE_CRON, ScheduleTrigger.TYPE_FIXED_RATE);
+        Map<Long, SyncConfig> scheduled = syncConfigMapper.selectList(wrapper).stream()
+                .collect(Collectors.toMap(SyncConfig::getId, Function.identity()));
+
+        // 1. 卸载已删除、已禁用或调度配置发生变化的项；续期仍持有的租约
+        for (ScheduledEntry entry : new ArrayList<>(entries.values())) {
+            SyncConfig config = scheduled.get(entry.configId);
+            if (config == null || !entry.signature.equals(ScheduleTrigger.signature(config))) {
+                disarm(entry.configId, true);
+            } else if (!leaseManager.renew(entry.configId)) {
+                log.info("调度租约已被其他节点接管: configId={}", entry.configId);
+                disarm(entry.configId, false);
+            }
+        }
+
+        // 2. 超出公平份额时主动释放，让新加入的节点接手
+        int fairShare = (scheduled.size() + nodes - 1) / nodes;
+        int excess = entries.size() - fairShare;
+        if (excess > 0) {
+            List<Long> owned = new ArrayList<>(entries.keySet());
+            Collections.shuffle(owned);
+            owned.stream().limit(excess).forEach(configId -> disarm(configId, true));
+        }
+
+        // 3. 在公平份额内认领无主配置
+        List<SyncConfig> candidates = new ArrayList<>(scheduled.values());
+        Collections.shuffle(candidates);
+        for (SyncConfig config : candidates) {
+            if (entries.size() >= fairShare) {
+                break;
+            }
+            if (!entries.containsKey(config.getId()) && leaseManager.tryAcquire(config.getId())) {
+                arm(config);
+            }
+        }
+    }
+
+    // ==================== 装载 / 卸载 ====================
+
+    private void arm(SyncConfig config) {
+        ScheduleTrigger trigger = ScheduleTrigger.from(config);
+        if (trigger == null) {
+            log.warn("调度配置非法，放弃装载: configId={}, type={}", config.getId(), config.getScheduleType());
+            leaseManager.release(config.getId());
+            return;
+        }
+
+        ScheduledEntry entry = new ScheduledEntry(config.getId(), ScheduleTrigger.signature(config), trigger);
+        entries.put(entry.configId, entry);
+        log.info("装载调度: configId={}, name={}, type={}", config.getId(), config.getName(), config.getScheduleType());
+
+        LocalDateTime now = LocalDateTime.now();
+        if (config.getLastFireTime() != null) {
+            handleMisfire(entry, config, now);
+        }
+        scheduleNext(entry, now);
+    }
+
+    private void disarm(Long configId, boolean releaseLease) {
+        ScheduledEntry entry = entries.remove(configId);
+        if (entry == null) {
+            return;
+        }
+        entry.cancel();
+        if (releaseLease) {
+            leaseManager.release(configId);
+        }
+        log.info("卸载调度: configId={}", configId);
+    }
+
+    /**
+     * 按错过触发策略补偿 (lastFireTime, now] 内错过的触发
+     */
+    private void handleMisfire(ScheduledEntry entry, SyncConfig config, LocalDateTime now) {
+        List<LocalDateTime> missed = entry.trigger.fireTimesBetween(
+                config.getLastFireTime(), now, MAX_MISSED_ENUMERATION);
+        if (missed.isEmpty()) {
+            return;
+        }
+
+        // 只晚了一点（例如租约切换的间隙）视为正常触发
+        LocalDateTime threshold = now.minusSeconds(properties.getMisfireThresholdSeconds());
+        if (missed.size() == 1 && !missed.getFirst().isBefore(threshold)) {
+            fireAsync(entry, missed.getFirst());
+            return;
+        }
+
+        MisfirePolicy policy = MisfirePolicy.of(config.getMisfirePolicy());
+        log.warn("检测到错过触发: configId={}, missed={}, policy={}", entry.configId, missed.size(), policy);
+        switch (policy) {
+            case SKIP -> recordLastFireTime(entry.configId, missed.getLast());
+            case FIRE_ONCE -> fireAsync(entry, missed.getLast());
+            case CATCH_UP -> {
+                int limit = config.getMisfireCatchUpLimit() != null && config.getMisfireCatchUpLimit() > 0
+                        ? config.getMisfireCatchUpLimit()
+                        : properties.getDefaultCatchUpLimit();
+                List<LocalDateTime> replay = missed.subList(Math.max(0, missed.size() - limit), missed.size());
+                fireExecutor.execute(() -> replay.forEach(fireTime -> fire(entry, fireTime)));
+            }
+        }
+    }
+
+    private void scheduleNext(ScheduledEntry entry, LocalDateTime after) {
+        if (entry.isCancelled()) {
+            return;
+        }
+        LocalDateTime next = entry.trigger.next(after);
+        if (next == null) {
+            return;
+        }
+        long delayMillis = Math.max(0, Duration.between(LocalDateTime.now(), next).toMillis());
+        entry.timeout = wheel.schedule(() -> {
+            fire(entry, next);
+            scheduleNext(entry, next);
+        }, delayMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // ==================== 触发 ====================
+
+    private void fireAsync(ScheduledEntry entry, LocalDateTime fireTime) {
+        fireExecutor.execute(() -> fire(entry, fireTime));
+    }
+
+    private void fire(ScheduledEntry entry, LocalDateTime fireTime) {
+        if (entry.isCancelled()) {
+            return;
+        }
+        // 只有本节点确实占有该计划时间时才记录触发时间，丢失租约或已被其他节点触发时不能覆盖
+        boolean claimed = false;
+        try {
+            if (!leaseManager.renew(entry.configId)) {
+                log.info("触发前发现租约已丢失，放弃本次触发: configId={}", entry.configId);
+                disarm(entry.configId, false);
+                return;
+            }
+            long fireEpochMilli = fireTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            if (!leaseManager.markFired(entry.configId, fireEpochMilli)) {
+                log.debug("计划时间已被触发过，跳过: configId={}, fireTime={}", entry.configId, fireTime);
+                return;
+            }
+            claimed = true;
+
+            SyncTask task = syncTaskService.executeSync(entry.configId);
+            log.info("定时触发同步任务: configId={}, fireTime={}, taskId={}", entry.configId, fireTime, task.getId());
+        } catch (Exception e) {
+            log.error("定时触发同步任务失败: configId={}, fireTime={}, error={}",
+                    entry.configId, fireTime, e.getMessage());
+        } finally {
+            if (claimed) {
+                recordLastFireTime(entry.configId, fireTime);
+            }
+        }
+    }
+
+    private void recordLastFireTime(Long configId, LocalDateTime fireTime) {
+        try {
+            LambdaUpdateWrapper<SyncConfig> wrapper = new LambdaUpdateWrapper<>();
+            wrapper.eq(SyncConfig::getId, configId)
+                    .set(SyncConfig::getLastFireTime, fireTime);
+            syncConfigMapper.update(null, wrapper);
+            syncConfigService.evictCache(configId);
+        } catch (Exception e) {
+            log.warn("记录调度触发时间失败: configId={}, error={}", configId, e.getMessage());
+        }
+    }
+
+    /**
+     * 本节点装载的调度项
+     */
+    private static final class ScheduledEntry {
+
+        private final Long configId;
+        private final String signature;
+        private final ScheduleTrigger trigger;
+        private volatile HashedTimingWheel.Timeout timeout;
+        private volatile boolean cancelled;
+
+        private ScheduledEntry(Long configId, String signature, ScheduleTrigger trigger) {
+            this.configId = configId;
+            this.signature = signature;
+            this.trigger = trigger;
+        }
+
+        private void cancel() {
+            cancelled = true;
+            HashedTimingWheel.Timeout current = timeout;
+            if (current != null) {
+                current.cancel();
+            }
+        }
+
+        private boolean isCancelled() {
+            return cancelled;
+        }
+    }
+
+}
@@ -2,6 +2,7 @@ package com.antigravity.module.sync.service;
 
 import com.antigravity.common.PageResult;
 import com.antigravity.module.sync.dto.FieldMappingDTO;
+import com.antigravity.module.sync.entity.FieldMapping;
 import com.antigravity.module.sync.entity.SyncConfig;
 import com.baomidou.mybatisplus.extension.service.IService;
 
@@ -51,4 +52,14 @@ public interface SyncConfigService extends IService<SyncConfig> {
      */
     List<FieldMappingDTO> getFieldMappings(Long configId);
 
+    /**
+     * 获取配置关联的字段映射实体（按排序号升序，经过缓存）
+     */
+    List<FieldMapping> listFieldMappings(Long configId);
+
+    /**
+     * 使配置及其字段映射的缓存失效（绕过本 Service 直接更新配置表后调用）
+     */
+    void evictCache(Long id);
+
 }
@@ -1,9 +1,12 @@
 package com.antigravity.module.sync.service;
 
 import com.antigravity.common.PageResult;
+import com.antigravity.module.sync.dto.SyncBatchExecuteVO;
 import com.antigravity.module.sync.dto.SyncTaskLogVO;
 import com.antigravity.module.sync.entity.SyncTask;
 import com.baomidou.mybatisplus.extension.service.IService;
+import org.apache.ibatis.cursor.Cursor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 import java.util.Optional;
@@ -23,8 +26,18 @@ public interface SyncTaskService extends IService<SyncTask> {
 
     /**
      * 分页查询任务列表
+     *
+     * @param cursor 游标，传入上一页返回的 nextCursor 时按游标翻页，忽略页码
+     */
+    PageResult<SyncTask> pageQuery(int pageNumber, int pageSize, Long configId, String status, String cursor);
+
+    /**
+     * 按条件流式读取任务历史（按 ID 升序），须在事务内消费
+     *
+     * @param startTime 创建时间下限（yyyy-MM-dd HH:mm:ss），可为空
+     * @param endTime   创建时间上限（yyyy-MM-dd HH:mm:ss），可为空
      */
-    PageResult<SyncTask> pageQuery(int pageNumber, int pageSize, Long configId, String status);
+    Cursor<SyncTask> streamTasks(Long configId, String status, String startTime, String endTime);
 
     /**
      * 执行同步任务
@@ -34,6 +47,36 @@ public interface SyncTaskService extends IService<SyncTask> {
      */
     SyncTask executeSync(Long configId);
 
+    /**
+     * 批量执行同步任务
+     * <p>
+     * 一次性加载所有配置、连接和字段映射，并行构建 Job 配置后交由后台提交，
+     * 不等待 SeaTunnel 响应即返回；单个配置的失败不影响其他配置。
+     *
+     * @param configIds 同步配置ID列表
+     * @return 逐个配置的执行结果
+     */
+    SyncBatchExecuteVO executeBatch(List<Long> configIds);
+
+    /**
+     * 重试失败的任务
+     * <p>
+     * 创建新的尝试并链接到原任务（rootTaskId / parentTaskId），
+     * 支持检查点的任务从上一次尝试的检查点恢复。
+     *
+     * @param taskId 失败或等待重试的任务ID
+     * @return 新的尝试
+     */
+    SyncTask retryTask(Long taskId);
+
+    /**
+     * 查询同一次执行的全部尝试（按尝试次数排序）
+     *
+     * @param taskId 任意一次尝试的任务ID
+     * @return 尝试列表
+     */
+    List<SyncTask> getAttempts(Long taskId);
+
     /**
      * 取消任务
      *
@@ -51,11 +94,23 @@ public interface SyncTaskService extends IService<SyncTask> {
     SyncTask refreshTaskStatus(Long taskId);
 
     /**
-     * 获取任务日志
+     * 按游标获取任务日志（按 ID 升序）
      *
-     * @param taskId 任务ID
+     * @param taskId  任务ID
+     * @param afterId 只返回 ID 大于该值的日志；为 null 时返回最新的 limit 条
+     * @param levels  日志级别过滤，为空表示不过滤
+     * @param limit   最大条数，为 null 时使用默认值
      * @return 日志列表
      */
-    List<SyncTaskLogVO> getTaskLogs(Long taskId);
+    List<SyncTaskLogVO> getTaskLogs(Long taskId, Long afterId, List<String> levels, Integer limit);
+
+    /**
+     * 实时跟踪任务日志（SSE），任务结束后自动关闭
+     *
+     * @param taskId  任务ID
+     * @param afterId 从该日志 ID 之后开始推送；为 null 时先推送最新的一批
+     * @param levels  日志级别过滤
+     */
+    SseEmitter followTaskLogs(Long taskId, Long afterId, List<String> levels);
 
 }
@@ -0,0 +1,87 @@
+package com.antigravity.module.sync.service;
+
+import com.antigravity.common.PageResult;
+import com.antigravity.module.sync.dto.WorkflowNodeDTO;
+import com.antigravity.module.sync.dto.WorkflowRunVO;
+import com.antigravity.module.sync.entity.SyncWorkflow;
+import com.antigravity.module.sync.entity.SyncWorkflowRun;
+import com.baomidou.mybatisplus.extension.service.IService;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 同步工作流 Service 接口
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public interface SyncWorkflowService extends IService<SyncWorkflow> {
+
+    /**
+     * 按 ID 查找
+     */
+    Optional<SyncWorkflow> findById(Long id);
+
+    /**
+     * 分页查询工作流
+     */
+    PageResult<SyncWorkflow> pageQuery(int pageNumber, int pageSize, String name);
+
+    /**
+     * 检查名称是否存在
+     */
+    boolean existsByName(String name);
+
+    /**
+     * 创建工作流（含节点），节点依赖必须构成有向无环图
+     */
+    SyncWorkflow createWorkflow(SyncWorkflow workflow, List<WorkflowNodeDTO> nodes);
+
+    /**
+     * 更新工作流，nodes 不为空时整体替换节点
+     */
+    boolean updateWorkflow(SyncWorkflow workflow, List<WorkflowNodeDTO> nodes);
+
+    /**
+     * 删除工作流（级联删除节点，保留运行记录）
+     */
+    boolean deleteWorkflow(Long id);
+
+    /**
+     * 获取工作流节点（含配置名称）
+     */
+    List<WorkflowNodeDTO> getNodes(Long workflowId);
+
+    /**
+     * 启动一次工作流运行
+     *
+     * @param workflowId 工作流ID
+     * @return 创建的运行记录
+     */
+    SyncWorkflowRun startRun(Long workflowId);
+
+    /**
+     * 从失败节点重跑：沿用来源运行中已成功的节点，其余节点重新执行
+     *
+     * @param runId 来源运行ID（必须已结束）
+     * @return 新的运行记录
+     */
+    SyncWorkflowRun rerunFromFailed(Long runId);
+
+    /**
+     * 取消运行：停止运行中的节点任务，未开始的节点标记为取消
+     */
+    boolean cancelRun(Long runId);
+
+    /**
+     * 分页查询运行记录
+     */
+    PageResult<SyncWorkflowRun> pageRuns(int pageNumber, int pageSize, Long workflowId, String status);
+
+    /**
+     * 查询运行详情（含节点及关键路径）
+     */
+    Optional<WorkflowRunVO> getRunDetail(Long runId);
+
+}
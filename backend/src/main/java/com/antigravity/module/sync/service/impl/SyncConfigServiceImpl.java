@@ -1,6 +1,8 @@
 package com.antigravity.module.sync.service.impl;
 
 import com.antigravity.common.PageResult;
+import com.antigravity.common.cache.TwoLevelCache;
+import com.antigravity.common.cache.TwoLevelCacheManager;
 import com.antigravity.module.sync.dto.FieldMappingDTO;
 import com.antigravity.module.sync.entity.FieldMapping;
 import com.antigravity.module.sync.entity.SyncConfig;
@@ -11,6 +13,7 @@ import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.toolkit.StringUtils;
 import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -34,10 +37,26 @@ public class SyncConfigServiceImpl extends ServiceImpl<SyncConfigMapper, SyncCon
 
     private final FieldMappingMapper fieldMappingMapper;
     private final JdbcTemplate jdbcTemplate;
+    private final TwoLevelCacheManager cacheManager;
+
+    private TwoLevelCache<SyncConfig> configCache;
+    private TwoLevelCache<List<FieldMapping>> mappingCache;
+
+    @PostConstruct
+    public void initCache() {
+        configCache = cacheManager.create("sync-config", SyncConfig.class);
+        mappingCache = cacheManager.createList("field-mapping", FieldMapping.class);
+    }
 
     @Override
     public Optional<SyncConfig> findById(Long id) {
-        return Optional.ofNullable(this.getById(id));
+        return Optional.ofNullable(configCache.get(id, () -> this.getById(id)));
+    }
+
+    @Override
+    public void evictCache(Long id) {
+        configCache.evict(id);
+        mappingCache.evict(id);
     }
 
     @Override
@@ -94,6 +113,18 @@ public class SyncConfigServiceImpl extends ServiceImpl<SyncConfigMapper, SyncCon
         if (config.getSyncMode() == null) {
             config.setSyncMode("FULL");
         }
+        if (config.getMisfirePolicy() == null) {
+            config.setMisfirePolicy("FIRE_ONCE");
+        }
+        if (config.getRetryMaxAttempts() == null) {
+            config.setRetryMaxAttempts(1);
+        }
+        if (config.getRetryBackoffSeconds() == null) {
+            config.setRetryBackoffSeconds(30);
+        }
+        if (config.getRetryMaxBackoffSeconds() == null) {
+            config.setRetryMaxBackoffSeconds(600);
+        }
         config.setIsDeleted(false);
         this.save(config);
 
@@ -108,6 +139,7 @@ public class SyncConfigServiceImpl extends ServiceImpl<SyncConfigMapper, SyncCon
             }
         }
 
+        evictCache(config.getId());
         log.info("创建同步配置成功: id={}, name={}", config.getId(), config.getName());
         return config;
     }
@@ -137,6 +169,7 @@ public class SyncConfigServiceImpl extends ServiceImpl<SyncConfigMapper, SyncCon
             }
         }
 
+        evictCache(config.getId());
         log.info("更新同步配置: id={}, success={}", config.getId(), updated);
         return updated;
     }
@@ -151,17 +184,26 @@ public class SyncConfigServiceImpl extends ServiceImpl<SyncConfigMapper, SyncCon
 
         // 再删除配置（逻辑删除）
         boolean deleted = this.removeById(id);
+        evictCache(id);
         log.info("删除同步配置: id={}, success={}", id, deleted);
         return deleted;
     }
 
+    @Override
+    public List<FieldMapping> listFieldMappings(Long configId) {
+        List<FieldMapping> mappings = mappingCache.get(configId, () -> {
+            LambdaQueryWrapper<FieldMapping> wrapper = new LambdaQueryWrapper<>();
+            wrapper.eq(FieldMapping::getConfigId, configId)
+                    .orderByAsc(FieldMapping::getSortOrder);
+            return fieldMappingMapper.selectList(wrapper);
+        });
+        return mappings != null ? mappings : Collections.emptyList();
+    }
+
     @Override
     public List<FieldMappingDTO> getFieldMappings(Long configId) {
-        LambdaQueryWrapper<FieldMapping> wrapper = new LambdaQueryWrapper<>();
-        wrapper.eq(FieldMapping::getConfigId, configId)
-                .orderByAsc(FieldMapping::getSortOrder);
-        List<FieldMapping> mappings = fieldMappingMapper.selectList(wrapper);
-        if (mappings == null || mappings.isEmpty()) {
+        List<FieldMapping> mappings = listFieldMappings(configId);
+        if (mappings.isEmpty()) {
             return Collections.emptyList();
         }
         return mappings.stream().map(FieldMappingDTO::fromEntity).toList();
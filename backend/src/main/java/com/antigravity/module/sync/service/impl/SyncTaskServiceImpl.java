@@ -1,9 +1,15 @@
 package com.antigravity.module.sync.service.impl;
 
 import com.antigravity.common.BusinessException;
+import com.antigravity.common.CountCache;
+import com.antigravity.common.KeysetPagination;
 import com.antigravity.common.PageResult;
+import com.antigravity.config.SeaTunnelProperties;
+import com.antigravity.config.SyncLogProperties;
+import com.antigravity.config.SyncScheduleProperties;
 import com.antigravity.module.datasource.entity.DbConnection;
 import com.antigravity.module.datasource.service.DbConnectionService;
+import com.antigravity.module.sync.dto.SyncBatchExecuteVO;
 import com.antigravity.module.sync.dto.SyncTaskLogVO;
 import com.antigravity.module.sync.engine.SeaTunnelClient;
 import com.antigravity.module.sync.engine.SeaTunnelConfigBuilder;
@@ -11,27 +17,56 @@ import com.antigravity.module.sync.entity.FieldMapping;
 import com.antigravity.module.sync.entity.SyncConfig;
 import com.antigravity.module.sync.entity.SyncTask;
 import com.antigravity.module.sync.entity.SyncTaskLog;
+import com.antigravity.module.sync.incremental.IncrementalWindow;
+import com.antigravity.module.sync.incremental.IncrementalWindowPlanner;
+import com.antigravity.module.sync.incremental.WatermarkType;
+import com.antigravity.module.sync.logtail.TaskLogTailer;
 import com.antigravity.module.sync.mapper.FieldMappingMapper;
 import com.antigravity.module.sync.mapper.SyncTaskLogMapper;
 import com.antigravity.module.sync.mapper.SyncTaskMapper;
+import com.antigravity.module.sync.retry.RetryPolicy;
+import com.antigravity.module.sync.schedule.ScheduleLeaseManager;
 import com.antigravity.module.sync.service.SyncConfigService;
 import com.antigravity.module.sync.service.SyncTaskService;
+import com.antigravity.module.sync.split.SourceSplit;
+import com.antigravity.module.sync.split.SourceSplitPlanner;
+import com.antigravity.module.sync.staging.StagingTableManager;
 import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
 import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
 import com.baomidou.mybatisplus.core.toolkit.StringUtils;
-import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.baomidou.mybatisplus.core.toolkit.support.SFunction;
 import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.scheduling.annotation.Async;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Collections;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 同步任务 Service 实现
@@ -44,12 +79,54 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class SyncTaskServiceImpl extends ServiceImpl<SyncTaskMapper, SyncTask> implements SyncTaskService {
 
+    private static final String SWAP_LEASE_PREFIX = "staging-swap:";
+
+    private static final String STAGING_LEASE_PREFIX = "staging-claim:";
+
     private final SyncConfigService syncConfigService;
     private final DbConnectionService dbConnectionService;
     private final FieldMappingMapper fieldMappingMapper;
     private final SyncTaskLogMapper syncTaskLogMapper;
     private final SeaTunnelClient seaTunnelClient;
     private final SeaTunnelConfigBuilder configBuilder;
+    private final SeaTunnelProperties seaTunnelProperties;
+    private final CountCache countCache;
+    private final SyncLogProperties syncLogProperties;
+    private final TaskLogTailer taskLogTailer;
+    private final MeterRegistry meterRegistry;
+    private final IncrementalWindowPlanner windowPlanner;
+    private final StagingTableManager stagingTableManager;
+    private final SourceSplitPlanner splitPlanner;
+    private final ScheduleLeaseManager leaseManager;
+    private final SyncScheduleProperties scheduleProperties;
+
+    /**
+     * 批量执行使用的虚拟线程池：构建配置并提交任务
+     */
+    private ExecutorService batchExecutor;
+
+    /**
+     * 限制批量提交时对 SeaTunnel 的并发请求数
+     */
+    private Semaphore submitPermits;
+
+    @PostConstruct
+    public void initBatchExecutor() {
+        batchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        int concurrency = Math.max(1, seaTunnelProperties.getSubmitConcurrency());
+        submitPermits = new Semaphore(concurrency);
+        Gauge.builder("sync.submit.waiting", submitPermits, Semaphore::getQueueLength)
+                .description("等待提交到 SeaTunnel 的批量任务数")
+                .register(meterRegistry);
+        Gauge.builder("sync.submit.in_flight", submitPermits, permits -> concurrency - permits.availablePermits())
+                .description("正在提交到 SeaTunnel 的批量任务数")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdownBatchExecutor() {
+        batchExecutor.shutdown();
+    }
 
     @Override
     public Optional<SyncTask> findById(Long id) {
@@ -57,20 +134,57 @@ public class SyncTaskServiceImpl extends ServiceImpl<SyncTaskMapper, SyncTask> i
     }
 
     @Override
-    public PageResult<SyncTask> pageQuery(int pageNumber, int pageSize, Long configId, String status) {
-        Page<SyncTask> page = new Page<>(pageNumber, pageSize);
+    public PageResult<SyncTask> pageQuery(int pageNumber, int pageSize, Long configId, String status, String cursor) {
         LambdaQueryWrapper<SyncTask> wrapper = new LambdaQueryWrapper<>();
         wrapper.eq(configId != null, SyncTask::getConfigId, configId)
-                .eq(StringUtils.isNotBlank(status), SyncTask::getStatus, status)
-                .orderByDesc(SyncTask::getCreateTime);
+                .eq(StringUtils.isNotBlank(status), SyncTask::getStatus, status);
 
-        Page<SyncTask> resultPage = this.page(page, wrapper);
-        return PageResult.of(resultPage.getRecords(), pageNumber, pageSize, resultPage.getTotal());
+        String countKey = CountCache.key("sys_sync_task", configId, status);
+        return KeysetPagination.page(baseMapper, wrapper, SyncTask::getCreateTime, SyncTask::getId,
+                cursor, pageNumber, pageSize, () -> countCache.get(countKey, () -> this.count(
+                        new LambdaQueryWrapper<SyncTask>()
+                                .eq(configId != null, SyncTask::getConfigId, configId)
+                                .eq(StringUtils.isNotBlank(status), SyncTask::getStatus, status))));
+    }
+
+    @Override
+    public Cursor<SyncTask> streamTasks(Long configId, String status, String startTime, String endTime) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+        LambdaQueryWrapper<SyncTask> wrapper = new LambdaQueryWrapper<SyncTask>()
+                .eq(configId != null, SyncTask::getConfigId, configId)
+                .eq(StringUtils.isNotBlank(status), SyncTask::getStatus, status)
+                .ge(StringUtils.isNotBlank(startTime), SyncTask::getCreateTime,
+                        StringUtils.isNotBlank(startTime) ? LocalDateTime.parse(startTime, formatter) : null)
+                .le(StringUtils.isNotBlank(endTime), SyncTask::getCreateTime,
+                        StringUtils.isNotBlank(endTime) ? LocalDateTime.parse(endTime, formatter) : null)
+                .orderByAsc(SyncTask::getId);
+        return baseMapper.streamByWrapper(wrapper);
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public SyncTask executeSync(Long configId) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        try {
+            SyncTask task = doExecuteSync(configId, null);
+            success = true;
+            return task;
+        } finally {
+            sample.stop(Timer.builder("sync.task.execute")
+                    .description("执行同步任务（创建任务并提交）耗时")
+                    .tag("outcome", success ? "success" : "error")
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * 创建任务并提交
+     *
+     * @param window 预先规划的增量窗口（继续下一个分块时传入），为 null 时提交前规划
+     */
+    private SyncTask doExecuteSync(Long configId, IncrementalWindow window) {
         // 1. 查询同步配置
         SyncConfig config = syncConfigService.findById(configId)
                 .orElseThrow(() -> BusinessException.of("同步配置不存在: " + configId));
@@ -86,64 +200,401 @@ public class SyncTaskServiceImpl extends ServiceImpl<SyncTaskMapper, SyncTask> i
                 .orElseThrow(() -> BusinessException.of("目标数据库连接不存在: " + config.getTargetDbId()));
 
         // 3. 查询字段映射
-        LambdaQueryWrapper<FieldMapping> mappingWrapper = new LambdaQueryWrapper<>();
-        mappingWrapper.eq(FieldMapping::getConfigId, configId)
-                .orderByAsc(FieldMapping::getSortOrder);
-        List<FieldMapping> mappings = fieldMappingMapper.selectList(mappingWrapper);
+        List<FieldMapping> mappings = loadFieldMappings(configId);
 
-        // 4. 创建任务记录
+        // 4. 创建任务记录（首次尝试的 rootTaskId 指向自身）
         SyncTask task = new SyncTask();
         task.setConfigId(configId);
         task.setConfigName(config.getName());
         task.setStatus("PENDING");
+        task.setAttempt(1);
+        task.setResumedFromCheckpoint(false);
         task.setTotalRows(0L);
         task.setSyncRows(0L);
+        if (window != null) {
+            IncrementalWindowPlanner.writeTo(window, config, task);
+        }
         this.save(task);
+        task.setRootTaskId(task.getId());
+        LambdaUpdateWrapper<SyncTask> rootWrapper = new LambdaUpdateWrapper<>();
+        rootWrapper.eq(SyncTask::getId, task.getId())
+                .set(SyncTask::getRootTaskId, task.getId());
+        this.update(rootWrapper);
+        countCache.invalidateAfterCommit("sys_sync_task");
 
         // 5. 记录日志
         saveTaskLog(task.getId(), "INFO", "任务创建成功，准备提交到 SeaTunnel");
 
-        // 6. 异步提交任务
-        submitToSeaTunnel(task.getId(), config, sourceDb, targetDb, mappings);
+        // 6. 事务提交后异步提交任务，远程调用不占用事务与数据库连接
+        runAfterCommit(() -> submitToSeaTunnel(task.getId(), config, sourceDb, targetDb, mappings, null));
 
         return task;
     }
 
+    @Override
+    public SyncBatchExecuteVO executeBatch(List<Long> configIds) {
+        List<Long> ids = new ArrayList<>(new LinkedHashSet<>(configIds));
+
+        // 1. 用少量 IN 查询一次性加载配置、数据库连接和字段映射
+        Map<Long, SyncConfig> configs = syncConfigService.listByIds(ids).stream()
+                .collect(Collectors.toMap(SyncConfig::getId, Function.identity()));
+        Set<Long> dbIds = new HashSet<>();
+        configs.values().forEach(config -> {
+            dbIds.add(config.getSourceDbId());
+            dbIds.add(config.getTargetDbId());
+        });
+        Map<Long, DbConnection> connections = dbIds.isEmpty() ? Map.of()
+                : dbConnectionService.listByIds(dbIds).stream()
+                .collect(Collectors.toMap(DbConnection::getId, Function.identity()));
+        Map<Long, List<FieldMapping>> mappings = configs.isEmpty() ? Map.of()
+                : fieldMappingMapper.selectList(new LambdaQueryWrapper<FieldMapping>()
+                        .in(FieldMapping::getConfigId, configs.keySet())
+                        .orderByAsc(FieldMapping::getSortOrder))
+                .stream()
+                .collect(Collectors.groupingBy(FieldMapping::getConfigId));
+
+        // 2. 逐个校验，合法的配置批量创建任务记录
+        List<SyncBatchExecuteVO.Item> items = new ArrayList<>(ids.size());
+        List<SyncTask> tasks = new ArrayList<>();
+        for (Long configId : ids) {
+            SyncConfig config = configs.get(configId);
+            String error = null;
+            if (config == null) {
+                error = "同步配置不存在: " + configId;
+            } else if (!Boolean.TRUE.equals(config.getEnabled())) {
+                error = "同步配置已禁用";
+            } else if (!connections.containsKey(config.getSourceDbId())) {
+                error = "源数据库连接不存在: " + config.getSourceDbId();
+            } else if (!connections.containsKey(config.getTargetDbId())) {
+                error = "目标数据库连接不存在: " + config.getTargetDbId();
+            }
+
+            SyncBatchExecuteVO.Item item = SyncBatchExecuteVO.Item.builder()
+                    .configId(configId)
+                    .configName(config != null ? config.getName() : null)
+                    .status(error == null ? "SUBMITTED" : "FAILED")
+                    .message(error)
+                    .build();
+            items.add(item);
+            if (error == null) {
+                SyncTask task = new SyncTask();
+                task.setConfigId(configId);
+                task.setConfigName(config.getName());
+                task.setStatus("PENDING");
+                task.setAttempt(1);
+                task.setResumedFromCheckpoint(false);
+                task.setTotalRows(0L);
+                task.setSyncRows(0L);
+                tasks.add(task);
+            }
+        }
+        if (!tasks.isEmpty()) {
+            this.saveBatch(tasks);
+            LambdaUpdateWrapper<SyncTask> rootWrapper = new LambdaUpdateWrapper<>();
+            rootWrapper.in(SyncTask::getId, tasks.stream().map(SyncTask::getId).toList())
+                    .setSql("root_task_id = id");
+            this.update(rootWrapper);
+            countCache.invalidateAfterCommit("sys_sync_task");
+        }
+        Map<Long, SyncTask> taskByConfig = tasks.stream()
+                .collect(Collectors.toMap(SyncTask::getConfigId, Function.identity()));
+        items.forEach(item -> {
+            SyncTask task = taskByConfig.get(item.getConfigId());
+            if (task != null) {
+                item.setTaskId(task.getId());
+            }
+        });
+
+        // 3. 并行构建 Job 配置，构建失败的配置在响应中逐个报告
+        Map<Long, CompletableFuture<String>> builds = tasks.stream()
+                .collect(Collectors.toMap(SyncTask::getConfigId, task -> {
+                    SyncConfig config = configs.get(task.getConfigId());
+                    return CompletableFuture.supplyAsync(() -> prepareJobConfig(task.getId(), config,
+                            connections.get(config.getSourceDbId()),
+                            connections.get(config.getTargetDbId()),
+                            mappings.getOrDefault(config.getId(), List.of())), batchExecutor);
+                }));
+
+        // 4. 构建成功的交给后台提交，不等待 SeaTunnel 响应
+        for (SyncBatchExecuteVO.Item item : items) {
+            CompletableFuture<String> build = builds.get(item.getConfigId());
+            if (build == null) {
+                continue;
+            }
+            Long taskId = item.getTaskId();
+            try {
+                String jobConfig = build.join();
+                if (jobConfig == null) {
+                    item.setMessage("增量水位之后没有新数据");
+                    continue;
+                }
+                batchExecutor.execute(() -> submitWithPermit(taskId, jobConfig));
+            } catch (Exception e) {
+                Throwable cause = e.getCause() != null ? e.getCause() : e;
+                item.setStatus("FAILED");
+                item.setMessage(cause.getMessage());
+                handleSubmitFailure(taskId, cause instanceof Exception ex ? ex : e);
+            }
+        }
+
+        int submitted = (int) items.stream().filter(item -> "SUBMITTED".equals(item.getStatus())).count();
+        log.info("批量执行同步任务: total={}, submitted={}, failed={}", ids.size(), submitted, ids.size() - submitted);
+        return SyncBatchExecuteVO.builder()
+                .total(ids.size())
+                .submitted(submitted)
+                .failed(ids.size() - submitted)
+                .items(items)
+                .build();
+    }
+
+    private void submitWithPermit(Long taskId, String jobConfig) {
+        try {
+            submitPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            handleSubmitFailure(taskId, e);
+            return;
+        }
+        try {
+            saveTaskLog(taskId, "INFO", "SeaTunnel Job 配置构建完成（批量执行）");
+            submitJobConfig(taskId, jobConfig, null);
+        } catch (Exception e) {
+            handleSubmitFailure(taskId, e);
+        } finally {
+            submitPermits.release();
+        }
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public SyncTask retryTask(Long taskId) {
+        SyncTask failed = this.getById(taskId);
+        if (failed == null) {
+            throw BusinessException.of("任务不存在");
+        }
+        if (!"FAILED".equals(failed.getStatus()) && !"WAITING_RETRY".equals(failed.getStatus())) {
+            throw BusinessException.of("当前任务状态不允许重试: " + failed.getStatus());
+        }
+        if (failed.getRetryTaskId() != null) {
+            throw BusinessException.of("任务已重试，后续尝试ID: " + failed.getRetryTaskId());
+        }
+
+        SyncConfig config = syncConfigService.findById(failed.getConfigId())
+                .orElseThrow(() -> BusinessException.of("同步配置不存在: " + failed.getConfigId()));
+        if (!Boolean.TRUE.equals(config.getEnabled())) {
+            throw BusinessException.of("同步配置已禁用");
+        }
+        DbConnection sourceDb = dbConnectionService.findById(config.getSourceDbId())
+                .orElseThrow(() -> BusinessException.of("源数据库连接不存在: " + config.getSourceDbId()));
+        DbConnection targetDb = dbConnectionService.findById(config.getTargetDbId())
+                .orElseThrow(() -> BusinessException.of("目标数据库连接不存在: " + config.getTargetDbId()));
+        List<FieldMapping> mappings = loadFieldMappings(config.getId());
+
+        // 实时流任务和开启检查点的批任务从上一次尝试的检查点恢复，只损失最后一个检查点之后的进度；
+        // 暂存表切换模式每次尝试都重建暂存表，不能从检查点恢复
+        String restoreJobId = SeaTunnelConfigBuilder.supportsCheckpointRestore(config)
+                && !StagingTableManager.applies(config)
+                && StringUtils.isNotBlank(failed.getSeatunnelJobId()) ? failed.getSeatunnelJobId() : null;
+
+        int attempt = (failed.getAttempt() != null ? failed.getAttempt() : 1) + 1;
+        SyncTask retry = new SyncTask();
+        retry.setConfigId(config.getId());
+        retry.setConfigName(config.getName());
+        retry.setStatus("PENDING");
+        retry.setRootTaskId(failed.getRootTaskId() != null ? failed.getRootTaskId() : failed.getId());
+        retry.setParentTaskId(failed.getId());
+        retry.setAttempt(attempt);
+        retry.setResumedFromCheckpoint(restoreJobId != null);
+        retry.setTotalRows(0L);
+        retry.setSyncRows(0L);
+        // 增量任务重读失败尝试的同一窗口，水位只在窗口完成后提交
+        retry.setWatermarkFromValue(failed.getWatermarkFromValue());
+        retry.setWatermarkFromKey(failed.getWatermarkFromKey());
+        retry.setWatermarkReadFrom(failed.getWatermarkReadFrom());
+        retry.setWatermarkToValue(failed.getWatermarkToValue());
+        retry.setWatermarkToKey(failed.getWatermarkToKey());
+        retry.setWatermarkHasMore(failed.getWatermarkHasMore());
+        this.save(retry);
+        countCache.invalidateAfterCommit("sys_sync_task");
+
+        // 关闭上一次尝试并建立链接：条件更新抢占重试，自动重试与手动重试并发时只有一个成功，失败方回滚新建的尝试
+        LambdaUpdateWrapper<SyncTask> failedWrapper = new LambdaUpdateWrapper<>();
+        failedWrapper.eq(SyncTask::getId, failed.getId())
+                .isNull(SyncTask::getRetryTaskId)
+                .in(SyncTask::getStatus, "FAILED", "WAITING_RETRY")
+                .set(SyncTask::getStatus, "FAILED")
+                .set(SyncTask::getRetryTaskId, retry.getId())
+                .set(SyncTask::getNextRetryTime, null);
+        if (!this.update(failedWrapper)) {
+            throw BusinessException.of("任务已被重试或状态已变化，请刷新后再试");
+        }
+        saveTaskLog(failed.getId(), "INFO", "已创建第 " + attempt + " 次尝试，taskId: " + retry.getId());
+
+        saveTaskLog(retry.getId(), "INFO", "第 " + attempt + " 次尝试，上一次尝试 taskId: " + failed.getId()
+                + (restoreJobId != null ? "，将从 SeaTunnel 任务 " + restoreJobId + " 的检查点恢复" : "，将重新全量执行"));
+
+        runAfterCommit(() -> submitToSeaTunnel(retry.getId(), config, sourceDb, targetDb, mappings, restoreJobId));
+
+        log.info("重试同步任务: failedTaskId={}, retryTaskId={}, attempt={}, restoreJobId={}",
+                failed.getId(), retry.getId(), attempt, restoreJobId);
+        return retry;
+    }
+
     /**
-     * 异步提交任务到 SeaTunnel
+     * 提交任务到 SeaTunnel（在事务提交后于虚拟线程中调用）
      */
-    @Async
-    public void submitToSeaTunnel(Long taskId, SyncConfig config, DbConnection sourceDb,
-                                   DbConnection targetDb, List<FieldMapping> mappings) {
+    private void submitToSeaTunnel(Long taskId, SyncConfig config, DbConnection sourceDb,
+                                   DbConnection targetDb, List<FieldMapping> mappings, String restoreJobId) {
         try {
             // 构建配置
-            String jobConfig = configBuilder.buildJobConfig(config, sourceDb, targetDb, mappings);
+            String jobConfig = prepareJobConfig(taskId, config, sourceDb, targetDb, mappings);
+            if (jobConfig == null) {
+                return;
+            }
             saveTaskLog(taskId, "INFO", "SeaTunnel Job 配置构建完成");
+            submitJobConfig(taskId, jobConfig, restoreJobId);
+        } catch (Exception e) {
+            handleSubmitFailure(taskId, e);
+        }
+    }
 
-            // 更新状态为 RUNNING
-            updateTaskStatus(taskId, "RUNNING", null);
-            updateTaskStartTime(taskId);
+    /**
+     * 构建 Job 配置；增量任务先确定读取窗口并记录到任务上，暂存表切换模式先重建暂存表，配置了分片策略时规划分片
+     * <p>
+     * 任务已记录窗口（重试、继续下一个分块）时沿用该窗口，否则从配置中已提交的水位开始规划。
+     *
+     * @return Job 配置；水位之后没有新数据时任务直接完成，返回 null
+     */
+    private String prepareJobConfig(Long taskId, SyncConfig config, DbConnection sourceDb,
+                                    DbConnection targetDb, List<FieldMapping> mappings) {
+        IncrementalWindow window = null;
+        if (IncrementalWindowPlanner.applies(config)) {
+            window = windowPlanner.restore(config, sourceDb, this.getById(taskId));
+            if (window == null) {
+                window = windowPlanner.plan(config, sourceDb, true);
+                if (!window.isEmpty()) {
+                    SyncTask update = new SyncTask();
+                    update.setId(taskId);
+                    IncrementalWindowPlanner.writeTo(window, config, update);
+                    this.updateById(update);
+                }
+            }
+            if (window.isEmpty()) {
+                updateTaskStatus(taskId, "FINISHED", null);
+                updateTaskStartTime(taskId);
+                updateTaskEndTime(taskId);
+                saveTaskLog(taskId, "INFO", "增量水位之后没有新数据，无需提交到 SeaTunnel");
+                return null;
+            }
+            saveTaskLog(taskId, "INFO", "增量窗口: " + describe(window)
+                    + (window.hasMore() ? "（积压按分块同步，本块完成后继续）" : ""));
+        }
+        if (StagingTableManager.applies(config)) {
+            claimStagingTable(taskId, config);
+            boolean targetExists = stagingTableManager.prepare(config, targetDb);
+            saveTaskLog(taskId, "INFO", targetExists
+                    ? "已按目标表结构创建暂存表（不含二级索引），加载完成后建立索引并切换"
+                    : "目标表不存在，暂存表由 SeaTunnel 自动创建，加载完成后改名为目标表");
+        }
+        List<SourceSplit> splits = List.of();
+        if (SourceSplitPlanner.applies(config)) {
+            splits = splitPlanner.plan(config, sourceDb);
+            saveTaskLog(taskId, "INFO", "分片读取（" + config.getSplitStrategy() + "）: " + splits.size() + " 个分片"
+                    + (splits.size() > 1 ? "并行读取" : "，源表无法切分，按整表读取"));
+        }
+        return configBuilder.buildJobConfig(config, sourceDb, targetDb, mappings, window, splits);
+    }
+
+    /**
+     * 占用配置的暂存表
+     * <p>
+     * 暂存表名按目标表固定，同一配置的另一个任务仍在加载或切换时重建暂存表会截断它正在写入的数据，
+     * 因此拒绝提交。检查与标记 LOADING 在配置级短租约内完成，并发提交时只有一个任务能通过。
+     */
+    private void claimStagingTable(Long taskId, SyncConfig config) {
+        String lease = STAGING_LEASE_PREFIX + config.getId();
+        if (!leaseManager.tryAcquire(lease)) {
+            throw BusinessException.of("同步配置的暂存表正在被其他任务占用，请稍后重试");
+        }
+        try {
+            SyncTask active = this.lambdaQuery()
+                    .eq(SyncTask::getConfigId, config.getId())
+                    .ne(SyncTask::getId, taskId)
+                    .in(SyncTask::getStatus, "PENDING", "RUNNING")
+                    .in(SyncTask::getSwapStatus, StagingTableManager.STATUS_LOADING, StagingTableManager.STATUS_SWAPPING)
+                    .last("LIMIT 1")
+                    .one();
+            if (active != null) {
+                throw BusinessException.of("同步配置的暂存表正被任务 " + active.getId() + " 使用（"
+                        + active.getSwapStatus() + "），请等待其完成后再执行");
+            }
+            updateSwapStatus(taskId, StagingTableManager.STATUS_LOADING);
+        } finally {
+            leaseManager.release(lease);
+        }
+    }
 
-            // 提交任务
-            String jobId = seaTunnelClient.submitJob(jobConfig);
+    /**
+     * 提交已构建的 Job 配置并记录 SeaTunnel 任务 ID
+     */
+    private void submitJobConfig(Long taskId, String jobConfig, String restoreJobId) {
+        // 只有仍为 PENDING 的任务才更新为 RUNNING 并提交，提交前已被取消的任务不再提交
+        LambdaUpdateWrapper<SyncTask> claimWrapper = new LambdaUpdateWrapper<>();
+        claimWrapper.eq(SyncTask::getId, taskId)
+                .eq(SyncTask::getStatus, "PENDING")
+                .set(SyncTask::getStatus, "RUNNING")
+                .set(SyncTask::getErrorMessage, null)
+                .set(SyncTask::getStartTime, LocalDateTime.now());
+        if (!this.update(claimWrapper)) {
+            saveTaskLog(taskId, "WARN", "任务在提交前已被取消，不再提交到 SeaTunnel");
+            log.info("任务在提交前已被取消: taskId={}", taskId);
+            return;
+        }
+        meterRegistry.counter("sync.tasks.transitions", "status", "RUNNING").increment();
 
-            // 更新 SeaTunnel 任务 ID
-            LambdaUpdateWrapper<SyncTask> updateWrapper = new LambdaUpdateWrapper<>();
-            updateWrapper.eq(SyncTask::getId, taskId)
-                    .set(SyncTask::getSeatunnelJobId, jobId);
-            this.update(updateWrapper);
+        // 提交任务：需要恢复时先尝试从检查点恢复，检查点不可用则退化为重新执行
+        String jobId;
+        if (restoreJobId != null) {
+            try {
+                jobId = seaTunnelClient.submitJob(jobConfig, restoreJobId);
+                saveTaskLog(taskId, "INFO", "已从 SeaTunnel 任务 " + restoreJobId + " 的检查点恢复");
+            } catch (BusinessException e) {
+                log.warn("从检查点恢复失败，改为重新执行: taskId={}, restoreJobId={}, error={}",
+                        taskId, restoreJobId, e.getMessage());
+                saveTaskLog(taskId, "WARN", "从检查点恢复失败，改为重新执行: " + e.getMessage());
+                markResumedFromCheckpoint(taskId, false);
+                jobId = seaTunnelClient.submitJob(jobConfig);
+            }
+        } else {
+            jobId = seaTunnelClient.submitJob(jobConfig);
+        }
 
-            saveTaskLog(taskId, "INFO", "任务已提交到 SeaTunnel，jobId: " + jobId);
-            log.info("同步任务已提交: taskId={}, seatunnelJobId={}", taskId, jobId);
+        // 更新 SeaTunnel 任务 ID
+        LambdaUpdateWrapper<SyncTask> updateWrapper = new LambdaUpdateWrapper<>();
+        updateWrapper.eq(SyncTask::getId, taskId)
+                .set(SyncTask::getSeatunnelJobId, jobId);
+        this.update(updateWrapper);
 
-        } catch (Exception e) {
-            log.error("提交同步任务失败: taskId={}, error={}", taskId, e.getMessage());
-            updateTaskStatus(taskId, "FAILED", e.getMessage());
-            updateTaskEndTime(taskId);
-            saveTaskLog(taskId, "ERROR", "任务提交失败: " + e.getMessage());
+        saveTaskLog(taskId, "INFO", "任务已提交到 SeaTunnel，jobId: " + jobId);
+        log.info("同步任务已提交: taskId={}, seatunnelJobId={}", taskId, jobId);
+
+        // 提交期间被取消时取消方还看不到 jobId，由这里停止刚提交的作业
+        SyncTask current = this.getById(taskId);
+        if (current != null && "CANCELED".equals(current.getStatus())) {
+            seaTunnelClient.stopJob(jobId);
+            saveTaskLog(taskId, "WARN", "任务在提交期间已被取消，已停止 SeaTunnel 作业");
+            log.info("停止提交期间被取消的任务: taskId={}, seatunnelJobId={}", taskId, jobId);
         }
     }
 
+    private void handleSubmitFailure(Long taskId, Exception e) {
+        log.error("提交同步任务失败: taskId={}, error={}", taskId, e.getMessage());
+        updateTaskStatus(taskId, "FAILED", e.getMessage());
+        updateTaskEndTime(taskId);
+        saveTaskLog(taskId, "ERROR", "任务提交失败: " + e.getMessage());
+        scheduleRetry(taskId, e.getMessage());
+    }
+
     @Override
     @Transactional(rollbackFor = Exception.class)
     public boolean cancelTask(Long taskId) {
@@ -152,11 +603,24 @@ public class SyncTaskServiceImpl extends ServiceImpl<SyncTaskMapper, SyncTask> i
             throw BusinessException.of("任务不存在");
         }
 
-        // 只有 PENDING 或 RUNNING 状态的任务可以取消
-        if (!"PENDING".equals(task.getStatus()) && !"RUNNING".equals(task.getStatus())) {
+        // 只有 PENDING、RUNNING 或等待重试的任务可以取消
+        if (!"PENDING".equals(task.getStatus()) && !"RUNNING".equals(task.getStatus())
+                && !"WAITING_RETRY".equals(task.getStatus())) {
             throw BusinessException.of("当前任务状态不允许取消: " + task.getStatus());
         }
 
+        // 等待重试的任务在 SeaTunnel 中已结束，只需撤销重试计划
+        if ("WAITING_RETRY".equals(task.getStatus())) {
+            LambdaUpdateWrapper<SyncTask> wrapper = new LambdaUpdateWrapper<>();
+            wrapper.eq(SyncTask::getId, taskId)
+                    .set(SyncTask::getStatus, "CANCELED")
+                    .set(SyncTask::getNextRetryTime, null);
+            this.update(wrapper);
+            saveTaskLog(taskId, "WARN", "已取消后续重试");
+            log.info("取消同步任务重试: taskId={}", taskId);
+            return true;
+        }
+
         // 如果已提交到 SeaTunnel，尝试停止
         if (task.getSeatunnelJobId() != null && !task.getSeatunnelJobId().isEmpty()) {
             boolean stopped = seaTunnelClient.stopJob(task.getSeatunnelJobId());
@@ -191,27 +655,46 @@ public class SyncTaskServiceImpl extends ServiceImpl<SyncTaskMapper, SyncTask> i
             return task;
         }
 
-        // 从 SeaTunnel 查询状态
-        Map<String, Object> jobInfo = seaTunnelClient.getJobInfo(task.getSeatunnelJobId());
+        // 已在建索引并切换：加载完成已在进入 SWAPPING 前确认，不再依赖 SeaTunnel 中的作业记录
+        if ("SWAPPING".equals(task.getSwapStatus())) {
+            onJobFinished(task, "任务已完成");
+            return this.getById(taskId);
+        }
+
+        // 从 SeaTunnel 查询状态：查询失败时状态未知，保持 RUNNING 等待下一次刷新，绝不当作完成
+        Map<String, Object> jobInfo;
+        try {
+            jobInfo = seaTunnelClient.getJobInfo(task.getSeatunnelJobId());
+            if (jobInfo.isEmpty()) {
+                // 已不在运行列表中：完成、失败、取消都会离开运行列表，必须查询终态确认
+                jobInfo = seaTunnelClient.getFinishedJobInfo(task.getSeatunnelJobId());
+            }
+        } catch (BusinessException e) {
+            log.warn("SeaTunnel 任务状态未知，保持运行中: taskId={}, jobId={}, error={}",
+                    taskId, task.getSeatunnelJobId(), e.getMessage());
+            return task;
+        }
+
         if (jobInfo.isEmpty()) {
-            // 任务可能已完成（不在 running-jobs 中了）
-            updateTaskStatus(taskId, "FINISHED", null);
+            // SeaTunnel 可达但没有该任务的任何记录（例如集群重启丢失了作业历史），无法确认数据已完整写入
+            String errMsg = "SeaTunnel 中找不到任务记录，无法确认任务已完成";
+            updateTaskStatus(taskId, "FAILED", errMsg);
             updateTaskEndTime(taskId);
-            saveTaskLog(taskId, "INFO", "任务已完成（SeaTunnel 中已无运行记录）");
+            saveTaskLog(taskId, "ERROR", errMsg);
+            scheduleRetry(taskId, errMsg);
         } else {
             // 更新行数等信息
             Object jobStatus = jobInfo.get("jobStatus");
             if (jobStatus != null) {
                 String statusStr = jobStatus.toString();
                 if ("FINISHED".equalsIgnoreCase(statusStr)) {
-                    updateTaskStatus(taskId, "FINISHED", null);
-                    updateTaskEndTime(taskId);
-                    saveTaskLog(taskId, "INFO", "任务已完成");
+                    onJobFinished(task, "任务已完成");
                 } else if ("FAILED".equalsIgnoreCase(statusStr)) {
                     String errMsg = jobInfo.getOrDefault("errorMsg", "未知错误").toString();
                     updateTaskStatus(taskId, "FAILED", errMsg);
                     updateTaskEndTime(taskId);
                     saveTaskLog(taskId, "ERROR", "任务执行失败: " + errMsg);
+                    scheduleRetry(taskId, errMsg);
                 } else if ("CANCELED".equalsIgnoreCase(statusStr) || "CANCELLED".equalsIgnoreCase(statusStr)) {
                     updateTaskStatus(taskId, "CANCELED", null);
                     updateTaskEndTime(taskId);
@@ -239,25 +722,300 @@ public class SyncTaskServiceImpl extends ServiceImpl<SyncTaskMapper, SyncTask> i
     }
 
     @Override
-    public List<SyncTaskLogVO> getTaskLogs(Long taskId) {
-        LambdaQueryWrapper<SyncTaskLog> wrapper = new LambdaQueryWrapper<>();
-        wrapper.eq(SyncTaskLog::getTaskId, taskId)
-                .orderByAsc(SyncTaskLog::getCreateTime);
-        List<SyncTaskLog> logs = syncTaskLogMapper.selectList(wrapper);
-        if (logs == null || logs.isEmpty()) {
-            return Collections.emptyList();
+    public List<SyncTask> getAttempts(Long taskId) {
+        SyncTask task = this.getById(taskId);
+        if (task == null) {
+            throw BusinessException.of("任务不存在");
         }
-        return logs.stream().map(SyncTaskLogVO::fromEntity).toList();
+        Long rootTaskId = task.getRootTaskId() != null ? task.getRootTaskId() : task.getId();
+        LambdaQueryWrapper<SyncTask> wrapper = new LambdaQueryWrapper<>();
+        wrapper.and(w -> w.eq(SyncTask::getRootTaskId, rootTaskId).or().eq(SyncTask::getId, rootTaskId))
+                .orderByAsc(SyncTask::getAttempt);
+        return this.list(wrapper);
+    }
+
+    @Override
+    public List<SyncTaskLogVO> getTaskLogs(Long taskId, Long afterId, List<String> levels, Integer limit) {
+        int size = limit != null ? limit : syncLogProperties.getDefaultLimit();
+        return taskLogTailer.read(taskId, afterId, levels, size).stream()
+                .map(SyncTaskLogVO::fromEntity)
+                .toList();
+    }
+
+    @Override
+    public SseEmitter followTaskLogs(Long taskId, Long afterId, List<String> levels) {
+        return taskLogTailer.follow(taskId, afterId, levels);
     }
 
     // ==================== 私有方法 ====================
 
+    private List<FieldMapping> loadFieldMappings(Long configId) {
+        return syncConfigService.listFieldMappings(configId);
+    }
+
+    /**
+     * 按配置的重试策略为失败的尝试安排重试
+     * <p>
+     * 只登记计划重试时间并把状态置为 WAITING_RETRY，由重试轮询器在到期后调用 {@link #retryTask(Long)}。
+     */
+    private void scheduleRetry(Long taskId, String errorMessage) {
+        try {
+            SyncTask task = this.getById(taskId);
+            SyncConfig config = task == null ? null : syncConfigService.findById(task.getConfigId()).orElse(null);
+            if (config == null) {
+                return;
+            }
+            RetryPolicy policy = RetryPolicy.from(config);
+            int attempt = task.getAttempt() != null ? task.getAttempt() : 1;
+            if (!policy.hasAttemptsLeft(attempt)) {
+                if (policy.getMaxAttempts() > 1) {
+                    saveTaskLog(taskId, "WARN", "已达到最大尝试次数 " + policy.getMaxAttempts() + "，不再重试");
+                }
+                return;
+            }
+            if (!policy.isRetryable(errorMessage)) {
+                saveTaskLog(taskId, "INFO", "错误不属于可重试类型，不自动重试");
+                return;
+            }
+
+            Duration backoff = policy.backoff(attempt);
+            LambdaUpdateWrapper<SyncTask> wrapper = new LambdaUpdateWrapper<>();
+            wrapper.eq(SyncTask::getId, taskId)
+                    .eq(SyncTask::getStatus, "FAILED")
+                    .set(SyncTask::getStatus, "WAITING_RETRY")
+                    .set(SyncTask::getNextRetryTime, LocalDateTime.now().plus(backoff));
+            this.update(wrapper);
+            saveTaskLog(taskId, "WARN", "检测到可重试错误，将在 " + backoff.toSeconds()
+                    + " 秒后进行第 " + (attempt + 1) + " 次尝试");
+            log.info("安排同步任务重试: taskId={}, attempt={}, backoff={}s", taskId, attempt + 1, backoff.toSeconds());
+        } catch (Exception e) {
+            log.warn("安排同步任务重试失败: taskId={}, error={}", taskId, e.getMessage());
+        }
+    }
+
+    /**
+     * SeaTunnel 作业完成
+     * <p>
+     * 暂存表切换模式的作业完成只代表暂存表加载完毕：抢占 LOADING -> SWAPPING 后在事务提交后异步建索引并切换，
+     * 任务保持 RUNNING 直到切换完成，重复刷新不会重复切换。已在切换中的任务交给 {@link #completeSwap} 判断是否需要接管。
+     * 其他任务直接完成并提交增量水位。
+     * <p>
+     * 只在 SeaTunnel 确认作业处于 FINISHED 终态后调用；状态未知或找不到作业记录不视为完成。
+     */
+    private void onJobFinished(SyncTask task, String message) {
+        if (StagingTableManager.STATUS_SWAPPING.equals(task.getSwapStatus())) {
+            // 刚开始切换的任务执行节点还来不及取得租约，跳过
+            LocalDateTime claimedBefore = LocalDateTime.now().minusSeconds(scheduleProperties.getLeaseTtlSeconds());
+            if (task.getSwapStartedAt() == null || task.getSwapStartedAt().isBefore(claimedBefore)) {
+                runAfterCommit(() -> completeSwap(task.getId(), true));
+            }
+            return;
+        }
+        if (StagingTableManager.STATUS_LOADING.equals(task.getSwapStatus())) {
+            LambdaUpdateWrapper<SyncTask> wrapper = new LambdaUpdateWrapper<>();
+            wrapper.eq(SyncTask::getId, task.getId())
+                    .eq(SyncTask::getSwapStatus, StagingTableManager.STATUS_LOADING)
+                    .set(SyncTask::getSwapStatus, StagingTableManager.STATUS_SWAPPING)
+                    .set(SyncTask::getSwapStartedAt, LocalDateTime.now());
+            if (this.update(wrapper)) {
+                saveTaskLog(task.getId(), "INFO", "数据已加载到暂存表，开始建立索引并切换");
+                runAfterCommit(() -> completeSwap(task.getId(), false));
+            }
+            return;
+        }
+        // 条件完成：轮询、工作流与手动刷新可能并发确认同一作业，只有完成该任务的一方提交水位并继续下一个分块
+        LambdaUpdateWrapper<SyncTask> wrapper = new LambdaUpdateWrapper<>();
+        wrapper.eq(SyncTask::getId, task.getId())
+                .eq(SyncTask::getStatus, "RUNNING")
+                .set(SyncTask::getStatus, "FINISHED")
+                .set(SyncTask::getErrorMessage, null)
+                .set(SyncTask::getEndTime, LocalDateTime.now());
+        if (!this.update(wrapper)) {
+            return;
+        }
+        meterRegistry.counter("sync.tasks.transitions", "status", "FINISHED").increment();
+        saveTaskLog(task.getId(), "INFO", message);
+        commitWatermark(task);
+    }
+
+    /**
+     * 在暂存表上建立索引并切换为目标表；失败时目标表保持原样，任务按重试策略重新全量加载
+     * <p>
+     * 执行节点持有切换租约并由心跳续期，同一任务同一时刻只有一个节点在切换。
+     * 执行节点中途退出后租约过期，轮询节点刷新到该任务时接管并重新切换（切换可重入）；
+     * 自开始切换起超过时限仍未完成的任务不再接管，直接标记失败。
+     *
+     * @param takeover 是否为接管中断的切换
+     */
+    private void completeSwap(Long taskId, boolean takeover) {
+        String lease = SWAP_LEASE_PREFIX + taskId;
+        if (!leaseManager.tryAcquire(lease)) {
+            return;
+        }
+        ScheduledFuture<?> heartbeat = leaseManager.keepAlive(lease);
+        try {
+            SyncTask task = this.getById(taskId);
+            if (task == null || !"RUNNING".equals(task.getStatus())
+                    || !StagingTableManager.STATUS_SWAPPING.equals(task.getSwapStatus())) {
+                return;
+            }
+            if (takeover) {
+                LocalDateTime deadline = task.getSwapStartedAt() == null ? null
+                        : task.getSwapStartedAt().plusMinutes(scheduleProperties.getSwapTimeoutMinutes());
+                if (deadline == null || deadline.isBefore(LocalDateTime.now())) {
+                    throw BusinessException.of("暂存表切换已中断且超过 " + scheduleProperties.getSwapTimeoutMinutes() + " 分钟未完成");
+                }
+                log.warn("接管中断的暂存表切换: taskId={}, swapStartedAt={}", taskId, task.getSwapStartedAt());
+                saveTaskLog(taskId, "WARN", "暂存表切换中断（执行节点已退出），重新执行建索引与切换");
+            }
+            SyncConfig config = syncConfigService.findById(task.getConfigId())
+                    .orElseThrow(() -> BusinessException.of("同步配置不存在: " + task.getConfigId()));
+            DbConnection targetDb = dbConnectionService.findById(config.getTargetDbId())
+                    .orElseThrow(() -> BusinessException.of("目标数据库连接不存在: " + config.getTargetDbId()));
+            String result = stagingTableManager.swap(config, targetDb);
+            updateSwapStatus(taskId, StagingTableManager.STATUS_SWAPPED);
+            saveTaskLog(taskId, "INFO", result);
+
+            // 切换期间任务可能已被取消，只完成仍在运行的任务
+            LambdaUpdateWrapper<SyncTask> wrapper = new LambdaUpdateWrapper<>();
+            wrapper.eq(SyncTask::getId, taskId)
+                    .eq(SyncTask::getStatus, "RUNNING")
+                    .set(SyncTask::getStatus, "FINISHED")
+                    .set(SyncTask::getEndTime, LocalDateTime.now());
+            if (this.update(wrapper)) {
+                meterRegistry.counter("sync.tasks.transitions", "status", "FINISHED").increment();
+                saveTaskLog(taskId, "INFO", "任务已完成");
+            }
+            log.info("全量同步暂存表已切换: taskId={}, configId={}", taskId, config.getId());
+        } catch (Exception e) {
+            log.error("暂存表切换失败: taskId={}, error={}", taskId, e.getMessage());
+            updateSwapStatus(taskId, StagingTableManager.STATUS_FAILED);
+            updateTaskStatus(taskId, "FAILED", e.getMessage());
+            updateTaskEndTime(taskId);
+            saveTaskLog(taskId, "ERROR", "暂存表建索引或切换失败: " + e.getMessage());
+            scheduleRetry(taskId, e.getMessage());
+        } finally {
+            heartbeat.cancel(false);
+            leaseManager.release(lease);
+        }
+    }
+
+    /**
+     * 增量任务完成后提交水位
+     * <p>
+     * 只由 {@link #onJobFinished} 在 SeaTunnel 确认作业 FINISHED 且本次刷新完成了该任务时调用；
+     * 查询失败或找不到作业记录的任务按失败重试，重读同一窗口，水位不会越过未加载的数据。
+     * <p>
+     * 比较并设置：只有配置中的水位仍是规划窗口时的起始水位才推进，
+     * 重复刷新同一任务、并发执行的旧窗口或人工修改过水位时都不会把水位改回去。
+     * 结束水位之后还有积压时，在事务提交后继续下一个分块。
+     */
+    private void commitWatermark(SyncTask task) {
+        if (task.getWatermarkToValue() == null) {
+            return;
+        }
+        LambdaUpdateWrapper<SyncConfig> wrapper = new LambdaUpdateWrapper<>();
+        wrapper.eq(SyncConfig::getId, task.getConfigId());
+        matchText(wrapper, SyncConfig::getLastSyncValue, task.getWatermarkFromValue());
+        matchText(wrapper, SyncConfig::getLastSyncKey, task.getWatermarkFromKey());
+        wrapper.set(SyncConfig::getLastSyncValue, task.getWatermarkToValue())
+                .set(SyncConfig::getLastSyncKey, task.getWatermarkToKey());
+        if (!syncConfigService.update(wrapper)) {
+            saveTaskLog(task.getId(), "WARN", "同步配置的增量水位已被其他任务或人工修改，本次不推进水位");
+            return;
+        }
+        syncConfigService.evictCache(task.getConfigId());
+        saveTaskLog(task.getId(), "INFO", "增量水位已推进到 " + describeWatermark(task.getWatermarkToValue(), task.getWatermarkToKey()));
+        log.info("增量水位已提交: taskId={}, configId={}, value={}, key={}",
+                task.getId(), task.getConfigId(), task.getWatermarkToValue(), task.getWatermarkToKey());
+
+        if (Boolean.TRUE.equals(task.getWatermarkHasMore())) {
+            runAfterCommit(() -> continueIncremental(task.getConfigId(), task.getId()));
+        }
+    }
+
+    /**
+     * 在当前事务提交后（没有事务时立即）于虚拟线程中执行
+     */
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    batchExecutor.execute(action);
+                }
+            });
+        } else {
+            batchExecutor.execute(action);
+        }
+    }
+
+    /**
+     * 从刚提交的水位继续同步下一个分块（不再回看）
+     */
+    private void continueIncremental(Long configId, Long previousTaskId) {
+        try {
+            SyncConfig config = syncConfigService.findById(configId)
+                    .orElseThrow(() -> BusinessException.of("同步配置不存在: " + configId));
+            DbConnection sourceDb = dbConnectionService.findById(config.getSourceDbId())
+                    .orElseThrow(() -> BusinessException.of("源数据库连接不存在: " + config.getSourceDbId()));
+            IncrementalWindow window = windowPlanner.plan(config, sourceDb, false);
+            if (window.isEmpty()) {
+                saveTaskLog(previousTaskId, "INFO", "增量积压已全部同步");
+                return;
+            }
+            SyncTask next = doExecuteSync(configId, window);
+            saveTaskLog(previousTaskId, "INFO", "增量积压未同步完，已继续下一个分块，taskId: " + next.getId());
+        } catch (Exception e) {
+            log.warn("继续增量分块失败: configId={}, previousTaskId={}, error={}", configId, previousTaskId, e.getMessage());
+            saveTaskLog(previousTaskId, "WARN", "继续下一个分块失败，将在下次执行时从已提交的水位继续: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 文本列等值条件，空文本匹配 NULL 或空串
+     */
+    private static void matchText(LambdaUpdateWrapper<SyncConfig> wrapper, SFunction<SyncConfig, ?> column, String value) {
+        if (value == null || value.isEmpty()) {
+            wrapper.and(w -> w.isNull(column).or().eq(column, ""));
+        } else {
+            wrapper.eq(column, value);
+        }
+    }
+
+    private static String describe(IncrementalWindow window) {
+        String lower = window.lowerValue() == null ? "起点"
+                : describeWatermark(WatermarkType.encode(window.lowerValue()), WatermarkType.encode(window.lowerKey()));
+        String upper = describeWatermark(WatermarkType.encode(window.upperValue()), WatermarkType.encode(window.upperKey()));
+        return lower + " -> " + upper
+                + (window.readFromValue() != null ? "，回看自 " + WatermarkType.encode(window.readFromValue()) : "");
+    }
+
+    private static String describeWatermark(String value, String key) {
+        return key == null ? value : "(" + value + ", " + key + ")";
+    }
+
+    private void markResumedFromCheckpoint(Long taskId, boolean resumed) {
+        LambdaUpdateWrapper<SyncTask> wrapper = new LambdaUpdateWrapper<>();
+        wrapper.eq(SyncTask::getId, taskId)
+                .set(SyncTask::getResumedFromCheckpoint, resumed);
+        this.update(wrapper);
+    }
+
+    private void updateSwapStatus(Long taskId, String swapStatus) {
+        LambdaUpdateWrapper<SyncTask> wrapper = new LambdaUpdateWrapper<>();
+        wrapper.eq(SyncTask::getId, taskId)
+                .set(SyncTask::getSwapStatus, swapStatus);
+        this.update(wrapper);
+    }
+
     private void updateTaskStatus(Long taskId, String status, String errorMessage) {
         LambdaUpdateWrapper<SyncTask> wrapper = new LambdaUpdateWrapper<>();
         wrapper.eq(SyncTask::getId, taskId)
                 .set(SyncTask::getStatus, status)
                 .set(SyncTask::getErrorMessage, errorMessage);
         this.update(wrapper);
+        meterRegistry.counter("sync.tasks.transitions", "status", status).increment();
     }
 
     private void updateTaskStartTime(Long taskId) {
@@ -281,6 +1039,7 @@ public class SyncTaskServiceImpl extends ServiceImpl<SyncTaskMapper, SyncTask> i
         taskLog.setMessage(message);
         taskLog.setCreateTime(LocalDateTime.now());
         syncTaskLogMapper.insert(taskLog);
+        taskLogTailer.notifyWritten(taskId);
     }
 
 }
@@ -0,0 +1,402 @@
+package com.antigravity.module.sync.service.impl;
+
+import com.antigravity.common.BusinessException;
+import com.antigravity.common.PageResult;
+import com.antigravity.config.SyncWorkflowProperties;
+import com.antigravity.module.sync.dto.WorkflowNodeDTO;
+import com.antigravity.module.sync.dto.WorkflowRunNodeVO;
+import com.antigravity.module.sync.dto.WorkflowRunVO;
+import com.antigravity.module.sync.entity.SyncConfig;
+import com.antigravity.module.sync.entity.SyncWorkflow;
+import com.antigravity.module.sync.entity.SyncWorkflowNode;
+import com.antigravity.module.sync.entity.SyncWorkflowRun;
+import com.antigravity.module.sync.entity.SyncWorkflowRunNode;
+import com.antigravity.module.sync.mapper.SyncWorkflowMapper;
+import com.antigravity.module.sync.mapper.SyncWorkflowNodeMapper;
+import com.antigravity.module.sync.mapper.SyncWorkflowRunMapper;
+import com.antigravity.module.sync.mapper.SyncWorkflowRunNodeMapper;
+import com.antigravity.module.sync.service.SyncConfigService;
+import com.antigravity.module.sync.service.SyncWorkflowService;
+import com.antigravity.module.sync.workflow.WorkflowDag;
+import com.antigravity.module.sync.workflow.WorkflowExecutor;
+import com.antigravity.module.sync.workflow.WorkflowStatus;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import com.baomidou.mybatisplus.core.toolkit.StringUtils;
+import com.baomidou.mybatisplus.extension.plugins.pagination.Page;
+import com.baomidou.mybatisplus.extension.service.impl.ServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 同步工作流 Service 实现
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SyncWorkflowServiceImpl extends ServiceImpl<SyncWorkflowMapper, SyncWorkflow> implements SyncWorkflowService {
+
+    private final SyncWorkflowNodeMapper nodeMapper;
+    private final SyncWorkflowRunMapper runMapper;
+    private final SyncWorkflowRunNodeMapper runNodeMapper;
+    private final SyncConfigService syncConfigService;
+    private final WorkflowExecutor workflowExecutor;
+    private final SyncWorkflowProperties properties;
+
+    @Override
+    public Optional<SyncWorkflow> findById(Long id) {
+        return Optional.ofNullable(this.getById(id));
+    }
+
+    @Override
+    public PageResult<SyncWorkflow> pageQuery(int pageNumber, int pageSize, String name) {
+        Page<SyncWorkflow> page = new Page<>(pageNumber, pageSize);
+        LambdaQueryWrapper<SyncWorkflow> wrapper = new LambdaQueryWrapper<>();
+        wrapper.like(StringUtils.isNotBlank(name), SyncWorkflow::getName, name)
+                .orderByDesc(SyncWorkflow::getCreateTime);
+
+        Page<SyncWorkflow> resultPage = this.page(page, wrapper);
+        return PageResult.of(resultPage.getRecords(), pageNumber, pageSize, resultPage.getTotal());
+    }
+
+    @Override
+    public boolean existsByName(String name) {
+        LambdaQueryWrapper<SyncWorkflow> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SyncWorkflow::getName, name);
+        return this.count(wrapper) > 0;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public SyncWorkflow createWorkflow(SyncWorkflow workflow, List<WorkflowNodeDTO> nodes) {
+        validateNodes(nodes);
+
+        if (workflow.getEnabled() == null) {
+            workflow.setEnabled(true);
+        }
+        workflow.setMaxParallelism(normalizeParallelism(workflow.getMaxParallelism()));
+        workflow.setIsDeleted(false);
+        this.save(workflow);
+
+        saveNodes(workflow.getId(), nodes);
+        log.info("创建同步工作流成功: id={}, name={}, nodes={}", workflow.getId(), workflow.getName(), nodes.size());
+        return workflow;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean updateWorkflow(SyncWorkflow workflow, List<WorkflowNodeDTO> nodes) {
+        if (nodes != null) {
+            validateNodes(nodes);
+        }
+        workflow.setMaxParallelism(normalizeParallelism(workflow.getMaxParallelism()));
+        boolean updated = this.updateById(workflow);
+
+        // 如果提供了节点，则全量替换（运行中的记录使用的是节点快照，不受影响）
+        if (nodes != null) {
+            LambdaQueryWrapper<SyncWorkflowNode> deleteWrapper = new LambdaQueryWrapper<>();
+            deleteWrapper.eq(SyncWorkflowNode::getWorkflowId, workflow.getId());
+            nodeMapper.delete(deleteWrapper);
+            saveNodes(workflow.getId(), nodes);
+        }
+
+        log.info("更新同步工作流: id={}, success={}", workflow.getId(), updated);
+        return updated;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean deleteWorkflow(Long id) {
+        if (hasRunningRun(id)) {
+            throw BusinessException.of("工作流正在运行，无法删除");
+        }
+
+        LambdaQueryWrapper<SyncWorkflowNode> deleteWrapper = new LambdaQueryWrapper<>();
+        deleteWrapper.eq(SyncWorkflowNode::getWorkflowId, id);
+        nodeMapper.delete(deleteWrapper);
+
+        boolean deleted = this.removeById(id);
+        log.info("删除同步工作流: id={}, success={}", id, deleted);
+        return deleted;
+    }
+
+    @Override
+    public List<WorkflowNodeDTO> getNodes(Long workflowId) {
+        List<SyncWorkflowNode> nodes = loadNodes(workflowId);
+        Map<Long, String> configNames = configNames(nodes.stream().map(SyncWorkflowNode::getConfigId).toList());
+        return nodes.stream()
+                .map(node -> {
+                    WorkflowNodeDTO dto = WorkflowNodeDTO.fromEntity(node);
+                    dto.setConfigName(configNames.get(node.getConfigId()));
+                    return dto;
+                })
+                .toList();
+    }
+
+    // ==================== 运行 ====================
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public SyncWorkflowRun startRun(Long workflowId) {
+        SyncWorkflow workflow = findById(workflowId)
+                .orElseThrow(() -> BusinessException.of("工作流不存在: " + workflowId));
+        if (!Boolean.TRUE.equals(workflow.getEnabled())) {
+            throw BusinessException.of("工作流已禁用");
+        }
+        if (hasRunningRun(workflowId)) {
+            throw BusinessException.of("工作流已有运行中的记录");
+        }
+
+        List<SyncWorkflowNode> nodes = loadNodes(workflowId);
+        if (nodes.isEmpty()) {
+            throw BusinessException.of("工作流没有任何节点");
+        }
+        // 节点依赖在保存时已校验，这里再校验一次以防数据被直接改动
+        buildDag(nodes);
+
+        SyncWorkflowRun run = newRun(workflow, null);
+        Map<Long, String> configNames = configNames(nodes.stream().map(SyncWorkflowNode::getConfigId).toList());
+        for (SyncWorkflowNode node : nodes) {
+            SyncWorkflowRunNode runNode = new SyncWorkflowRunNode();
+            runNode.setRunId(run.getId());
+            runNode.setConfigId(node.getConfigId());
+            runNode.setConfigName(configNames.get(node.getConfigId()));
+            runNode.setDependsOn(node.getDependsOn());
+            runNode.setStatus(WorkflowStatus.NODE_WAITING);
+            runNodeMapper.insert(runNode);
+        }
+
+        workflowExecutor.submit(run.getId());
+        log.info("启动工作流运行: workflowId={}, runId={}, nodes={}", workflowId, run.getId(), nodes.size());
+        return run;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public SyncWorkflowRun rerunFromFailed(Long runId) {
+        SyncWorkflowRun source = runMapper.selectById(runId);
+        if (source == null) {
+            throw BusinessException.of("运行记录不存在: " + runId);
+        }
+        if (WorkflowStatus.RUN_RUNNING.equals(source.getStatus())) {
+            throw BusinessException.of("运行尚未结束，无法重跑");
+        }
+        if (WorkflowStatus.RUN_FINISHED.equals(source.getStatus())) {
+            throw BusinessException.of("运行已全部成功，无需重跑");
+        }
+        SyncWorkflow workflow = findById(source.getWorkflowId())
+                .orElseThrow(() -> BusinessException.of("工作流不存在: " + source.getWorkflowId()));
+        if (hasRunningRun(workflow.getId())) {
+            throw BusinessException.of("工作流已有运行中的记录");
+        }
+
+        // 沿用来源运行的节点快照，保证重跑时依赖关系与原运行一致
+        List<SyncWorkflowRunNode> sourceNodes = loadRunNodes(runId);
+        SyncWorkflowRun run = newRun(workflow, runId);
+        int reused = 0;
+        for (SyncWorkflowRunNode sourceNode : sourceNodes) {
+            SyncWorkflowRunNode runNode = new SyncWorkflowRunNode();
+            runNode.setRunId(run.getId());
+            runNode.setConfigId(sourceNode.getConfigId());
+            runNode.setConfigName(sourceNode.getConfigName());
+            runNode.setDependsOn(sourceNode.getDependsOn());
+            if (WorkflowStatus.isSucceeded(sourceNode)) {
+                runNode.setStatus(WorkflowStatus.NODE_REUSED);
+                runNode.setTaskId(sourceNode.getTaskId());
+                runNode.setStartTime(sourceNode.getStartTime());
+                runNode.setEndTime(sourceNode.getEndTime());
+                reused++;
+            } else {
+                runNode.setStatus(WorkflowStatus.NODE_WAITING);
+            }
+            runNodeMapper.insert(runNode);
+        }
+
+        workflowExecutor.submit(run.getId());
+        log.info("从失败节点重跑工作流: sourceRunId={}, runId={}, reused={}, rerun={}",
+                runId, run.getId(), reused, sourceNodes.size() - reused);
+        return run;
+    }
+
+    @Override
+    @Transactional(rollbackFor = Exception.class)
+    public boolean cancelRun(Long runId) {
+        SyncWorkflowRun run = runMapper.selectById(runId);
+        if (run == null) {
+            throw BusinessException.of("运行记录不存在: " + runId);
+        }
+        if (!WorkflowStatus.RUN_RUNNING.equals(run.getStatus())) {
+            throw BusinessException.of("当前运行状态不允许取消: " + run.getStatus());
+        }
+
+        // 先把运行标记为取消，驱动线程下一轮读到后即退出，不会再提交新节点
+        LambdaUpdateWrapper<SyncWorkflowRun> runWrapper = new LambdaUpdateWrapper<>();
+        runWrapper.eq(SyncWorkflowRun::getId, runId)
+                .eq(SyncWorkflowRun::getStatus, WorkflowStatus.RUN_RUNNING)
+                .set(SyncWorkflowRun::getStatus, WorkflowStatus.RUN_CANCELED)
+                .set(SyncWorkflowRun::getEndTime, LocalDateTime.now())
+                .set(SyncWorkflowRun::getErrorMessage, "用户手动取消");
+        if (runMapper.update(null, runWrapper) == 0) {
+            return false;
+        }
+
+        // 节点可能正被驱动线程提交：按读到的状态条件更新且不回写 taskId；
+        // 已占为 RUNNING 但尚未记录 taskId 的节点，由驱动线程提交后发现运行已取消时自行取消任务。
+        // 任务取消在本事务提交后各自执行：取消失败（例如任务已结束）不能把本事务标记为只回滚
+        List<Long> taskIds = new ArrayList<>();
+        for (SyncWorkflowRunNode node : loadRunNodes(runId)) {
+            if (WorkflowStatus.NODE_RUNNING.equals(node.getStatus()) && node.getTaskId() != null) {
+                taskIds.add(node.getTaskId());
+            } else if (!WorkflowStatus.NODE_RUNNING.equals(node.getStatus())
+                    && !WorkflowStatus.NODE_WAITING.equals(node.getStatus())) {
+                continue;
+            }
+            LambdaUpdateWrapper<SyncWorkflowRunNode> nodeWrapper = new LambdaUpdateWrapper<>();
+            nodeWrapper.eq(SyncWorkflowRunNode::getId, node.getId())
+                    .eq(SyncWorkflowRunNode::getStatus, node.getStatus())
+                    .set(SyncWorkflowRunNode::getStatus, WorkflowStatus.NODE_CANCELED)
+                    .set(WorkflowStatus.NODE_RUNNING.equals(node.getStatus()),
+                            SyncWorkflowRunNode::getEndTime, LocalDateTime.now());
+            runNodeMapper.update(null, nodeWrapper);
+        }
+        workflowExecutor.cancelTasks(runId, taskIds);
+
+        log.info("取消工作流运行: runId={}", runId);
+        return true;
+    }
+
+    @Override
+    public PageResult<SyncWorkflowRun> pageRuns(int pageNumber, int pageSize, Long workflowId, String status) {
+        Page<SyncWorkflowRun> page = new Page<>(pageNumber, pageSize);
+        LambdaQueryWrapper<SyncWorkflowRun> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(workflowId != null, SyncWorkflowRun::getWorkflowId, workflowId)
+                .eq(StringUtils.isNotBlank(status), SyncWorkflowRun::getStatus, status)
+                .orderByDesc(SyncWorkflowRun::getCreateTime);
+
+        Page<SyncWorkflowRun> resultPage = runMapper.selectPage(page, wrapper);
+        return PageResult.of(resultPage.getRecords(), pageNumber, pageSize, resultPage.getTotal());
+    }
+
+    @Override
+    public Optional<WorkflowRunVO> getRunDetail(Long runId) {
+        SyncWorkflowRun run = runMapper.selectById(runId);
+        if (run == null) {
+            return Optional.empty();
+        }
+        WorkflowRunVO vo = WorkflowRunVO.fromEntity(run);
+        Set<Long> critical = new HashSet<>(vo.getCriticalPath());
+        vo.setNodes(loadRunNodes(runId).stream()
+                .map(node -> {
+                    WorkflowRunNodeVO nodeVO = WorkflowRunNodeVO.fromEntity(node);
+                    nodeVO.setCritical(critical.contains(node.getConfigId()));
+                    return nodeVO;
+                })
+                .toList());
+        return Optional.of(vo);
+    }
+
+    // ==================== 私有方法 ====================
+
+    /**
+     * 校验节点：配置唯一且存在，依赖构成有向无环图
+     */
+    private void validateNodes(List<WorkflowNodeDTO> nodes) {
+        if (nodes == null || nodes.isEmpty()) {
+            throw BusinessException.of("工作流节点不能为空");
+        }
+        Map<Long, List<Long>> dependencies = new LinkedHashMap<>();
+        for (WorkflowNodeDTO node : nodes) {
+            List<Long> dependsOn = node.getDependsOn() != null ? node.getDependsOn() : List.of();
+            if (dependencies.put(node.getConfigId(), dependsOn) != null) {
+                throw BusinessException.of("同一同步配置在工作流中只能出现一次: " + node.getConfigId());
+            }
+        }
+        WorkflowDag.of(dependencies);
+
+        Set<Long> existing = syncConfigService.listByIds(dependencies.keySet()).stream()
+                .map(SyncConfig::getId)
+                .collect(Collectors.toSet());
+        List<Long> missing = dependencies.keySet().stream().filter(id -> !existing.contains(id)).toList();
+        if (!missing.isEmpty()) {
+            throw BusinessException.of("同步配置不存在: " + missing);
+        }
+    }
+
+    private void saveNodes(Long workflowId, List<WorkflowNodeDTO> nodes) {
+        for (int i = 0; i < nodes.size(); i++) {
+            nodeMapper.insert(nodes.get(i).toEntity(workflowId, i + 1));
+        }
+    }
+
+    private WorkflowDag buildDag(List<SyncWorkflowNode> nodes) {
+        return WorkflowDag.of(nodes.stream().collect(Collectors.toMap(
+                SyncWorkflowNode::getConfigId,
+                node -> WorkflowDag.parseDependsOn(node.getDependsOn()),
+                (a, b) -> a,
+                LinkedHashMap::new)));
+    }
+
+    private int normalizeParallelism(Integer maxParallelism) {
+        if (maxParallelism == null || maxParallelism < 1) {
+            return properties.getDefaultMaxParallelism();
+        }
+        return Math.min(maxParallelism, properties.getMaxParallelismLimit());
+    }
+
+    private SyncWorkflowRun newRun(SyncWorkflow workflow, Long parentRunId) {
+        SyncWorkflowRun run = new SyncWorkflowRun();
+        run.setWorkflowId(workflow.getId());
+        run.setWorkflowName(workflow.getName());
+        run.setStatus(WorkflowStatus.RUN_RUNNING);
+        run.setParentRunId(parentRunId);
+        run.setMaxParallelism(normalizeParallelism(workflow.getMaxParallelism()));
+        run.setStartTime(LocalDateTime.now());
+        runMapper.insert(run);
+        return run;
+    }
+
+    private boolean hasRunningRun(Long workflowId) {
+        LambdaQueryWrapper<SyncWorkflowRun> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SyncWorkflowRun::getWorkflowId, workflowId)
+                .eq(SyncWorkflowRun::getStatus, WorkflowStatus.RUN_RUNNING);
+        return runMapper.selectCount(wrapper) > 0;
+    }
+
+    private List<SyncWorkflowNode> loadNodes(Long workflowId) {
+        LambdaQueryWrapper<SyncWorkflowNode> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SyncWorkflowNode::getWorkflowId, workflowId)
+                .orderByAsc(SyncWorkflowNode::getSortOrder);
+        return nodeMapper.selectList(wrapper);
+    }
+
+    private List<SyncWorkflowRunNode> loadRunNodes(Long runId) {
+        LambdaQueryWrapper<SyncWorkflowRunNode> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SyncWorkflowRunNode::getRunId, runId)
+                .orderByAsc(SyncWorkflowRunNode::getId);
+        return runNodeMapper.selectList(wrapper);
+    }
+
+    private Map<Long, String> configNames(List<Long> configIds) {
+        if (configIds.isEmpty()) {
+            return Map.of();
+        }
+        return syncConfigService.listByIds(configIds).stream()
+                .collect(Collectors.toMap(SyncConfig::getId, SyncConfig::getName, (a, b) -> a));
+    }
+
+}
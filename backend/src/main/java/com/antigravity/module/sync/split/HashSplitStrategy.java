@@ -0,0 +1,40 @@
+package com.antigravity.module.sync.split;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 按列值哈希取模分桶切分
+ * <p>
+ * 每个分片读取 哈希(列) mod N = i 的行，适用于 UUID、字符串等既没有数值范围也没有分区的键；
+ * 分片列为 NULL 的行归入第一个分片。
+ * 每个分片都要扫描全表后过滤，并行提高的是读取与转换吞吐，源库总扫描量随分片数增加，分片数不宜过大。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public class HashSplitStrategy implements SplitStrategy {
+
+    @Override
+    public String getName() {
+        return "HASH";
+    }
+
+    @Override
+    public boolean requiresColumn() {
+        return true;
+    }
+
+    @Override
+    public List<SourceSplit> plan(SplitContext context) {
+        String column = context.column();
+        String bucket = context.dialect().hashBucketExpression(column, context.count());
+        List<SourceSplit> splits = new ArrayList<>(context.count());
+        splits.add(SourceSplit.where(column + " IS NULL OR " + bucket + " = 0"));
+        for (int i = 1; i < context.count(); i++) {
+            splits.add(SourceSplit.where(column + " IS NOT NULL AND " + bucket + " = " + i));
+        }
+        return splits;
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.antigravity.module.sync.split;
+
+import com.antigravity.common.BusinessException;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * 按源表的原生分区切分
+ * <p>
+ * 通过方言查询分区元数据（MySQL information_schema.PARTITIONS、PostgreSQL pg_inherits、Oracle ALL_TAB_PARTITIONS），
+ * 分区数超过期望分片数时按分区顺序把相邻分区合并到同一分片。
+ * 每个分片只扫描自己的分区，不依赖任何索引。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public class PartitionSplitStrategy implements SplitStrategy {
+
+    /**
+     * 分区名会拼接到查询中，只接受普通标识符（PostgreSQL 子表带 Schema 前缀）
+     */
+    private static final Pattern PARTITION_NAME = Pattern.compile("([A-Za-z_][A-Za-z0-9_$]*\\.)?[A-Za-z_][A-Za-z0-9_$]*");
+
+    @Override
+    public String getName() {
+        return "PARTITION";
+    }
+
+    @Override
+    public boolean requiresColumn() {
+        return false;
+    }
+
+    @Override
+    public List<SourceSplit> plan(SplitContext context) throws SQLException {
+        List<String> partitions = new ArrayList<>();
+        try (PreparedStatement statement = context.connection().prepareStatement(context.dialect().listPartitionsSql())) {
+            statement.setString(1, context.schema());
+            statement.setString(2, context.tableName());
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    String partition = rs.getString(1);
+                    if (!PARTITION_NAME.matcher(partition).matches()) {
+                        throw BusinessException.of("分区名 " + partition + " 不是普通标识符，无法按分区切分读取");
+                    }
+                    partitions.add(partition);
+                }
+            }
+        }
+        if (partitions.isEmpty()) {
+            return List.of(new SourceSplit(null, null));
+        }
+
+        int groups = Math.min(context.count(), partitions.size());
+        List<SourceSplit> splits = new ArrayList<>(groups);
+        for (int g = 0; g < groups; g++) {
+            List<String> group = partitions.subList(g * partitions.size() / groups, (g + 1) * partitions.size() / groups);
+            splits.add(SourceSplit.from(context.dialect().partitionRelation(context.table(), group)));
+        }
+        return splits;
+    }
+
+}
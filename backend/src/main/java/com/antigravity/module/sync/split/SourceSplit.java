@@ -0,0 +1,29 @@
+package com.antigravity.module.sync.split;
+
+/**
+ * 源表的一个读取分片，对应 SeaTunnel Job 中的一个 Jdbc Source
+ * <p>
+ * 同一配置的所有分片互不重叠且合起来覆盖整张表（含分片列为 NULL 的行）。
+ *
+ * @param relation  FROM 子句中替代源表的片段（如只读指定分区），为 null 时读源表
+ * @param predicate 附加的过滤条件，为 null 时不过滤
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public record SourceSplit(String relation, String predicate) {
+
+    /**
+     * 按条件切分的分片
+     */
+    public static SourceSplit where(String predicate) {
+        return new SourceSplit(null, predicate);
+    }
+
+    /**
+     * 读取指定关系（分区）的分片
+     */
+    public static SourceSplit from(String relation) {
+        return new SourceSplit(relation, null);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.antigravity.module.sync.split;
+
+import com.antigravity.module.sync.engine.dialect.DatabaseDialect;
+
+import java.sql.Connection;
+
+/**
+ * 分片规划的输入
+ *
+ * @param connection 源库连接（只读）
+ * @param dialect    源库方言
+ * @param table      完整源表名（按方言格式化，用于拼接查询）
+ * @param schema     源表所在 Schema（按数据库存储大小写，用于元数据查询）
+ * @param tableName  不含 Schema 的源表名（按数据库存储大小写，用于元数据查询）
+ * @param column     分片列，按分区切分时为 null
+ * @param count      期望的分片数
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public record SplitContext(Connection connection, DatabaseDialect dialect, String table,
+                           String schema, String tableName, String column, int count) {
+}
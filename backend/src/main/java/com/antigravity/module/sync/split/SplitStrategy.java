@@ -0,0 +1,35 @@
+package com.antigravity.module.sync.split;
+
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * 源表分片策略
+ * <p>
+ * 把源表切成若干互不重叠的分片，每个分片生成一个独立的 Jdbc Source 并行读取。
+ * 适用于主键是 UUID 或复合键、无法按主键数值范围切分的表。
+ * 新增策略只需实现本接口并在 {@link SourceSplitPlanner} 的注册表中添加一行。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public interface SplitStrategy {
+
+    /**
+     * 策略标识（对应同步配置的 splitStrategy）
+     */
+    String getName();
+
+    /**
+     * 是否需要分片列
+     */
+    boolean requiresColumn();
+
+    /**
+     * 规划分片
+     *
+     * @return 分片列表；无法切分（如表没有分区、数据为空）时返回单个不过滤的分片
+     */
+    List<SourceSplit> plan(SplitContext context) throws SQLException;
+
+}
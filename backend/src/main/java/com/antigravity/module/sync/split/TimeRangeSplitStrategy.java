@@ -0,0 +1,87 @@
+package com.antigravity.module.sync.split;
+
+import com.antigravity.common.BusinessException;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 按时间列的取值范围切分
+ * <p>
+ * 查询分片列的最小值与最大值，把区间等分为若干段，每段生成左闭右开的范围条件；
+ * 第一段向下、最后一段向上不设边界，分片列为 NULL 的行归入第一段，规划之后写入的越界行也不会漏读。
+ * 分片列上有索引时每个分片只做范围扫描。数据在时间上分布不均时各分片行数会有差异。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public class TimeRangeSplitStrategy implements SplitStrategy {
+
+    @Override
+    public String getName() {
+        return "TIME_RANGE";
+    }
+
+    @Override
+    public boolean requiresColumn() {
+        return true;
+    }
+
+    @Override
+    public List<SourceSplit> plan(SplitContext context) throws SQLException {
+        String column = context.column();
+        String sql = "SELECT MIN(" + column + "), MAX(" + column + ") FROM " + context.table();
+        Temporal min;
+        Temporal max;
+        try (PreparedStatement statement = context.connection().prepareStatement(sql);
+             ResultSet rs = statement.executeQuery()) {
+            rs.next();
+            Class<? extends Temporal> type = switch (rs.getMetaData().getColumnType(1)) {
+                case Types.TIMESTAMP -> LocalDateTime.class;
+                case Types.TIMESTAMP_WITH_TIMEZONE -> OffsetDateTime.class;
+                case Types.DATE -> LocalDate.class;
+                default -> throw BusinessException.of("分片列 " + column + " 不是日期或时间类型，不能按时间范围切分");
+            };
+            min = rs.getObject(1, type);
+            max = rs.getObject(2, type);
+        }
+        if (min == null) {
+            return List.of(new SourceSplit(null, null));
+        }
+
+        // 日期按天、时间按秒等分，区间不足分片数时减少分片
+        ChronoUnit unit = min instanceof LocalDate ? ChronoUnit.DAYS : ChronoUnit.SECONDS;
+        long span = unit.between(min, max);
+        long step = Math.max(1, Math.ceilDiv(span, context.count()));
+        List<Temporal> bounds = new ArrayList<>();
+        for (Temporal bound = min.plus(step, unit); unit.between(bound, max) > 0; bound = bound.plus(step, unit)) {
+            bounds.add(bound);
+        }
+        if (bounds.isEmpty()) {
+            return List.of(new SourceSplit(null, null));
+        }
+
+        List<SourceSplit> splits = new ArrayList<>(bounds.size() + 1);
+        splits.add(SourceSplit.where(column + " < " + literal(context, bounds.getFirst()) + " OR " + column + " IS NULL"));
+        for (int i = 1; i < bounds.size(); i++) {
+            splits.add(SourceSplit.where(column + " >= " + literal(context, bounds.get(i - 1))
+                    + " AND " + column + " < " + literal(context, bounds.get(i))));
+        }
+        splits.add(SourceSplit.where(column + " >= " + literal(context, bounds.getLast())));
+        return splits;
+    }
+
+    private static String literal(SplitContext context, Temporal value) {
+        return context.dialect().formatLiteral(value);
+    }
+
+}
@@ -0,0 +1,331 @@
+package com.antigravity.module.sync.staging;
+
+import com.antigravity.common.BusinessException;
+import com.antigravity.module.datasource.entity.DbConnection;
+import com.antigravity.module.sync.engine.dialect.DatabaseDialect;
+import com.antigravity.module.sync.engine.dialect.DatabaseDialectFactory;
+import com.antigravity.module.sync.engine.dialect.IndexDefinition;
+import com.antigravity.module.sync.entity.SyncConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.regex.Pattern;
+
+/**
+ * 全量同步暂存表管理（SWAP 模式）
+ * <p>
+ * 全量同步默认直接清空并写入目标表，加载期间读者会看到空表或半张表，且每行写入都要维护全部二级索引。
+ * SWAP 模式改为：
+ * <ol>
+ *   <li>加载前按目标表结构创建暂存表，只保留主键，不建二级索引</li>
+ *   <li>SeaTunnel 把数据写入暂存表，目标表在此期间保持旧数据可读</li>
+ *   <li>加载完成后在暂存表上一次性建立二级索引</li>
+ *   <li>通过方言的改名语句把暂存表切换为目标表，删除旧表</li>
+ * </ol>
+ * 切换的原子性取决于数据库：MySQL 的 RENAME TABLE、PostgreSQL 与 SQL Server 的事务 DDL 是原子的，
+ * Oracle 的两次改名之间目标表短暂不存在。
+ * 只重建普通列上的主键、唯一索引与普通索引；外键、依赖目标表的视图与触发器不会迁移到新表。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StagingTableManager {
+
+    /** 暂存表加载中 */
+    public static final String STATUS_LOADING = "LOADING";
+
+    /** 加载完成，正在建索引并切换 */
+    public static final String STATUS_SWAPPING = "SWAPPING";
+
+    /** 已切换为目标表 */
+    public static final String STATUS_SWAPPED = "SWAPPED";
+
+    /** 建索引或切换失败 */
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final String STAGING_SUFFIX = "_stg";
+
+    private static final String BACKUP_SUFFIX = "_old";
+
+    /**
+     * 表名会拼接到 DDL 中，只接受 [schema.]table 形式的普通标识符
+     */
+    private static final Pattern TABLE_NAME = Pattern.compile("([A-Za-z_][A-Za-z0-9_$]*\\.)?[A-Za-z_][A-Za-z0-9_$]*");
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_][A-Za-z0-9_$]*");
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * 配置是否使用暂存表切换
+     */
+    public static boolean applies(SyncConfig config) {
+        return "FULL".equalsIgnoreCase(config.getSyncMode()) && "SWAP".equalsIgnoreCase(config.getFullLoadMode());
+    }
+
+    /**
+     * 目标表对应的暂存表名（与目标表同 Schema）
+     */
+    public static String stagingTableOf(String targetTable) {
+        return targetTable + STAGING_SUFFIX;
+    }
+
+    /**
+     * 加载前准备暂存表：清理上一次残留的暂存表与备份表，按目标表结构重新创建
+     *
+     * @param config   同步配置
+     * @param targetDb 目标数据库连接
+     * @return 目标表是否已存在；不存在时由 SeaTunnel 自动创建暂存表
+     */
+    public boolean prepare(SyncConfig config, DbConnection targetDb) {
+        DatabaseDialect dialect = DatabaseDialectFactory.getDialect(targetDb.getDbType());
+        String target = targetTable(config, dialect);
+        String staging = dialect.formatSinkTable(stagingTableOf(config.getTargetTable().trim()));
+
+        try (Connection connection = open(targetDb, dialect)) {
+            TableRef targetRef = tableRef(connection, targetDb, dialect, target);
+            TableRef stagingRef = tableRef(connection, targetDb, dialect, staging);
+            if (exists(connection, stagingRef)) {
+                execute(connection, List.of("DROP TABLE " + staging));
+            }
+            if (!exists(connection, targetRef)) {
+                return false;
+            }
+            String backup = DatabaseDialect.schemaPrefix(target) + backupName(target);
+            if (exists(connection, tableRef(connection, targetDb, dialect, backup))) {
+                execute(connection, List.of("DROP TABLE " + backup));
+            }
+
+            IndexDefinition primaryKey = primaryKey(connection, targetRef);
+            List<IndexDefinition> secondary = secondaryIndexes(connection, targetRef, primaryKey);
+            execute(connection, dialect.createStagingTableSql(target, staging,
+                    primaryKey == null ? null : primaryKey.withName(dialect.stagingIndexName(primaryKey.name())),
+                    secondary));
+            log.info("暂存表已创建: target={}, staging={}, secondaryIndexes={}", target, staging, secondary.size());
+            return true;
+        } catch (SQLException e) {
+            throw BusinessException.of("准备暂存表失败: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 加载完成后在暂存表上建立二级索引，并切换为目标表
+     * <p>
+     * 可重入：执行节点在切换途中退出后由其他节点重新调用，暂存表已不存在而目标表存在时视为上一次已切换完成。
+     *
+     * @param config   同步配置
+     * @param targetDb 目标数据库连接
+     * @return 执行过程说明（写入任务日志）
+     */
+    public String swap(SyncConfig config, DbConnection targetDb) {
+        DatabaseDialect dialect = DatabaseDialectFactory.getDialect(targetDb.getDbType());
+        String target = targetTable(config, dialect);
+        String staging = dialect.formatSinkTable(stagingTableOf(config.getTargetTable().trim()));
+
+        try (Connection connection = open(targetDb, dialect)) {
+            TableRef targetRef = tableRef(connection, targetDb, dialect, target);
+            if (!exists(connection, tableRef(connection, targetDb, dialect, staging))) {
+                if (exists(connection, targetRef)) {
+                    log.info("暂存表已不存在，上一次切换已完成: target={}, staging={}", target, staging);
+                    return "暂存表已在上一次切换中改名为 " + target;
+                }
+                throw BusinessException.of("暂存表不存在: " + staging);
+            }
+            String targetName = target.substring(target.lastIndexOf('.') + 1);
+            if (!exists(connection, targetRef)) {
+                // 首次同步：目标表不存在，暂存表由 SeaTunnel 按源表结构创建，直接改名即可
+                execute(connection, List.of(dialect.renameTableSql(staging, targetName)));
+                return "目标表不存在，暂存表已改名为 " + target;
+            }
+
+            IndexDefinition primaryKey = primaryKey(connection, targetRef);
+            List<IndexDefinition> secondary = secondaryIndexes(connection, targetRef, primaryKey);
+            timed("index", dialect, () -> execute(connection, dialect.buildIndexesSql(staging, secondary.stream()
+                    .map(index -> index.withName(dialect.stagingIndexName(index.name())))
+                    .toList())));
+
+            List<IndexDefinition> renamed = new ArrayList<>();
+            if (primaryKey != null) {
+                renamed.add(primaryKey);
+            }
+            renamed.addAll(secondary);
+            List<String> swapSql = dialect.swapTableSql(target, staging, backupName(target), renamed);
+            timed("swap", dialect, () -> {
+                if (dialect.supportsTransactionalDdl()) {
+                    executeInTransaction(connection, swapSql);
+                } else {
+                    execute(connection, swapSql);
+                }
+            });
+            log.info("暂存表已切换: target={}, staging={}, indexes={}", target, staging, secondary.size());
+            return "已在暂存表上建立 " + secondary.size() + " 个二级索引并切换为 " + target;
+        } catch (SQLException e) {
+            throw BusinessException.of("暂存表切换失败: " + e.getMessage());
+        }
+    }
+
+    private Connection open(DbConnection targetDb, DatabaseDialect dialect) throws SQLException {
+        String jdbcUrl = dialect.buildJdbcUrl(targetDb.getHost(), targetDb.getPort(), targetDb.getDatabaseName());
+        return DriverManager.getConnection(jdbcUrl, targetDb.getUsername(), targetDb.getPassword());
+    }
+
+    private static String targetTable(SyncConfig config, DatabaseDialect dialect) {
+        String table = config.getTargetTable() == null ? null : config.getTargetTable().trim();
+        if (table == null || !TABLE_NAME.matcher(table).matches()) {
+            throw BusinessException.of("SWAP 模式的目标表名不合法: " + config.getTargetTable());
+        }
+        return dialect.formatSinkTable(table);
+    }
+
+    private static String backupName(String target) {
+        return target.substring(target.lastIndexOf('.') + 1) + BACKUP_SUFFIX;
+    }
+
+    /**
+     * 元数据查询使用的表定位，标识符按数据库的存储大小写转换
+     */
+    private record TableRef(String catalog, String schema, String table) {
+    }
+
+    private static TableRef tableRef(Connection connection, DbConnection db, DatabaseDialect dialect, String table)
+            throws SQLException {
+        int dot = table.lastIndexOf('.');
+        String schema = dot < 0 ? dialect.getDefaultSchema(db.getDatabaseName()) : table.substring(0, dot);
+        return new TableRef(connection.getCatalog(),
+                schema == null ? null : normalize(connection, schema),
+                normalize(connection, table.substring(dot + 1)));
+    }
+
+    private static String normalize(Connection connection, String identifier) throws SQLException {
+        DatabaseMetaData metaData = connection.getMetaData();
+        if (metaData.storesUpperCaseIdentifiers()) {
+            return identifier.toUpperCase();
+        }
+        if (metaData.storesLowerCaseIdentifiers()) {
+            return identifier.toLowerCase();
+        }
+        return identifier;
+    }
+
+    private static boolean exists(Connection connection, TableRef ref) throws SQLException {
+        try (ResultSet rs = connection.getMetaData().getTables(ref.catalog(), ref.schema(), ref.table(),
+                new String[]{"TABLE"})) {
+            return rs.next();
+        }
+    }
+
+    private static IndexDefinition primaryKey(Connection connection, TableRef ref) throws SQLException {
+        Map<Short, String> columns = new TreeMap<>();
+        String name = null;
+        try (ResultSet rs = connection.getMetaData().getPrimaryKeys(ref.catalog(), ref.schema(), ref.table())) {
+            while (rs.next()) {
+                name = rs.getString("PK_NAME");
+                columns.put(rs.getShort("KEY_SEQ"), identifier(rs.getString("COLUMN_NAME"), ref));
+            }
+        }
+        if (columns.isEmpty()) {
+            return null;
+        }
+        return new IndexDefinition(identifier(name, ref), true, true, List.copyOf(columns.values()));
+    }
+
+    /**
+     * 读取目标表的二级索引（不含主键索引），表达式索引无法按列重建，直接拒绝
+     */
+    private static List<IndexDefinition> secondaryIndexes(Connection connection, TableRef ref, IndexDefinition primaryKey)
+            throws SQLException {
+        Map<String, Boolean> unique = new TreeMap<>();
+        Map<String, Map<Short, String>> columns = new TreeMap<>();
+        try (ResultSet rs = connection.getMetaData().getIndexInfo(ref.catalog(), ref.schema(), ref.table(), false, false)) {
+            while (rs.next()) {
+                String name = rs.getString("INDEX_NAME");
+                if (rs.getShort("TYPE") == DatabaseMetaData.tableIndexStatistic || name == null
+                        || (primaryKey != null && name.equalsIgnoreCase(primaryKey.name()))) {
+                    continue;
+                }
+                String column = rs.getString("COLUMN_NAME");
+                if (column == null || !IDENTIFIER.matcher(column).matches()) {
+                    throw BusinessException.of("目标表 " + ref.table() + " 的索引 " + name
+                            + " 包含表达式列，SWAP 模式无法重建，请改用 DIRECT 模式");
+                }
+                unique.put(name, !rs.getBoolean("NON_UNIQUE"));
+                columns.computeIfAbsent(name, key -> new TreeMap<>())
+                        .put(rs.getShort("ORDINAL_POSITION"), "D".equals(rs.getString("ASC_OR_DESC")) ? column + " DESC" : column);
+            }
+        }
+        List<IndexDefinition> indexes = new ArrayList<>(columns.size());
+        for (Map.Entry<String, Map<Short, String>> entry : columns.entrySet()) {
+            indexes.add(new IndexDefinition(identifier(entry.getKey(), ref), false, unique.get(entry.getKey()),
+                    List.copyOf(entry.getValue().values())));
+        }
+        return indexes;
+    }
+
+    private static String identifier(String name, TableRef ref) {
+        if (name == null || !IDENTIFIER.matcher(name).matches()) {
+            throw BusinessException.of("目标表 " + ref.table() + " 的约束或列名 " + name
+                    + " 不是普通标识符，SWAP 模式无法重建，请改用 DIRECT 模式");
+        }
+        return name;
+    }
+
+    private static void execute(Connection connection, List<String> sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String ddl : sql) {
+                log.debug("执行暂存表 DDL: {}", ddl);
+                statement.execute(ddl);
+            }
+        }
+    }
+
+    private static void executeInTransaction(Connection connection, List<String> sql) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            execute(connection, sql);
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    @FunctionalInterface
+    private interface SqlAction {
+        void run() throws SQLException;
+    }
+
+    private void timed(String phase, DatabaseDialect dialect, SqlAction action) throws SQLException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean success = false;
+        try {
+            action.run();
+            success = true;
+        } finally {
+            sample.stop(Timer.builder("sync.staging.swap")
+                    .description("全量同步暂存表建索引与切换耗时")
+                    .tag("phase", phase)
+                    .tag("db_type", dialect.getDbType())
+                    .tag("outcome", success ? "success" : "error")
+                    .register(meterRegistry));
+        }
+    }
+
+}
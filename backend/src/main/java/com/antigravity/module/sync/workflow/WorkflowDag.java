@@ -0,0 +1,191 @@
+package com.antigravity.module.sync.workflow;
+
+import com.antigravity.common.BusinessException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 工作流依赖图
+ * <p>
+ * 节点以同步配置 ID 标识，边由"节点 -> 依赖的上游节点"描述。
+ * 构建时校验依赖引用和环路（Kahn 拓扑排序），之后只读。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public final class WorkflowDag {
+
+    private final Map<Long, Set<Long>> upstream;
+    private final Map<Long, Set<Long>> downstream;
+    private final List<Long> topologicalOrder;
+
+    private WorkflowDag(Map<Long, Set<Long>> upstream, Map<Long, Set<Long>> downstream, List<Long> topologicalOrder) {
+        this.upstream = upstream;
+        this.downstream = downstream;
+        this.topologicalOrder = topologicalOrder;
+    }
+
+    /**
+     * 构建依赖图
+     *
+     * @param dependencies 节点 -> 上游节点集合（保持插入顺序）
+     * @throws BusinessException 依赖了不存在的节点、自依赖或存在环路
+     */
+    public static WorkflowDag of(Map<Long, ? extends Collection<Long>> dependencies) {
+        Map<Long, Set<Long>> upstream = new LinkedHashMap<>();
+        Map<Long, Set<Long>> downstream = new LinkedHashMap<>();
+        dependencies.keySet().forEach(node -> downstream.put(node, new LinkedHashSet<>()));
+
+        for (Map.Entry<Long, ? extends Collection<Long>> entry : dependencies.entrySet()) {
+            Long node = entry.getKey();
+            Set<Long> deps = new LinkedHashSet<>();
+            if (entry.getValue() != null) {
+                for (Long dep : entry.getValue()) {
+                    if (Objects.equals(dep, node)) {
+                        throw BusinessException.of("节点不能依赖自身: " + node);
+                    }
+                    if (!dependencies.containsKey(dep)) {
+                        throw BusinessException.of("节点 " + node + " 依赖的节点不在工作流中: " + dep);
+                    }
+                    deps.add(dep);
+                    downstream.get(dep).add(node);
+                }
+            }
+            upstream.put(node, Collections.unmodifiableSet(deps));
+        }
+
+        // Kahn 拓扑排序，剩余未出队节点即构成环路
+        Map<Long, Integer> inDegree = new HashMap<>();
+        upstream.forEach((node, deps) -> inDegree.put(node, deps.size()));
+        Deque<Long> queue = new ArrayDeque<>();
+        upstream.keySet().stream().filter(node -> inDegree.get(node) == 0).forEach(queue::add);
+
+        List<Long> order = new ArrayList<>(upstream.size());
+        while (!queue.isEmpty()) {
+            Long node = queue.poll();
+            order.add(node);
+            for (Long next : downstream.get(node)) {
+                if (inDegree.merge(next, -1, Integer::sum) == 0) {
+                    queue.add(next);
+                }
+            }
+        }
+        if (order.size() < upstream.size()) {
+            String cycle = upstream.keySet().stream()
+                    .filter(node -> inDegree.get(node) > 0)
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", "));
+            throw BusinessException.of("工作流存在循环依赖，涉及节点: " + cycle);
+        }
+
+        downstream.replaceAll((node, set) -> Collections.unmodifiableSet(set));
+        return new WorkflowDag(upstream, downstream, Collections.unmodifiableList(order));
+    }
+
+    /**
+     * 解析逗号分隔的依赖字段
+     */
+    public static List<Long> parseDependsOn(String dependsOn) {
+        if (dependsOn == null || dependsOn.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(dependsOn.split(","))
+                .map(String::trim)
+                .filter(s -> !s.isEmpty())
+                .map(Long::valueOf)
+                .distinct()
+                .toList();
+    }
+
+    /**
+     * 将依赖列表格式化为逗号分隔字段
+     */
+    public static String formatDependsOn(Collection<Long> dependsOn) {
+        if (dependsOn == null || dependsOn.isEmpty()) {
+            return null;
+        }
+        return dependsOn.stream().distinct().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public Set<Long> nodes() {
+        return upstream.keySet();
+    }
+
+    public Set<Long> upstreamOf(Long node) {
+        return upstream.getOrDefault(node, Set.of());
+    }
+
+    public Set<Long> downstreamOf(Long node) {
+        return downstream.getOrDefault(node, Set.of());
+    }
+
+    public List<Long> topologicalOrder() {
+        return topologicalOrder;
+    }
+
+    /**
+     * 计算关键路径：按拓扑序做最长路径动态规划
+     * <p>
+     * 关键路径耗时即"并行度不受限时工作流的最短完成时间"，
+     * 与实际墙钟耗时对比可以看出并行度上限或调度带来的损耗。
+     *
+     * @param durationMillis 各节点耗时（毫秒），缺失视为 0
+     */
+    public CriticalPath criticalPath(Map<Long, Long> durationMillis) {
+        Map<Long, Long> finish = new HashMap<>();
+        Map<Long, Long> predecessor = new HashMap<>();
+        Long tail = null;
+        long longest = -1;
+
+        for (Long node : topologicalOrder) {
+            long start = 0;
+            Long via = null;
+            for (Long dep : upstreamOf(node)) {
+                long depFinish = finish.get(dep);
+                if (depFinish > start || via == null) {
+                    start = depFinish;
+                    via = dep;
+                }
+            }
+            long end = start + Math.max(0, durationMillis.getOrDefault(node, 0L));
+            finish.put(node, end);
+            if (via != null) {
+                predecessor.put(node, via);
+            }
+            if (end > longest) {
+                longest = end;
+                tail = node;
+            }
+        }
+
+        List<Long> path = new ArrayList<>();
+        for (Long node = tail; node != null; node = predecessor.get(node)) {
+            path.add(node);
+        }
+        Collections.reverse(path);
+        return new CriticalPath(Math.max(longest, 0), path);
+    }
+
+    /**
+     * 关键路径
+     *
+     * @param totalMillis 关键路径总耗时
+     * @param nodes       路径上的节点（按执行顺序）
+     */
+    public record CriticalPath(long totalMillis, List<Long> nodes) {
+    }
+
+}
@@ -0,0 +1,411 @@
+package com.antigravity.module.sync.workflow;
+
+import com.antigravity.common.DatabaseMigration;
+import com.antigravity.config.SyncScheduleProperties;
+import com.antigravity.config.SyncWorkflowProperties;
+import com.antigravity.module.sync.entity.SyncTask;
+import com.antigravity.module.sync.entity.SyncWorkflowRun;
+import com.antigravity.module.sync.entity.SyncWorkflowRunNode;
+import com.antigravity.module.sync.mapper.SyncWorkflowRunMapper;
+import com.antigravity.module.sync.mapper.SyncWorkflowRunNodeMapper;
+import com.antigravity.module.sync.schedule.ScheduleLeaseManager;
+import com.antigravity.module.sync.service.SyncTaskService;
+import com.baomidou.mybatisplus.core.conditions.query.LambdaQueryWrapper;
+import com.baomidou.mybatisplus.core.conditions.update.LambdaUpdateWrapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 工作流执行器
+ * <p>
+ * 每个运行记录由一个虚拟线程驱动，循环执行：
+ * <ol>
+ *   <li>刷新运行中节点对应的 {@link SyncTask} 状态</li>
+ *   <li>上游失败、取消或被跳过的等待节点标记为 SKIPPED</li>
+ *   <li>上游全部完成的等待节点立即提交，直到达到并行度上限</li>
+ *   <li>没有运行中节点且无可提交节点时结束运行，并计算关键路径</li>
+ * </ol>
+ * 运行状态全部落库，驱动线程只持有 Redis 租约；节点宕机后租约过期，
+ * 由其他节点的巡检线程接管继续推进。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WorkflowExecutor {
+
+    private static final String LEASE_PREFIX = "workflow-run:";
+
+    private final SyncWorkflowRunMapper runMapper;
+    private final SyncWorkflowRunNodeMapper runNodeMapper;
+    private final SyncTaskService syncTaskService;
+    private final ScheduleLeaseManager leaseManager;
+    private final SyncWorkflowProperties properties;
+    private final SyncScheduleProperties scheduleProperties;
+    private final DatabaseMigration databaseMigration;
+
+    /**
+     * 本节点正在驱动的运行记录
+     */
+    private final Set<Long> activeRuns = ConcurrentHashMap.newKeySet();
+
+    private ExecutorService runExecutor;
+    private ScheduledExecutorService sweeper;
+
+    @PostConstruct
+    public void start() {
+        runExecutor = Executors.newVirtualThreadPerTaskExecutor();
+        sweeper = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("sync-workflow-sweeper").daemon().factory());
+        sweeper.scheduleWithFixedDelay(this::sweepSafely,
+                5, scheduleProperties.getLeaseTtlSeconds(), TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sweeper.shutdownNow();
+        runExecutor.shutdownNow();
+        activeRuns.forEach(runId -> leaseManager.release(LEASE_PREFIX + runId));
+    }
+
+    /**
+     * 提交运行记录；处于事务中时延迟到事务提交后再提交，避免驱动线程读不到未提交的节点
+     */
+    public void submit(Long runId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    launch(runId);
+                }
+            });
+        } else {
+            launch(runId);
+        }
+    }
+
+    /**
+     * 取消运行后停止节点任务；处于事务中时延迟到事务提交后在驱动线程池中执行
+     * <p>
+     * 任务取消有自己的事务，单个任务无法取消（例如已经结束）时只记录日志，不影响运行与节点的取消结果。
+     */
+    public void cancelTasks(Long runId, List<Long> taskIds) {
+        if (taskIds.isEmpty()) {
+            return;
+        }
+        Runnable action = () -> taskIds.forEach(taskId -> cancelTask(runId, taskId));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    runExecutor.execute(action);
+                }
+            });
+        } else {
+            runExecutor.execute(action);
+        }
+    }
+
+    private void cancelTask(Long runId, Long taskId) {
+        try {
+            syncTaskService.cancelTask(taskId);
+        } catch (Exception e) {
+            log.warn("取消工作流节点任务失败: runId={}, taskId={}, error={}", runId, taskId, e.getMessage());
+        }
+    }
+
+    private void launch(Long runId) {
+        if (activeRuns.add(runId)) {
+            runExecutor.execute(() -> drive(runId));
+        }
+    }
+
+    /**
+     * 巡检无人驱动的运行记录（重启或其他节点宕机后接管）
+     */
+    private void sweepSafely() {
+        if (!databaseMigration.isCompleted()) {
+            // 工作流表由迁移创建，首次启动时可能尚不存在
+            return;
+        }
+        try {
+            LambdaQueryWrapper<SyncWorkflowRun> wrapper = new LambdaQueryWrapper<>();
+            wrapper.eq(SyncWorkflowRun::getStatus, WorkflowStatus.RUN_RUNNING)
+                    .select(SyncWorkflowRun::getId);
+            runMapper.selectList(wrapper).stream()
+                    .map(SyncWorkflowRun::getId)
+                    .filter(runId -> !activeRuns.contains(runId))
+                    .forEach(this::launch);
+        } catch (Exception e) {
+            log.error("工作流巡检失败: {}", e.getMessage());
+        }
+    }
+
+    // ==================== 驱动循环 ====================
+
+    private void drive(Long runId) {
+        String lease = LEASE_PREFIX + runId;
+        if (!leaseManager.tryAcquire(lease)) {
+            activeRuns.remove(runId);
+            return;
+        }
+        log.info("开始驱动工作流运行: runId={}", runId);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                if (!leaseManager.renew(lease)) {
+                    log.warn("工作流运行租约已丢失，停止驱动: runId={}", runId);
+                    return;
+                }
+                if (!step(runId)) {
+                    return;
+                }
+                Thread.sleep(Duration.ofSeconds(properties.getPollIntervalSeconds()));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("工作流运行驱动异常: runId={}, error={}", runId, e.getMessage(), e);
+        } finally {
+            activeRuns.remove(runId);
+            leaseManager.release(lease);
+        }
+    }
+
+    /**
+     * 推进一轮
+     *
+     * @return 运行仍未结束时返回 true
+     */
+    private boolean step(Long runId) {
+        SyncWorkflowRun run = runMapper.selectById(runId);
+        if (run == null || !WorkflowStatus.RUN_RUNNING.equals(run.getStatus())) {
+            return false;
+        }
+
+        LambdaQueryWrapper<SyncWorkflowRunNode> wrapper = new LambdaQueryWrapper<>();
+        wrapper.eq(SyncWorkflowRunNode::getRunId, runId)
+                .orderByAsc(SyncWorkflowRunNode::getId);
+        Map<Long, SyncWorkflowRunNode> nodes = runNodeMapper.selectList(wrapper).stream()
+                .collect(Collectors.toMap(SyncWorkflowRunNode::getConfigId, node -> node,
+                        (a, b) -> a, LinkedHashMap::new));
+        WorkflowDag dag = WorkflowDag.of(nodes.values().stream()
+                .collect(Collectors.toMap(SyncWorkflowRunNode::getConfigId,
+                        node -> WorkflowDag.parseDependsOn(node.getDependsOn()),
+                        (a, b) -> a, LinkedHashMap::new)));
+
+        // 1. 刷新运行中节点
+        for (SyncWorkflowRunNode node : nodes.values()) {
+            if (WorkflowStatus.NODE_RUNNING.equals(node.getStatus())) {
+                pollNode(node);
+            }
+        }
+
+        // 2. 按拓扑序传播失败：上游未成功结束的等待节点不再执行
+        for (Long configId : dag.topologicalOrder()) {
+            SyncWorkflowRunNode node = nodes.get(configId);
+            if (WorkflowStatus.NODE_WAITING.equals(node.getStatus())
+                    && dag.upstreamOf(configId).stream().map(nodes::get).anyMatch(WorkflowStatus::isBlocking)) {
+                node.setStatus(WorkflowStatus.NODE_SKIPPED);
+                node.setErrorMessage("上游节点未成功完成");
+                runNodeMapper.updateById(node);
+            }
+        }
+
+        // 3. 在并行度上限内提交所有依赖已满足的节点
+        int parallelism = run.getMaxParallelism() != null && run.getMaxParallelism() > 0
+                ? run.getMaxParallelism() : properties.getDefaultMaxParallelism();
+        long running = nodes.values().stream()
+                .filter(node -> WorkflowStatus.NODE_RUNNING.equals(node.getStatus()))
+                .count();
+        for (Long configId : dag.topologicalOrder()) {
+            if (running >= parallelism) {
+                break;
+            }
+            SyncWorkflowRunNode node = nodes.get(configId);
+            if (WorkflowStatus.NODE_WAITING.equals(node.getStatus())
+                    && dag.upstreamOf(configId).stream().map(nodes::get).allMatch(WorkflowStatus::isSucceeded)) {
+                launchNode(node);
+                if (WorkflowStatus.NODE_RUNNING.equals(node.getStatus())) {
+                    running++;
+                }
+            }
+        }
+
+        // 4. 判断是否结束：失败的节点会在下一轮把下游标记为 SKIPPED，因此只在没有等待节点时收尾
+        boolean unfinished = nodes.values().stream()
+                .anyMatch(node -> WorkflowStatus.NODE_RUNNING.equals(node.getStatus())
+                        || WorkflowStatus.NODE_WAITING.equals(node.getStatus()));
+        if (unfinished) {
+            return true;
+        }
+        complete(run, dag, nodes);
+        return false;
+    }
+
+    private void pollNode(SyncWorkflowRunNode node) {
+        try {
+            SyncTask task = syncTaskService.refreshTaskStatus(node.getTaskId());
+            // 失败后已自动重试的，跟随到最新一次尝试
+            while ("FAILED".equals(task.getStatus()) && task.getRetryTaskId() != null) {
+                LambdaUpdateWrapper<SyncWorkflowRunNode> follow = runningNode(node)
+                        .set(SyncWorkflowRunNode::getTaskId, task.getRetryTaskId());
+                if (runNodeMapper.update(null, follow) == 0) {
+                    // 节点已被取消运行改写，不再跟随
+                    return;
+                }
+                node.setTaskId(task.getRetryTaskId());
+                task = syncTaskService.refreshTaskStatus(node.getTaskId());
+            }
+            String status = task.getStatus();
+            if ("FINISHED".equals(status) || "FAILED".equals(status) || "CANCELED".equals(status)) {
+                node.setStatus(status);
+                node.setErrorMessage(task.getErrorMessage());
+                node.setStartTime(task.getStartTime() != null ? task.getStartTime() : node.getStartTime());
+                node.setEndTime(task.getEndTime() != null ? task.getEndTime() : LocalDateTime.now());
+                LambdaUpdateWrapper<SyncWorkflowRunNode> finished = runningNode(node)
+                        .set(SyncWorkflowRunNode::getStatus, status)
+                        .set(SyncWorkflowRunNode::getErrorMessage, node.getErrorMessage())
+                        .set(SyncWorkflowRunNode::getStartTime, node.getStartTime())
+                        .set(SyncWorkflowRunNode::getEndTime, node.getEndTime());
+                if (runNodeMapper.update(null, finished) == 0) {
+                    return;
+                }
+                log.info("工作流节点结束: runId={}, configId={}, taskId={}, status={}",
+                        node.getRunId(), node.getConfigId(), node.getTaskId(), status);
+            }
+        } catch (Exception e) {
+            log.warn("刷新工作流节点状态失败: runId={}, configId={}, error={}",
+                    node.getRunId(), node.getConfigId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 仍为 RUNNING 的节点的条件更新：取消运行可能已把节点改为 CANCELED，不能被驱动线程的旧状态覆盖
+     */
+    private static LambdaUpdateWrapper<SyncWorkflowRunNode> runningNode(SyncWorkflowRunNode node) {
+        LambdaUpdateWrapper<SyncWorkflowRunNode> wrapper = new LambdaUpdateWrapper<>();
+        wrapper.eq(SyncWorkflowRunNode::getId, node.getId())
+                .eq(SyncWorkflowRunNode::getStatus, WorkflowStatus.NODE_RUNNING);
+        return wrapper;
+    }
+
+    /**
+     * 提交节点
+     * <p>
+     * 取消运行可能与本轮推进并发：先以 {@code status = WAITING} 为条件把节点占为 RUNNING，
+     * 已被取消的节点不会再提交；任务提交后若运行已被取消或节点已被改写，立即取消刚提交的任务。
+     */
+    private void launchNode(SyncWorkflowRunNode node) {
+        LocalDateTime startTime = LocalDateTime.now();
+        LambdaUpdateWrapper<SyncWorkflowRunNode> claim = new LambdaUpdateWrapper<>();
+        claim.eq(SyncWorkflowRunNode::getId, node.getId())
+                .eq(SyncWorkflowRunNode::getStatus, WorkflowStatus.NODE_WAITING)
+                .set(SyncWorkflowRunNode::getStatus, WorkflowStatus.NODE_RUNNING)
+                .set(SyncWorkflowRunNode::getStartTime, startTime);
+        if (!isRunRunning(node.getRunId()) || runNodeMapper.update(null, claim) == 0) {
+            // 运行或节点已被取消，留给下一轮读到 CANCELED 后退出
+            node.setStatus(WorkflowStatus.NODE_CANCELED);
+            return;
+        }
+        node.setStatus(WorkflowStatus.NODE_RUNNING);
+        node.setStartTime(startTime);
+
+        SyncTask task;
+        try {
+            task = syncTaskService.executeSync(node.getConfigId());
+        } catch (Exception e) {
+            log.error("提交工作流节点失败: runId={}, configId={}, error={}",
+                    node.getRunId(), node.getConfigId(), e.getMessage());
+            node.setStatus(WorkflowStatus.NODE_FAILED);
+            node.setErrorMessage("节点提交失败: " + e.getMessage());
+            node.setEndTime(LocalDateTime.now());
+            LambdaUpdateWrapper<SyncWorkflowRunNode> failed = new LambdaUpdateWrapper<>();
+            failed.eq(SyncWorkflowRunNode::getId, node.getId())
+                    .eq(SyncWorkflowRunNode::getStatus, WorkflowStatus.NODE_RUNNING)
+                    .set(SyncWorkflowRunNode::getStatus, node.getStatus())
+                    .set(SyncWorkflowRunNode::getErrorMessage, node.getErrorMessage())
+                    .set(SyncWorkflowRunNode::getEndTime, node.getEndTime());
+            runNodeMapper.update(null, failed);
+            return;
+        }
+
+        node.setTaskId(task.getId());
+        LambdaUpdateWrapper<SyncWorkflowRunNode> launched = new LambdaUpdateWrapper<>();
+        launched.eq(SyncWorkflowRunNode::getId, node.getId())
+                .eq(SyncWorkflowRunNode::getStatus, WorkflowStatus.NODE_RUNNING)
+                .set(SyncWorkflowRunNode::getTaskId, task.getId());
+        boolean recorded = runNodeMapper.update(null, launched) > 0;
+        if (!recorded || !isRunRunning(node.getRunId())) {
+            log.info("工作流运行已取消，取消刚提交的节点任务: runId={}, configId={}, taskId={}",
+                    node.getRunId(), node.getConfigId(), task.getId());
+            cancelTask(node.getRunId(), task.getId());
+            LambdaUpdateWrapper<SyncWorkflowRunNode> canceled = new LambdaUpdateWrapper<>();
+            canceled.eq(SyncWorkflowRunNode::getId, node.getId())
+                    .set(SyncWorkflowRunNode::getTaskId, task.getId())
+                    .set(SyncWorkflowRunNode::getStatus, WorkflowStatus.NODE_CANCELED)
+                    .set(SyncWorkflowRunNode::getEndTime, LocalDateTime.now());
+            runNodeMapper.update(null, canceled);
+            node.setStatus(WorkflowStatus.NODE_CANCELED);
+            return;
+        }
+        log.info("提交工作流节点: runId={}, configId={}, taskId={}",
+                node.getRunId(), node.getConfigId(), task.getId());
+    }
+
+    private boolean isRunRunning(Long runId) {
+        SyncWorkflowRun run = runMapper.selectById(runId);
+        return run != null && WorkflowStatus.RUN_RUNNING.equals(run.getStatus());
+    }
+
+    private void complete(SyncWorkflowRun run, WorkflowDag dag, Map<Long, SyncWorkflowRunNode> nodes) {
+        Map<Long, Long> durations = new HashMap<>();
+        nodes.forEach((configId, node) -> {
+            if (node.getStartTime() != null && node.getEndTime() != null) {
+                durations.put(configId, Duration.between(node.getStartTime(), node.getEndTime()).toMillis());
+            }
+        });
+        WorkflowDag.CriticalPath criticalPath = dag.criticalPath(durations);
+
+        List<SyncWorkflowRunNode> failed = nodes.values().stream()
+                .filter(node -> !WorkflowStatus.isSucceeded(node))
+                .toList();
+        String status = failed.isEmpty() ? WorkflowStatus.RUN_FINISHED : WorkflowStatus.RUN_FAILED;
+        String errorMessage = failed.isEmpty() ? null : failed.size() + " 个节点未成功完成";
+
+        // 只在仍为 RUNNING 时收尾，避免覆盖并发的取消操作
+        LambdaUpdateWrapper<SyncWorkflowRun> wrapper = new LambdaUpdateWrapper<>();
+        wrapper.eq(SyncWorkflowRun::getId, run.getId())
+                .eq(SyncWorkflowRun::getStatus, WorkflowStatus.RUN_RUNNING)
+                .set(SyncWorkflowRun::getStatus, status)
+                .set(SyncWorkflowRun::getEndTime, LocalDateTime.now())
+                .set(SyncWorkflowRun::getErrorMessage, errorMessage)
+                .set(SyncWorkflowRun::getCriticalPathMillis, criticalPath.totalMillis())
+                .set(SyncWorkflowRun::getCriticalPath, WorkflowDag.formatDependsOn(criticalPath.nodes()));
+        runMapper.update(null, wrapper);
+
+        log.info("工作流运行结束: runId={}, status={}, criticalPathMillis={}, criticalPath={}",
+                run.getId(), status, criticalPath.totalMillis(), criticalPath.nodes());
+    }
+
+}
@@ -0,0 +1,58 @@
+package com.antigravity.module.sync.workflow;
+
+import com.antigravity.module.sync.entity.SyncWorkflowRunNode;
+
+import java.util.Set;
+
+/**
+ * 工作流运行及节点状态
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+public final class WorkflowStatus {
+
+    public static final String RUN_RUNNING = "RUNNING";
+    public static final String RUN_FINISHED = "FINISHED";
+    public static final String RUN_FAILED = "FAILED";
+    public static final String RUN_CANCELED = "CANCELED";
+
+    /** 等待上游完成 */
+    public static final String NODE_WAITING = "WAITING";
+    public static final String NODE_RUNNING = "RUNNING";
+    public static final String NODE_FINISHED = "FINISHED";
+    public static final String NODE_FAILED = "FAILED";
+    public static final String NODE_CANCELED = "CANCELED";
+    /** 上游未成功完成，未执行 */
+    public static final String NODE_SKIPPED = "SKIPPED";
+    /** 部分重跑时沿用上一次运行的成功结果 */
+    public static final String NODE_REUSED = "REUSED";
+
+    private static final Set<String> SUCCEEDED = Set.of(NODE_FINISHED, NODE_REUSED);
+    private static final Set<String> BLOCKING = Set.of(NODE_FAILED, NODE_CANCELED, NODE_SKIPPED);
+
+    private WorkflowStatus() {
+    }
+
+    /**
+     * 节点已成功完成（含沿用结果）
+     */
+    public static boolean isSucceeded(SyncWorkflowRunNode node) {
+        return node != null && SUCCEEDED.contains(node.getStatus());
+    }
+
+    /**
+     * 节点已结束但未成功，下游不能再执行
+     */
+    public static boolean isBlocking(SyncWorkflowRunNode node) {
+        return node != null && BLOCKING.contains(node.getStatus());
+    }
+
+    /**
+     * 运行记录是否已结束
+     */
+    public static boolean isRunTerminal(String status) {
+        return RUN_FINISHED.equals(status) || RUN_FAILED.equals(status) || RUN_CANCELED.equals(status);
+    }
+
+}
@@ -35,6 +35,8 @@ public interface UserService extends IService<User> {
 
     boolean changePassword(Long userId, String oldPassword, String newPassword);
 
+    boolean upgradePasswordHash(Long userId, String currentHash, String newHash);
+
     boolean updateRole(Long userId, String role);
 
     boolean deleteUser(Long id);
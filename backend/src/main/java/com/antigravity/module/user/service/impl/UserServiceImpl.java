@@ -1,6 +1,7 @@
 package com.antigravity.module.user.service.impl;
 
 import com.antigravity.common.PageResult;
+import com.antigravity.common.security.TokenRevocationService;
 import com.antigravity.module.user.entity.User;
 import com.antigravity.module.user.mapper.UserMapper;
 import com.antigravity.module.user.service.UserService;
@@ -29,6 +30,7 @@ import java.util.Optional;
 public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements UserService {
 
     private final PasswordEncoder passwordEncoder;
+    private final TokenRevocationService revocationService;
 
     @Override
     public Optional<User> findById(Long id) {
@@ -100,7 +102,15 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
     @Override
     @Transactional(rollbackFor = Exception.class)
     public boolean updateUser(User user) {
-        return this.updateById(user);
+        User existing = this.getById(user.getId());
+        boolean updated = this.updateById(user);
+        // 用户名、角色或密码变更后，已签发 Token 中的身份信息失效
+        if (updated && existing != null && (user.getPassword() != null
+                || (user.getUsername() != null && !user.getUsername().equals(existing.getUsername()))
+                || (user.getRole() != null && !user.getRole().equals(existing.getRole())))) {
+            revocationService.revokeUser(user.getId());
+        }
+        return updated;
     }
 
     @Override
@@ -118,6 +128,20 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         LambdaUpdateWrapper<User> wrapper = new LambdaUpdateWrapper<>();
         wrapper.eq(User::getId, userId)
                 .set(User::getPassword, passwordEncoder.encode(newPassword));
+        boolean updated = this.update(wrapper);
+        if (updated) {
+            revocationService.revokeUser(userId);
+        }
+        return updated;
+    }
+
+    @Override
+    public boolean upgradePasswordHash(Long userId, String currentHash, String newHash) {
+        // 明文未变，已签发的 Token 无需吊销
+        LambdaUpdateWrapper<User> wrapper = new LambdaUpdateWrapper<>();
+        wrapper.eq(User::getId, userId)
+                .eq(User::getPassword, currentHash)
+                .set(User::getPassword, newHash);
         return this.update(wrapper);
     }
 
@@ -127,19 +151,31 @@ public class UserServiceImpl extends ServiceImpl<UserMapper, User> implements Us
         LambdaUpdateWrapper<User> wrapper = new LambdaUpdateWrapper<>();
         wrapper.eq(User::getId, userId)
                 .set(User::getRole, role);
-        return this.update(wrapper);
+        boolean updated = this.update(wrapper);
+        if (updated) {
+            revocationService.revokeUser(userId);
+        }
+        return updated;
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public boolean deleteUser(Long id) {
-        return this.removeById(id);
+        boolean removed = this.removeById(id);
+        if (removed) {
+            revocationService.revokeUser(id);
+        }
+        return removed;
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
     public boolean deleteUsers(List<Long> ids) {
-        return this.removeByIds(ids);
+        boolean removed = this.removeByIds(ids);
+        if (removed) {
+            ids.forEach(revocationService::revokeUser);
+        }
+        return removed;
     }
 
 
@@ -116,7 +116,17 @@ INSERT INTO `sys_permission` (`code`, `name`, `type`, `parent_id`, `path`, `icon
     -- API 权限
     ('API:USER:*', '用户管理所有接口', 'API', 2, '/api/v1/users/**', NULL, 1, 1),
     ('API:ROLE:*', '角色管理所有接口', 'API', 3, '/api/v1/roles/**', NULL, 1, 1),
-    ('API:PERMISSION:*', '权限管理所有接口', 'API', 4, '/api/v1/permissions/**', NULL, 1, 1);
+    ('API:PERMISSION:*', '权限管理所有接口', 'API', 4, '/api/v1/permissions/**', NULL, 1, 1),
+
+    -- 日志接口权限
+    ('log:login:list', '登录日志查询', 'API', 0, '/api/log/login/**', NULL, 10, 1),
+    ('log:login:remove', '登录日志删除', 'API', 0, '/api/log/login/**', NULL, 11, 1),
+    ('log:login:clean', '登录日志清空', 'API', 0, '/api/log/login/clean', NULL, 12, 1),
+    ('log:operation:list', '操作日志查询', 'API', 0, '/api/log/operation/**', NULL, 13, 1),
+    ('log:operation:remove', '操作日志删除', 'API', 0, '/api/log/operation/**', NULL, 14, 1),
+    ('log:operation:clean', '操作日志清空', 'API', 0, '/api/log/operation/clean', NULL, 15, 1),
+    ('log:login:export', '登录日志导出', 'API', 0, '/api/log/login/export', NULL, 16, 1),
+    ('log:operation:export', '操作日志导出', 'API', 0, '/api/log/operation/export', NULL, 17, 1);
 
 -- =============================================================================
 -- 初始化角色数据
@@ -2,6 +2,9 @@
 -- 日志模块表结构
 -- =====================================================
 
+-- ngram 全文索引在创建时固化停用词表，必须关闭默认停用词，否则 "in"、"at" 等 2 字符片段无法检索
+SET SESSION innodb_ft_enable_stopword = 0;
+
 -- 1. 登录日志表
 CREATE TABLE IF NOT EXISTS `sys_login_log` (
     `id`         BIGINT       NOT NULL AUTO_INCREMENT COMMENT '主键ID',
@@ -15,7 +18,8 @@ CREATE TABLE IF NOT EXISTS `sys_login_log` (
     PRIMARY KEY (`id`),
     KEY `idx_username` (`username`),
     KEY `idx_status` (`status`),
-    KEY `idx_login_time` (`login_time`)
+    KEY `idx_login_time` (`login_time`),
+    FULLTEXT KEY `ft_username` (`username`) WITH PARSER ngram
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='登录日志表';
 
 -- 2. 操作日志表
@@ -35,5 +39,7 @@ CREATE TABLE IF NOT EXISTS `sys_operation_log` (
     KEY `idx_username` (`username`),
     KEY `idx_module` (`module`),
     KEY `idx_status` (`status`),
-    KEY `idx_create_time` (`create_time`)
+    KEY `idx_create_time` (`create_time`),
+    FULLTEXT KEY `ft_username` (`username`) WITH PARSER ngram,
+    FULLTEXT KEY `ft_module` (`module`) WITH PARSER ngram
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='操作日志表';
@@ -13,9 +13,28 @@ CREATE TABLE IF NOT EXISTS `sys_sync_config` (
     `target_table` VARCHAR(200) NOT NULL COMMENT '目标表名',
     `sync_mode` VARCHAR(20) NOT NULL DEFAULT 'FULL' COMMENT '同步模式：FULL-全量, INCREMENTAL-增量',
     `incremental_field` VARCHAR(100) DEFAULT NULL COMMENT '增量字段（增量模式使用）',
+    `incremental_key_field` VARCHAR(100) DEFAULT NULL COMMENT '水位键字段（与增量字段组成复合水位）',
+    `incremental_lookback_seconds` INT DEFAULT NULL COMMENT '增量回看秒数',
+    `incremental_chunk_size` INT DEFAULT NULL COMMENT '增量分块行数',
+    `full_load_mode` VARCHAR(20) NOT NULL DEFAULT 'DIRECT' COMMENT '全量加载方式：DIRECT, SWAP',
+    `split_strategy` VARCHAR(20) NOT NULL DEFAULT 'NONE' COMMENT '分片策略：NONE, PARTITION, TIME_RANGE, HASH',
+    `split_column` VARCHAR(100) DEFAULT NULL COMMENT '分片列',
+    `split_count` INT DEFAULT NULL COMMENT '分片数',
     `transform_sql` TEXT DEFAULT NULL COMMENT '实时计算SQL表达式',
     `last_sync_value` VARCHAR(100) DEFAULT NULL COMMENT '上次增量同步的值',
+    `last_sync_key` VARCHAR(100) DEFAULT NULL COMMENT '上次增量同步的键',
     `enabled` TINYINT(1) DEFAULT 1 COMMENT '是否启用：0-禁用，1-启用',
+    `schedule_type` VARCHAR(20) NOT NULL DEFAULT 'NONE' COMMENT '调度类型：NONE, CRON, FIXED_RATE',
+    `schedule_cron` VARCHAR(100) DEFAULT NULL COMMENT 'Cron 表达式',
+    `schedule_interval_seconds` INT DEFAULT NULL COMMENT '固定间隔秒数',
+    `misfire_policy` VARCHAR(20) NOT NULL DEFAULT 'FIRE_ONCE' COMMENT '错过触发策略：SKIP, FIRE_ONCE, CATCH_UP',
+    `misfire_catch_up_limit` INT DEFAULT NULL COMMENT 'CATCH_UP 策略补触发上限',
+    `last_fire_time` DATETIME DEFAULT NULL COMMENT '上次调度触发时间',
+    `retry_max_attempts` INT NOT NULL DEFAULT 1 COMMENT '最大尝试次数（含首次执行），1 表示不自动重试',
+    `retry_backoff_seconds` INT NOT NULL DEFAULT 30 COMMENT '重试退避基准秒数',
+    `retry_max_backoff_seconds` INT NOT NULL DEFAULT 600 COMMENT '重试退避上限秒数',
+    `retryable_errors` VARCHAR(1000) DEFAULT NULL COMMENT '可重试错误关键字，逗号分隔',
+    `checkpoint_interval_seconds` INT DEFAULT NULL COMMENT '检查点间隔秒数',
     `is_deleted` TINYINT(1) DEFAULT 0 COMMENT '是否删除：0-未删除，1-已删除',
     `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
@@ -48,19 +67,41 @@ CREATE TABLE IF NOT EXISTS `sys_sync_task` (
     `config_id` BIGINT NOT NULL COMMENT '关联同步配置ID',
     `config_name` VARCHAR(100) DEFAULT NULL COMMENT '配置名称（冗余）',
     `seatunnel_job_id` VARCHAR(50) DEFAULT NULL COMMENT 'SeaTunnel任务ID',
-    `status` VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '状态：PENDING, RUNNING, FINISHED, FAILED, CANCELED',
+    `status` VARCHAR(20) NOT NULL DEFAULT 'PENDING' COMMENT '状态：PENDING, RUNNING, WAITING_RETRY, FINISHED, FAILED, CANCELED',
+    `root_task_id` BIGINT DEFAULT NULL COMMENT '首次尝试的任务ID',
+    `parent_task_id` BIGINT DEFAULT NULL COMMENT '上一次尝试的任务ID',
+    `retry_task_id` BIGINT DEFAULT NULL COMMENT '下一次尝试的任务ID',
+    `attempt` INT NOT NULL DEFAULT 1 COMMENT '第几次尝试',
+    `next_retry_time` DATETIME DEFAULT NULL COMMENT '计划重试时间',
+    `resumed_from_checkpoint` TINYINT(1) NOT NULL DEFAULT 0 COMMENT '是否从检查点恢复',
+    `watermark_from_value` VARCHAR(100) DEFAULT NULL COMMENT '增量窗口起始水位值',
+    `watermark_from_key` VARCHAR(100) DEFAULT NULL COMMENT '增量窗口起始水位键',
+    `watermark_read_from` VARCHAR(100) DEFAULT NULL COMMENT '增量窗口回看后的读取起点',
+    `watermark_to_value` VARCHAR(100) DEFAULT NULL COMMENT '增量窗口结束水位值',
+    `watermark_to_key` VARCHAR(100) DEFAULT NULL COMMENT '增量窗口结束水位键',
+    `watermark_has_more` TINYINT(1) NOT NULL DEFAULT 0 COMMENT '结束水位之后是否还有积压',
+    `swap_status` VARCHAR(20) DEFAULT NULL COMMENT '暂存表切换状态：LOADING, SWAPPING, SWAPPED, FAILED',
+    `swap_started_at` DATETIME DEFAULT NULL COMMENT '开始建索引并切换的时间',
     `start_time` DATETIME DEFAULT NULL COMMENT '开始时间',
     `end_time` DATETIME DEFAULT NULL COMMENT '结束时间',
     `total_rows` BIGINT DEFAULT 0 COMMENT '总行数',
     `sync_rows` BIGINT DEFAULT 0 COMMENT '已同步行数',
     `error_message` TEXT DEFAULT NULL COMMENT '错误信息',
-    `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
     `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
-    PRIMARY KEY (`id`),
+    PRIMARY KEY (`id`, `create_time`),
     KEY `idx_config_id` (`config_id`),
     KEY `idx_status` (`status`),
-    KEY `idx_seatunnel_job_id` (`seatunnel_job_id`)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='同步任务表';
+    KEY `idx_seatunnel_job_id` (`seatunnel_job_id`),
+    KEY `idx_root_task_id` (`root_task_id`),
+    KEY `idx_status_next_retry` (`status`, `next_retry_time`),
+    KEY `idx_create_time` (`create_time`),
+    KEY `idx_config_create_time` (`config_id`, `create_time`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='同步任务表'
+-- 按月分区，月度分区由 DatabaseMigration 在启动时预建，过期分区由保留策略整分区删除
+PARTITION BY RANGE COLUMNS(`create_time`) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
 
 -- 4. 任务日志表
 CREATE TABLE IF NOT EXISTS `sys_sync_task_log` (
@@ -68,8 +109,78 @@ CREATE TABLE IF NOT EXISTS `sys_sync_task_log` (
     `task_id` BIGINT NOT NULL COMMENT '关联任务ID',
     `log_level` VARCHAR(10) NOT NULL DEFAULT 'INFO' COMMENT '日志级别：INFO, WARN, ERROR',
     `message` TEXT NOT NULL COMMENT '日志内容',
+    `create_time` DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    PRIMARY KEY (`id`, `create_time`),
+    KEY `idx_task_id_id` (`task_id`, `id`),
+    KEY `idx_create_time` (`create_time`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='任务日志表'
+-- 按月分区，同 sys_sync_task
+PARTITION BY RANGE COLUMNS(`create_time`) (
+    PARTITION p_future VALUES LESS THAN (MAXVALUE)
+);
+
+-- 5. 同步工作流表
+CREATE TABLE IF NOT EXISTS `sys_sync_workflow` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+    `name` VARCHAR(100) NOT NULL COMMENT '工作流名称',
+    `description` VARCHAR(500) DEFAULT NULL COMMENT '描述',
+    `max_parallelism` INT NOT NULL DEFAULT 4 COMMENT '最大并行节点数',
+    `enabled` TINYINT(1) NOT NULL DEFAULT 1 COMMENT '是否启用',
+    `is_deleted` TINYINT(1) NOT NULL DEFAULT 0 COMMENT '逻辑删除',
     `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
     PRIMARY KEY (`id`),
-    KEY `idx_task_id` (`task_id`),
-    KEY `idx_create_time` (`create_time`)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='任务日志表';
+    KEY `idx_name` (`name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='同步工作流表';
+
+-- 6. 工作流节点表
+CREATE TABLE IF NOT EXISTS `sys_sync_workflow_node` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+    `workflow_id` BIGINT NOT NULL COMMENT '关联工作流ID',
+    `config_id` BIGINT NOT NULL COMMENT '关联同步配置ID',
+    `depends_on` VARCHAR(1000) DEFAULT NULL COMMENT '依赖的上游同步配置ID，逗号分隔',
+    `sort_order` INT DEFAULT 0 COMMENT '排序',
+    `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    PRIMARY KEY (`id`),
+    UNIQUE KEY `uk_workflow_config` (`workflow_id`, `config_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='工作流节点表';
+
+-- 7. 工作流运行记录表
+CREATE TABLE IF NOT EXISTS `sys_sync_workflow_run` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+    `workflow_id` BIGINT NOT NULL COMMENT '关联工作流ID',
+    `workflow_name` VARCHAR(100) DEFAULT NULL COMMENT '工作流名称（冗余）',
+    `status` VARCHAR(20) NOT NULL DEFAULT 'RUNNING' COMMENT '状态：RUNNING, FINISHED, FAILED, CANCELED',
+    `parent_run_id` BIGINT DEFAULT NULL COMMENT '重跑来源运行ID',
+    `max_parallelism` INT DEFAULT NULL COMMENT '最大并行节点数（快照）',
+    `start_time` DATETIME DEFAULT NULL COMMENT '开始时间',
+    `end_time` DATETIME DEFAULT NULL COMMENT '结束时间',
+    `critical_path_millis` BIGINT DEFAULT NULL COMMENT '关键路径耗时（毫秒）',
+    `critical_path` VARCHAR(1000) DEFAULT NULL COMMENT '关键路径上的同步配置ID，逗号分隔',
+    `error_message` TEXT DEFAULT NULL COMMENT '错误信息',
+    `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    PRIMARY KEY (`id`),
+    KEY `idx_workflow_id` (`workflow_id`),
+    KEY `idx_status` (`status`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='工作流运行记录表';
+
+-- 8. 工作流运行节点表
+CREATE TABLE IF NOT EXISTS `sys_sync_workflow_run_node` (
+    `id` BIGINT NOT NULL AUTO_INCREMENT COMMENT '主键ID',
+    `run_id` BIGINT NOT NULL COMMENT '关联运行ID',
+    `config_id` BIGINT NOT NULL COMMENT '关联同步配置ID',
+    `config_name` VARCHAR(100) DEFAULT NULL COMMENT '配置名称（冗余）',
+    `depends_on` VARCHAR(1000) DEFAULT NULL COMMENT '依赖的上游同步配置ID（快照），逗号分隔',
+    `task_id` BIGINT DEFAULT NULL COMMENT '关联同步任务ID',
+    `status` VARCHAR(20) NOT NULL DEFAULT 'WAITING' COMMENT '状态：WAITING, RUNNING, FINISHED, FAILED, CANCELED, SKIPPED, REUSED',
+    `start_time` DATETIME DEFAULT NULL COMMENT '开始时间',
+    `end_time` DATETIME DEFAULT NULL COMMENT '结束时间',
+    `error_message` TEXT DEFAULT NULL COMMENT '错误信息',
+    `create_time` DATETIME DEFAULT CURRENT_TIMESTAMP COMMENT '创建时间',
+    `update_time` DATETIME DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '更新时间',
+    PRIMARY KEY (`id`),
+    KEY `idx_run_id` (`run_id`),
+    KEY `idx_task_id` (`task_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='工作流运行节点表';
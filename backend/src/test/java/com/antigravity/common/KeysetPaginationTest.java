@@ -0,0 +1,56 @@
+package com.antigravity.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 游标分页：游标编码与解码
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+class KeysetPaginationTest {
+
+    @Test
+    void cursorRoundTripsTimeAndId() {
+        KeysetPagination.Cursor cursor = new KeysetPagination.Cursor(
+                LocalDateTime.of(2026, 3, 15, 8, 30, 12, 345_000_000), 987_654_321L);
+
+        assertThat(KeysetPagination.Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void cursorRoundTripsWholeMinute() {
+        // LocalDateTime#toString 省略为 0 的秒，解码仍需还原
+        KeysetPagination.Cursor cursor = new KeysetPagination.Cursor(LocalDateTime.of(2026, 1, 1, 0, 0), 1L);
+
+        assertThat(KeysetPagination.Cursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedCursorIsUrlSafe() {
+        String encoded = new KeysetPagination.Cursor(LocalDateTime.of(2026, 12, 31, 23, 59, 59), Long.MAX_VALUE)
+                .encode();
+
+        assertThat(encoded).matches("[A-Za-z0-9_-]+");
+    }
+
+    @Test
+    void malformedCursorIsRejected() {
+        String noComma = Base64.getUrlEncoder().encodeToString("2026-01-01T00:00".getBytes(StandardCharsets.UTF_8));
+        String badId = Base64.getUrlEncoder().encodeToString("2026-01-01T00:00,abc".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> KeysetPagination.Cursor.decode("not base64!"))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("非法的分页游标");
+        assertThatThrownBy(() -> KeysetPagination.Cursor.decode(noComma)).isInstanceOf(BusinessException.class);
+        assertThatThrownBy(() -> KeysetPagination.Cursor.decode(badId)).isInstanceOf(BusinessException.class);
+    }
+
+}
@@ -0,0 +1,75 @@
+package com.antigravity.common.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 布隆过滤器：无漏判、误判率与并发添加
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+class BloomFilterTest {
+
+    private static final int INSERTIONS = 10_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    @Test
+    void insertedValuesAreAlwaysReported() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("token-" + i));
+
+        assertThat(IntStream.range(0, INSERTIONS)).allMatch(i -> filter.mightContain("token-" + i));
+    }
+
+    @Test
+    void falsePositiveRateStaysNearTarget() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        IntStream.range(0, INSERTIONS).forEach(i -> filter.put("token-" + i));
+
+        long falsePositives = IntStream.range(0, 100_000)
+                .filter(i -> filter.mightContain("other-" + i))
+                .count();
+
+        assertThat(falsePositives / 100_000.0).isLessThan(FALSE_POSITIVE_RATE * 2);
+    }
+
+    @Test
+    void emptyFilterContainsNothing() {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+
+        assertThat(filter.mightContain("token-0")).isFalse();
+        assertThat(filter.mightContain("")).isFalse();
+    }
+
+    @Test
+    void concurrentPutsAreNotLost() throws Exception {
+        BloomFilter filter = new BloomFilter(INSERTIONS, FALSE_POSITIVE_RATE);
+        int threads = 8;
+        try (ExecutorService executor = Executors.newFixedThreadPool(threads)) {
+            List<Future<?>> futures = new ArrayList<>(threads);
+            for (int t = 0; t < threads; t++) {
+                int offset = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = offset; i < INSERTIONS; i += threads) {
+                        filter.put("token-" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+
+        assertThat(IntStream.range(0, INSERTIONS)).allMatch(i -> filter.mightContain("token-" + i));
+    }
+
+}
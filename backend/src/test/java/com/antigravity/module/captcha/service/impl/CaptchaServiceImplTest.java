@@ -0,0 +1,179 @@
+package com.antigravity.module.captcha.service.impl;
+
+import com.antigravity.module.captcha.dto.CaptchaResponse;
+import com.antigravity.module.captcha.dto.CaptchaVerifyRequest;
+import com.antigravity.module.captcha.dto.CaptchaVerifyResponse;
+import com.antigravity.module.captcha.pool.CaptchaChallenge;
+import com.antigravity.module.captcha.pool.CaptchaPool;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledIf;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 验证码校验脚本集成测试（Testcontainers Redis）
+ * <p>
+ * 本机开发无 Docker 时跳过；CI 中（环境变量 {@code CI} 或系统属性 {@code -Dci=true}）不跳过，
+ * 没有 Docker 时直接失败，避免校验脚本的并发测试被静默略过。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+@Testcontainers
+@DisabledIf(value = "skipWithoutDocker", disabledReason = "本机无 Docker（CI 中不跳过）")
+class CaptchaServiceImplTest {
+
+    private static final int TARGET_X = 120;
+    private static final int CONCURRENCY = 32;
+
+    @Container
+    private static final GenericContainer<?> REDIS = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private CaptchaServiceImpl captchaService;
+
+    static boolean skipWithoutDocker() {
+        boolean ci = Boolean.getBoolean("ci") || System.getenv("CI") != null;
+        return !ci && !DockerClientFactory.instance().isDockerAvailable();
+    }
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(REDIS.getHost(), REDIS.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void disconnect() {
+        connectionFactory.destroy();
+    }
+
+    @BeforeEach
+    void setUp() throws Exception {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        CaptchaPool captchaPool = mock(CaptchaPool.class);
+        when(captchaPool.take()).thenReturn(new CaptchaChallenge("bg", "slider", TARGET_X, 40));
+        captchaService = new CaptchaServiceImpl(redisTemplate, captchaPool, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void concurrentVerifyOfSameCaptchaHasSingleWinner() throws Exception {
+        String captchaId = captchaService.generateCaptcha().getCaptchaId();
+
+        List<CaptchaVerifyResponse> responses = concurrently(() -> captchaService.verifyCaptcha(request(captchaId, TARGET_X)));
+
+        assertThat(responses).filteredOn(CaptchaVerifyResponse::getSuccess).hasSize(1);
+        assertThat(responses).filteredOn(response -> !response.getSuccess())
+                .hasSize(CONCURRENCY - 1)
+                .allSatisfy(response -> assertThat(response.getMessage()).isEqualTo("验证码已过期"));
+    }
+
+    @Test
+    void unknownCaptchaIsRejected() {
+        CaptchaVerifyResponse response = captchaService.verifyCaptcha(request("no-such-captcha", TARGET_X));
+
+        assertThat(response.getSuccess()).isFalse();
+        assertThat(response.getMessage()).isEqualTo("验证码已过期");
+    }
+
+    @Test
+    void expiredCaptchaIsRejected() throws Exception {
+        String captchaId = captchaService.generateCaptcha().getCaptchaId();
+        redisTemplate.expire("captcha:slide:" + captchaId, Duration.ofMillis(1));
+        Thread.sleep(50);
+
+        CaptchaVerifyResponse response = captchaService.verifyCaptcha(request(captchaId, TARGET_X));
+
+        assertThat(response.getSuccess()).isFalse();
+        assertThat(response.getMessage()).isEqualTo("验证码已过期");
+    }
+
+    @Test
+    void failedVerifyConsumesCaptcha() {
+        String captchaId = captchaService.generateCaptcha().getCaptchaId();
+
+        CaptchaVerifyResponse miss = captchaService.verifyCaptcha(request(captchaId, TARGET_X + 50));
+        CaptchaVerifyResponse retry = captchaService.verifyCaptcha(request(captchaId, TARGET_X));
+
+        assertThat(miss.getSuccess()).isFalse();
+        assertThat(miss.getMessage()).isEqualTo("验证失败，偏移量过大");
+        assertThat(retry.getSuccess()).isFalse();
+        assertThat(retry.getMessage()).isEqualTo("验证码已过期");
+    }
+
+    @Test
+    void verifiedTokenIsConsumedExactlyOnce() throws Exception {
+        CaptchaResponse captcha = captchaService.generateCaptcha();
+        CaptchaVerifyResponse verified = captchaService.verifyCaptcha(request(captcha.getCaptchaId(), TARGET_X + 3));
+        String token = verified.getToken();
+
+        assertThat(verified.getSuccess()).isTrue();
+        assertThat(captchaService.validateToken(token)).isTrue();
+
+        List<Boolean> consumed = concurrently(() -> captchaService.consumeToken(token));
+
+        assertThat(consumed).filteredOn(Boolean::booleanValue).hasSize(1);
+        assertThat(captchaService.validateToken(token)).isFalse();
+        assertThat(captchaService.consumeToken(token)).isFalse();
+    }
+
+    private static CaptchaVerifyRequest request(String captchaId, int sliderX) {
+        CaptchaVerifyRequest request = new CaptchaVerifyRequest();
+        request.setCaptchaId(captchaId);
+        request.setSliderX(sliderX);
+        return request;
+    }
+
+    /**
+     * 所有线程就绪后同时放行，尽量让请求在 Redis 端交错
+     */
+    private static <T> List<T> concurrently(Callable<T> action) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService executor = Executors.newFixedThreadPool(CONCURRENCY)) {
+            List<Future<T>> futures = new ArrayList<>(CONCURRENCY);
+            for (int i = 0; i < CONCURRENCY; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return action.call();
+                }));
+            }
+            start.countDown();
+            List<T> results = new ArrayList<>(CONCURRENCY);
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        }
+    }
+
+}
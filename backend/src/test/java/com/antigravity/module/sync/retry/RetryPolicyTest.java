@@ -0,0 +1,85 @@
+package com.antigravity.module.sync.retry;
+
+import com.antigravity.module.sync.entity.SyncConfig;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 重试策略：尝试次数、错误分类与指数退避
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+class RetryPolicyTest {
+
+    @Test
+    void unconfiguredPolicyDoesNotRetry() {
+        RetryPolicy policy = RetryPolicy.from(new SyncConfig());
+
+        assertThat(policy.getMaxAttempts()).isEqualTo(1);
+        assertThat(policy.hasAttemptsLeft(1)).isFalse();
+    }
+
+    @Test
+    void attemptsIncludeFirstExecution() {
+        SyncConfig config = new SyncConfig();
+        config.setRetryMaxAttempts(3);
+        RetryPolicy policy = RetryPolicy.from(config);
+
+        assertThat(policy.hasAttemptsLeft(1)).isTrue();
+        assertThat(policy.hasAttemptsLeft(2)).isTrue();
+        assertThat(policy.hasAttemptsLeft(3)).isFalse();
+    }
+
+    @Test
+    void builtInClassificationRetriesOnlyTransientErrors() {
+        RetryPolicy policy = RetryPolicy.from(new SyncConfig());
+
+        assertThat(policy.isRetryable("java.net.ConnectException: Connection refused")).isTrue();
+        assertThat(policy.isRetryable("Lock wait timeout exceeded; try restarting transaction")).isTrue();
+        assertThat(policy.isRetryable("SeaTunnel 服务连接失败: I/O error")).isTrue();
+        assertThat(policy.isRetryable("Table 'orders' doesn't exist")).isFalse();
+        assertThat(policy.isRetryable(null)).isFalse();
+        assertThat(policy.isRetryable(" ")).isFalse();
+    }
+
+    @Test
+    void configuredKeywordsReplaceBuiltInClassification() {
+        SyncConfig config = new SyncConfig();
+        config.setRetryableErrors(" Quota Exceeded , ,throttled");
+        RetryPolicy policy = RetryPolicy.from(config);
+
+        assertThat(policy.isRetryable("API QUOTA EXCEEDED for project")).isTrue();
+        assertThat(policy.isRetryable("request throttled")).isTrue();
+        assertThat(policy.isRetryable("Connection refused")).isFalse();
+    }
+
+    @RepeatedTest(20)
+    void backoffDoublesWithJitterAndIsCapped() {
+        SyncConfig config = new SyncConfig();
+        config.setRetryBackoffSeconds(10);
+        config.setRetryMaxBackoffSeconds(60);
+        RetryPolicy policy = RetryPolicy.from(config);
+
+        assertThat(policy.backoff(1)).isBetween(Duration.ofSeconds(5), Duration.ofSeconds(10));
+        assertThat(policy.backoff(2)).isBetween(Duration.ofSeconds(10), Duration.ofSeconds(20));
+        assertThat(policy.backoff(3)).isBetween(Duration.ofSeconds(20), Duration.ofSeconds(40));
+        assertThat(policy.backoff(4)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+        assertThat(policy.backoff(100)).isBetween(Duration.ofSeconds(30), Duration.ofSeconds(60));
+    }
+
+    @Test
+    void maxBackoffNeverBelowBaseBackoff() {
+        SyncConfig config = new SyncConfig();
+        config.setRetryBackoffSeconds(120);
+        config.setRetryMaxBackoffSeconds(30);
+        RetryPolicy policy = RetryPolicy.from(config);
+
+        assertThat(policy.backoff(5)).isBetween(Duration.ofSeconds(60), Duration.ofSeconds(120));
+    }
+
+}
@@ -0,0 +1,101 @@
+package com.antigravity.module.sync.schedule;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 哈希时间轮：到期执行、跨轮次定时与取消
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+class HashedTimingWheelTest {
+
+    private static final long TICK_MILLIS = 10;
+    private static final int WHEEL_SIZE = 8;
+
+    private HashedTimingWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new HashedTimingWheel("timing-wheel-test", TICK_MILLIS, WHEEL_SIZE, Runnable::run);
+    }
+
+    @AfterEach
+    void tearDown() {
+        wheel.close();
+    }
+
+    @Test
+    void taskRunsNoEarlierThanItsDelay() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicLong firedAt = new AtomicLong();
+        long start = System.nanoTime();
+
+        wheel.schedule(() -> {
+            firedAt.set(System.nanoTime());
+            done.countDown();
+        }, 50, TimeUnit.MILLISECONDS);
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(firedAt.get() - start)).isGreaterThanOrEqualTo(50);
+    }
+
+    @Test
+    void delayLongerThanOneRotationWaitsForRemainingRounds() throws Exception {
+        // 一圈 80ms，任务需要在第 3 圈才到期
+        long delayMillis = TICK_MILLIS * WHEEL_SIZE * 2 + 30;
+        CountDownLatch done = new CountDownLatch(1);
+        AtomicLong firedAt = new AtomicLong();
+        long start = System.nanoTime();
+
+        wheel.schedule(() -> {
+            firedAt.set(System.nanoTime());
+            done.countDown();
+        }, delayMillis, TimeUnit.MILLISECONDS);
+
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(TimeUnit.NANOSECONDS.toMillis(firedAt.get() - start)).isGreaterThanOrEqualTo(delayMillis);
+    }
+
+    @Test
+    void zeroDelayRunsOnNextTick() throws Exception {
+        CountDownLatch done = new CountDownLatch(1);
+
+        wheel.schedule(done::countDown, 0, TimeUnit.MILLISECONDS);
+
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void cancelledTaskNeverRuns() throws Exception {
+        AtomicBoolean fired = new AtomicBoolean();
+        CountDownLatch later = new CountDownLatch(1);
+
+        HashedTimingWheel.Timeout timeout = wheel.schedule(() -> fired.set(true), 30, TimeUnit.MILLISECONDS);
+        timeout.cancel();
+        wheel.schedule(later::countDown, 100, TimeUnit.MILLISECONDS);
+
+        assertThat(later.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(timeout.isCancelled()).isTrue();
+        assertThat(fired).isFalse();
+    }
+
+    @Test
+    void scheduleAfterCloseIsRejected() {
+        wheel.close();
+
+        assertThatThrownBy(() -> wheel.schedule(() -> { }, 10, TimeUnit.MILLISECONDS))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+}
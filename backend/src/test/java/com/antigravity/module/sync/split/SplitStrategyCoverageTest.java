@@ -0,0 +1,196 @@
+package com.antigravity.module.sync.split;
+
+import com.antigravity.module.sync.engine.dialect.DatabaseDialect;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.Temporal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 时间范围与哈希分片：所有取值（含 NULL 与规划区间之外的值）恰好落入一个分片，分片之间无空隙、无重叠
+ * <p>
+ * 方言被替换为可在内存中求值的表达式：字面量直接输出值，哈希分桶输出 {@code BUCKET(列)}，
+ * 由测试按分片条件逐个求值。
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+class SplitStrategyCoverageTest {
+
+    private static final String COLUMN = "c";
+    private static final Pattern COMPARISON = Pattern.compile("^(.+?) (<|>=|=) (.+)$");
+
+    private DatabaseDialect dialect;
+
+    @BeforeEach
+    void setUp() {
+        dialect = mock(DatabaseDialect.class);
+        when(dialect.formatLiteral(any())).thenAnswer(invocation -> "'" + invocation.getArgument(0) + "'");
+        when(dialect.hashBucketExpression(anyString(), anyInt()))
+                .thenAnswer(invocation -> "BUCKET(" + invocation.getArgument(0) + ")");
+    }
+
+    @Test
+    void timeRangeSplitsCoverEveryInstantExactlyOnce() throws SQLException {
+        LocalDateTime min = LocalDateTime.of(2026, 1, 1, 0, 0);
+        LocalDateTime max = LocalDateTime.of(2026, 1, 31, 0, 0);
+
+        List<SourceSplit> splits = planTimeRange(Types.TIMESTAMP, LocalDateTime.class, min, max, 4);
+
+        assertThat(splits).hasSize(4);
+        assertExactlyOneMatch(splits, null, 0);
+        for (LocalDateTime value = min.minusDays(2); value.isBefore(max.plusDays(2)); value = value.plusHours(1)) {
+            assertExactlyOneMatch(splits, value, 0);
+        }
+    }
+
+    @Test
+    void timeRangeBoundariesAndSubSecondValuesHaveNoGaps() throws SQLException {
+        LocalDateTime min = LocalDateTime.of(2026, 1, 1, 0, 0, 0);
+        LocalDateTime max = min.plusSeconds(10);
+
+        // 10 秒分 4 段，步长向上取整为 3 秒：[.., 3), [3, 6), [6, 9), [9, ..)
+        List<SourceSplit> splits = planTimeRange(Types.TIMESTAMP, LocalDateTime.class, min, max, 4);
+
+        assertThat(splits).hasSize(4);
+        for (LocalDateTime value = min.minusSeconds(1); !value.isAfter(max.plusSeconds(1)); value = value.plusNanos(250_000_000)) {
+            assertExactlyOneMatch(splits, value, 0);
+        }
+    }
+
+    @Test
+    void timeRangeOnDateColumnSplitsByDay() throws SQLException {
+        LocalDate min = LocalDate.of(2026, 1, 1);
+        LocalDate max = LocalDate.of(2026, 1, 3);
+
+        List<SourceSplit> splits = planTimeRange(Types.DATE, LocalDate.class, min, max, 8);
+
+        assertThat(splits).hasSize(2);
+        assertExactlyOneMatch(splits, null, 0);
+        for (LocalDate value = min.minusDays(3); value.isBefore(max.plusDays(3)); value = value.plusDays(1)) {
+            assertExactlyOneMatch(splits, value, 0);
+        }
+    }
+
+    @Test
+    void timeRangeFallsBackToSingleUnfilteredSplit() throws SQLException {
+        LocalDateTime time = LocalDateTime.of(2026, 1, 1, 0, 0);
+
+        assertThat(planTimeRange(Types.TIMESTAMP, LocalDateTime.class, time, time, 4))
+                .containsExactly(new SourceSplit(null, null));
+        assertThat(planTimeRange(Types.TIMESTAMP, LocalDateTime.class, null, null, 4))
+                .containsExactly(new SourceSplit(null, null));
+    }
+
+    @Test
+    void hashSplitsCoverEveryValueExactlyOnce() {
+        int count = 5;
+        List<SourceSplit> splits = new HashSplitStrategy().plan(context(null, count));
+
+        assertThat(splits).hasSize(count);
+        assertExactlyOneMatch(splits, null, count);
+        for (int i = 0; i < 1_000; i++) {
+            assertExactlyOneMatch(splits, UUID.randomUUID().toString(), count);
+        }
+    }
+
+    private <T extends Temporal> List<SourceSplit> planTimeRange(int sqlType, Class<T> type, T min, T max, int count)
+            throws SQLException {
+        Connection connection = mock(Connection.class);
+        PreparedStatement statement = mock(PreparedStatement.class);
+        ResultSet resultSet = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnType(1)).thenReturn(sqlType);
+        when(resultSet.getObject(1, type)).thenReturn(min);
+        when(resultSet.getObject(2, type)).thenReturn(max);
+        return new TimeRangeSplitStrategy().plan(context(connection, count));
+    }
+
+    private SplitContext context(Connection connection, int count) {
+        return new SplitContext(connection, dialect, "t", null, "t", COLUMN, count);
+    }
+
+    private static void assertExactlyOneMatch(List<SourceSplit> splits, Object value, int buckets) {
+        List<Integer> matched = new ArrayList<>();
+        for (int i = 0; i < splits.size(); i++) {
+            if (matches(splits.get(i).predicate(), value, buckets)) {
+                matched.add(i);
+            }
+        }
+        assertThat(matched).as("value %s matched splits %s of %s", value, matched, splits).hasSize(1);
+    }
+
+    /**
+     * 对分片条件求值：条件只由 OR / AND 连接的简单比较构成，且不混用括号
+     */
+    private static boolean matches(String predicate, Object value, int buckets) {
+        if (predicate == null) {
+            return true;
+        }
+        if (predicate.contains(" OR ")) {
+            return Arrays.stream(predicate.split(" OR ")).anyMatch(part -> matches(part, value, buckets));
+        }
+        if (predicate.contains(" AND ")) {
+            return Arrays.stream(predicate.split(" AND ")).allMatch(part -> matches(part, value, buckets));
+        }
+        if (predicate.equals(COLUMN + " IS NULL")) {
+            return value == null;
+        }
+        if (predicate.equals(COLUMN + " IS NOT NULL")) {
+            return value != null;
+        }
+        Matcher matcher = COMPARISON.matcher(predicate);
+        assertThat(matcher.matches()).as("unexpected predicate: %s", predicate).isTrue();
+        if (value == null) {
+            // SQL 中与 NULL 比较的结果不为真
+            return false;
+        }
+        String left = matcher.group(1);
+        String operator = matcher.group(2);
+        String right = matcher.group(3);
+        if (left.equals("BUCKET(" + COLUMN + ")")) {
+            return operator.equals("=") && Math.floorMod(value.hashCode(), buckets) == Integer.parseInt(right);
+        }
+        assertThat(left).isEqualTo(COLUMN);
+        int comparison = compare(value, right.substring(1, right.length() - 1));
+        return switch (operator) {
+            case "<" -> comparison < 0;
+            case ">=" -> comparison >= 0;
+            default -> comparison == 0;
+        };
+    }
+
+    private static int compare(Object value, String literal) {
+        return switch (value) {
+            case LocalDateTime time -> time.compareTo(LocalDateTime.parse(literal));
+            case LocalDate date -> date.compareTo(LocalDate.parse(literal));
+            default -> throw new IllegalArgumentException("unsupported value: " + value);
+        };
+    }
+
+}
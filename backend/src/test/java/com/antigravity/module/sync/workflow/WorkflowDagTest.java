@@ -0,0 +1,95 @@
+package com.antigravity.module.sync.workflow;
+
+import com.antigravity.common.BusinessException;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 工作流依赖图：环路检测、拓扑序与关键路径
+ *
+ * @author Antigravity Team
+ * @since 1.0.0
+ */
+class WorkflowDagTest {
+
+    @Test
+    void topologicalOrderPlacesEveryNodeAfterItsUpstream() {
+        // 1 -> 2 -> 4, 1 -> 3 -> 4, 5 独立
+        Map<Long, List<Long>> dependencies = new LinkedHashMap<>();
+        dependencies.put(4L, List.of(2L, 3L));
+        dependencies.put(2L, List.of(1L));
+        dependencies.put(3L, List.of(1L));
+        dependencies.put(1L, List.of());
+        dependencies.put(5L, List.of());
+
+        WorkflowDag dag = WorkflowDag.of(dependencies);
+
+        List<Long> order = dag.topologicalOrder();
+        assertThat(order).containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+        for (Long node : dag.nodes()) {
+            for (Long upstream : dag.upstreamOf(node)) {
+                assertThat(order.indexOf(upstream)).isLessThan(order.indexOf(node));
+            }
+        }
+        assertThat(dag.downstreamOf(1L)).containsExactly(2L, 3L);
+        assertThat(dag.upstreamOf(4L)).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void cycleIsRejectedWithInvolvedNodes() {
+        Map<Long, List<Long>> dependencies = new LinkedHashMap<>();
+        dependencies.put(1L, List.of());
+        dependencies.put(2L, List.of(1L, 4L));
+        dependencies.put(3L, List.of(2L));
+        dependencies.put(4L, List.of(3L));
+
+        assertThatThrownBy(() -> WorkflowDag.of(dependencies))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("循环依赖")
+                .hasMessageEndingWith("涉及节点: 2, 3, 4");
+    }
+
+    @Test
+    void selfDependencyIsRejected() {
+        assertThatThrownBy(() -> WorkflowDag.of(Map.of(1L, List.of(1L))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("不能依赖自身");
+    }
+
+    @Test
+    void dependencyOutsideWorkflowIsRejected() {
+        assertThatThrownBy(() -> WorkflowDag.of(Map.of(1L, List.of(9L))))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("不在工作流中");
+    }
+
+    @Test
+    void criticalPathFollowsLongestChain() {
+        Map<Long, List<Long>> dependencies = new LinkedHashMap<>();
+        dependencies.put(1L, List.of());
+        dependencies.put(2L, List.of(1L));
+        dependencies.put(3L, List.of(1L));
+        dependencies.put(4L, List.of(2L, 3L));
+        WorkflowDag dag = WorkflowDag.of(dependencies);
+
+        WorkflowDag.CriticalPath path = dag.criticalPath(Map.of(1L, 10L, 2L, 5L, 3L, 30L, 4L, 1L));
+
+        assertThat(path.totalMillis()).isEqualTo(41L);
+        assertThat(path.nodes()).containsExactly(1L, 3L, 4L);
+    }
+
+    @Test
+    void dependsOnRoundTrips() {
+        assertThat(WorkflowDag.parseDependsOn(" 3, 1,,3 ")).containsExactly(3L, 1L);
+        assertThat(WorkflowDag.parseDependsOn(null)).isEmpty();
+        assertThat(WorkflowDag.formatDependsOn(List.of(3L, 1L, 3L))).isEqualTo("3,1");
+        assertThat(WorkflowDag.formatDependsOn(List.of())).isNull();
+    }
+
+}
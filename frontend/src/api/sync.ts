@@ -167,7 +167,7 @@ export const syncApi = {
   /**
    * 查看任务日志
    */
-  getTaskLogs(id: number) {
-    return get<SyncTaskLogVO[]>(`${TASK_BASE_URL}/${id}/logs`)
+  getTaskLogs(id: number, params?: { afterId?: number; level?: string; limit?: number }) {
+    return get<SyncTaskLogVO[]>(`${TASK_BASE_URL}/${id}/logs`, params)
   }
 }
@@ -9,6 +9,8 @@ export interface PageResult<T> {
     pageSize: number
     totalRow: number
     totalPage: number
+    /** 下一页游标，为空表示没有下一页 */
+    nextCursor?: string | null
 }
 
 /**